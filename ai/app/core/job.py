@@ -1,15 +1,9 @@
-from .subgraph import predict_hazards_at_location
+from .subgraph import predict_hazards_at_location, predict_hazards_batch
 from .utils import log
 
-async def analyze_single_category(ctx, settings, lat: float, lon: float, category_name: str):
-    # Create name -> id mapping on the fly
-    name2id = {v: k for k, v in ctx.id2name.items()}
-    cid = name2id.get(category_name)
 
-    if cid is None:
-        raise ValueError(f"Category '{category_name}' not found.")
-
-    knobs = dict(
+def _knobs(settings):
+    return dict(
         k_region=settings.K_REGION,
         env_gain=settings.ENV_GAIN,
         env_gamma=settings.ENV_GAMMA,
@@ -20,19 +14,51 @@ async def analyze_single_category(ctx, settings, lat: float, lon: float, categor
         max_sub_nodes=settings.MAX_SUB_NODES,
     )
 
+
+def _to_result(category_name: str, f):
+    return {
+        "rank": 1,
+        "category": category_name,
+        "1": round(f[0] * 100, 2),
+        "2": round(f[1] * 100, 2),
+        "3": round(f[2] * 100, 2),
+        "4": round(f[3] * 100, 2),
+        "5": round(f[4] * 100, 2),
+    }
+
+
+async def analyze_single_category(ctx, settings, lat: float, lon: float, category_name: str):
+    # Create name -> id mapping on the fly
+    name2id = {v: k for k, v in ctx.id2name.items()}
+    cid = name2id.get(category_name)
+
+    if cid is None:
+        raise ValueError(f"Category '{category_name}' not found.")
+
     try:
-        pred = await predict_hazards_at_location(ctx, lat, lon, int(cid), knobs)
-        f = pred["failure"]
-        result = {
-            "rank": 1,
-            "category": category_name,
-            "1": round(f[0] * 100, 2),
-            "2": round(f[1] * 100, 2),
-            "3": round(f[2] * 100, 2),
-            "4": round(f[3] * 100, 2),
-            "5": round(f[4] * 100, 2),
-        }
-        return [result]  # Return as a list as per response format
+        pred = await predict_hazards_at_location(ctx, lat, lon, int(cid), _knobs(settings))
+        return [_to_result(category_name, pred["failure"])]  # Return as a list as per response format
     except Exception as e:
         log(f"[JOB] Analysis failed for category '{category_name}': {e}")
         raise
+
+
+async def analyze_categories_batch(ctx, settings, items):
+    """(lat, lon, category_name) 목록을 모델 한 번 실행으로 추론.
+    항목별로 단건 응답과 같은 결과 리스트 또는 예외를 요청 순서대로 반환한다."""
+    name2id = {v: k for k, v in ctx.id2name.items()}
+    outcomes = [None] * len(items)
+    points, positions = [], []
+    for i, (lat, lon, category_name) in enumerate(items):
+        cid = name2id.get(category_name)
+        if cid is None:
+            outcomes[i] = ValueError(f"Category '{category_name}' not found.")
+            continue
+        points.append((lat, lon, int(cid)))
+        positions.append(i)
+
+    if points:
+        preds = await predict_hazards_batch(ctx, points, _knobs(settings))
+        for i, pred in zip(positions, preds):
+            outcomes[i] = pred if isinstance(pred, Exception) else [_to_result(items[i][2], pred["failure"])]
+    return outcomes
@@ -1,6 +1,6 @@
 import numpy as np
 import torch
-from torch_geometric.data import Data
+from torch_geometric.data import Batch, Data
 from .utils import log, haversine_distance
 from .data_io import Ctx
 import pandas as pd
@@ -157,3 +157,37 @@ async def predict_hazards_at_location(ctx: Ctx, lat: float, lon: float, cid: int
     haz = torch.sigmoid(logits[0]).detach().cpu().numpy()
     S, F = _hazard_to_survival_and_failure(haz)
     return {"hazard": haz.tolist(), "survival": S.tolist(), "failure": F.tolist()}
+
+
+async def predict_hazards_batch(ctx: Ctx, points: list, knobs: dict):
+    """(lat, lon, cid) 목록의 서브그래프를 하나의 배치 그래프로 묶어 모델을 한 번만 실행.
+    서브그래프를 만들지 못한 항목은 해당 위치에 예외를 담아 반환한다."""
+    if ctx.model is None or ctx.META is None:
+        raise RuntimeError("model or META not loaded")
+    target_dim = int(ctx.META["feature_dim"])
+
+    outcomes = [None] * len(points)
+    subs, positions = [], []
+    for i, (lat, lon, cid) in enumerate(points):
+        try:
+            sub, _ = await build_augmented_subgraph_for_category(ctx, lat, lon, int(cid), knobs)
+            sub.x = _ensure_feature_dim(sub.x, target_dim)
+            subs.append(sub)
+            positions.append(i)
+        except Exception as e:
+            outcomes[i] = e
+    if not subs:
+        return outcomes
+
+    # 서브그래프끼리는 간선이 없으므로 합쳐서 한 번에 추론해도 항목별 출력은 단건 추론과 같음
+    batch = Batch.from_data_list(subs).to(ctx.device, non_blocking=True)
+    ctx.model.eval()
+    with torch.no_grad():
+        logits, _ = ctx.model(batch.x, batch.edge_index)
+        # 단건 추론과 같은 노드(각 서브그래프의 0번 노드)를 읽음
+        haz_all = torch.sigmoid(logits[batch.ptr[:-1]]).detach().cpu().numpy()
+
+    for i, haz in zip(positions, haz_all):
+        S, F = _hazard_to_survival_and_failure(haz)
+        outcomes[i] = {"hazard": haz.tolist(), "survival": S.tolist(), "failure": F.tolist()}
+    return outcomes
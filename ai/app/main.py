@@ -2,12 +2,13 @@ import os
 from fastapi import FastAPI, HTTPException
 from fastapi.middleware.cors import CORSMiddleware
 from .core.settings import settings
-from .schemas.single import SingleRequest, LocationNumRequest, JobRequest
+
+from .schemas.single import SingleRequest, LocationNumRequest, JobRequest, BatchJobRequest
 from .core.utils import now_iso_kst, log
 from .core.data_io import init_context
 from .core.model import load_model
 from .core.location import analyze_all_categories_and_rank
-from .core.job import analyze_single_category
+from .core.job import analyze_single_category, analyze_categories_batch
 from .core.gms import get_llm_explanation_for_category
 
 app = FastAPI(title="SurvivalReco API", version="1.0")
@@ -100,6 +101,48 @@ async def job(req: JobRequest):
         }
     }
 
+@app.post("/api/v1/ai/job/batch")
+async def job_batch(req: BatchJobRequest):
+    settings = app.state.settings
+    ctx = app.state.ctx
+
+    # 모든 항목의 서브그래프를 하나의 배치로 묶어 모델은 한 번만 실행, 항목 단위로 결과/오류 반환
+    items = [(float(item.lat), float(item.lng), item.category) for item in req.items]
+    try:
+        outcomes = await analyze_categories_batch(ctx, settings, items)
+    except Exception as e:
+        log(f"[JOB-BATCH] batch inference failed: {e}")
+        outcomes = [e] * len(items)
+
+    results = []
+    for item, outcome in zip(req.items, outcomes):
+        entry = {
+            "building_id": item.building_id,
+            "lat": float(item.lat),
+            "lng": float(item.lng),
+            "category": item.category,
+        }
+        if isinstance(outcome, Exception):
+            entry["success"] = False
+            entry["error"] = {
+                "code": "ANALYSIS_FAILED",
+                "message": f"Analysis failed: {outcome}",
+            }
+        else:
+            entry["success"] = True
+            entry["data"] = outcome
+        results.append(entry)
+
+    log(f"[JOB-BATCH] items={len(req.items)} failed={sum(1 for r in results if not r['success'])}")
+    return {
+        "success": True,
+        "status": 200,
+        "body": {
+            "results": results,
+            "timestamp": now_iso_kst()
+        }
+    }
+
 @app.post("/api/v1/ai/gms")
 async def gms(req: JobRequest):
     settings = app.state.settings
@@ -1,3 +1,5 @@
+from typing import List
+
 from pydantic import BaseModel, Field
 
 class SingleRequest(BaseModel):                
@@ -15,3 +17,6 @@ class JobRequest(BaseModel):
     lat: float = Field(..., description="위도")
     lng: float = Field(..., description="경도")
     category: str = Field(..., description="업종명")
+
+class BatchJobRequest(BaseModel):
+    items: List[JobRequest] = Field(..., min_length=1, description="(빌딩 ID, 위도, 경도, 업종명) 목록")
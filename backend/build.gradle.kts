@@ -56,6 +56,7 @@ dependencies {
     testImplementation("io.projectreactor:reactor-test")                        // Reactor Test : WebFlux 비동기 코드 테스트
     testImplementation("org.springframework.security:spring-security-test")     // Security Test : Security 관련 테스트 지원
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")              // JUnit Launcher : JUnit 테스트 실행 엔진
+    testRuntimeOnly("com.h2database:h2")                                       // H2 : 부하 테스트용 인메모리 DB (MySQL 모드)
 // === healthycheck ===
     implementation("org.springframework.boot:spring-boot-starter-actuator")
 }
@@ -63,4 +64,10 @@ dependencies {
 
 tasks.withType<Test> {
     useJUnitPlatform()
+    // 성능 측정 테스트(@Tag("perf"))는 -Dperf=true 일 때만 실행
+    systemProperty("perf", System.getProperty("perf", "false"))
+    // 부하 테스트 규모 조정값(-Dperf.*) 전달
+    System.getProperties().stringPropertyNames()
+        .filter { it.startsWith("perf.") }
+        .forEach { systemProperty(it, System.getProperty(it)) }
 }
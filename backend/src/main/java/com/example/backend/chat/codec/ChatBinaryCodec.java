@@ -0,0 +1,243 @@
+package com.example.backend.chat.codec;
+
+import com.example.backend.chat.dto.ChatMessage;
+import com.example.backend.chat.dto.response.ChatHistoryResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅 메시지 바이너리 코덱
+ *
+ * 프레임 구조: [매직 0xC7][버전][종류] + 본문
+ * - 종류 1 (MESSAGE): 메시지 1건 (roomId 포함)
+ * - 종류 2 (HISTORY_BATCH): roomId, totalCount, 메시지 수, 메시지 목록 (각 메시지의 roomId 생략)
+ *
+ * 메시지 구조: [타입 코드 1바이트][(UNKNOWN이면) 타입 문자열][timestamp epoch millis 8바이트]
+ *             [id varlong][seq varlong][messageId][roomId][senderId][senderName][profileImageUrl][content]
+ * - 문자열: varint(UTF-8 길이 + 1) + 바이트, 0은 null
+ * - id, seq: varlong(값 + 1), 0은 null
+ * - timestamp: null이면 Long.MIN_VALUE
+ */
+@Component
+public class ChatBinaryCodec {
+
+    public static final byte MAGIC = (byte) 0xC7;
+    public static final byte VERSION = 2; // 2: 방별 시퀀스(seq) 추가
+    public static final byte KIND_MESSAGE = 1;
+    public static final byte KIND_HISTORY_BATCH = 2;
+
+    private static final int HEADER_LENGTH = 3;
+    private static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    /**
+     * 메시지 1건 인코딩
+     */
+    public byte[] encode(ChatMessage message) {
+        Writer writer = new Writer(128);
+        writer.header(KIND_MESSAGE);
+        writeMessage(writer, message, true);
+        return writer.toByteArray();
+    }
+
+    /**
+     * 히스토리 일괄 응답 인코딩
+     */
+    public byte[] encode(ChatHistoryResponse history) {
+        List<ChatMessage> messages = history.getMessages() != null ? history.getMessages() : List.of();
+
+        Writer writer = new Writer(64 + messages.size() * 96);
+        writer.header(KIND_HISTORY_BATCH);
+        writer.string(history.getRoomId());
+        writer.varlong(history.getTotalCount());
+        writer.varlong(messages.size());
+        for (ChatMessage message : messages) {
+            writeMessage(writer, message, false);
+        }
+        return writer.toByteArray();
+    }
+
+    public ChatMessage decodeMessage(byte[] frame) {
+        Reader reader = new Reader(frame);
+        reader.header(KIND_MESSAGE);
+        return readMessage(reader, null);
+    }
+
+    public ChatHistoryResponse decodeHistory(byte[] frame) {
+        Reader reader = new Reader(frame);
+        reader.header(KIND_HISTORY_BATCH);
+
+        String roomId = reader.string();
+        int totalCount = (int) reader.varlong();
+        int size = (int) reader.varlong();
+        List<ChatMessage> messages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            messages.add(readMessage(reader, roomId));
+        }
+        return ChatHistoryResponse.builder()
+            .roomId(roomId)
+            .totalCount(totalCount)
+            .messages(messages)
+            .build();
+    }
+
+    /**
+     * 바이너리 프레임의 메시지 타입 조회 (MESSAGE 종류가 아니면 null)
+     */
+    public static String peekType(byte[] buffer, int offset) {
+        if (buffer.length - offset <= HEADER_LENGTH
+            || buffer[offset] != MAGIC
+            || buffer[offset + 2] != KIND_MESSAGE) {
+            return null;
+        }
+        ChatMessageType type = ChatMessageType.fromCode(buffer[offset + HEADER_LENGTH]);
+        return type != ChatMessageType.UNKNOWN ? type.name() : null;
+    }
+
+    private void writeMessage(Writer writer, ChatMessage message, boolean includeRoomId) {
+        ChatMessageType type = ChatMessageType.fromName(message.getType());
+        writer.raw(type.getCode());
+        if (type == ChatMessageType.UNKNOWN) {
+            writer.string(message.getType());
+        }
+        writer.int64(message.getTimestamp() != null
+            ? message.getTimestamp().atZone(zoneId).toInstant().toEpochMilli()
+            : NULL_TIMESTAMP);
+        writer.varlong(message.getId() != null ? message.getId() + 1 : 0);
+        writer.varlong(message.getSeq() != null ? message.getSeq() + 1 : 0);
+        writer.string(message.getMessageId());
+        if (includeRoomId) {
+            writer.string(message.getRoomId());
+        }
+        writer.string(message.getSenderId());
+        writer.string(message.getSenderName());
+        writer.string(message.getProfileImageUrl());
+        writer.string(message.getContent());
+    }
+
+    private ChatMessage readMessage(Reader reader, String batchRoomId) {
+        ChatMessageType type = ChatMessageType.fromCode(reader.raw());
+        String typeName = type == ChatMessageType.UNKNOWN ? reader.string() : type.name();
+        long epochMillis = reader.int64();
+        long id = reader.varlong();
+        long seq = reader.varlong();
+
+        return ChatMessage.builder()
+            .type(typeName)
+            .timestamp(epochMillis != NULL_TIMESTAMP
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zoneId)
+                : null)
+            .id(id != 0 ? id - 1 : null)
+            .seq(seq != 0 ? seq - 1 : null)
+            .messageId(reader.string())
+            .roomId(batchRoomId != null ? batchRoomId : reader.string())
+            .senderId(reader.string())
+            .senderName(reader.string())
+            .profileImageUrl(reader.string())
+            .content(reader.string())
+            .build();
+    }
+
+    private static final class Writer extends ByteArrayOutputStream {
+
+        private Writer(int initialSize) {
+            super(initialSize);
+        }
+
+        private void header(byte kind) {
+            write(MAGIC);
+            write(VERSION);
+            write(kind);
+        }
+
+        private void raw(byte value) {
+            write(value);
+        }
+
+        private void int64(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                write((int) (value >>> shift));
+            }
+        }
+
+        private void varlong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        private void string(String value) {
+            if (value == null) {
+                write(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varlong(bytes.length + 1L);
+            write(bytes, 0, bytes.length);
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        private Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        private void header(byte expectedKind) {
+            if (buffer.length < HEADER_LENGTH || buffer[0] != MAGIC || buffer[1] != VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 바이너리 프레임");
+            }
+            if (buffer[2] != expectedKind) {
+                throw new IllegalArgumentException("프레임 종류 불일치: " + buffer[2]);
+            }
+            position = HEADER_LENGTH;
+        }
+
+        private byte raw() {
+            return buffer[position++];
+        }
+
+        private long int64() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        private long varlong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        private String string() {
+            int length = (int) varlong();
+            if (length == 0) {
+                return null;
+            }
+            String value = new String(buffer, position, length - 1, StandardCharsets.UTF_8);
+            position += length - 1;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.backend.chat.codec;
+
+import com.example.backend.chat.dto.ChatMessage;
+import com.example.backend.chat.dto.response.ChatHistoryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 세션별 페이로드 코덱 협상 결과 및 바이너리 페이로드 준비
+ * - CONNECT 시 협상된 바이너리 세션 목록 유지
+ * - 전송 시점에 DTO에서 한 번만 인코딩해 메시지 헤더로 함께 보냄
+ *   (브로커가 구독자별 메시지에 헤더를 복사하므로 아웃바운드에서는 페이로드만 교체)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ChatCodecRegistry {
+
+    public static final String CODEC_HEADER = "x-chat-codec";
+    public static final String BINARY_CODEC = "binary";
+    public static final String TRANSPORT_ATTRIBUTE = "chatTransport";
+    public static final String TRANSPORT_WEBSOCKET = "websocket";
+    public static final String TRANSPORT_SOCKJS = "sockjs";
+    // 미리 인코딩한 바이너리 페이로드를 담는 내부 헤더 (STOMP 네이티브 헤더가 아니므로 클라이언트로 나가지 않음)
+    public static final String BINARY_PAYLOAD_HEADER = "chatBinaryPayload";
+
+    private final ChatBinaryCodec chatBinaryCodec;
+
+    private final Set<String> binarySessions = ConcurrentHashMap.newKeySet();
+
+    // 통계 정보
+    private final LongAdder encodedFrames = new LongAdder();
+    private final LongAdder binaryFrames = new LongAdder();
+
+    /**
+     * CONNECT 헤더와 전송 방식으로 세션 코덱 결정
+     * SockJS는 텍스트 프레임만 지원하므로 항상 JSON 유지
+     */
+    public boolean negotiate(String sessionId, String requestedCodec, Object transport) {
+        if (!BINARY_CODEC.equalsIgnoreCase(requestedCodec)) {
+            return false;
+        }
+        if (!TRANSPORT_WEBSOCKET.equals(transport)) {
+            log.debug("SockJS 세션은 바이너리 코덱 미지원 - JSON 유지: {}", sessionId);
+            return false;
+        }
+        binarySessions.add(sessionId);
+        log.debug("바이너리 코덱 협상 완료: {}", sessionId);
+        return true;
+    }
+
+    public boolean isBinary(String sessionId) {
+        return sessionId != null && binarySessions.contains(sessionId);
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        binarySessions.remove(event.getSessionId());
+    }
+
+    /**
+     * 방 브로드캐스트 헤더 - 바이너리 세션이 하나라도 있으면 메시지를 한 번 인코딩해 첨부 (없으면 null)
+     */
+    public MessageHeaders broadcastHeaders(ChatMessage message) {
+        if (binarySessions.isEmpty()) {
+            return null;
+        }
+        return headersWith(chatBinaryCodec.encode(message));
+    }
+
+    /**
+     * 히스토리 응답 헤더 - 받는 세션이 바이너리일 때만 인코딩해 첨부 (아니면 null)
+     */
+    public MessageHeaders historyHeaders(String sessionId, ChatHistoryResponse history) {
+        if (!isBinary(sessionId)) {
+            return null;
+        }
+        return headersWith(chatBinaryCodec.encode(history));
+    }
+
+    /**
+     * 아웃바운드 프레임에 첨부된 바이너리 페이로드 (바이너리 세션이 아니거나 첨부가 없으면 null)
+     */
+    public byte[] binaryPayload(String sessionId, MessageHeaders headers) {
+        if (!(headers.get(BINARY_PAYLOAD_HEADER) instanceof byte[] encoded) || !isBinary(sessionId)) {
+            return null;
+        }
+        binaryFrames.increment();
+        return encoded;
+    }
+
+    private MessageHeaders headersWith(byte[] encoded) {
+        encodedFrames.increment();
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setHeader(BINARY_PAYLOAD_HEADER, encoded);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    /**
+     * 통계 정보 조회
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("binarySessions", binarySessions.size());
+        stats.put("encodedFrames", encodedFrames.sum());
+        stats.put("binaryFrames", binaryFrames.sum());
+        return stats;
+    }
+}
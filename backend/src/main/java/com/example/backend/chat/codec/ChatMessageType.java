@@ -0,0 +1,55 @@
+package com.example.backend.chat.codec;
+
+/**
+ * 바이너리 코덱에서 사용하는 메시지 타입 코드
+ * JSON의 type 문자열을 1바이트로 표현합니다.
+ */
+public enum ChatMessageType {
+
+    UNKNOWN(0),
+    CHAT(1),
+    JOIN(2),
+    LEAVE(3),
+    TYPING(4),
+    HISTORY(5),
+    ERROR(6),
+    RESYNC(7);
+
+    private static final ChatMessageType[] BY_CODE = new ChatMessageType[8];
+
+    static {
+        for (ChatMessageType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+
+    ChatMessageType(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static ChatMessageType fromCode(byte code) {
+        return code >= 0 && code < BY_CODE.length && BY_CODE[code] != null ? BY_CODE[code] : UNKNOWN;
+    }
+
+    public static ChatMessageType fromName(String name) {
+        if (name == null) {
+            return UNKNOWN;
+        }
+        return switch (name) {
+            case "CHAT" -> CHAT;
+            case "JOIN" -> JOIN;
+            case "LEAVE" -> LEAVE;
+            case "TYPING" -> TYPING;
+            case "HISTORY" -> HISTORY;
+            case "ERROR" -> ERROR;
+            case "RESYNC" -> RESYNC;
+            default -> UNKNOWN;
+        };
+    }
+}
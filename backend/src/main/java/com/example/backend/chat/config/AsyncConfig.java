@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 
@@ -21,4 +22,16 @@ public class AsyncConfig implements AsyncConfigurer {
         log.info("가상스레드 기반 채팅 Executor 초기화");
         return Executors.newVirtualThreadPerTaskExecutor();
     }
+
+    /**
+     * STOMP 하트비트 및 채팅 주기 작업용 스케줄러
+     */
+    @Bean(name = "chatTaskScheduler")
+    public ThreadPoolTaskScheduler chatTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("chat-scheduler-");
+        scheduler.initialize();
+        return scheduler;
+    }
 }
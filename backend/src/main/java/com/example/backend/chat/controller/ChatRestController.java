@@ -2,16 +2,31 @@ package com.example.backend.chat.controller;
 
 import com.example.backend.chat.dto.ChatMessage;
 import com.example.backend.chat.dto.request.RoomCreateRequest;
+import com.example.backend.chat.dto.response.ChatSearchResponse;
+import com.example.backend.chat.dto.response.ParticipantListResponse;
+import com.example.backend.chat.dto.response.RoomPresenceResponse;
 import com.example.backend.chat.dto.response.RoomResponse;
 import com.example.backend.chat.dto.response.RoomListResponse;
+import com.example.backend.chat.presence.PresenceTracker;
+import com.example.backend.chat.search.ChatSearchIndex;
+import com.example.backend.chat.service.ChatExportService;
 import com.example.backend.chat.service.ChatService;
+import com.example.backend.common.config.WebMvcAsyncConfig;
 import com.example.backend.common.response.ApiResponse;
 import com.example.backend.common.security.authentication.jwt.JwtUserInfo;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -22,6 +37,12 @@ import java.util.List;
 public class ChatRestController {
 
     private final ChatService chatService;
+    private final PresenceTracker presenceTracker;
+    private final ChatExportService chatExportService;
+    private final ChatSearchIndex chatSearchIndex;
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
 
     /**
      * 방의 최근 메시지 조회
@@ -70,6 +91,68 @@ public class ChatRestController {
         return ApiResponse.of(messages);
     }
 
+    /**
+     * 방 메시지 검색 (검색어/보낸 사람/기간, 관련도순 메시지 ID)
+     * DB를 조회하지 않고 프로세스 내 검색 색인만 사용합니다.
+     */
+    @GetMapping("/rooms/{roomId}/messages/search")
+    public ApiResponse<ChatSearchResponse> searchMessages(
+        @PathVariable String roomId,
+        @RequestParam(required = false) String q,
+        @RequestParam(required = false) String senderId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @RequestParam(defaultValue = "20") int limit) {
+
+        // 입력 값 검증
+        boolean hasQuery = q != null && !q.isBlank();
+        if (!hasQuery && senderId == null && from == null && to == null) {
+            throw new IllegalArgumentException("검색어, 보낸 사람, 기간 중 하나는 필수입니다.");
+        }
+
+        if (hasQuery && q.length() > 100) {
+            throw new IllegalArgumentException("검색어는 100자를 초과할 수 없습니다.");
+        }
+
+        if (limit <= 0 || limit > 100) {
+            throw new IllegalArgumentException("조회 개수는 1~100 사이여야 합니다.");
+        }
+
+        ChatSearchIndex.SearchResult result = chatSearchIndex.search(roomId, q, senderId, from, to, limit);
+        return ApiResponse.of(ChatSearchResponse.builder()
+            .roomId(roomId)
+            .messageIds(result.messageIds())
+            .totalHits(result.totalHits())
+            .indexing(chatSearchIndex.isCatchingUp())
+            .build());
+    }
+
+    /**
+     * 방 전체 메시지 내보내기 (NDJSON 스트리밍, gzip=true면 압축 파일)
+     * 페이지 단위 조회 없이 DB 커서로 읽은 메시지를 바로 응답에 기록합니다.
+     * 대용량 방은 기본 비동기 타임아웃(2분)을 넘기므로 긴 타임아웃(web.async.long-running-timeout-millis) 적용
+     */
+    @GetMapping("/rooms/{roomId}/messages/export")
+    public ResponseEntity<StreamingResponseBody> exportMessages(
+        @PathVariable String roomId,
+        @RequestParam(defaultValue = "false") boolean gzip,
+        HttpServletRequest request) {
+
+        // 입력 값 검증
+        if (roomId == null || roomId.trim().isEmpty()) {
+            throw new IllegalArgumentException("방 ID는 필수입니다.");
+        }
+        chatExportService.validateRoom(roomId);
+
+        String filename = "chat-" + roomId + (gzip ? ".ndjson.gz" : ".ndjson");
+        StreamingResponseBody body = out -> chatExportService.exportMessages(roomId, out, gzip);
+        request.setAttribute(WebMvcAsyncConfig.LONG_RUNNING_ATTRIBUTE, Boolean.TRUE);
+
+        return ResponseEntity.ok()
+            .contentType(gzip ? GZIP : NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .body(body);
+    }
 
     /**
      * 채팅방 생성
@@ -124,6 +207,31 @@ public class ChatRestController {
         return ApiResponse.of(roomInfo);
     }
 
+    /**
+     * 채팅방 참여자 목록 조회 (입장 순, 페이징 지원)
+     */
+    @GetMapping("/rooms/{roomId}/participants")
+    public ApiResponse<ParticipantListResponse> getRoomParticipants(
+        @PathVariable String roomId,
+        @RequestParam(defaultValue = "50") int limit,
+        @RequestParam(required = false) String cursor) {
+
+        // 입력 값 검증
+        if (limit <= 0 || limit > 200) {
+            throw new IllegalArgumentException("조회 개수는 1~200 사이여야 합니다.");
+        }
+
+        return ApiResponse.of(chatService.getRoomParticipants(roomId, cursor, limit));
+    }
+
+    /**
+     * 채팅방 실시간 접속자 수 조회
+     */
+    @GetMapping("/rooms/{roomId}/presence")
+    public ApiResponse<RoomPresenceResponse> getRoomPresence(@PathVariable String roomId) {
+        return ApiResponse.of(new RoomPresenceResponse(roomId, presenceTracker.getOnlineCount(roomId)));
+    }
+
     /**
      * 채팅방 나가기
      */
@@ -4,7 +4,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
 import com.example.backend.chat.dto.ChatMessage;
 import com.example.backend.chat.dto.request.ChatMessageRequest;
 import com.example.backend.chat.service.ChatService;
@@ -21,11 +20,10 @@ public class ChatStompController {
     private final ChatService chatService;
 
     /**
-     * 채팅 메시지 전송
+     * 채팅 메시지 전송 (방 토픽 전송은 순번 발급과 함께 RoomBroadcaster가 수행)
      */
     @MessageMapping("/chat.sendMessage/{roomId}")
-    @SendTo("/topic/room.{roomId}")
-    public ChatMessage sendMessage(@DestinationVariable String roomId,
+    public void sendMessage(@DestinationVariable String roomId,
                                    ChatMessageRequest request,
                                    SimpMessageHeaderAccessor headerAccessor) {
 
@@ -42,9 +40,8 @@ public class ChatStompController {
                 throw new IllegalArgumentException("메시지는 1000자를 초과할 수 없습니다.");
             }
 
-            ChatMessage result = chatService.sendMessage(roomId, request.getContent(), headerAccessor);
+            chatService.sendMessage(roomId, request.getContent(), headerAccessor);
             log.info("=== 메시지 전송 완료 ===");
-            return result;
         } catch (Exception e) {
             log.error("메시지 전송 중 오류 발생: roomId={}, content={}", roomId, request.getContent(), e);
             throw e; // MessageExceptionHandler가 처리
@@ -55,8 +52,7 @@ public class ChatStompController {
      * 방 입장
      */
     @MessageMapping("/chat.joinRoom/{roomId}")
-    @SendTo("/topic/room.{roomId}")
-    public ChatMessage joinRoom(@DestinationVariable String roomId,
+    public void joinRoom(@DestinationVariable String roomId,
                                 SimpMessageHeaderAccessor headerAccessor) {
 
         try {
@@ -68,9 +64,8 @@ public class ChatStompController {
                 throw new IllegalArgumentException("방 ID는 필수입니다.");
             }
 
-            ChatMessage result = chatService.joinRoom(roomId, headerAccessor);
+            chatService.joinRoom(roomId, headerAccessor);
             log.info("=== 방 입장 완료 ===");
-            return result;
         } catch (Exception e) {
             log.error("방 입장 중 오류 발생: roomId={}", roomId, e);
             throw e; // MessageExceptionHandler가 처리
@@ -0,0 +1,466 @@
+package com.example.backend.chat.directory;
+
+import com.example.backend.chat.dto.response.RoomDeltaResponse;
+import com.example.backend.chat.dto.response.RoomListResponse;
+import com.example.backend.chat.dto.response.RoomResponse;
+import com.example.backend.chat.entity.Room;
+import com.example.backend.chat.event.RoomCreatedEvent;
+import com.example.backend.chat.event.RoomParticipantsChangedEvent;
+import com.example.backend.chat.repository.RoomRepository;
+import com.example.backend.common.exception.BusinessException;
+import com.example.backend.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공개 채팅방 목록용 인메모리 인덱스
+ * - 카테고리별(및 전체) 정렬 인덱스: 생성시간 내림차순 + 방 ID 오름차순 (기존 커서 형식 "생성시간_방ID" 유지)
+ * - 참여 인원이 0명인 방은 페이지를 자르기 전에 제외하므로 hasMore/nextCursor가 정확함
+ * - 카테고리별 노출 방 수를 증분 관리하여 totalCount를 O(1)로 제공
+ *
+ * 방 생성/입장/영구 나가기 이벤트(커밋 후)로 갱신되며, 시작 시와 주기적으로 DB와 재동기화합니다.
+ *
+ * 변경 사항은 방별로 모아 두었다가 주기마다 한 번씩 /topic/rooms.{bigCategory}(전체는 /topic/rooms.all)로 발행합니다.
+ * 모든 변경에는 단조 증가하는 version이 붙고, 목록 응답에도 조회 시점의 version이 포함되므로
+ * 클라이언트는 목록을 한 번 받은 뒤 변경분만 적용하면 됩니다.
+ *
+ * 노드 로컬 인덱스입니다 (SimpleBroker, 접속 현황과 마찬가지로 Redis로 공유하지 않음).
+ * - 이벤트는 이 노드에서 커밋된 생성/입장/나가기만 반영하므로, 다중 노드 배포에서는 다른 노드의 변경이
+ *   다음 DB 재동기화(chat.directory.rebuild-interval-millis)까지 목록과 변경분 발행에 늦게 나타남
+ * - version도 노드별 값이므로 클라이언트는 재연결로 노드가 바뀌면 목록을 다시 받아야 함
+ */
+@Component
+@Slf4j
+public class RoomDirectory {
+
+    private static final String ALL_CATEGORIES = "";
+    private static final String DELTA_TOPIC_PREFIX = "/topic/rooms.";
+    // 전체 목록 토픽 이름 = 예약된 대분류 (RoomCreateRequest에서 생성 차단)
+    private static final String ALL_CATEGORIES_TOPIC = "all";
+    private static final Comparator<RoomKey> ORDER = Comparator
+        .comparing(RoomKey::createdAt, Comparator.reverseOrder())
+        .thenComparingLong(RoomKey::id);
+
+    private final RoomRepository roomRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TaskScheduler chatTaskScheduler;
+    private final long rebuildIntervalMillis;
+    private final long deltaIntervalMillis;
+
+    // roomUuid → 방 정보
+    private final Map<String, RoomEntry> rooms = new ConcurrentHashMap<>();
+
+    // bigCategory("" = 전체) → 정렬 인덱스
+    private final Map<String, CategoryIndex> categories = new ConcurrentHashMap<>();
+
+    // 목록 버전 (변경마다 증가)
+    private final AtomicLong version = new AtomicLong(0);
+
+    // roomUuid → 아직 발행하지 않은 변경 (주기마다 방별 1건으로 합쳐 발행)
+    private final Map<String, PendingChange> pendingChanges = new ConcurrentHashMap<>();
+
+    public RoomDirectory(RoomRepository roomRepository,
+                         SimpMessagingTemplate messagingTemplate,
+                         @Qualifier("chatTaskScheduler") TaskScheduler chatTaskScheduler,
+                         @Value("${chat.directory.rebuild-interval-millis:300000}") long rebuildIntervalMillis,
+                         @Value("${chat.directory.delta-interval-millis:1000}") long deltaIntervalMillis) {
+        this.roomRepository = roomRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.chatTaskScheduler = chatTaskScheduler;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+        this.deltaIntervalMillis = deltaIntervalMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+        pendingChanges.clear(); // 초기 적재분은 구독자가 없으므로 발행하지 않음
+        Duration interval = Duration.ofMillis(rebuildIntervalMillis);
+        chatTaskScheduler.scheduleWithFixedDelay(this::rebuild, Instant.now().plus(interval), interval);
+        chatTaskScheduler.scheduleWithFixedDelay(this::publishChanges, Duration.ofMillis(deltaIntervalMillis));
+        log.info("채팅방 목록 인덱스 초기화 완료 - 방: {}개, 재동기화 주기: {}ms, 변경 발행 주기: {}ms",
+            rooms.size(), rebuildIntervalMillis, deltaIntervalMillis);
+    }
+
+    // ========== 이벤트 ==========
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRoomCreated(RoomCreatedEvent event) {
+        if (event.createdAt() == null) {
+            return; // 다음 재동기화 때 반영
+        }
+        register(new RoomEntry(
+            new RoomKey(truncate(event.createdAt()), event.id()),
+            event.roomUuid(),
+            event.roomName(),
+            event.creatorId(),
+            event.creatorUsername(),
+            event.bigCategory(),
+            event.maxParticipants(),
+            event.currentParticipants(),
+            event.createdAt()
+        ));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleParticipantsChanged(RoomParticipantsChangedEvent event) {
+        RoomEntry entry = rooms.get(event.roomUuid());
+        if (entry != null) {
+            entry.adjust(event.delta());
+        }
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 카테고리별 방 목록 (커서 기반 페이징, 참여 인원 0명인 방 제외)
+     * @param bigCategory null 또는 빈 값이면 전체
+     * @param cursor      "생성시간_방ID" 형식 (첫 페이지는 null)
+     */
+    public RoomListResponse getRooms(String bigCategory, int limit, String cursor) {
+        // 목록을 읽기 전에 버전을 확정 (읽는 도중 반영된 변경은 변경분으로 다시 받아도 덮어쓰기라 안전)
+        long listVersion = version.get();
+
+        CategoryIndex index = categories.get(normalize(bigCategory));
+        if (index == null) {
+            return RoomListResponse.builder()
+                .rooms(List.of())
+                .hasMore(false)
+                .totalCount(0)
+                .version(listVersion)
+                .build();
+        }
+
+        NavigableMap<RoomKey, RoomEntry> view = cursor == null
+            ? index.entries
+            : index.entries.tailMap(parseCursor(cursor), false);
+
+        // limit + 1개까지 모아 다음 페이지 존재 여부 확인
+        List<RoomEntry> page = new ArrayList<>(limit + 1);
+        for (RoomEntry entry : view.values()) {
+            if (entry.isVisible()) {
+                page.add(entry);
+                if (page.size() > limit) {
+                    break;
+                }
+            }
+        }
+
+        boolean hasMore = page.size() > limit;
+        if (hasMore) {
+            page = page.subList(0, limit);
+        }
+        String nextCursor = hasMore && !page.isEmpty() ? formatCursor(page.get(page.size() - 1).key) : null;
+
+        return RoomListResponse.builder()
+            .rooms(page.stream().map(RoomEntry::toResponse).toList())
+            .nextCursor(nextCursor)
+            .hasMore(hasMore)
+            .totalCount(index.visible.get())
+            .version(listVersion)
+            .build();
+    }
+
+    // ========== 변경분 발행 ==========
+
+    /**
+     * 모아 둔 변경을 카테고리별로 묶어 발행 (방별로는 마지막 상태 1건)
+     */
+    void publishChanges() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, List<RoomDeltaResponse.Change>> batches = new HashMap<>();
+            for (String roomUuid : List.copyOf(pendingChanges.keySet())) {
+                PendingChange pending = pendingChanges.remove(roomUuid);
+                if (pending == null) {
+                    continue;
+                }
+                RoomDeltaResponse.Change change = pending.toChange();
+                batches.computeIfAbsent(ALL_CATEGORIES, k -> new ArrayList<>()).add(change);
+                String category = normalize(pending.entry.bigCategory);
+                // 예약 전에 만들어진 "all" 대분류 방은 전체 토픽에만 발행 (전체 목록 구독자에게 섞이지 않도록)
+                if (!category.equals(ALL_CATEGORIES) && !category.equals(ALL_CATEGORIES_TOPIC)) {
+                    batches.computeIfAbsent(category, k -> new ArrayList<>()).add(change);
+                }
+            }
+
+            batches.forEach((category, changes) -> {
+                long batchVersion = changes.stream().mapToLong(RoomDeltaResponse.Change::version).max().orElse(0);
+                String topic = DELTA_TOPIC_PREFIX + (category.equals(ALL_CATEGORIES) ? ALL_CATEGORIES_TOPIC : category);
+                messagingTemplate.convertAndSend(topic, RoomDeltaResponse.builder()
+                    .bigCategory(category.equals(ALL_CATEGORIES) ? null : category)
+                    .version(batchVersion)
+                    .changes(changes)
+                    .build());
+            });
+        } catch (Exception e) {
+            log.error("채팅방 목록 변경분 발행 실패", e);
+        }
+    }
+
+    /**
+     * 변경 기록 (같은 방의 변경은 합쳐짐: 생성 후 갱신 → 생성, 이후 종료 → 종료)
+     */
+    private void recordChange(RoomEntry entry, RoomDeltaResponse.Type type) {
+        long changeVersion = version.incrementAndGet();
+        pendingChanges.merge(entry.roomUuid, new PendingChange(entry, type, changeVersion),
+            (previous, next) -> next.type == RoomDeltaResponse.Type.UPDATED && previous.type == RoomDeltaResponse.Type.CREATED
+                ? new PendingChange(entry, RoomDeltaResponse.Type.CREATED, changeVersion)
+                : next);
+    }
+
+    // ========== 재동기화 ==========
+
+    /**
+     * DB의 활성 방 목록과 재동기화
+     * 조회 시작 이후 이벤트로 바뀐 방은 이벤트 값이 더 최신이므로 건드리지 않습니다.
+     */
+    void rebuild() {
+        long snapshotNanos = System.nanoTime();
+        try {
+            List<Room> activeRooms = roomRepository.findByIsActiveTrueOrderByParticipantsDesc();
+            Set<String> active = new HashSet<>();
+            for (Room room : activeRooms) {
+                active.add(room.getRoomUuid());
+                RoomEntry entry = rooms.get(room.getRoomUuid());
+                if (entry != null) {
+                    entry.reconcile(room.getCurrentParticipants(), room.getUpdatedAt(), snapshotNanos);
+                } else if (room.getCreatedAt() != null) {
+                    register(entryOf(room));
+                }
+            }
+
+            // 비활성화/삭제된 방 제거 (조회 이후 등록된 방 제외)
+            for (RoomEntry entry : rooms.values()) {
+                if (!active.contains(entry.roomUuid) && entry.registeredAtNanos < snapshotNanos) {
+                    unregister(entry);
+                }
+            }
+            log.debug("채팅방 목록 인덱스 재동기화 - 방: {}개", rooms.size());
+        } catch (Exception e) {
+            log.error("채팅방 목록 인덱스 재동기화 실패", e);
+        }
+    }
+
+    // ========== 내부 처리 ==========
+
+    private void register(RoomEntry entry) {
+        synchronized (entry) {
+            if (rooms.putIfAbsent(entry.roomUuid, entry) != null) {
+                return;
+            }
+            for (CategoryIndex index : indexesOf(entry)) {
+                index.entries.put(entry.key, entry);
+                if (entry.isVisible()) {
+                    index.visible.incrementAndGet();
+                }
+            }
+            recordChange(entry, RoomDeltaResponse.Type.CREATED);
+        }
+    }
+
+    private void unregister(RoomEntry entry) {
+        synchronized (entry) {
+            if (!rooms.remove(entry.roomUuid, entry)) {
+                return;
+            }
+            for (CategoryIndex index : indexesOf(entry)) {
+                index.entries.remove(entry.key);
+                if (entry.isVisible()) {
+                    index.visible.decrementAndGet();
+                }
+            }
+            entry.removed = true;
+            recordChange(entry, RoomDeltaResponse.Type.CLOSED);
+        }
+    }
+
+    private RoomEntry entryOf(Room room) {
+        return new RoomEntry(
+            new RoomKey(truncate(room.getCreatedAt()), room.getId()),
+            room.getRoomUuid(),
+            room.getRoomName(),
+            room.getCreatorId(),
+            room.getCreatorUsername(),
+            room.getBigCategory(),
+            room.getMaxParticipants(),
+            room.getCurrentParticipants(),
+            room.getUpdatedAt()
+        );
+    }
+
+    private List<CategoryIndex> indexesOf(RoomEntry entry) {
+        CategoryIndex all = categories.computeIfAbsent(ALL_CATEGORIES, k -> new CategoryIndex());
+        String category = normalize(entry.bigCategory);
+        if (category.equals(ALL_CATEGORIES)) {
+            return List.of(all);
+        }
+        return List.of(all, categories.computeIfAbsent(category, k -> new CategoryIndex()));
+    }
+
+    private static String normalize(String bigCategory) {
+        return bigCategory == null ? ALL_CATEGORIES : bigCategory.trim();
+    }
+
+    /**
+     * DB(timestamp(6))와 같은 정밀도로 맞춰 재동기화 후에도 커서 위치가 변하지 않도록 함
+     */
+    private static LocalDateTime truncate(LocalDateTime createdAt) {
+        return createdAt.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static RoomKey parseCursor(String cursor) {
+        try {
+            String[] parts = cursor.split("_", 2);
+            return new RoomKey(
+                truncate(LocalDateTime.parse(parts[0], DateTimeFormatter.ISO_LOCAL_DATE_TIME)),
+                Long.parseLong(parts[1])
+            );
+        } catch (DateTimeParseException | NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new BusinessException(ErrorCode.COMMON_INVALID_INPUT, "잘못된 커서 형식입니다: " + cursor);
+        }
+    }
+
+    private static String formatCursor(RoomKey key) {
+        return key.createdAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "_" + key.id();
+    }
+
+    /**
+     * 정렬 키 (생성시간 내림차순 + 방 ID 오름차순)
+     */
+    private record RoomKey(LocalDateTime createdAt, long id) implements Comparable<RoomKey> {
+        @Override
+        public int compareTo(RoomKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * 카테고리 인덱스 (정렬된 방 목록 + 참여 인원 1명 이상인 방 수)
+     */
+    private static final class CategoryIndex {
+        private final ConcurrentSkipListMap<RoomKey, RoomEntry> entries = new ConcurrentSkipListMap<>();
+        private final AtomicInteger visible = new AtomicInteger(0);
+    }
+
+    /**
+     * 방 정보 (참여자 수만 변경되며, 노출 여부가 바뀌면 인덱스의 노출 방 수를 함께 갱신)
+     */
+    private final class RoomEntry {
+
+        private final RoomKey key;
+        private final String roomUuid;
+        private final String roomName;
+        private final String creatorId;
+        private final String creatorUsername;
+        private final String bigCategory;
+        private final int maxParticipants;
+        private final long registeredAtNanos = System.nanoTime();
+
+        private volatile int currentParticipants;
+        private volatile LocalDateTime updatedAt;
+        private long changedAtNanos;
+        private boolean removed;
+
+        private RoomEntry(RoomKey key, String roomUuid, String roomName, String creatorId, String creatorUsername,
+                          String bigCategory, int maxParticipants, int currentParticipants, LocalDateTime updatedAt) {
+            this.key = key;
+            this.roomUuid = roomUuid;
+            this.roomName = roomName;
+            this.creatorId = creatorId;
+            this.creatorUsername = creatorUsername;
+            this.bigCategory = bigCategory;
+            this.maxParticipants = maxParticipants;
+            this.currentParticipants = currentParticipants;
+            this.updatedAt = updatedAt;
+        }
+
+        private boolean isVisible() {
+            return currentParticipants > 0;
+        }
+
+        private synchronized void adjust(int delta) {
+            changedAtNanos = System.nanoTime();
+            update(Math.max(0, currentParticipants + delta), LocalDateTime.now());
+        }
+
+        private synchronized void reconcile(int participants, LocalDateTime dbUpdatedAt, long snapshotNanos) {
+            if (changedAtNanos < snapshotNanos && participants != currentParticipants) {
+                update(participants, dbUpdatedAt);
+            }
+        }
+
+        private void update(int participants, LocalDateTime changedAt) {
+            boolean wasVisible = isVisible();
+            currentParticipants = participants;
+            updatedAt = changedAt;
+            if (!removed) {
+                recordChange(this, RoomDeltaResponse.Type.UPDATED);
+            }
+            if (!removed && wasVisible != isVisible()) {
+                int delta = isVisible() ? 1 : -1;
+                for (CategoryIndex index : indexesOf(this)) {
+                    index.visible.addAndGet(delta);
+                }
+            }
+        }
+
+        private RoomResponse toResponse() {
+            return RoomResponse.builder()
+                .roomId(roomUuid)
+                .roomName(roomName)
+                .creatorId(creatorId)
+                .creatorUsername(creatorUsername)
+                .bigCategory(bigCategory)
+                .maxParticipants(maxParticipants)
+                .currentParticipants(currentParticipants)
+                .isActive(true)
+                .createdAt(key.createdAt())
+                .updatedAt(updatedAt)
+                .build();
+        }
+    }
+
+    /**
+     * 발행 대기 중인 변경 (room 상태는 발행 시점의 최신 값 사용)
+     */
+    private record PendingChange(RoomEntry entry, RoomDeltaResponse.Type type, long version) {
+
+        private RoomDeltaResponse.Change toChange() {
+            return RoomDeltaResponse.Change.builder()
+                .type(type)
+                .roomId(entry.roomUuid)
+                .version(version)
+                .room(type == RoomDeltaResponse.Type.CLOSED ? null : entry.toResponse())
+                .build();
+        }
+    }
+}
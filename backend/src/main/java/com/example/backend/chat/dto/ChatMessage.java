@@ -16,6 +16,7 @@ public class ChatMessage {
 
     private Long id;
     private String messageId;
+    private Long seq;   // 방별 순번 (CHAT/JOIN/LEAVE만 부여, 클라이언트는 연속성으로 누락 감지)
     private String type; // "JOIN", "CHAT", "LEAVE", "TYPING", "HISTORY", "ERROR"
     private String roomId;
     private String senderId;        // 사용자 ID (구분용)
@@ -84,4 +85,15 @@ public class ChatMessage {
             .timestamp(timestamp)
             .build();
     }
+
+    public static ChatMessage createResyncMessage(String roomId, int missedCount) {
+        return ChatMessage.builder()
+            .type("RESYNC")
+            .roomId(roomId)
+            .senderId("system")
+            .senderName("시스템")
+            .content(missedCount + "개 메시지 누락, 재동기화가 필요합니다.")
+            .timestamp(LocalDateTime.now())
+            .build();
+    }
 }
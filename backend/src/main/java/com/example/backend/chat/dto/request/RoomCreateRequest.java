@@ -3,6 +3,7 @@ package com.example.backend.chat.dto.request;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
 
@@ -17,6 +18,7 @@ public record RoomCreateRequest(
     String roomName,
 
     @Size(max = 20, message = "대분류는 20자 이내여야 합니다")
+    @Pattern(regexp = "(?s)^(?!\\s*all\\s*$).*$", message = "'all'은 전체 목록용으로 예약된 대분류입니다")
     String bigCategory,
 
     @Min(value = 2, message = "최소 참여자는 2명 이상이어야 합니다")
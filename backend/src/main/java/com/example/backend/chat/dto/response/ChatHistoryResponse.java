@@ -11,6 +11,8 @@ import java.util.List;
 /**
  * 채팅 히스토리 응답 DTO
  * 새 참가자에게 이전 메시지들을 일괄 전송하기 위한 응답 객체
+ * - HISTORY_BATCH: 최근 히스토리 전체
+ * - HISTORY_DELTA: 재접속 시 afterSeq 이후 누락 메시지만 (순번 오름차순)
  */
 @Data
 @NoArgsConstructor
@@ -21,6 +23,7 @@ public class ChatHistoryResponse {
     private String roomId;
     private List<ChatMessage> messages;
     private int totalCount;
+    private Long afterSeq;
     @Builder.Default
     private String type = "HISTORY_BATCH";
 }
\ No newline at end of file
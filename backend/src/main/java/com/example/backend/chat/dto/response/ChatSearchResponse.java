@@ -0,0 +1,18 @@
+package com.example.backend.chat.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 검색 응답 DTO (순위순 메시지 ID)
+ */
+@Getter
+@Builder
+public class ChatSearchResponse {
+    private final String roomId;
+    private final List<String> messageIds;
+    private final int totalHits;
+    private final boolean indexing; // 재시작 후 색인 따라잡기 중이면 true (과거 메시지 일부 누락 가능)
+}
@@ -0,0 +1,18 @@
+package com.example.backend.chat.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 채팅방 참여자 목록 응답 DTO (페이징 포함)
+ */
+@Getter
+@Builder
+public class ParticipantListResponse {
+    private final List<RoomResponse.ParticipantResponse> participants;
+    private final String nextCursor;
+    private final boolean hasMore;
+    private final int totalCount;
+}
@@ -0,0 +1,32 @@
+package com.example.backend.chat.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 채팅방 목록 변경분 (/topic/rooms.{bigCategory}, 전체는 /topic/rooms.all)
+ *
+ * 클라이언트는 목록 API 응답의 version을 기억해 두고, 그보다 큰 version의 변경만 적용합니다.
+ * - CREATED/UPDATED: room으로 덮어쓰기 (참여 인원이 0명이면 목록과 같게 숨김)
+ * - CLOSED: 목록에서 제거
+ */
+@Builder
+public record RoomDeltaResponse(
+    String bigCategory,
+    long version,
+    List<Change> changes
+) {
+
+    public enum Type {
+        CREATED, UPDATED, CLOSED
+    }
+
+    @Builder
+    public record Change(
+        Type type,
+        String roomId,
+        long version,
+        RoomResponse room
+    ) {}
+}
@@ -15,4 +15,5 @@ public class RoomListResponse {
     private final String nextCursor;
     private final boolean hasMore;
     private final int totalCount;
+    private final long version; // 목록 기준 버전 (이후 변경분은 /topic/rooms.{bigCategory}로 수신)
 }
\ No newline at end of file
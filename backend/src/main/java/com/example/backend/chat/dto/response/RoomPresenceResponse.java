@@ -0,0 +1,9 @@
+package com.example.backend.chat.dto.response;
+
+/**
+ * 채팅방 실시간 접속 현황 응답 DTO
+ */
+public record RoomPresenceResponse(
+    String roomId,
+    int onlineCount
+) {}
@@ -1,5 +1,6 @@
 package com.example.backend.chat.dto.response;
 
+import com.example.backend.chat.dto.ChatMessage;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 
@@ -28,6 +29,7 @@ public record RoomResponse(
 
     // 선택적 필드들
     Integer recentMessageCount,
+    ChatMessage lastMessage,
     List<ParticipantResponse> participants
 ) {
 
@@ -9,7 +9,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages",
+       indexes = @Index(name = "idx_chat_messages_room_seq", columnList = "room_id, seq"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,6 +27,9 @@ public class ChatMessageEntity {
     @Column(name = "room_id", nullable = false)
     private String roomId;
 
+    @Column(name = "seq")
+    private Long seq; // 방별 순번 (도입 이전 메시지는 null)
+
     @Column(name = "sender_id", nullable = false)
     private String senderId;
 
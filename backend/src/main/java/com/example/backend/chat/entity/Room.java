@@ -72,22 +72,6 @@ public class Room {
     @Builder.Default
     private List<RoomParticipant> participants = new ArrayList<>();
 
-    /**
-     * 참여자 수 증가
-     */
-    public void incrementParticipants() {
-        this.currentParticipants++;
-    }
-
-    /**
-     * 참여자 수 감소
-     */
-    public void decrementParticipants() {
-        if (this.currentParticipants > 0) {
-            this.currentParticipants--;
-        }
-    }
-
     /**
      * 방이 가득 찼는지 확인
      */
@@ -0,0 +1,35 @@
+package com.example.backend.chat.event;
+
+import com.example.backend.chat.entity.Room;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 생성 이벤트 (트랜잭션 커밋 후 방 목록 인덱스에 반영)
+ */
+public record RoomCreatedEvent(
+    Long id,
+    String roomUuid,
+    String roomName,
+    String creatorId,
+    String creatorUsername,
+    String bigCategory,
+    int maxParticipants,
+    int currentParticipants,
+    LocalDateTime createdAt
+) {
+
+    public static RoomCreatedEvent from(Room room) {
+        return new RoomCreatedEvent(
+            room.getId(),
+            room.getRoomUuid(),
+            room.getRoomName(),
+            room.getCreatorId(),
+            room.getCreatorUsername(),
+            room.getBigCategory(),
+            room.getMaxParticipants(),
+            room.getCurrentParticipants(),
+            room.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.backend.chat.event;
+
+/**
+ * 채팅방 참여자 수 변경 이벤트 (입장 +1, 영구 나가기 -1)
+ * DB에는 조건부 UPDATE로 이미 반영된 변화량이며, 커밋된 경우에만 발행됩니다.
+ */
+public record RoomParticipantsChangedEvent(
+    String roomUuid,
+    int delta
+) {
+
+    public static RoomParticipantsChangedEvent joined(String roomUuid) {
+        return new RoomParticipantsChangedEvent(roomUuid, 1);
+    }
+
+    public static RoomParticipantsChangedEvent left(String roomUuid) {
+        return new RoomParticipantsChangedEvent(roomUuid, -1);
+    }
+}
@@ -14,10 +14,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
-import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
-import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -28,6 +29,8 @@ import java.util.Map;
 
 /**
  * 인증 및 권한 체크 인터셉터
+ * - CONNECT 시 한 번만 사용자 정보를 확인하고 구독 허용 목록과 함께 세션 속성에 보관
+ * - 이후 SEND/SUBSCRIBE는 세션 속성 조회와 목적지 접두사 비교만 수행
  */
 @Component
 @Slf4j
@@ -39,66 +42,49 @@ public class AuthChannelInterceptor implements ChannelInterceptor {
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
-        log.info("=== AuthChannelInterceptor: preSend 호출됨 ===");
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(headers);
 
-        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
-
-        if (accessor != null) {
-            log.info("AuthChannelInterceptor - 명령어: {}", accessor.getCommand());
-
-            if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
-                log.info("AuthChannelInterceptor - SUBSCRIBE 처리");
-                handleSubscribe(accessor);
-            } else if (StompCommand.SEND.equals(accessor.getCommand())) {
-                log.info("AuthChannelInterceptor - SEND 처리");
-                handleSend(accessor);
-            }
-        } else {
-            log.info("AuthChannelInterceptor - accessor가 null");
+        if (messageType == SimpMessageType.CONNECT) {
+            authenticate(headers);
+            return message;
+        }
+        if (messageType != SimpMessageType.SUBSCRIBE && messageType != SimpMessageType.MESSAGE) {
+            return message;
         }
 
-        return message;
-    }
-
-    private void handleSubscribe(StompHeaderAccessor accessor) {
-        String destination = accessor.getDestination();
-        Principal user = accessor.getUser();
-
-        if (user == null) {
+        // CONNECT 이후 프레임은 세션 속성 조회 한 번으로 처리
+        AuthenticatedSession session = AuthenticatedSession.from(SimpMessageHeaderAccessor.getSessionAttributes(headers));
+        if (session == null) {
             throw new BusinessException(ErrorCode.CHAT_USER_NOT_AUTHENTICATED);
         }
 
-        // 개인 큐 구독 권한 체크 (세션에서 JwtUserInfo 가져오기)
-        if (destination != null && destination.startsWith("/user/")) {
-            Principal principal = accessor.getUser();
-            JwtUserInfo userInfo = null;
-            if (user instanceof UsernamePasswordAuthenticationToken) {
-                UsernamePasswordAuthenticationToken auth = (UsernamePasswordAuthenticationToken) principal;
-                userInfo = (JwtUserInfo) auth.getPrincipal();
-                // userInfo 사용
-            }
-            if (userInfo != null) {
-                String userId = userInfo.userId();
-                if (!destination.contains("/" + userId + "/")) {
-                    log.warn("권한 없는 개인 큐 구독 시도: {} by userId: {}", destination, userId);
-                    throw new BusinessException(ErrorCode.CHAT_USER_NOT_AUTHENTICATED);
-                }
+        if (messageType == SimpMessageType.SUBSCRIBE) {
+            String destination = SimpMessageHeaderAccessor.getDestination(headers);
+            if (!session.canSubscribe(destination)) {
+                log.warn("허용되지 않은 구독 시도: {} by userId: {}", destination, session.getUserId());
+                throw new BusinessException(ErrorCode.CHAT_USER_NOT_AUTHENTICATED);
             }
         }
 
-        String userIdentifier = user != null ? user.getName() : "Anonymous";
-        log.debug("구독 허용: {} by {}", destination, userIdentifier);
+        return message;
     }
 
-    private void handleSend(StompHeaderAccessor accessor) {
-        Principal user = accessor.getUser();
-        if (user == null) {
-            throw new BusinessException(ErrorCode.CHAT_USER_NOT_AUTHENTICATED);
+    /**
+     * CONNECT 시 핸드셰이크에서 인증된 사용자 정보를 세션 속성에 보관
+     */
+    private void authenticate(MessageHeaders headers) {
+        Map<String, Object> attributes = SimpMessageHeaderAccessor.getSessionAttributes(headers);
+        Principal user = SimpMessageHeaderAccessor.getUser(headers);
+
+        if (attributes != null && user instanceof UsernamePasswordAuthenticationToken auth
+            && auth.getPrincipal() instanceof JwtUserInfo userInfo) {
+            attributes.put(AuthenticatedSession.ATTRIBUTE, AuthenticatedSession.of(userInfo, user));
+            log.debug("STOMP 세션 인증: {} (userId: {})", SimpMessageHeaderAccessor.getSessionId(headers), userInfo.userId());
+        } else {
+            // 미인증 세션은 이후 SEND/SUBSCRIBE에서 거절
+            log.debug("인증 정보 없는 STOMP CONNECT: {}", SimpMessageHeaderAccessor.getSessionId(headers));
         }
-
-        // 추가 권한 체크 로직...
-        String userIdentifier = user != null ? user.getName() : "Anonymous";
-        log.debug("메시지 전송 허용: {}", userIdentifier);
     }
 
     /**
@@ -0,0 +1,67 @@
+package com.example.backend.chat.interceptor;
+
+import com.example.backend.common.security.authentication.jwt.JwtUserInfo;
+
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * CONNECT 시 한 번 확인한 STOMP 세션 인증 정보 (WebSocket 세션 속성에 보관)
+ * 이후 프레임은 세션 속성 조회 한 번으로 사용자 정보와 구독 허용 목록을 사용합니다.
+ */
+public final class AuthenticatedSession {
+
+    public static final String ATTRIBUTE = "chatAuthenticatedSession";
+
+    // 모든 인증 사용자가 구독할 수 있는 목적지 (/user/queue/* 는 사용자 목적지 변환으로 본인 세션에만 전달됨)
+    private static final String[] COMMON_PREFIXES = {"/topic/room.", "/topic/rooms.", "/user/queue/"};
+
+    private final JwtUserInfo userInfo;
+    private final Principal principal;
+    private final String[] subscribablePrefixes;
+
+    private AuthenticatedSession(JwtUserInfo userInfo, Principal principal) {
+        this.userInfo = userInfo;
+        this.principal = principal;
+        this.subscribablePrefixes = new String[COMMON_PREFIXES.length + 1];
+        System.arraycopy(COMMON_PREFIXES, 0, subscribablePrefixes, 0, COMMON_PREFIXES.length);
+        this.subscribablePrefixes[COMMON_PREFIXES.length] = "/user/" + userInfo.userId() + "/";
+    }
+
+    static AuthenticatedSession of(JwtUserInfo userInfo, Principal principal) {
+        return new AuthenticatedSession(userInfo, principal);
+    }
+
+    /**
+     * 세션 속성에서 인증 정보 조회 (CONNECT 인증 전이거나 미인증 세션이면 null)
+     */
+    public static AuthenticatedSession from(Map<String, Object> sessionAttributes) {
+        return sessionAttributes != null && sessionAttributes.get(ATTRIBUTE) instanceof AuthenticatedSession session
+            ? session
+            : null;
+    }
+
+    public boolean canSubscribe(String destination) {
+        if (destination == null) {
+            return false;
+        }
+        for (String prefix : subscribablePrefixes) {
+            if (destination.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public JwtUserInfo getUserInfo() {
+        return userInfo;
+    }
+
+    public String getUserId() {
+        return userInfo.userId();
+    }
+
+    public Principal getPrincipal() {
+        return principal;
+    }
+}
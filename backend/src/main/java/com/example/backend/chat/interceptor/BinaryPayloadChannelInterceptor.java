@@ -0,0 +1,43 @@
+package com.example.backend.chat.interceptor;
+
+import com.example.backend.chat.codec.ChatCodecRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 바이너리 코덱을 협상한 세션으로 나가는 채팅 프레임의 페이로드를 바이너리로 교체하는 아웃바운드 인터셉터
+ * - 전송 시점에 미리 인코딩해 헤더로 첨부한 프레임만 대상 (/topic/room.* 채팅 메시지, /user/queue/history 히스토리)
+ * - JSON 재파싱 없이 첨부된 바이트 배열로 교체만 함
+ */
+@Component
+@RequiredArgsConstructor
+public class BinaryPayloadChannelInterceptor implements ChannelInterceptor {
+
+    private final ChatCodecRegistry chatCodecRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+
+        byte[] encoded = chatCodecRegistry.binaryPayload(SimpMessageHeaderAccessor.getSessionId(headers), headers);
+        if (encoded == null) {
+            return message;
+        }
+
+        MessageHeaderAccessor accessor = MessageHeaderAccessor.getMutableAccessor(message);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        return MessageBuilder.createMessage(encoded, accessor.getMessageHeaders());
+    }
+}
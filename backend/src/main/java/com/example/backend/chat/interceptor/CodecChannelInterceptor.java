@@ -0,0 +1,46 @@
+package com.example.backend.chat.interceptor;
+
+import com.example.backend.chat.codec.ChatCodecRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * CONNECT 시 페이로드 코덱 협상 인터셉터
+ * 클라이언트가 "x-chat-codec: binary" 헤더를 보내면 해당 세션은 바이너리 페이로드를 수신합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CodecChannelInterceptor implements ChannelInterceptor {
+
+    private final ChatCodecRegistry chatCodecRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        // CONNECT 외 프레임은 헤더 조회 한 번으로 통과
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.CONNECT) {
+            return message;
+        }
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor != null) {
+            Map<String, Object> attributes = accessor.getSessionAttributes();
+            Object transport = attributes != null ? attributes.get(ChatCodecRegistry.TRANSPORT_ATTRIBUTE) : null;
+            chatCodecRegistry.negotiate(
+                accessor.getSessionId(),
+                accessor.getFirstNativeHeader(ChatCodecRegistry.CODEC_HEADER),
+                transport
+            );
+        }
+
+        return message;
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.backend.chat.interceptor;
+
+import com.example.backend.chat.dto.ChatMessage;
+import com.example.backend.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 채팅 전송 도배 방지 인터셉터 (사용자별 + 방별 토큰 버킷)
+ * - GCRA 방식: 버킷마다 "이론상 다음 도착 시각(TAT)" 하나만 CAS로 갱신하므로 락 없이 O(1)
+ * - burst만큼 연속 전송 허용 후 초당 per-second 개씩 회복
+ * - 방 버킷에서 거절되면 사용자 버킷에서 가져간 토큰은 돌려줌 (전달되지 않은 메시지로 한도가 줄지 않도록)
+ * - 초과 메시지는 캐시/저장/브로드캐스트 전에 버리고 /queue/errors로 알림 (알림도 사용자당 주기 제한)
+ * - 가득 찬(회복 완료) 버킷은 주기적으로 제거되어 메모리는 최근 전송자 수에 비례
+ */
+@Component
+@Slf4j
+public class FloodControlChannelInterceptor implements ChannelInterceptor {
+
+    private static final String SEND_MESSAGE_PREFIX = "/app/chat.sendMessage/";
+
+    // 브로커 설정이 이 인터셉터를 주입받으므로 메시징 템플릿은 지연 조회 (순환 참조 방지)
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+    private final TaskScheduler chatTaskScheduler;
+    private final LongSupplier nanoClock;
+
+    private final boolean enabled;
+    private final RateLimit userLimit;
+    private final RateLimit roomLimit;
+    private final long noticeIntervalNanos;
+    private final long sweepIntervalMillis;
+
+    private final Map<String, RateBucket> userBuckets = new ConcurrentHashMap<>();
+    private final Map<String, RateBucket> roomBuckets = new ConcurrentHashMap<>();
+
+    private final Counter userRejected;
+    private final Counter roomRejected;
+
+    @Autowired
+    public FloodControlChannelInterceptor(ObjectProvider<SimpMessagingTemplate> messagingTemplate,
+                                          @Qualifier("chatTaskScheduler") TaskScheduler chatTaskScheduler,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${chat.flood.enabled:true}") boolean enabled,
+                                          @Value("${chat.flood.user.burst:10}") int userBurst,
+                                          @Value("${chat.flood.user.per-second:2}") double userPerSecond,
+                                          @Value("${chat.flood.room.burst:100}") int roomBurst,
+                                          @Value("${chat.flood.room.per-second:30}") double roomPerSecond,
+                                          @Value("${chat.flood.notice-interval-millis:1000}") long noticeIntervalMillis,
+                                          @Value("${chat.flood.sweep-interval-millis:60000}") long sweepIntervalMillis) {
+        this(messagingTemplate, chatTaskScheduler, meterRegistry, enabled, userBurst, userPerSecond, roomBurst, roomPerSecond,
+            noticeIntervalMillis, sweepIntervalMillis, System::nanoTime);
+    }
+
+    /**
+     * 시각 공급자 지정 (테스트에서 시간 제어용)
+     */
+    FloodControlChannelInterceptor(ObjectProvider<SimpMessagingTemplate> messagingTemplate, TaskScheduler chatTaskScheduler,
+                                   MeterRegistry meterRegistry, boolean enabled, int userBurst, double userPerSecond,
+                                   int roomBurst, double roomPerSecond, long noticeIntervalMillis, long sweepIntervalMillis,
+                                   LongSupplier nanoClock) {
+        this.messagingTemplate = messagingTemplate;
+        this.chatTaskScheduler = chatTaskScheduler;
+        this.nanoClock = nanoClock;
+        this.enabled = enabled;
+        this.userLimit = new RateLimit(userBurst, userPerSecond);
+        this.roomLimit = new RateLimit(roomBurst, roomPerSecond);
+        this.noticeIntervalNanos = TimeUnit.MILLISECONDS.toNanos(noticeIntervalMillis);
+        this.sweepIntervalMillis = sweepIntervalMillis;
+
+        this.userRejected = Counter.builder("chat.flood.rejected").tag("scope", "user")
+            .description("도배 방지로 거절된 채팅 메시지 수").register(meterRegistry);
+        this.roomRejected = Counter.builder("chat.flood.rejected").tag("scope", "room")
+            .description("도배 방지로 거절된 채팅 메시지 수").register(meterRegistry);
+        Gauge.builder("chat.flood.buckets", userBuckets, Map::size).tag("scope", "user").register(meterRegistry);
+        Gauge.builder("chat.flood.buckets", roomBuckets, Map::size).tag("scope", "room").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void startSweeper() {
+        if (!enabled) {
+            log.info("채팅 도배 방지 비활성화");
+            return;
+        }
+        chatTaskScheduler.scheduleWithFixedDelay(this::sweepIdleBuckets, Duration.ofMillis(sweepIntervalMillis));
+        log.info("채팅 도배 방지 초기화 - 사용자: {}, 방: {}", userLimit, roomLimit);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) {
+            return message;
+        }
+
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null || !destination.startsWith(SEND_MESSAGE_PREFIX)) {
+            return message;
+        }
+
+        // 인증 인터셉터가 CONNECT 시 보관한 세션 정보
+        AuthenticatedSession session = AuthenticatedSession.from(SimpMessageHeaderAccessor.getSessionAttributes(headers));
+        if (session == null) {
+            return message;
+        }
+
+        String roomId = destination.substring(SEND_MESSAGE_PREFIX.length());
+        long now = nanoClock.getAsLong();
+
+        // 1. 사용자별 버킷 (한 사용자가 여러 세션/방으로 분산해도 합산)
+        RateBucket userBucket = userBuckets.computeIfAbsent(session.getUserId(), k -> new RateBucket());
+        if (!userBucket.tryAcquire(userLimit, now)) {
+            userRejected.increment();
+            reject(headers, session, userBucket, roomId, now);
+            return null;
+        }
+
+        // 2. 방별 버킷 (여러 사용자가 동시에 한 방을 도배하는 경우)
+        RateBucket roomBucket = roomBuckets.computeIfAbsent(roomId, k -> new RateBucket());
+        if (!roomBucket.tryAcquire(roomLimit, now)) {
+            userBucket.release(userLimit); // 전달되지 않은 메시지는 사용자 한도에서 차감하지 않음
+            roomRejected.increment();
+            reject(headers, session, userBucket, roomId, now);
+            return null;
+        }
+
+        return message;
+    }
+
+    /**
+     * 거절 알림 전송 (사용자당 notice-interval 동안 1회)
+     */
+    private void reject(MessageHeaders headers, AuthenticatedSession session, RateBucket userBucket, String roomId, long now) {
+        if (!userBucket.tryNotice(now, noticeIntervalNanos)) {
+            return;
+        }
+
+        ErrorCode errorCode = ErrorCode.CHAT_RATE_LIMITED;
+        ChatMessage error = ChatMessage.createErrorMessage(roomId,
+            String.format("[%s] %s", errorCode.getCode(), errorCode.getMessage()));
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        SimpMessageHeaderAccessor errorHeaders = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        errorHeaders.setSessionId(sessionId);
+        errorHeaders.setLeaveMutable(true);
+
+        String user = session.getPrincipal().getName();
+        try {
+            messagingTemplate.getObject()
+                .convertAndSendToUser(user, "/queue/errors", error, errorHeaders.getMessageHeaders());
+        } catch (Exception e) {
+            log.warn("도배 방지 알림 전송 실패 - 세션: {}", sessionId, e);
+        }
+        log.debug("채팅 전송 제한: {} in {}", session.getUserId(), roomId);
+    }
+
+    /**
+     * 회복이 끝난 버킷 제거 (다음 전송 시 가득 찬 상태로 다시 생성되므로 동작 차이 없음)
+     */
+    void sweepIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        userBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+        roomBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    /**
+     * 통계 정보 조회
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("userBuckets", userBuckets.size());
+        stats.put("roomBuckets", roomBuckets.size());
+        stats.put("userRejected", (long) userRejected.count());
+        stats.put("roomRejected", (long) roomRejected.count());
+        return stats;
+    }
+
+    /**
+     * 버킷 설정 (burst: 연속 허용 개수, emissionInterval: 토큰 1개 회복 시간)
+     */
+    private record RateLimit(int burst, long emissionIntervalNanos) {
+
+        RateLimit(int burst, double perSecond) {
+            this(Math.max(1, burst), (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(perSecond, 0.001)));
+        }
+
+        long toleranceNanos() {
+            return burst * emissionIntervalNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("burst %d, %.1f/s", burst, (double) TimeUnit.SECONDS.toNanos(1) / emissionIntervalNanos);
+        }
+    }
+
+    /**
+     * GCRA 버킷 - TAT(이론상 다음 도착 시각)만 유지
+     */
+    private static final class RateBucket {
+
+        private final AtomicLong tat = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLong lastNotice = new AtomicLong(Long.MIN_VALUE);
+
+        boolean tryAcquire(RateLimit limit, long now) {
+            while (true) {
+                long current = tat.get();
+                long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+                long next = base + limit.emissionIntervalNanos();
+                if (next - now > limit.toleranceNanos()) {
+                    return false;
+                }
+                if (tat.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * tryAcquire로 가져간 토큰 1개 반환 (TAT를 한 간격만큼 되돌림)
+         */
+        void release(RateLimit limit) {
+            tat.addAndGet(-limit.emissionIntervalNanos());
+        }
+
+        boolean tryNotice(long now, long intervalNanos) {
+            long last = lastNotice.get();
+            if (last != Long.MIN_VALUE && now - last < intervalNanos) {
+                return false;
+            }
+            return lastNotice.compareAndSet(last, now);
+        }
+
+        boolean isIdle(long now) {
+            long current = tat.get();
+            return current == Long.MIN_VALUE || current - now <= 0;
+        }
+    }
+}
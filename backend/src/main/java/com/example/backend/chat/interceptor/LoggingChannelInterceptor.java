@@ -3,14 +3,15 @@ package com.example.backend.chat.interceptor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
-import org.springframework.messaging.simp.stomp.StompCommand;
-import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
-import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.stereotype.Component;
 
+import java.security.Principal;
+
 /**
- * 로깅 인터셉터
+ * 로깅 인터셉터 (DEBUG 레벨에서만 프레임별 로그 출력)
  */
 @Component
 @Slf4j
@@ -18,35 +19,13 @@ public  class LoggingChannelInterceptor implements ChannelInterceptor {
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
-        log.info("=== LoggingChannelInterceptor: preSend 호출됨 ===");
-
-        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
-
-        if (accessor != null) {
-            StompCommand command = accessor.getCommand();
-            String username = accessor.getUser() != null ? accessor.getUser().getName() : "Anonymous";
-
-            log.info("STOMP 명령어: {}, 사용자: {}", command, username);
-
-            switch (command) {
-                case CONNECT:
-                    log.info("STOMP CONNECT - 사용자: {}", username);
-                    break;
-                case SUBSCRIBE:
-                    log.info("STOMP SUBSCRIBE - 사용자: {}, 목적지: {}", username, accessor.getDestination());
-                    break;
-                case SEND:
-                    log.info("STOMP SEND - 사용자: {}, 목적지: {}", username, accessor.getDestination());
-                    break;
-                case DISCONNECT:
-                    log.info("STOMP DISCONNECT - 사용자: {}", username);
-                    break;
-                default:
-                    log.info("STOMP 기타 명령어: {} - 사용자: {}", command, username);
-                    break;
-            }
-        } else {
-            log.info("StompHeaderAccessor가 null입니다.");
+        if (log.isDebugEnabled()) {
+            MessageHeaders headers = message.getHeaders();
+            Principal user = SimpMessageHeaderAccessor.getUser(headers);
+            log.debug("STOMP {} - 사용자: {}, 목적지: {}",
+                SimpMessageHeaderAccessor.getMessageType(headers),
+                user != null ? user.getName() : "Anonymous",
+                SimpMessageHeaderAccessor.getDestination(headers));
         }
 
         return message;
@@ -0,0 +1,289 @@
+package com.example.backend.chat.presence;
+
+import com.example.backend.chat.service.ShardManager;
+import com.example.backend.common.security.authentication.jwt.JwtUserInfo;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 세션 생명주기 기반 접속 현황 관리자
+ * - 세션 → 사용자/입장한 방/방 토픽 구독 매핑
+ * - 방 입장(joinRoom) 시 접속 처리, 나가기/방 토픽 구독 해제/연결 종료 시 제외
+ *   (구독만으로는 입장하지 않으므로 구독을 유지한 채 다시 입장해도 접속 현황에 반영됨)
+ * - 방별 접속 사용자 수 O(1) 조회 (같은 사용자의 여러 세션은 1명으로 계산)
+ * - 방에 처음 접속한 사용자는 샤드에 추가, 마지막 세션이 빠지면 샤드에서 제거
+ *
+ * 세션 이벤트는 소켓 수신 스레드에서 세션별로 순서대로 발행되므로 세션 단위 동기화로 충분합니다.
+ */
+@Component
+@Slf4j
+public class PresenceTracker {
+
+    private static final String ROOM_TOPIC_PREFIX = "/topic/room.";
+    private static final int MISSED_SWEEPS_BEFORE_EVICT = 2;
+
+    private final ShardManager shardManager;
+    private final SimpUserRegistry simpUserRegistry;
+    private final TaskScheduler chatTaskScheduler;
+    private final long sweepIntervalMillis;
+
+    // sessionId → 세션 접속 정보
+    private final Map<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+
+    // roomId → 방 접속 정보
+    private final Map<String, RoomPresence> rooms = new ConcurrentHashMap<>();
+
+    public PresenceTracker(ShardManager shardManager,
+                           SimpUserRegistry simpUserRegistry,
+                           @Qualifier("chatTaskScheduler") TaskScheduler chatTaskScheduler,
+                           @Value("${chat.presence.sweep-interval-millis:60000}") long sweepIntervalMillis) {
+        this.shardManager = shardManager;
+        this.simpUserRegistry = simpUserRegistry;
+        this.chatTaskScheduler = chatTaskScheduler;
+        this.sweepIntervalMillis = sweepIntervalMillis;
+    }
+
+    @PostConstruct
+    public void startSweeper() {
+        chatTaskScheduler.scheduleWithFixedDelay(this::sweepStaleSessions, Duration.ofMillis(sweepIntervalMillis));
+        log.info("접속 현황 정리 작업 시작 - 주기: {}ms", sweepIntervalMillis);
+    }
+
+    // ========== 세션 이벤트 ==========
+
+    @EventListener
+    public void handleConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        Principal user = event.getUser();
+        if (sessionId == null || user == null) {
+            return;
+        }
+        sessions.put(sessionId, new SessionPresence(sessionId, resolveUserId(user), user.getName()));
+        log.debug("세션 접속: {} (사용자: {})", sessionId, user.getName());
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(ROOM_TOPIC_PREFIX)) {
+            return;
+        }
+
+        SessionPresence session = sessions.get(accessor.getSessionId());
+        if (session == null) {
+            return;
+        }
+        String roomId = destination.substring(ROOM_TOPIC_PREFIX.length());
+        session.subscribe(accessor.getSubscriptionId(), roomId);
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        SessionPresence session = sessions.get(accessor.getSessionId());
+        if (session != null) {
+            session.unsubscribe(accessor.getSubscriptionId());
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    // ========== 조회/명령 ==========
+
+    /**
+     * 방 접속 사용자 수 (O(1))
+     */
+    public int getOnlineCount(String roomId) {
+        RoomPresence room = rooms.get(roomId);
+        return room != null ? room.online.get() : 0;
+    }
+
+    /**
+     * 사용자의 방 접속 여부
+     */
+    public boolean isOnline(String roomId, String userId) {
+        RoomPresence room = rooms.get(roomId);
+        return room != null && room.sessionCounts.containsKey(userId);
+    }
+
+    /**
+     * 세션의 방 입장 (이미 입장한 세션이면 무시)
+     */
+    public void joinRoom(String sessionId, String roomId) {
+        SessionPresence session = sessions.get(sessionId);
+        if (session != null) {
+            session.join(roomId);
+        }
+    }
+
+    /**
+     * 세션의 방 나가기 (구독은 유지되더라도 접속 현황에서 제외, 다시 입장하면 복귀)
+     */
+    public void leaveRoom(String sessionId, String roomId) {
+        SessionPresence session = sessions.get(sessionId);
+        if (session != null) {
+            session.leave(roomId);
+        }
+    }
+
+    /**
+     * 통계 정보 조회
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("sessions", sessions.size());
+        stats.put("rooms", rooms.size());
+        stats.put("onlineUsers", rooms.values().stream().mapToInt(room -> room.online.get()).sum());
+        return stats;
+    }
+
+    // ========== 내부 처리 ==========
+
+    /**
+     * 연결 해제 이벤트를 놓친 세션 정리 (사용자 레지스트리에 없는 상태가 연속되면 제거)
+     */
+    void sweepStaleSessions() {
+        int evicted = 0;
+        for (SessionPresence session : sessions.values()) {
+            SimpUser user = simpUserRegistry.getUser(session.principalName);
+            boolean alive = user != null && user.getSession(session.sessionId) != null;
+            if (alive) {
+                session.missedSweeps = 0;
+            } else if (++session.missedSweeps >= MISSED_SWEEPS_BEFORE_EVICT) {
+                removeSession(session.sessionId);
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.info("끊어진 세션 정리: {}개", evicted);
+        }
+    }
+
+    private void removeSession(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        SessionPresence session = sessions.remove(sessionId);
+        if (session != null) {
+            session.leaveAll();
+            log.debug("세션 종료: {} (사용자: {})", sessionId, session.principalName);
+        }
+    }
+
+    private void enterRoom(String roomId, String userId) {
+        rooms.compute(roomId, (k, room) -> {
+            RoomPresence target = room != null ? room : new RoomPresence();
+            if (target.sessionCounts.merge(userId, 1, Integer::sum) == 1) {
+                target.online.incrementAndGet();
+                shardManager.addUserToShard(roomId, userId);
+            }
+            return target;
+        });
+    }
+
+    private void exitRoom(String roomId, String userId) {
+        rooms.computeIfPresent(roomId, (k, room) -> {
+            Integer remaining = room.sessionCounts.computeIfPresent(userId, (u, count) -> count > 1 ? count - 1 : null);
+            if (remaining == null) {
+                room.online.decrementAndGet();
+                shardManager.removeUserFromShard(roomId, userId);
+            }
+            return room.sessionCounts.isEmpty() ? null : room;
+        });
+    }
+
+    private String resolveUserId(Principal user) {
+        if (user instanceof UsernamePasswordAuthenticationToken auth
+            && auth.getPrincipal() instanceof JwtUserInfo userInfo) {
+            return userInfo.userId();
+        }
+        return user.getName();
+    }
+
+    /**
+     * 방 접속 정보 (userId → 해당 방에 접속 중인 세션 수)
+     */
+    private static final class RoomPresence {
+        private final Map<String, Integer> sessionCounts = new ConcurrentHashMap<>();
+        private final AtomicInteger online = new AtomicInteger(0);
+    }
+
+    /**
+     * 세션 접속 정보 (subscriptionId → roomId, 입장한 방 목록)
+     */
+    private final class SessionPresence {
+
+        private final String sessionId;
+        private final String userId;
+        private final String principalName;
+        private final Map<String, String> subscriptions = new HashMap<>();
+        private final Set<String> joinedRooms = new HashSet<>();
+        private volatile int missedSweeps = 0;
+
+        private SessionPresence(String sessionId, String userId, String principalName) {
+            this.sessionId = sessionId;
+            this.userId = userId;
+            this.principalName = principalName;
+        }
+
+        private synchronized void subscribe(String subscriptionId, String roomId) {
+            if (subscriptionId != null) {
+                subscriptions.putIfAbsent(subscriptionId, roomId);
+            }
+        }
+
+        private synchronized void unsubscribe(String subscriptionId) {
+            String roomId = subscriptionId != null ? subscriptions.remove(subscriptionId) : null;
+            if (roomId == null || subscriptions.containsValue(roomId)) {
+                return; // 구독하지 않았거나 같은 방의 다른 구독이 남아 있음
+            }
+            leave(roomId);
+        }
+
+        private synchronized void join(String roomId) {
+            if (joinedRooms.add(roomId)) {
+                enterRoom(roomId, userId);
+            }
+        }
+
+        private synchronized void leave(String roomId) {
+            if (joinedRooms.remove(roomId)) {
+                exitRoom(roomId, userId);
+            }
+        }
+
+        private synchronized void leaveAll() {
+            for (String roomId : joinedRooms) {
+                exitRoom(roomId, userId);
+            }
+            joinedRooms.clear();
+            subscriptions.clear();
+        }
+    }
+}
@@ -4,11 +4,18 @@ import com.example.backend.chat.entity.ChatMessageEntity;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessageEntity, Long> {
@@ -42,6 +49,43 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessageEntity,
         return findActiveRoomsSince(LocalDateTime.now().minusDays(7));
     }
 
+    /**
+     * 방의 마지막 순번 조회 (순번이 없으면 null)
+     */
+    @Query("SELECT MAX(c.seq) FROM ChatMessageEntity c WHERE c.roomId = :roomId")
+    Long findMaxSeqByRoomId(@Param("roomId") String roomId);
+
+    /**
+     * 특정 순번 이후 메시지 조회 (순번 오름차순, 재접속 시 누락분 전송용)
+     */
+    @Query("SELECT c FROM ChatMessageEntity c WHERE c.roomId = :roomId AND c.seq > :afterSeq ORDER BY c.seq ASC")
+    List<ChatMessageEntity> findMessagesAfterSeq(@Param("roomId") String roomId,
+                                                 @Param("afterSeq") Long afterSeq,
+                                                 Pageable pageable);
+
+    /**
+     * 방 전체 메시지 스트리밍 조회 (내보내기용, 읽기 전용 트랜잭션 안에서 사용 후 반드시 close)
+     * - (room_id, seq) 인덱스 순서 그대로 읽어 정렬 없이 전진 전용 커서로 전달 (순번 없는 이전 메시지가 먼저)
+     * - MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 결과를 한 행씩 스트리밍
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM ChatMessageEntity c WHERE c.roomId = :roomId ORDER BY c.seq ASC, c.id ASC")
+    Stream<ChatMessageEntity> streamAllByRoomId(@Param("roomId") String roomId);
+
+    /**
+     * ID 이후 메시지 조회 (ID 오름차순, 검색 색인 따라잡기용 키셋 페이징)
+     */
+    List<ChatMessageEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * 현재 보이는 최대 메시지 ID (없으면 null, 검색 색인이 ID 빈 구간의 확정 여부를 판단할 때 사용)
+     */
+    @Query("SELECT MAX(c.id) FROM ChatMessageEntity c")
+    Long findMaxId();
+
     /**
      * 메시지 ID로 단일 메시지 조회
      */
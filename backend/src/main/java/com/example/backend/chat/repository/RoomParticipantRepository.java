@@ -44,4 +44,11 @@ public interface RoomParticipantRepository extends JpaRepository<RoomParticipant
     @Query("UPDATE RoomParticipant p SET p.isActive = false, p.leftAt = CURRENT_TIMESTAMP WHERE p.room.roomUuid = :roomUuid AND p.userId = :userId AND p.isActive = true")
     int deactivateParticipant(@Param("roomUuid") String roomUuid, @Param("userId") String userId);
 
+    /**
+     * 나갔던 참여자 재활성화 (복귀) - 동시 복귀 요청 중 하나만 성공
+     */
+    @Modifying
+    @Query("UPDATE RoomParticipant p SET p.isActive = true, p.leftAt = NULL WHERE p.id = :participantId AND p.isActive = false")
+    int reactivateParticipant(@Param("participantId") Long participantId);
+
 }
\ No newline at end of file
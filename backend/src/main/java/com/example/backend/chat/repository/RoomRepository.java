@@ -1,8 +1,10 @@
 package com.example.backend.chat.repository;
 
 import com.example.backend.chat.entity.Room;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,12 +23,19 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
      */
     Optional<Room> findByRoomUuidAndIsActiveTrue(String roomUuid);
 
+    /**
+     * roomUuid로 활성화된 방 조회 + 행 잠금 (트랜잭션 종료까지 다른 입장/나가기의 참여자 수 변경 대기)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Room r WHERE r.roomUuid = :roomUuid AND r.isActive = true")
+    Optional<Room> findActiveByRoomUuidForUpdate(@Param("roomUuid") String roomUuid);
+
 
     /**
      * 사용자가 참여중인 방 목록 조회
+     * (room_id, user_id) 유니크 제약으로 방당 참여 행이 하나이므로 DISTINCT 없이 참여자 쪽에서 조인
      */
-    @Query("SELECT DISTINCT r FROM Room r " +
-           "JOIN r.participants p " +
+    @Query("SELECT r FROM RoomParticipant p JOIN p.room r " +
            "WHERE p.userId = :userId AND p.isActive = true AND r.isActive = true " +
            "ORDER BY r.updatedAt DESC")
     List<Room> findUserActiveRooms(@Param("userId") String userId);
@@ -38,52 +47,32 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     boolean existsByRoomUuid(String roomUuid);
 
     /**
-     * 카테고리별 활성화된 방 조회 (참여 인원 많은 순)
+     * 참여자 수 원자적 증가 (활성 방이고 정원 미만일 때만)
+     * @return 1이면 자리 확보 성공, 0이면 방이 가득 찼거나 비활성
      */
-    @Query("SELECT r FROM Room r WHERE r.isActive = true AND r.bigCategory = :bigCategory ORDER BY r.currentParticipants DESC, r.createdAt DESC")
-    List<Room> findByBigCategoryAndIsActiveTrueOrderByParticipantsDesc(@Param("bigCategory") String bigCategory);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Room r SET r.currentParticipants = r.currentParticipants + 1, r.updatedAt = LOCAL_DATETIME " +
+           "WHERE r.id = :roomId AND r.isActive = true AND r.currentParticipants < r.maxParticipants")
+    int incrementParticipantsIfNotFull(@Param("roomId") Long roomId);
 
     /**
-     * 모든 활성화된 방 조회 (참여 인원 많은 순)
+     * 참여자 수 원자적 감소 (0 미만으로 내려가지 않음)
+     * @return 1이면 감소, 0이면 이미 0명
      */
-    @Query("SELECT r FROM Room r WHERE r.isActive = true ORDER BY r.currentParticipants DESC, r.createdAt DESC")
-    List<Room> findByIsActiveTrueOrderByParticipantsDesc();
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Room r SET r.currentParticipants = r.currentParticipants - 1, r.updatedAt = LOCAL_DATETIME " +
+           "WHERE r.id = :roomId AND r.currentParticipants > 0")
+    int decrementParticipantsIfPositive(@Param("roomId") Long roomId);
 
     /**
-     * 모든 활성화된 방 조회 (페이징 - 첫 페이지, 생성시간 기준)
-     */
-    @Query("SELECT r FROM Room r WHERE r.isActive = true ORDER BY r.createdAt DESC, r.id ASC")
-    List<Room> findByIsActiveTrueOrderByCreatedAtDescRoomIdAsc(Pageable pageable);
-
-    /**
-     * 모든 활성화된 방 조회 (페이징 - 커서 기반, 생성시간 기준)
-     */
-    @Query("SELECT r FROM Room r WHERE r.isActive = true " +
-           "AND (r.createdAt < :cursorCreatedAt OR (r.createdAt = :cursorCreatedAt AND r.id > :cursorId)) " +
-           "ORDER BY r.createdAt DESC, r.id ASC")
-    List<Room> findByIsActiveTrueAndCursorOrderByCreatedAtDescRoomIdAsc(
-        @Param("cursorCreatedAt") java.time.LocalDateTime cursorCreatedAt,
-        @Param("cursorId") Long cursorId,
-        Pageable pageable);
-
-    /**
-     * 카테고리별 활성화된 방 조회 (페이징 - 첫 페이지, 생성시간 기준)
+     * 카테고리별 활성화된 방 조회 (참여 인원 많은 순)
      */
-    @Query("SELECT r FROM Room r WHERE r.isActive = true AND r.bigCategory = :bigCategory " +
-           "ORDER BY r.createdAt DESC, r.id ASC")
-    List<Room> findByBigCategoryAndIsActiveTrueOrderByCreatedAtDescRoomIdAsc(
-        @Param("bigCategory") String bigCategory,
-        Pageable pageable);
+    @Query("SELECT r FROM Room r WHERE r.isActive = true AND r.bigCategory = :bigCategory ORDER BY r.currentParticipants DESC, r.createdAt DESC")
+    List<Room> findByBigCategoryAndIsActiveTrueOrderByParticipantsDesc(@Param("bigCategory") String bigCategory);
 
     /**
-     * 카테고리별 활성화된 방 조회 (페이징 - 커서 기반, 생성시간 기준)
+     * 모든 활성화된 방 조회 (참여 인원 많은 순)
      */
-    @Query("SELECT r FROM Room r WHERE r.isActive = true AND r.bigCategory = :bigCategory " +
-           "AND (r.createdAt < :cursorCreatedAt OR (r.createdAt = :cursorCreatedAt AND r.id > :cursorId)) " +
-           "ORDER BY r.createdAt DESC, r.id ASC")
-    List<Room> findByBigCategoryAndIsActiveTrueAndCursorOrderByCreatedAtDescRoomIdAsc(
-        @Param("bigCategory") String bigCategory,
-        @Param("cursorCreatedAt") java.time.LocalDateTime cursorCreatedAt,
-        @Param("cursorId") Long cursorId,
-        Pageable pageable);
+    @Query("SELECT r FROM Room r WHERE r.isActive = true ORDER BY r.currentParticipants DESC, r.createdAt DESC")
+    List<Room> findByIsActiveTrueOrderByParticipantsDesc();
 }
\ No newline at end of file
@@ -0,0 +1,716 @@
+package com.example.backend.chat.search;
+
+import com.example.backend.chat.entity.ChatMessageEntity;
+import com.example.backend.chat.repository.ChatMessageRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 채팅 메시지 전문 검색 색인 (프로세스 내 증분 역색인)
+ * - chat_messages를 ID 순으로 따라가며 색인 (poll-interval마다 키셋 조회) → 어느 노드가 저장한 메시지든 모든 노드가 각자 색인
+ * - 색인 위치(indexedThrough)는 "이 ID까지 빠짐없이 반영"인 연속 워터마크
+ *   ID 빈 구간은 아직 커밋되지 않은 트랜잭션일 수 있으므로, 빈 구간 뒤의 ID가 gap-settle 이상 전에 이미 보였던 경우에만 건너뜀
+ * - 최근 메시지는 메모리 버퍼에 쌓았다가 flush-docs개 또는 flush-interval마다 불변 세그먼트 파일로 기록하고,
+ *   세그먼트 기록이 끝난 뒤에만 워터마크 파일을 전진 (재시작 시 워터마크 이후만 DB에서 다시 색인)
+ * - 세그먼트가 max-segments개를 넘으면 작은 세그먼트부터 백그라운드 병합
+ * - 검색은 방별 포스팅만 사용하며 MySQL을 조회하지 않음 (n-gram 특성상 순서가 다른 부분 일치가 포함될 수 있음)
+ */
+@Component
+@Slf4j
+public class ChatSearchIndex {
+
+    private static final String INDEXED_TYPE = "CHAT";
+    private static final String SENDER_KEY_PREFIX = "\u0001";
+    private static final int TAIL_PAGE_SIZE = 1000;
+    private static final String WATERMARK_FILE = "indexed-through";
+
+    // BM25 포화 계수 (짧은 채팅 메시지라 문서 길이 보정은 생략)
+    private static final double K1 = 1.2;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final TaskScheduler chatTaskScheduler;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int flushDocs;
+    private final long flushIntervalMillis;
+    private final int maxSegments;
+    private final int mergeFactor;
+    private final long pollIntervalMillis;
+    private final long gapSettleMillis;
+
+    // memory/flushing/segments/indexedThrough는 잠금 안에서만 교체 (검색은 읽기 잠금)
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private MemoryIndex memory = new MemoryIndex();
+    private MemoryIndex flushing;
+    private List<IndexSegment> segments = List.of();
+    private volatile long indexedThrough = 0;
+
+    // flushMonitor 안에서만 접근: 기록에 실패해 재시도 대기 중인 세그먼트와 그 워터마크, 파일에 기록된 워터마크
+    private final Object flushMonitor = new Object();
+    private IndexSegment unwritten;
+    private long unwrittenThrough;
+    private long persistedThrough = 0;
+
+    // tailMonitor 안에서만 접근: (관측 시각, 그때 보인 최대 ID) - gap-settle이 지난 관측까지만 빈 구간 확정에 사용
+    private final Object tailMonitor = new Object();
+    private final Deque<long[]> observedMaxIds = new ArrayDeque<>();
+    private long settledMaxId = 0;
+
+    private final Object mergeMonitor = new Object();
+    private final AtomicLong nextGeneration = new AtomicLong(1);
+    private volatile boolean catchingUp = true;
+    // 로드 시 일부만 겹치는 세그먼트가 남은 경우에만 true (검색 시 메시지 ID로 중복 제거, 재시작 전까지 유지)
+    private volatile boolean overlapping = false;
+    private volatile boolean running = false;
+    private Thread tailThread;
+
+    // 통계 정보
+    private final LongAdder indexedMessages = new LongAdder();
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder merges = new LongAdder();
+    private final LongAdder skippedIds = new LongAdder();
+
+    public ChatSearchIndex(ChatMessageRepository chatMessageRepository,
+                           @Qualifier("chatTaskScheduler") TaskScheduler chatTaskScheduler,
+                           @Value("${chat.search.enabled:true}") boolean enabled,
+                           @Value("${chat.search.index-dir:./data/chat-index}") String directory,
+                           @Value("${chat.search.flush-docs:10000}") int flushDocs,
+                           @Value("${chat.search.flush-interval-millis:30000}") long flushIntervalMillis,
+                           @Value("${chat.search.max-segments:8}") int maxSegments,
+                           @Value("${chat.search.merge-factor:4}") int mergeFactor,
+                           @Value("${chat.search.poll-interval-millis:1000}") long pollIntervalMillis,
+                           @Value("${chat.search.gap-settle-millis:10000}") long gapSettleMillis) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatTaskScheduler = chatTaskScheduler;
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.flushDocs = flushDocs;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxSegments = Math.max(1, maxSegments);
+        this.mergeFactor = Math.max(2, mergeFactor);
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.gapSettleMillis = gapSettleMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            log.info("채팅 검색 색인 비활성화");
+            return;
+        }
+
+        try {
+            loadSegments();
+        } catch (IOException e) {
+            log.error("채팅 검색 색인 세그먼트 로드 실패 - 빈 색인으로 시작: {}", directory, e);
+        }
+
+        chatTaskScheduler.scheduleWithFixedDelay(this::flushAndMerge, Duration.ofMillis(flushIntervalMillis));
+        running = true;
+        tailThread = Thread.ofVirtual().name("chat-search-tail").start(this::tail);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        if (tailThread != null) {
+            tailThread.interrupt();
+        }
+        flush();
+    }
+
+    // ========== 색인 ==========
+
+    /**
+     * DB 메시지 색인 (CHAT 타입만) 후 워터마크를 through로 전진
+     * 워터마크와 메모리 버퍼를 같은 잠금 안에서 바꾸므로 flush 시점의 버퍼는 항상 워터마크까지의 메시지와 일치
+     */
+    private void index(List<ChatMessageEntity> entities, long through) {
+        // 토큰화는 잠금 밖에서
+        List<PendingDoc> docs = new ArrayList<>(entities.size());
+        for (ChatMessageEntity entity : entities) {
+            if (entity.getContent() == null || !INDEXED_TYPE.equals(entity.getMessageType())) {
+                continue;
+            }
+            docs.add(new PendingDoc(entity, toEpochMillis(entity.getCreatedAt()),
+                NgramTokenizer.indexTerms(entity.getContent())));
+        }
+
+        boolean shouldFlush;
+        lock.writeLock().lock();
+        try {
+            for (PendingDoc doc : docs) {
+                ChatMessageEntity entity = doc.entity();
+                memory.add(entity.getId(), entity.getMessageId(), entity.getRoomId(), entity.getSenderId(),
+                    doc.timestamp(), doc.terms());
+            }
+            indexedThrough = through;
+            shouldFlush = memory.docCount() >= flushDocs;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        indexedMessages.add(docs.size());
+
+        if (shouldFlush) {
+            flush();
+        }
+    }
+
+    /**
+     * 메모리 버퍼를 세그먼트 파일로 기록한 뒤 워터마크 파일 전진
+     * 기록에 실패한 세그먼트는 flushing으로 검색에 계속 노출하고 다음 주기에 같은 세그먼트부터 다시 기록
+     * (그동안 워터마크 파일은 전진하지 않으므로 재시작 시 DB에서 다시 색인됨)
+     */
+    void flush() {
+        synchronized (flushMonitor) {
+            if (unwritten == null) {
+                MemoryIndex frozen = null;
+                long through;
+                lock.writeLock().lock();
+                try {
+                    through = indexedThrough;
+                    if (!memory.isEmpty()) {
+                        frozen = memory;
+                        flushing = frozen;
+                        memory = new MemoryIndex();
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+
+                if (frozen == null) {
+                    // 색인 대상이 아닌 메시지만 지나간 경우에도 워터마크는 전진
+                    try {
+                        persistWatermark(through);
+                    } catch (IOException e) {
+                        log.error("채팅 검색 워터마크 기록 실패: {}", through, e);
+                    }
+                    return;
+                }
+                unwritten = frozen.toSegment(nextGeneration.getAndIncrement());
+                unwrittenThrough = through;
+            }
+
+            IndexSegment segment = unwritten;
+            try {
+                segment.write(directory);
+                persistWatermark(unwrittenThrough);
+            } catch (IOException e) {
+                log.error("채팅 검색 세그먼트 기록 실패 - 다음 주기에 재시도: {}", segment.generation(), e);
+                return;
+            }
+
+            lock.writeLock().lock();
+            try {
+                List<IndexSegment> updated = new ArrayList<>(segments);
+                updated.add(segment);
+                segments = List.copyOf(updated);
+                flushing = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            unwritten = null;
+            log.debug("채팅 검색 세그먼트 기록: {} ({}건, ID {}까지)", segment.generation(), segment.docCount(), persistedThrough);
+        }
+    }
+
+    /**
+     * 워터마크 파일 기록 (임시 파일 후 원자적 교체, 이미 기록된 값 이하면 생략)
+     */
+    private void persistWatermark(long through) throws IOException {
+        if (through <= persistedThrough) {
+            return;
+        }
+        Files.createDirectories(directory);
+        Path tmp = directory.resolve(WATERMARK_FILE + ".tmp");
+        Files.writeString(tmp, Long.toString(through));
+        Files.move(tmp, directory.resolve(WATERMARK_FILE),
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        persistedThrough = through;
+    }
+
+    /**
+     * 세그먼트 수가 상한을 넘으면 가장 작은 세그먼트들을 병합
+     */
+    void mergeIfNeeded() {
+        synchronized (mergeMonitor) {
+            List<IndexSegment> current;
+            lock.readLock().lock();
+            try {
+                current = segments;
+            } finally {
+                lock.readLock().unlock();
+            }
+            if (current.size() <= maxSegments) {
+                return;
+            }
+
+            List<IndexSegment> picked = current.stream()
+                .sorted(Comparator.comparingInt(IndexSegment::docCount))
+                .limit(mergeFactor)
+                .sorted(Comparator.comparingLong(IndexSegment::generation))
+                .toList();
+
+            long started = System.currentTimeMillis();
+            IndexSegment merged = IndexSegment.merge(picked, nextGeneration.getAndIncrement());
+            try {
+                merged.write(directory);
+            } catch (IOException e) {
+                log.error("채팅 검색 세그먼트 병합 기록 실패", e);
+                return;
+            }
+
+            lock.writeLock().lock();
+            try {
+                List<IndexSegment> updated = new ArrayList<>(segments);
+                updated.removeAll(picked);
+                updated.add(merged);
+                segments = List.copyOf(updated);
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            for (IndexSegment segment : picked) {
+                try {
+                    Files.deleteIfExists(IndexSegment.fileOf(directory, segment.generation()));
+                } catch (IOException e) {
+                    log.warn("병합된 세그먼트 파일 삭제 실패: {}", segment.generation(), e);
+                }
+            }
+            merges.increment();
+            log.info("채팅 검색 세그먼트 병합: {}개 → {} ({}건, {}ms)",
+                picked.size(), merged.generation(), merged.docCount(), System.currentTimeMillis() - started);
+        }
+    }
+
+    private void flushAndMerge() {
+        try {
+            flush();
+            mergeIfNeeded();
+        } catch (Exception e) {
+            log.error("채팅 검색 색인 정리 작업 실패", e);
+        }
+    }
+
+    /**
+     * 워터마크와 세그먼트 로드
+     * 워터마크보다 큰 ID를 가진 세그먼트(기록 직후 워터마크 전진 전에 종료된 경우)는 버리고 DB에서 다시 색인
+     * 워터마크 파일이 없으면(이전 형식) 세그먼트를 모두 버리고 처음부터 색인
+     */
+    void loadSegments() throws IOException {
+        Files.createDirectories(directory);
+        long through = readWatermark();
+
+        List<IndexSegment> loaded = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.sorted().toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                if (!name.startsWith(IndexSegment.FILE_PREFIX) || !name.endsWith(IndexSegment.FILE_SUFFIX)) {
+                    continue;
+                }
+                long generation = Long.parseLong(name.substring(IndexSegment.FILE_PREFIX.length(),
+                    name.length() - IndexSegment.FILE_SUFFIX.length()));
+                try {
+                    IndexSegment segment = IndexSegment.read(file, generation);
+                    if (through < 0 || segment.maxDbId() > through) {
+                        log.info("워터마크 이후 채팅 검색 세그먼트 제외 (DB에서 다시 색인): {}", file);
+                        Files.deleteIfExists(file);
+                        continue;
+                    }
+                    loaded.add(segment);
+                } catch (IOException e) {
+                    log.warn("손상된 채팅 검색 세그먼트 제외: {}", file, e);
+                }
+            }
+        }
+
+        loaded = dropMergedInputs(loaded);
+        long maxGeneration = loaded.stream().mapToLong(IndexSegment::generation).max().orElse(0);
+        nextGeneration.set(maxGeneration + 1);
+
+        lock.writeLock().lock();
+        try {
+            segments = List.copyOf(loaded);
+            indexedThrough = Math.max(through, 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        synchronized (flushMonitor) {
+            persistedThrough = Math.max(through, 0);
+        }
+        log.info("채팅 검색 세그먼트 로드: {}개 ({}건, ID {}까지 색인됨)", loaded.size(),
+            loaded.stream().mapToInt(IndexSegment::docCount).sum(), Math.max(through, 0));
+    }
+
+    /**
+     * 병합 결과를 기록한 뒤 입력 세그먼트를 지우기 전에 종료된 경우 정리
+     * 더 최신 세그먼트에 모든 메시지가 있는 세그먼트는 삭제, 일부만 겹치면 남기고 overlapping 표시
+     */
+    private List<IndexSegment> dropMergedInputs(List<IndexSegment> loaded) throws IOException {
+        List<IndexSegment> newestFirst = new ArrayList<>(loaded);
+        newestFirst.sort(Comparator.comparingLong(IndexSegment::generation).reversed());
+
+        Set<String> seen = new HashSet<>();
+        List<IndexSegment> kept = new ArrayList<>();
+        boolean partial = false;
+        for (IndexSegment segment : newestFirst) {
+            int contained = 0;
+            for (int doc = 0; doc < segment.docCount(); doc++) {
+                if (seen.contains(segment.messageId(doc))) {
+                    contained++;
+                }
+            }
+            if (contained > 0 && contained == segment.docCount()) {
+                log.info("병합된 채팅 검색 세그먼트 삭제 (병합 결과에 모두 포함): {}", segment.generation());
+                Files.deleteIfExists(IndexSegment.fileOf(directory, segment.generation()));
+                continue;
+            }
+            partial |= contained > 0;
+            for (int doc = 0; doc < segment.docCount(); doc++) {
+                seen.add(segment.messageId(doc));
+            }
+            kept.add(segment);
+        }
+        if (partial) {
+            log.warn("일부 겹치는 채팅 검색 세그먼트 존재 - 검색 시 중복 제거");
+        }
+        overlapping = partial;
+
+        kept.sort(Comparator.comparingLong(IndexSegment::generation));
+        return kept;
+    }
+
+    private long readWatermark() {
+        Path file = directory.resolve(WATERMARK_FILE);
+        if (!Files.exists(file)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(Files.readString(file).trim());
+        } catch (IOException | NumberFormatException e) {
+            log.warn("채팅 검색 워터마크 읽기 실패 - 처음부터 색인: {}", file, e);
+            return -1;
+        }
+    }
+
+    /**
+     * DB 따라가기 루프 (밀린 동안은 쉬지 않고 페이지 단위로, 따라잡은 뒤에는 poll-interval마다)
+     */
+    private void tail() {
+        long started = System.currentTimeMillis();
+        while (running) {
+            try {
+                if (poll()) {
+                    continue;
+                }
+                if (catchingUp) {
+                    catchingUp = false;
+                    log.info("채팅 검색 색인 따라잡기 완료: ID {}까지 ({}ms)", indexedThrough, System.currentTimeMillis() - started);
+                }
+                Thread.sleep(pollIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("채팅 검색 색인 갱신 실패 (ID {}까지 색인됨)", indexedThrough, e);
+                try {
+                    Thread.sleep(pollIntervalMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 워터마크 이후 한 페이지 색인 (ID 키셋 페이징)
+     * 아직 확정되지 않은 ID 빈 구간을 만나면 그 앞까지만 색인하고 다음 조회에서 다시 시도
+     * @return 가득 찬 페이지를 끝까지 색인했으면 true (바로 다음 페이지 조회)
+     */
+    boolean poll() {
+        synchronized (tailMonitor) {
+            observeMaxId();
+
+            long after = indexedThrough;
+            List<ChatMessageEntity> page = chatMessageRepository
+                .findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, TAIL_PAGE_SIZE));
+            if (page.isEmpty()) {
+                return false;
+            }
+
+            long through = after;
+            int accepted = 0;
+            for (ChatMessageEntity entity : page) {
+                long id = entity.getId();
+                if (id != through + 1) {
+                    // 빈 구간 뒤의 ID가 gap-settle 전에 이미 보였다면 빈 구간의 ID도 그 전에 발급됨 → 롤백/삭제로 간주
+                    if (id > settledMaxId) {
+                        break;
+                    }
+                    skippedIds.add(id - through - 1);
+                    log.debug("채팅 검색 색인 ID 빈 구간 건너뜀: {} ~ {}", through + 1, id - 1);
+                }
+                through = id;
+                accepted++;
+            }
+
+            if (accepted > 0) {
+                index(page.subList(0, accepted), through);
+            }
+            return accepted == TAIL_PAGE_SIZE;
+        }
+    }
+
+    private void observeMaxId() {
+        long now = System.currentTimeMillis();
+        Long maxId = chatMessageRepository.findMaxId();
+        observedMaxIds.addLast(new long[]{now, maxId != null ? maxId : 0});
+        while (!observedMaxIds.isEmpty() && observedMaxIds.peekFirst()[0] <= now - gapSettleMillis) {
+            settledMaxId = Math.max(settledMaxId, observedMaxIds.pollFirst()[1]);
+        }
+    }
+
+    // ========== 검색 ==========
+
+    /**
+     * 방 안에서 검색어/보낸 사람/기간으로 메시지 검색 (점수 높은 순, 같으면 최신순)
+     * 검색어의 모든 n-gram을 포함한 메시지만 반환합니다. (글자/숫자가 없어 n-gram이 없는 검색어는 결과 없음)
+     */
+    public SearchResult search(String roomId, String query, String senderId,
+                               LocalDateTime from, LocalDateTime to, int limit) {
+        searches.increment();
+        Set<String> terms = NgramTokenizer.queryTerms(query);
+        if (terms.isEmpty() && query != null && !query.isBlank()) {
+            return SearchResult.EMPTY; // 예: "!!!" - 조건 없이 방 전체를 반환하지 않도록
+        }
+        long fromMillis = from != null ? toEpochMillis(from) : Long.MIN_VALUE;
+        long toMillis = to != null ? toEpochMillis(to) : Long.MAX_VALUE;
+
+        lock.readLock().lock();
+        try {
+            List<IndexReader> readers = new ArrayList<>(segments);
+            if (flushing != null) {
+                readers.add(flushing);
+            }
+            readers.add(memory);
+            boolean dedupe = overlapping;
+
+            // 1. 방 문서 수 / 검색어별 문서 빈도 (IDF 계산용)
+            double[] idf = new double[terms.size()];
+            if (!terms.isEmpty()) {
+                long roomDocs = 0;
+                for (IndexReader reader : readers) {
+                    Postings docs = reader.roomDocs(roomId);
+                    roomDocs += docs != null ? docs.size() : 0;
+                }
+
+                int t = 0;
+                for (String term : terms) {
+                    long df = Math.min(documentFrequency(readers, roomId, term, dedupe), roomDocs);
+                    if (df == 0) {
+                        return SearchResult.EMPTY;
+                    }
+                    idf[t++] = Math.log(1 + (roomDocs - df + 0.5) / (df + 0.5));
+                }
+            }
+
+            // 2. 세그먼트별 교집합 + 필터 + 상위 limit개 유지
+            PriorityQueue<Hit> top = new PriorityQueue<>(Hit.RANKING);
+            Set<String> seen = dedupe ? new HashSet<>() : null;
+            int matched = 0;
+            for (IndexReader reader : readers) {
+                matched += collect(reader, roomId, terms, idf, senderId, fromMillis, toMillis, limit, top, seen);
+            }
+
+            List<String> messageIds = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                messageIds.add(top.poll().messageId());
+            }
+            Collections.reverse(messageIds);
+            return new SearchResult(messageIds, matched);
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 포함한 문서 수 (세그먼트별 포스팅 길이 합)
+     * 겹치는 세그먼트가 있을 때만 메시지 ID로 중복 제거
+     */
+    private static long documentFrequency(List<IndexReader> readers, String roomId, String term, boolean dedupe) {
+        if (!dedupe) {
+            long df = 0;
+            for (IndexReader reader : readers) {
+                Postings postings = reader.postings(roomId, term);
+                df += postings != null ? postings.size() : 0;
+            }
+            return df;
+        }
+        Set<String> termDocs = new HashSet<>();
+        for (IndexReader reader : readers) {
+            Postings postings = reader.postings(roomId, term);
+            for (int i = 0; postings != null && i < postings.size(); i++) {
+                termDocs.add(reader.messageId(postings.doc(i)));
+            }
+        }
+        return termDocs.size();
+    }
+
+    /**
+     * 한 세그먼트에서 조건에 맞는 문서를 상위 limit개에 반영
+     * @param seen 겹치는 세그먼트가 있을 때만 전달 (이미 센 메시지 ID), 없으면 null
+     * @return 조건에 맞은 문서 수
+     */
+    private int collect(IndexReader reader, String roomId, Set<String> terms, double[] idf, String senderId,
+                        long fromMillis, long toMillis, int limit, PriorityQueue<Hit> top, Set<String> seen) {
+        Postings[] lists = new Postings[terms.size()];
+        Postings driver;
+
+        if (terms.isEmpty()) {
+            driver = senderId != null ? reader.postings(roomId, senderKey(senderId)) : reader.roomDocs(roomId);
+        } else {
+            int t = 0;
+            for (String term : terms) {
+                Postings postings = reader.postings(roomId, term);
+                if (postings == null) {
+                    return 0;
+                }
+                lists[t++] = postings;
+            }
+            driver = Arrays.stream(lists).min(Comparator.comparingInt(Postings::size)).orElseThrow();
+        }
+        if (driver == null) {
+            return 0;
+        }
+
+        int matched = 0;
+
+        for (int i = 0; i < driver.size(); i++) {
+            int doc = driver.doc(i);
+
+            double score = 0;
+            boolean all = true;
+            for (int t = 0; t < lists.length && all; t++) {
+                int at = Arrays.binarySearch(lists[t].docs(), 0, lists[t].size(), doc);
+                if (at < 0) {
+                    all = false;
+                } else {
+                    int tf = lists[t].tf(at);
+                    score += idf[t] * tf * (K1 + 1) / (tf + K1);
+                }
+            }
+            if (!all) {
+                continue;
+            }
+
+            long timestamp = reader.timestamp(doc);
+            if (timestamp < fromMillis || timestamp > toMillis) {
+                continue;
+            }
+            if (senderId != null && !senderId.equals(reader.senderId(doc))) {
+                continue;
+            }
+
+            // 같은 메시지가 여러 세그먼트에 있는 경우(병합 중 종료 등) 한 번만
+            String messageId = reader.messageId(doc);
+            if (seen != null && !seen.add(messageId)) {
+                continue;
+            }
+            matched++;
+
+            Hit hit = new Hit(messageId, score, timestamp);
+            if (top.size() < limit) {
+                top.add(hit);
+            } else if (Hit.RANKING.compare(hit, top.peek()) > 0) {
+                top.poll();
+                top.add(hit);
+            }
+        }
+        return matched;
+    }
+
+    static String senderKey(String senderId) {
+        return SENDER_KEY_PREFIX + senderId;
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+
+    /**
+     * 통계 정보 조회
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            stats.put("segments", segments.size());
+            stats.put("segmentDocs", segments.stream().mapToInt(IndexSegment::docCount).sum());
+            stats.put("memoryDocs", memory.docCount());
+        } finally {
+            lock.readLock().unlock();
+        }
+        stats.put("enabled", enabled);
+        stats.put("catchingUp", catchingUp);
+        stats.put("overlappingSegments", overlapping);
+        stats.put("indexedThrough", indexedThrough);
+        stats.put("skippedIds", skippedIds.sum());
+        stats.put("indexedMessages", indexedMessages.sum());
+        stats.put("searches", searches.sum());
+        stats.put("merges", merges.sum());
+        return stats;
+    }
+
+    public boolean isCatchingUp() {
+        return catchingUp;
+    }
+
+    /**
+     * 검색 결과 (순위순 메시지 ID + 조건에 맞는 전체 메시지 수)
+     */
+    public record SearchResult(List<String> messageIds, int totalHits) {
+
+        static final SearchResult EMPTY = new SearchResult(List.of(), 0);
+    }
+
+    private record Hit(String messageId, double score, long timestamp) {
+
+        // 오름차순 = 낮은 순위 먼저 (상위 limit개 힙에서 가장 낮은 순위를 꺼내기 위함)
+        static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score)
+            .thenComparingLong(Hit::timestamp);
+    }
+
+    private record PendingDoc(ChatMessageEntity entity, long timestamp, Map<String, Integer> terms) {
+    }
+}
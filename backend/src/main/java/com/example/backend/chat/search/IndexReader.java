@@ -0,0 +1,24 @@
+package com.example.backend.chat.search;
+
+/**
+ * 세그먼트(디스크) / 메모리 버퍼 공통 조회 인터페이스
+ * 문서 번호는 세그먼트 내부 번호이며 방별 포스팅으로만 접근합니다.
+ */
+interface IndexReader {
+
+    /**
+     * 방의 전체 문서 (보낸 사람/기간만으로 검색할 때 사용)
+     */
+    Postings roomDocs(String roomId);
+
+    /**
+     * 방 안의 키(n-gram 또는 보낸 사람 키) 포스팅, 없으면 null
+     */
+    Postings postings(String roomId, String key);
+
+    String messageId(int doc);
+
+    String senderId(int doc);
+
+    long timestamp(int doc);
+}
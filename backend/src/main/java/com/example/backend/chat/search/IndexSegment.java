@@ -0,0 +1,285 @@
+package com.example.backend.chat.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 불변 색인 세그먼트
+ * 파일 구조: [MAGIC][VERSION][maxDbId][문서 수][문서: messageId, senderId, timestamp]...
+ *          [방 수][방: roomId, 문서 번호 목록, 키 수, [키, 포스팅(문서 번호, 출현 횟수)]...]...
+ */
+final class IndexSegment implements IndexReader {
+
+    private static final int MAGIC = 0x43534958; // "CSIX"
+    private static final int VERSION = 1;
+    static final String FILE_PREFIX = "seg-";
+    static final String FILE_SUFFIX = ".idx";
+
+    private final long generation;
+    private final long maxDbId;
+    private final String[] messageIds;
+    private final String[] senderIds;
+    private final long[] timestamps;
+    private final Map<String, RoomPostings> rooms;
+
+    IndexSegment(long generation, long maxDbId, String[] messageIds, String[] senderIds, long[] timestamps,
+                 Map<String, RoomPostings> rooms) {
+        this.generation = generation;
+        this.maxDbId = maxDbId;
+        this.messageIds = messageIds;
+        this.senderIds = senderIds;
+        this.timestamps = timestamps;
+        this.rooms = rooms;
+    }
+
+    /**
+     * 방별 포스팅 (방 전체 문서 + 키별 포스팅)
+     */
+    record RoomPostings(int[] docs, Map<String, Postings> terms) {
+    }
+
+    long generation() {
+        return generation;
+    }
+
+    long maxDbId() {
+        return maxDbId;
+    }
+
+    int docCount() {
+        return messageIds.length;
+    }
+
+    @Override
+    public Postings roomDocs(String roomId) {
+        RoomPostings room = rooms.get(roomId);
+        return room != null ? new Postings(room.docs(), null, room.docs().length) : null;
+    }
+
+    @Override
+    public Postings postings(String roomId, String key) {
+        RoomPostings room = rooms.get(roomId);
+        return room != null ? room.terms().get(key) : null;
+    }
+
+    @Override
+    public String messageId(int doc) {
+        return messageIds[doc];
+    }
+
+    @Override
+    public String senderId(int doc) {
+        return senderIds[doc];
+    }
+
+    @Override
+    public long timestamp(int doc) {
+        return timestamps[doc];
+    }
+
+    // ========== 디스크 입출력 ==========
+
+    static Path fileOf(Path directory, long generation) {
+        return directory.resolve(String.format("%s%012d%s", FILE_PREFIX, generation, FILE_SUFFIX));
+    }
+
+    /**
+     * 임시 파일에 기록 후 원자적으로 교체
+     */
+    void write(Path directory) throws IOException {
+        Path target = fileOf(directory, generation);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(maxDbId);
+
+            out.writeInt(messageIds.length);
+            for (int doc = 0; doc < messageIds.length; doc++) {
+                out.writeUTF(messageIds[doc]);
+                out.writeUTF(senderIds[doc]);
+                out.writeLong(timestamps[doc]);
+            }
+
+            out.writeInt(rooms.size());
+            for (Map.Entry<String, RoomPostings> room : rooms.entrySet()) {
+                out.writeUTF(room.getKey());
+                writeInts(out, room.getValue().docs(), room.getValue().docs().length);
+
+                out.writeInt(room.getValue().terms().size());
+                for (Map.Entry<String, Postings> term : room.getValue().terms().entrySet()) {
+                    Postings postings = term.getValue();
+                    out.writeUTF(term.getKey());
+                    writeInts(out, postings.docs(), postings.size());
+                    for (int i = 0; i < postings.size(); i++) {
+                        out.writeInt(postings.tf(i));
+                    }
+                }
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static IndexSegment read(Path file, long generation) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("지원하지 않는 색인 세그먼트 형식: " + file);
+            }
+            long maxDbId = in.readLong();
+
+            int docCount = in.readInt();
+            String[] messageIds = new String[docCount];
+            String[] senderIds = new String[docCount];
+            long[] timestamps = new long[docCount];
+            for (int doc = 0; doc < docCount; doc++) {
+                messageIds[doc] = in.readUTF();
+                senderIds[doc] = in.readUTF();
+                timestamps[doc] = in.readLong();
+            }
+
+            int roomCount = in.readInt();
+            Map<String, RoomPostings> rooms = new HashMap<>(roomCount * 2);
+            for (int r = 0; r < roomCount; r++) {
+                String roomId = in.readUTF();
+                int[] docs = readInts(in);
+
+                int termCount = in.readInt();
+                Map<String, Postings> terms = new HashMap<>(termCount * 2);
+                for (int t = 0; t < termCount; t++) {
+                    String key = in.readUTF();
+                    int[] termDocs = readInts(in);
+                    int[] tfs = new int[termDocs.length];
+                    for (int i = 0; i < tfs.length; i++) {
+                        tfs[i] = in.readInt();
+                    }
+                    terms.put(key, new Postings(termDocs, tfs, termDocs.length));
+                }
+                rooms.put(roomId, new RoomPostings(docs, terms));
+            }
+            return new IndexSegment(generation, maxDbId, messageIds, senderIds, timestamps, rooms);
+        }
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values, int size) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeInt(values[i]);
+        }
+    }
+
+    private static int[] readInts(DataInputStream in) throws IOException {
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    // ========== 병합 ==========
+
+    /**
+     * 여러 세그먼트를 하나로 병합 (문서 번호는 세그먼트 순서대로 이어 붙여 포스팅 정렬 유지)
+     */
+    static IndexSegment merge(List<IndexSegment> segments, long generation) {
+        int total = segments.stream().mapToInt(IndexSegment::docCount).sum();
+        String[] messageIds = new String[total];
+        String[] senderIds = new String[total];
+        long[] timestamps = new long[total];
+        long maxDbId = 0;
+
+        int[] bases = new int[segments.size()];
+        int offset = 0;
+        for (int s = 0; s < segments.size(); s++) {
+            IndexSegment segment = segments.get(s);
+            bases[s] = offset;
+            System.arraycopy(segment.messageIds, 0, messageIds, offset, segment.docCount());
+            System.arraycopy(segment.senderIds, 0, senderIds, offset, segment.docCount());
+            System.arraycopy(segment.timestamps, 0, timestamps, offset, segment.docCount());
+            offset += segment.docCount();
+            maxDbId = Math.max(maxDbId, segment.maxDbId);
+        }
+
+        Map<String, RoomPostingsBuilder> builders = new HashMap<>();
+        for (int s = 0; s < segments.size(); s++) {
+            int base = bases[s];
+            for (Map.Entry<String, RoomPostings> room : segments.get(s).rooms.entrySet()) {
+                RoomPostingsBuilder builder = builders.computeIfAbsent(room.getKey(), k -> new RoomPostingsBuilder());
+                builder.docs.addAll(room.getValue().docs(), base);
+                for (Map.Entry<String, Postings> term : room.getValue().terms().entrySet()) {
+                    Postings postings = term.getValue();
+                    PostingsBuilder target = builder.terms.computeIfAbsent(term.getKey(), k -> new PostingsBuilder());
+                    for (int i = 0; i < postings.size(); i++) {
+                        target.add(base + postings.doc(i), postings.tf(i));
+                    }
+                }
+            }
+        }
+
+        Map<String, RoomPostings> rooms = new HashMap<>(builders.size() * 2);
+        builders.forEach((roomId, builder) -> rooms.put(roomId, builder.build()));
+        return new IndexSegment(generation, maxDbId, messageIds, senderIds, timestamps, rooms);
+    }
+
+    /**
+     * 방별 포스팅 작성기 (메모리 버퍼/병합 공용)
+     */
+    static final class RoomPostingsBuilder {
+
+        final PostingsBuilder docs = new PostingsBuilder();
+        final Map<String, PostingsBuilder> terms = new HashMap<>();
+
+        RoomPostings build() {
+            Map<String, Postings> built = new HashMap<>(terms.size() * 2);
+            terms.forEach((key, builder) -> built.put(key, builder.trimmed()));
+            return new RoomPostings(Arrays.copyOf(docs.docs, docs.size), built);
+        }
+    }
+
+    /**
+     * 포스팅 작성기 (문서 번호는 증가하는 순서로만 추가)
+     */
+    static final class PostingsBuilder {
+
+        private int[] docs = new int[4];
+        private int[] tfs = new int[4];
+        private int size;
+
+        void add(int doc, int tf) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            docs[size] = doc;
+            tfs[size] = tf;
+            size++;
+        }
+
+        void addAll(int[] values, int base) {
+            for (int value : values) {
+                add(base + value, 1);
+            }
+        }
+
+        /**
+         * 현재까지의 포스팅 조회용 뷰 (배열 공유, 작성과 동시에 읽지 않는 경우에만 사용)
+         */
+        Postings view(boolean withTf) {
+            return new Postings(docs, withTf ? tfs : null, size);
+        }
+
+        Postings trimmed() {
+            return new Postings(Arrays.copyOf(docs, size), Arrays.copyOf(tfs, size), size);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.backend.chat.search;
+
+import com.example.backend.chat.search.IndexSegment.PostingsBuilder;
+import com.example.backend.chat.search.IndexSegment.RoomPostings;
+import com.example.backend.chat.search.IndexSegment.RoomPostingsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아직 디스크에 기록하지 않은 최근 메시지 색인 (쓰기 잠금 안에서만 추가, 읽기 잠금 안에서 조회)
+ */
+final class MemoryIndex implements IndexReader {
+
+    private final List<String> messageIds = new ArrayList<>();
+    private final List<String> senderIds = new ArrayList<>();
+    private long[] timestamps = new long[256];
+    private long maxDbId;
+
+    private final Map<String, RoomPostingsBuilder> rooms = new HashMap<>();
+
+    void add(long dbId, String messageId, String roomId, String senderId, long timestamp, Map<String, Integer> terms) {
+        int doc = messageIds.size();
+        messageIds.add(messageId);
+        senderIds.add(senderId);
+        if (doc == timestamps.length) {
+            timestamps = Arrays.copyOf(timestamps, doc * 2);
+        }
+        timestamps[doc] = timestamp;
+        maxDbId = Math.max(maxDbId, dbId);
+
+        RoomPostingsBuilder room = rooms.computeIfAbsent(roomId, k -> new RoomPostingsBuilder());
+        room.docs.add(doc, 1);
+        room.terms.computeIfAbsent(ChatSearchIndex.senderKey(senderId), k -> new PostingsBuilder()).add(doc, 1);
+        terms.forEach((term, tf) -> room.terms.computeIfAbsent(term, k -> new PostingsBuilder()).add(doc, tf));
+    }
+
+    int docCount() {
+        return messageIds.size();
+    }
+
+    boolean isEmpty() {
+        return messageIds.isEmpty();
+    }
+
+    /**
+     * 불변 세그먼트로 변환
+     */
+    IndexSegment toSegment(long generation) {
+        Map<String, RoomPostings> built = new HashMap<>(rooms.size() * 2);
+        rooms.forEach((roomId, builder) -> built.put(roomId, builder.build()));
+        return new IndexSegment(generation, maxDbId,
+            messageIds.toArray(String[]::new),
+            senderIds.toArray(String[]::new),
+            Arrays.copyOf(timestamps, messageIds.size()),
+            built);
+    }
+
+    @Override
+    public Postings roomDocs(String roomId) {
+        RoomPostingsBuilder room = rooms.get(roomId);
+        return room != null ? room.docs.view(false) : null;
+    }
+
+    @Override
+    public Postings postings(String roomId, String key) {
+        RoomPostingsBuilder room = rooms.get(roomId);
+        PostingsBuilder builder = room != null ? room.terms.get(key) : null;
+        return builder != null ? builder.view(true) : null;
+    }
+
+    @Override
+    public String messageId(int doc) {
+        return messageIds.get(doc);
+    }
+
+    @Override
+    public String senderId(int doc) {
+        return senderIds.get(doc);
+    }
+
+    @Override
+    public long timestamp(int doc) {
+        return timestamps[doc];
+    }
+}
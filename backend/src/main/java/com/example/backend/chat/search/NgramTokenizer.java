@@ -0,0 +1,78 @@
+package com.example.backend.chat.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한국어용 n-gram 토크나이저
+ * - 형태소 분석 없이 글자/숫자 연속 구간을 단어로 보고 1-gram + 2-gram을 색인 (조사/어미가 붙어도 부분 일치)
+ * - 검색어는 2글자 이상 단어면 2-gram만, 1글자 단어면 1-gram으로 조회
+ */
+final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 → 출현 횟수
+     */
+    static Map<String, Integer> indexTerms(String text) {
+        Map<String, Integer> terms = new LinkedHashMap<>();
+        for (String word : words(text)) {
+            int[] codePoints = word.codePoints().toArray();
+            for (int i = 0; i < codePoints.length; i++) {
+                terms.merge(new String(codePoints, i, 1), 1, Integer::sum);
+                if (i + 1 < codePoints.length) {
+                    terms.merge(new String(codePoints, i, 2), 1, Integer::sum);
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색용 토큰 (중복 제거)
+     */
+    static Set<String> queryTerms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                terms.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                terms.add(new String(codePoints, i, 2));
+            }
+        }
+        return terms;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return words;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        normalized.codePoints().forEach(codePoint -> {
+            if (Character.isLetterOrDigit(codePoint)) {
+                current.appendCodePoint(codePoint);
+            } else if (!current.isEmpty()) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        });
+        if (!current.isEmpty()) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+}
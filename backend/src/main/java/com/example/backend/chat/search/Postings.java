@@ -0,0 +1,16 @@
+package com.example.backend.chat.search;
+
+/**
+ * 한 키의 포스팅 목록 (세그먼트 내 문서 번호 오름차순 + 문서별 출현 횟수)
+ * tfs가 null이면 모든 문서의 출현 횟수를 1로 간주
+ */
+record Postings(int[] docs, int[] tfs, int size) {
+
+    int doc(int index) {
+        return docs[index];
+    }
+
+    int tf(int index) {
+        return tfs != null ? tfs[index] : 1;
+    }
+}
@@ -302,6 +302,7 @@ public class AsyncBatchChatService {
         return ChatMessageEntity.builder()
             .roomId(message.getRoomId())
             .messageId(message.getMessageId())
+            .seq(message.getSeq())
             .senderId(message.getSenderId())
             .senderName(message.getSenderName())
             .profileImageUrl(message.getProfileImageUrl())
@@ -1,7 +1,9 @@
 package com.example.backend.chat.service;
 
+import com.example.backend.chat.dto.ChatMessage;
 import com.example.backend.chat.dto.response.ChatHistoryResponse;
 import com.example.backend.chat.dto.response.RoomResponse;
+import com.example.backend.chat.entity.ChatMessageEntity;
 import com.example.backend.chat.entity.Room;
 import com.example.backend.chat.entity.RoomParticipant;
 import com.example.backend.common.security.authentication.jwt.JwtUserInfo;
@@ -15,6 +17,24 @@ import java.util.List;
 @Service
 public class ChatBuilderService {
 
+    /**
+     * ChatMessageEntity → ChatMessage
+     */
+    public ChatMessage buildChatMessage(ChatMessageEntity entity) {
+        return ChatMessage.builder()
+            .id(entity.getId()) // Long ID 사용
+            .messageId(entity.getMessageId())
+            .seq(entity.getSeq())
+            .type(entity.getMessageType())
+            .roomId(entity.getRoomId())
+            .senderId(entity.getSenderId())
+            .senderName(entity.getSenderName())
+            .profileImageUrl(entity.getProfileImageUrl())
+            .content(entity.getContent())
+            .timestamp(entity.getCreatedAt())
+            .build();
+    }
+
     /**
      * Room → RoomResponse (기본)
      */
@@ -34,9 +54,9 @@ public class ChatBuilderService {
     }
 
     /**
-     * Room → RoomResponse (메시지 수 포함)
+     * Room → RoomResponse (메시지 수 + 마지막 메시지 포함)
      */
-    public RoomResponse buildRoomResponseWithMessageCount(Room room, int messageCount) {
+    public RoomResponse buildRoomResponseWithSummary(Room room, int messageCount, ChatMessage lastMessage) {
         return RoomResponse.builder()
             .roomId(room.getRoomUuid())
             .roomName(room.getRoomName())
@@ -49,6 +69,7 @@ public class ChatBuilderService {
             .createdAt(room.getCreatedAt())
             .updatedAt(room.getUpdatedAt())
             .recentMessageCount(messageCount)
+            .lastMessage(lastMessage)
             .build();
     }
 
@@ -107,4 +128,17 @@ public class ChatBuilderService {
             .totalCount(totalCount)
             .build();
     }
+
+    /**
+     * 재접속 누락분 응답 생성 (afterSeq 이후 메시지만 포함)
+     */
+    public ChatHistoryResponse buildChatHistoryDeltaResponse(String roomId, List<ChatMessage> missedMessages, long afterSeq) {
+        return ChatHistoryResponse.builder()
+            .roomId(roomId)
+            .messages(missedMessages)
+            .totalCount(missedMessages.size())
+            .afterSeq(afterSeq)
+            .type("HISTORY_DELTA")
+            .build();
+    }
 }
\ No newline at end of file
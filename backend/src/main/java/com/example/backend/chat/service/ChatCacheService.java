@@ -8,7 +8,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 import jakarta.annotation.PostConstruct;
 import java.time.Duration;
@@ -34,6 +36,7 @@ public class ChatCacheService {
     private static final int MEMORY_CACHE_SIZE = 50;  // 메모리에는 최근 50개만
     private static final int REDIS_CACHE_SIZE = 100;  // Redis에는 최근 100개
     private static final Duration CACHE_TTL = Duration.ofDays(7); // 7일 TTL
+    private static final int MAX_RESYNC_SIZE = 500;   // 재동기화로 보내는 누락 메시지 최대 개수
 
     @PostConstruct
     public void initializeCache() {
@@ -54,9 +57,9 @@ public class ChatCacheService {
     }
 
     /**
-     * 메모리 캐시에 메시지 추가
+     * 메모리 캐시에 메시지 추가 (방 발행 락 안에서 호출 - 순번 순서대로 쌓임)
      */
-    private void addToMemoryCache(String roomId, ChatMessage message) {
+    public void addToMemoryCache(String roomId, ChatMessage message) {
         try {
             Deque<ChatMessage> cache = memoryCache.computeIfAbsent(roomId, k -> new LinkedList<>());
 
@@ -79,9 +82,9 @@ public class ChatCacheService {
     }
 
     /**
-     * Redis 캐시에 메시지 추가
+     * Redis 캐시에 메시지 추가 (방 발행 락 밖에서 호출 - 동시 발행 시 리스트 순서가 섞일 수 있어 조회 시 순번으로 정렬)
      */
-    private void addToRedisCache(String roomId, ChatMessage message) {
+    public void addToRedisCache(String roomId, ChatMessage message) {
         try {
             String key = CACHE_PREFIX + roomId + CACHE_SUFFIX;
             String messageJson = objectMapper.writeValueAsString(message);
@@ -139,6 +142,154 @@ public class ChatCacheService {
         return messages;
     }
 
+    /**
+     * 여러 방의 메시지 요약 일괄 조회 (메모리 → Redis 파이프라인 1회)
+     * 방 목록 화면용이므로 캐시에 없는 방은 DB를 조회하지 않고 빈 요약을 반환합니다.
+     */
+    public Map<String, RoomMessageSummary> getRoomSummaries(Collection<String> roomIds) {
+        Map<String, RoomMessageSummary> summaries = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+
+        // 1. 메모리 캐시
+        for (String roomId : roomIds) {
+            Deque<ChatMessage> cache = memoryCache.get(roomId);
+            if (cache != null) {
+                synchronized (cache) {
+                    if (!cache.isEmpty()) {
+                        summaries.put(roomId, new RoomMessageSummary(cache.size(), cache.peekLast()));
+                        continue;
+                    }
+                }
+            }
+            misses.add(roomId);
+        }
+        if (misses.isEmpty()) {
+            return summaries;
+        }
+
+        // 2. Redis: 방별 LLEN + LINDEX -1 을 한 번의 파이프라인으로 조회
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    for (String roomId : misses) {
+                        String key = CACHE_PREFIX + roomId + CACHE_SUFFIX;
+                        ops.opsForList().size(key);
+                        ops.opsForList().index(key, -1);
+                    }
+                    return null;
+                }
+            });
+
+            for (int i = 0; i < misses.size(); i++) {
+                Object size = results.get(i * 2);
+                Object last = results.get(i * 2 + 1);
+                int count = size instanceof Number number ? number.intValue() : 0;
+                summaries.put(misses.get(i), new RoomMessageSummary(count, last != null ? parseMessage(last) : null));
+            }
+        } catch (Exception e) {
+            log.error("Redis 메시지 요약 일괄 조회 실패 - 방: {}개", misses.size(), e);
+        }
+        return summaries;
+    }
+
+    /**
+     * 특정 순번 이후 누락 메시지 조회 (메모리 → Redis → DB 순서, 재접속 재동기화용)
+     * 해당 구간을 온전히 가진 첫 계층에서 반환하며, 누락분이 MAX_RESYNC_SIZE를 넘으면 빈 값을 반환합니다.
+     * @return 순번 오름차순 누락 메시지 (없으면 빈 리스트), 구간 조회 불가 시 Optional.empty()
+     */
+    public Optional<List<ChatMessage>> getMessagesAfter(String roomId, long lastSeq) {
+        // 1. 메모리 캐시
+        Optional<List<ChatMessage>> delta = sliceAfter(getFromMemoryCache(roomId), lastSeq);
+        if (delta.isPresent()) {
+            return delta;
+        }
+
+        // 2. Redis 캐시
+        List<ChatMessage> cached = getFromRedisCache(roomId);
+        delta = sliceAfter(cached, lastSeq);
+        if (delta.isPresent()) {
+            return delta;
+        }
+
+        // 3. DB (비동기 배치로 아직 저장되지 않은 최신분은 Redis 캐시에서 보충)
+        try {
+            List<ChatMessageEntity> entities = chatMessageRepository
+                .findMessagesAfterSeq(roomId, lastSeq, PageRequest.of(0, MAX_RESYNC_SIZE + 1));
+            if (entities.size() > MAX_RESYNC_SIZE) {
+                log.debug("누락 구간이 너무 큼 - 방: {}, 기준 순번: {}", roomId, lastSeq);
+                return Optional.empty();
+            }
+
+            List<ChatMessage> messages = entities.stream()
+                .map(this::convertToMessage)
+                .collect(Collectors.toCollection(ArrayList::new));
+            long persistedLast = messages.isEmpty() ? lastSeq : messages.get(messages.size() - 1).getSeq();
+            cached.stream()
+                .filter(message -> message.getSeq() != null && message.getSeq() > persistedLast)
+                .forEach(messages::add);
+            return Optional.of(messages);
+
+        } catch (Exception e) {
+            log.error("DB 누락 메시지 조회 실패 - 방: {}, 기준 순번: {}", roomId, lastSeq, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 캐시된 목록이 lastSeq 이후 구간을 모두 포함하면 해당 구간을 반환
+     */
+    private Optional<List<ChatMessage>> sliceAfter(List<ChatMessage> messages, long lastSeq) {
+        List<ChatMessage> sequenced = messages.stream()
+            .filter(message -> message.getSeq() != null)
+            .collect(Collectors.toList());
+        if (sequenced.isEmpty() || sequenced.get(0).getSeq() > lastSeq + 1) {
+            return Optional.empty();
+        }
+        return Optional.of(sequenced.stream()
+            .filter(message -> message.getSeq() > lastSeq)
+            .collect(Collectors.toList()));
+    }
+
+    /**
+     * 캐시된 마지막 메시지의 순번 (메모리 → Redis, 없으면 0)
+     */
+    public long getLastCachedSeq(String roomId) {
+        Deque<ChatMessage> cache = memoryCache.get(roomId);
+        if (cache != null) {
+            synchronized (cache) {
+                ChatMessage last = cache.peekLast();
+                if (last != null && last.getSeq() != null) {
+                    return last.getSeq();
+                }
+            }
+        }
+
+        // Redis 리스트는 동시 발행 시 끝부분 순서가 섞일 수 있으므로 정렬된 목록의 마지막 값 사용
+        List<ChatMessage> cached = getFromRedisCache(roomId);
+        ChatMessage message = cached.isEmpty() ? null : cached.get(cached.size() - 1);
+        return message != null && message.getSeq() != null ? message.getSeq() : 0L;
+    }
+
+    private ChatMessage parseMessage(Object json) {
+        try {
+            return objectMapper.readValue(json.toString(), ChatMessage.class);
+        } catch (JsonProcessingException e) {
+            log.error("Redis 메시지 역직렬화 실패", e);
+            return null;
+        }
+    }
+
+    /**
+     * 방 메시지 요약 (캐시된 최근 메시지 수 + 마지막 메시지)
+     */
+    public record RoomMessageSummary(int messageCount, ChatMessage lastMessage) {
+
+        public static final RoomMessageSummary EMPTY = new RoomMessageSummary(0, null);
+    }
+
     /**
      * 메모리 캐시에서 조회
      */
@@ -171,6 +322,7 @@ public class ChatCacheService {
                         }
                     })
                     .filter(Objects::nonNull)
+                    .sorted(Comparator.comparing(ChatMessage::getSeq, Comparator.nullsFirst(Comparator.naturalOrder())))
                     .collect(Collectors.toList());
             }
 
@@ -301,6 +453,7 @@ public class ChatCacheService {
         return ChatMessage.builder()
             .id(entity.getId())
             .messageId(entity.getMessageId())
+            .seq(entity.getSeq())
             .type(entity.getMessageType())
             .roomId(entity.getRoomId())
             .senderId(entity.getSenderId())
@@ -0,0 +1,86 @@
+package com.example.backend.chat.service;
+
+import com.example.backend.chat.entity.ChatMessageEntity;
+import com.example.backend.chat.repository.ChatMessageRepository;
+import com.example.backend.chat.repository.RoomRepository;
+import com.example.backend.common.exception.BusinessException;
+import com.example.backend.common.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 채팅방 전체 히스토리 내보내기 (NDJSON, 선택적으로 gzip)
+ * - DB 커서로 한 행씩 읽어 바로 응답 스트림에 기록하므로 메시지 수와 무관하게 메모리 사용량 일정
+ * - 읽은 엔티티는 즉시 영속성 컨텍스트에서 분리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final RoomRepository roomRepository;
+    private final ChatBuilderService chatBuilderService;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * 내보내기 가능 여부 확인 (응답 스트리밍 시작 전에 호출)
+     */
+    public void validateRoom(String roomId) {
+        if (!roomRepository.existsByRoomUuid(roomId)) {
+            throw new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 방의 모든 메시지를 한 줄에 하나씩 JSON으로 기록
+     * @return 기록한 메시지 수
+     */
+    @Transactional(readOnly = true)
+    public long exportMessages(String roomId, OutputStream out, boolean gzip) throws IOException {
+        long started = System.currentTimeMillis();
+        long count = 0;
+
+        OutputStream target = gzip
+            ? new GZIPOutputStream(out, BUFFER_SIZE)
+            : new BufferedOutputStream(out, BUFFER_SIZE);
+
+        try (Stream<ChatMessageEntity> messages = chatMessageRepository.streamAllByRoomId(roomId);
+             SequenceWriter writer = objectMapper.writer()
+                 .withRootValueSeparator("\n")
+                 .writeValues(target)) {
+
+            Iterator<ChatMessageEntity> iterator = messages.iterator();
+            while (iterator.hasNext()) {
+                ChatMessageEntity entity = iterator.next();
+                writer.write(chatBuilderService.buildChatMessage(entity));
+                entityManager.detach(entity);
+                count++;
+            }
+            // 마지막 줄도 개행으로 끝나도록
+            if (count > 0) {
+                writer.flush();
+                target.write('\n');
+            }
+        }
+
+        log.info("채팅 히스토리 내보내기 완료: {} ({}건, gzip: {}, {}ms)",
+            roomId, count, gzip, System.currentTimeMillis() - started);
+        return count;
+    }
+}
@@ -1,13 +1,20 @@
 package com.example.backend.chat.service;
 
+import com.example.backend.chat.codec.ChatCodecRegistry;
+import com.example.backend.chat.directory.RoomDirectory;
 import com.example.backend.chat.dto.ChatMessage;
 import com.example.backend.chat.dto.response.ChatHistoryResponse;
+import com.example.backend.chat.dto.response.ParticipantListResponse;
 import com.example.backend.chat.dto.request.RoomCreateRequest;
 import com.example.backend.chat.dto.response.RoomResponse;
 import com.example.backend.chat.dto.response.RoomListResponse;
 import com.example.backend.chat.entity.ChatMessageEntity;
+import com.example.backend.chat.interceptor.AuthenticatedSession;
 import com.example.backend.chat.entity.Room;
 import com.example.backend.chat.entity.RoomParticipant;
+import com.example.backend.chat.event.RoomCreatedEvent;
+import com.example.backend.chat.event.RoomParticipantsChangedEvent;
+import com.example.backend.chat.presence.PresenceTracker;
 import com.example.backend.chat.repository.ChatMessageRepository;
 import com.example.backend.chat.repository.RoomRepository;
 import com.example.backend.chat.repository.RoomParticipantRepository;
@@ -16,18 +23,18 @@ import com.example.backend.common.exception.BusinessException;
 import com.example.backend.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
-import java.security.Principal;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -40,15 +47,24 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ChatService {
 
-    private final AsyncBatchChatService asyncBatchChatService;
     private final ChatCacheService chatCacheService;
     private final ChatMessageRepository chatMessageRepository;
     private final RoomRepository roomRepository;
     private final RoomParticipantRepository roomParticipantRepository;
     private final SimpMessagingTemplate messagingTemplate;
     private final ChatBuilderService chatBuilderService;
-    private final ShardManager shardManager;
-    private final ShardedBroadcastService shardedBroadcastService;
+    private final PresenceTracker presenceTracker;
+    private final RoomDirectory roomDirectory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ParticipantSnapshotCache participantSnapshotCache;
+    private final RoomBroadcaster roomBroadcaster;
+    private final ChatCodecRegistry chatCodecRegistry;
+
+    // 방 상세 정보에 포함하는 참여자 수
+    private static final int DETAIL_PARTICIPANT_LIMIT = 50;
+
+    // 재접속 클라이언트가 마지막으로 받은 방 메시지 순번을 보내는 STOMP 헤더
+    public static final String LAST_SEQ_HEADER = "last-seq";
 
     /**
      * 채팅 메시지 전송 처리
@@ -66,8 +82,8 @@ public class ChatService {
             );
             enrichMessage(message, roomId, userInfo.username());
 
-            // 2. 캐시 저장 및 비동기 저장 처리
-            saveMessageToCacheAndAsync(roomId, message);
+            // 2. 순번 발급, 캐시 저장, 방 토픽 전송 및 비동기 저장 처리
+            roomBroadcaster.publish(roomId, message);
 
             log.debug("메시지 전송 처리 완료: {} by {} in {}",
                 message.getContent(), message.getSenderId(), message.getSenderName(), roomId);
@@ -82,9 +98,10 @@ public class ChatService {
 
     /**
      * 방 입장 처리 (참여자 관리 포함)
+     * 접속 현황 반영, 입장 메시지 발행과 히스토리 전송은 커밋 후에 수행 (롤백 시 순번 미소비, 방 행 잠금 시간 최소화)
      */
     @Transactional
-    public ChatMessage joinRoom(String roomId, SimpMessageHeaderAccessor headerAccessor) {
+    public void joinRoom(String roomId, SimpMessageHeaderAccessor headerAccessor) {
         JwtUserInfo userInfo = extractJwtUserInfo(headerAccessor);
         String sessionId = headerAccessor.getSessionId();
         try {
@@ -92,19 +109,11 @@ public class ChatService {
             Room room = roomRepository.findByRoomUuidAndIsActiveTrue(roomId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_JOIN_FAILED, "존재하지 않는 채팅방입니다."));
 
-            // 2. 방이 가득 찼는지 확인
-            if (room.isFull()) {
-                throw new BusinessException(ErrorCode.CHAT_ROOM_JOIN_FAILED, "채팅방이 가득 찼습니다.");
-            }
-
-            // 3. 참여자 상태 관리 및 입장 메시지 생성 여부 확인
+            // 2. 참여자 상태 관리 및 입장 메시지 생성 여부 확인 (정원 확인은 참여자 수 원자적 증가로 처리)
             boolean isNewJoin = handleRoomParticipation(room, userInfo);
 
-            // 4. 사용자를 샤드에 할당
-            addUserToShard(roomId, userInfo.userId());
-
+            // 3. 새로 입장하거나 복귀하는 경우에만 입장 메시지 생성
             ChatMessage joinMessage = null;
-            // 5. 새로 입장하거나 복귀하는 경우에만 입장 메시지 생성
             if (isNewJoin) {
                 joinMessage = ChatMessage.createJoinMessage(
                     roomId,
@@ -113,17 +122,23 @@ public class ChatService {
                     userInfo.profileImageUrl()
                 );
                 enrichMessage(joinMessage, roomId, userInfo.username());
-
-                // 6. 캐시 저장 및 비동기 저장 처리
-                saveMessageToCacheAndAsync(roomId, joinMessage);
             }
 
-            // 7. 새 참가자에게 최근 메시지 히스토리 전송
-            sendHistoryToUser(roomId, sessionId);
-
-            log.info("사용자 방 입장: {} → {} (참여자: {}명)", userInfo.username(), roomId, room.getCurrentParticipants());
+            // 4. 커밋 후 접속 현황/샤드 추가, 입장 메시지 발행 및 히스토리 전송 (재접속 시 마지막 순번 이후 누락분만)
+            //    접속 현황도 커밋 후에 반영 (롤백된 입장 세션이 샤드와 접속자 수에 남지 않도록)
+            ChatMessage publishedJoin = joinMessage;
+            Long lastSeq = parseLastSeq(headerAccessor);
+            afterCommit(() -> {
+                presenceTracker.joinRoom(sessionId, roomId); // 구독 유지 상태로 다시 입장한 세션도 복귀
+                if (publishedJoin != null) {
+                    roomBroadcaster.publish(roomId, publishedJoin);
+                }
+                if (lastSeq == null || !sendMissedMessagesToUser(roomId, sessionId, lastSeq)) {
+                    sendHistoryToUser(roomId, sessionId);
+                }
+            });
 
-            return joinMessage;
+            log.info("사용자 방 입장: {} → {} (신규 입장: {})", userInfo.username(), roomId, isNewJoin);
 
         } catch (BusinessException e) {
             throw e;
@@ -151,6 +166,9 @@ public class ChatService {
                 log.warn("참여하지 않은 방에서 나가기 시도: {} from {}", userInfo.username(), roomId);
             }
 
+            // 3. 접속 현황 및 샤드에서 제외 (참여자 상태는 유지)
+            presenceTracker.leaveRoom(headerAccessor.getSessionId(), roomId);
+
             log.info("사용자 임시 방 나가기: {} ← {} (WebSocket 연결 끊김)", userInfo.username(), roomId);
 
         } catch (BusinessException e) {
@@ -272,14 +290,7 @@ public class ChatService {
 
             // 히스토리 메시지들을 HISTORY 타입으로 변환
             List<ChatMessage> historyMessages = recentMessages.stream()
-                .map(msg -> ChatMessage.createHistoryMessage(
-                    msg.getRoomId(),
-                    msg.getSenderId(),
-                    msg.getSenderName(),
-                    msg.getProfileImageUrl(),
-                    msg.getContent(),
-                    msg.getTimestamp()
-                ))
+                .map(this::toHistoryMessage)
                 .collect(Collectors.toList());
 
             // 히스토리 응답 객체 생성
@@ -289,7 +300,8 @@ public class ChatService {
             messagingTemplate.convertAndSendToUser(
                 sessionId,
                 "/queue/history",
-                historyResponse
+                historyResponse,
+                chatCodecRegistry.historyHeaders(sessionId, historyResponse)
             );
 
             log.debug("히스토리 일괄 전송 완료: {}개 메시지 → {}", historyMessages.size(), sessionId);
@@ -299,6 +311,66 @@ public class ChatService {
         }
     }
 
+    /**
+     * 재접속 참가자에게 마지막 순번 이후 누락 메시지만 전송
+     * @return 누락 구간을 조회할 수 없어 전체 히스토리가 필요하면 false
+     */
+    private boolean sendMissedMessagesToUser(String roomId, String sessionId, long lastSeq) {
+        try {
+            Optional<List<ChatMessage>> missed = chatCacheService.getMessagesAfter(roomId, lastSeq);
+            if (missed.isEmpty()) {
+                return false;
+            }
+
+            if (missed.get().isEmpty()) {
+                log.debug("누락 메시지 없음: {} (마지막 순번: {})", roomId, lastSeq);
+                return true;
+            }
+
+            List<ChatMessage> historyMessages = missed.get().stream()
+                .map(this::toHistoryMessage)
+                .collect(Collectors.toList());
+
+            ChatHistoryResponse deltaResponse = chatBuilderService.buildChatHistoryDeltaResponse(roomId, historyMessages, lastSeq);
+            messagingTemplate.convertAndSendToUser(sessionId, "/queue/history", deltaResponse,
+                chatCodecRegistry.historyHeaders(sessionId, deltaResponse));
+
+            log.debug("누락 메시지 전송 완료: {}개 (순번 {} 이후) → {}", historyMessages.size(), lastSeq, sessionId);
+            return true;
+
+        } catch (Exception e) {
+            log.error("누락 메시지 전송 실패 - 전체 히스토리로 대체", e);
+            return false;
+        }
+    }
+
+    private ChatMessage toHistoryMessage(ChatMessage msg) {
+        ChatMessage history = ChatMessage.createHistoryMessage(
+            msg.getRoomId(),
+            msg.getSenderId(),
+            msg.getSenderName(),
+            msg.getProfileImageUrl(),
+            msg.getContent(),
+            msg.getTimestamp()
+        );
+        history.setSeq(msg.getSeq());
+        return history;
+    }
+
+    private Long parseLastSeq(SimpMessageHeaderAccessor headerAccessor) {
+        String value = headerAccessor.getFirstNativeHeader(LAST_SEQ_HEADER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            long lastSeq = Long.parseLong(value.trim());
+            return lastSeq >= 0 ? lastSeq : null;
+        } catch (NumberFormatException e) {
+            log.debug("잘못된 last-seq 헤더 무시: {}", value);
+            return null;
+        }
+    }
+
     /**
      * 에러 메시지 생성
      */
@@ -323,16 +395,10 @@ public class ChatService {
      * 헤더에서 JwtUserInfo 추출
      */
     private JwtUserInfo extractJwtUserInfo(SimpMessageHeaderAccessor headerAccessor) {
-        // 세션 속성에서 JwtUserInfo 가져오기
-        Principal user = headerAccessor.getUser();
-        JwtUserInfo userInfo = null;
-        if (user instanceof UsernamePasswordAuthenticationToken) {
-            UsernamePasswordAuthenticationToken auth = (UsernamePasswordAuthenticationToken) user;
-            userInfo = (JwtUserInfo) auth.getPrincipal();
-            // userInfo 사용
-        }
+        // CONNECT 시 인증 인터셉터가 세션 속성에 보관한 사용자 정보
+        AuthenticatedSession session = AuthenticatedSession.from(headerAccessor.getSessionAttributes());
 
-        if (userInfo == null) {
+        if (session == null) {
             // 인증되지 않은 사용자 처리
             String sessionId = headerAccessor.getSessionId();
             String guestUsername = "Guest_" + sessionId.substring(0, 8);
@@ -341,24 +407,14 @@ public class ChatService {
             throw new BusinessException(ErrorCode.CHAT_USER_NOT_AUTHENTICATED);
         }
 
-        return userInfo;
+        return session.getUserInfo();
     }
 
     /**
      * ChatMessageEntity를 ChatMessage DTO로 변환
      */
     private ChatMessage convertEntityToDto(ChatMessageEntity entity) {
-        return ChatMessage.builder()
-            .id(entity.getId()) // Long ID 사용
-            .messageId(entity.getMessageId())
-            .type(entity.getMessageType())
-            .roomId(entity.getRoomId())
-            .senderId(entity.getSenderId())
-            .senderName(entity.getSenderName())
-            .profileImageUrl(entity.getProfileImageUrl())
-            .content(entity.getContent())
-            .timestamp(entity.getCreatedAt())
-            .build();
+        return chatBuilderService.buildChatMessage(entity);
     }
 
     // ========== 방 관리 메서드들 ==========
@@ -394,9 +450,12 @@ public class ChatService {
 
             roomParticipantRepository.save(creator);
 
+            // 4. 방 목록 인덱스 반영 (커밋 후)
+            eventPublisher.publishEvent(RoomCreatedEvent.from(room));
+
             log.info("채팅방 생성 완료: {} by {}", request.roomName(), userInfo.username());
 
-            // 4. 응답 데이터 생성
+            // 5. 응답 데이터 생성
             return chatBuilderService.buildRoomResponse(room);
 
         } catch (Exception e) {
@@ -405,72 +464,15 @@ public class ChatService {
         }
     }
 
-    /**
-     * 카테고리별 채팅방 목록 조회 (참여 인원 많은 순)
-     */
     /**
      * 카테고리별 채팅방 목록 조회 (페이징 지원)
-     * 생성시간 내림차순 + 방 ID 오름차순으로 정렬하여 커서 기반 페이징
+     * 생성시간 내림차순 + 방 ID 오름차순, 커서 기반 페이징 (인메모리 방 목록 인덱스에서 조회)
      */
     public RoomListResponse getRoomsByCategory(String bigCategory, int limit, String cursor) {
         try {
-            // 커서 파싱 (형식: "2024-01-15T10:30:00.123_방ID" 또는 null)
-            LocalDateTime cursorCreatedAt = null;
-            Long cursorRoomId = null;
-
-            if (cursor != null && cursor.contains("_")) {
-                String[] parts = cursor.split("_", 2);
-                cursorCreatedAt = LocalDateTime.parse(parts[0], DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-                cursorRoomId = Long.parseLong(parts[1]);
-            }
-
-            List<Room> rooms;
-            if (bigCategory == null || bigCategory.trim().isEmpty()) {
-                // 카테고리가 없으면 모든 방 조회
-                if (cursor == null) {
-                    rooms = roomRepository.findByIsActiveTrueOrderByCreatedAtDescRoomIdAsc(PageRequest.of(0, limit + 1));
-                } else {
-                    rooms = roomRepository.findByIsActiveTrueAndCursorOrderByCreatedAtDescRoomIdAsc(
-                        cursorCreatedAt, cursorRoomId, PageRequest.of(0, limit + 1));
-                }
-            } else {
-                // 특정 카테고리 방 조회
-                if (cursor == null) {
-                    rooms = roomRepository.findByBigCategoryAndIsActiveTrueOrderByCreatedAtDescRoomIdAsc(
-                        bigCategory, PageRequest.of(0, limit + 1));
-                } else {
-                    rooms = roomRepository.findByBigCategoryAndIsActiveTrueAndCursorOrderByCreatedAtDescRoomIdAsc(
-                        bigCategory, cursorCreatedAt, cursorRoomId, PageRequest.of(0, limit + 1));
-                }
-            }
-
-            // hasMore 체크 및 다음 커서 생성
-            boolean hasMore = rooms.size() > limit;
-            if (hasMore) {
-                rooms = rooms.subList(0, limit); // 실제 데이터는 limit만큼만
-            }
-
-            String nextCursor = null;
-            if (hasMore && !rooms.isEmpty()) {
-                Room lastRoom = rooms.get(rooms.size() - 1);
-                // 생성시간을 ISO_LOCAL_DATE_TIME 형식으로 직렬화
-                String createdAtStr = lastRoom.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-                nextCursor = createdAtStr + "_" + lastRoom.getId();
-            }
-
-            // DTO 변환 (생성시간 순으로 정렬되어 있지만, 프론트에서 참여자 수로 정렬 표시 가능)
-            List<RoomResponse> roomResponses = rooms.stream()
-                .filter(room -> room.getCurrentParticipants() > 0) // 참여 인원이 0명인 방 제외
-                .map(chatBuilderService::buildRoomResponse)
-                .toList();
-
-            return RoomListResponse.builder()
-                .rooms(roomResponses)
-                .nextCursor(nextCursor)
-                .hasMore(hasMore)
-                .totalCount(roomResponses.size()) // 실제로는 전체 카운트 쿼리가 필요하지만 일단 현재 페이지 크기
-                .build();
-
+            return roomDirectory.getRooms(bigCategory, limit, cursor);
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             log.error("카테고리별 방 목록 조회 실패. 카테고리: {}, 커서: {}", bigCategory, cursor, e);
             throw new BusinessException(ErrorCode.COMMON_INTERNAL_SERVER_ERROR, "방 목록 조회에 실패했습니다.");
@@ -479,15 +481,20 @@ public class ChatService {
 
     /**
      * 사용자의 채팅방 목록 조회
+     * 방 목록 쿼리 1회 + 캐시 일괄 조회 1회 (방별 메시지 조회 없음)
      */
     public List<RoomResponse> getUserRooms(JwtUserInfo userInfo) {
         try {
             List<Room> rooms = roomRepository.findUserActiveRooms(userInfo.userId());
 
+            Map<String, ChatCacheService.RoomMessageSummary> summaries = chatCacheService.getRoomSummaries(
+                rooms.stream().map(Room::getRoomUuid).toList());
+
             return rooms.stream()
                 .map(room -> {
-                    int messageCount = chatCacheService.getRecentMessages(room.getRoomUuid()).size();
-                    return chatBuilderService.buildRoomResponseWithMessageCount(room, messageCount);
+                    ChatCacheService.RoomMessageSummary summary = summaries.getOrDefault(
+                        room.getRoomUuid(), ChatCacheService.RoomMessageSummary.EMPTY);
+                    return chatBuilderService.buildRoomResponseWithSummary(room, summary.messageCount(), summary.lastMessage());
                 })
                 .collect(Collectors.toList());
 
@@ -499,6 +506,7 @@ public class ChatService {
 
     /**
      * 채팅방 상세 정보 조회
+     * 참여자는 스냅샷의 첫 페이지만 포함 (전체 목록은 참여자 목록 API로 페이징 조회)
      */
     public RoomResponse getRoomDetails(String roomId, JwtUserInfo userInfo) {
         try {
@@ -506,14 +514,15 @@ public class ChatService {
             Room room = roomRepository.findByRoomUuidAndIsActiveTrue(roomId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_INFO_FAILED, "존재하지 않는 채팅방입니다."));
 
-            // 2. 참여자 목록 조회
-            List<RoomParticipant> participants = roomParticipantRepository.findActiveParticipantsByRoomUuid(roomId);
-            List<RoomResponse.ParticipantResponse> participantList = participants.stream()
-                .map(chatBuilderService::buildParticipantResponse)
-                .collect(Collectors.toList());
+            // 2. 참여자 첫 페이지 (캐시된 스냅샷)
+            List<RoomResponse.ParticipantResponse> participantList = participantSnapshotCache
+                .getParticipants(roomId, null, DETAIL_PARTICIPANT_LIMIT)
+                .getParticipants();
 
             // 3. 최근 메시지 정보 조회
-            int messageCount = chatCacheService.getRecentMessages(roomId).size();
+            int messageCount = chatCacheService.getRoomSummaries(List.of(roomId))
+                .getOrDefault(roomId, ChatCacheService.RoomMessageSummary.EMPTY)
+                .messageCount();
 
             // 4. RoomResponse 생성
             RoomResponse response = chatBuilderService.buildDetailedRoomResponse(room, messageCount, participantList);
@@ -530,15 +539,33 @@ public class ChatService {
         }
     }
 
+    /**
+     * 채팅방 참여자 목록 조회 (페이징, 입장 순)
+     */
+    public ParticipantListResponse getRoomParticipants(String roomId, String cursor, int limit) {
+        try {
+            roomRepository.findByRoomUuidAndIsActiveTrue(roomId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_INFO_FAILED, "존재하지 않는 채팅방입니다."));
+            return participantSnapshotCache.getParticipants(roomId, cursor, limit);
+
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("참여자 목록 조회 실패: {}", roomId, e);
+            throw new BusinessException(ErrorCode.CHAT_ROOM_INFO_FAILED, e);
+        }
+    }
+
     /**
      * 채팅방 영구 나가기 (REST API용)
      */
     @Transactional
     public void leaveRoomPermanently(String roomId, JwtUserInfo userInfo) {
         try {
-            // 1. 방 존재 여부 확인
-            Room room = roomRepository.findByRoomUuidAndIsActiveTrue(roomId)
+            // 1. 방 존재 여부 확인 + 행 잠금 (동시 나가기/입장은 커밋까지 대기 → 남은 인원이 이 트랜잭션 안에서 확정)
+            Room room = roomRepository.findActiveByRoomUuidForUpdate(roomId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_INFO_FAILED, "존재하지 않는 채팅방입니다."));
+            int lockedParticipants = room.getCurrentParticipants();
 
             // 2. 참여자 상태 비활성화
             int updatedCount = roomParticipantRepository.deactivateParticipant(roomId, userInfo.userId());
@@ -546,16 +573,14 @@ public class ChatService {
                 throw new BusinessException(ErrorCode.CHAT_USER_NOT_AUTHENTICATED, "채팅방에 참여하지 않은 사용자입니다.");
             }
 
-            // 3. 방 참여자 수 감소
-            room.decrementParticipants();
-            roomRepository.save(room);
-
-            // 4. 방이 비었으면 캐시 정리
-            if (room.getCurrentParticipants() == 0) {
-                chatCacheService.cleanupInactiveRoomCache(roomId);
+            // 3. 방 참여자 수 원자적 감소 (잠근 시점 값 - 감소분 = 남은 인원)
+            int decremented = roomRepository.decrementParticipantsIfPositive(room.getId());
+            if (decremented > 0) {
+                eventPublisher.publishEvent(RoomParticipantsChangedEvent.left(roomId));
             }
+            boolean roomEmpty = lockedParticipants - decremented == 0;
 
-            // 5. 방 나가기 메시지 전송 (실시간 알림)
+            // 4. 방 나가기 메시지 생성 (실시간 알림)
             ChatMessage leaveMessage = ChatMessage.createLeaveMessage(
                 roomId,
                 userInfo.userId(),
@@ -564,8 +589,14 @@ public class ChatService {
             );
             enrichMessage(leaveMessage, roomId, userInfo.username());
 
-            // 5. 캐시 저장 및 비동기 저장 처리
-            saveMessageToCacheAndAsync(roomId, leaveMessage);
+            // 5. 커밋 후 나가기 메시지 발행, 방이 비었으면 캐시 정리 (순번 카운터는 Redis에 유지)
+            afterCommit(() -> {
+                roomBroadcaster.publish(roomId, leaveMessage);
+                if (roomEmpty) {
+                    chatCacheService.cleanupInactiveRoomCache(roomId);
+                    participantSnapshotCache.evict(roomId);
+                }
+            });
 
             log.info("사용자 방 영구 나가기 완료: {} ← {}", userInfo.username(), roomId);
 
@@ -581,6 +612,7 @@ public class ChatService {
 
     /**
      * 방 참여자 상태 관리 (입장 시)
+     * 참여자 수는 조건부 UPDATE로 원자적으로 증가시키고, 정원 초과 시 예외로 트랜잭션 전체를 롤백합니다.
      * @return true면 입장 메시지 표시 필요, false면 불필요 (재입장)
      */
     private boolean handleRoomParticipation(Room room, JwtUserInfo userInfo) {
@@ -588,53 +620,50 @@ public class ChatService {
         Optional<RoomParticipant> existingParticipant = roomParticipantRepository
             .findByRoomUuidAndUserId(room.getRoomUuid(), userInfo.userId());
 
-        if (existingParticipant.isPresent()) {
-            RoomParticipant participant = existingParticipant.get();
-
-            if (participant.getIsActive()) {
-                // 이미 활성 참여자인 경우 (재입장) - 입장 메시지 불필요
-                log.debug("기존 활성 참여자 재입장: {} in {}", userInfo.username(), room.getRoomUuid());
-                return false;
-            } else {
-                // 비활성 참여자 재활성화 (복귀) - 입장 메시지 필요
-                participant.rejoin();
-                roomParticipantRepository.save(participant);
+        if (existingParticipant.isPresent() && existingParticipant.get().getIsActive()) {
+            // 이미 활성 참여자인 경우 (재입장) - 정원과 무관하게 입장, 입장 메시지 불필요
+            log.debug("기존 활성 참여자 재입장: {} in {}", userInfo.username(), room.getRoomUuid());
+            return false;
+        }
 
-                // 방 참여자 수 증가
-                room.incrementParticipants();
-                roomRepository.save(room);
+        // 2. 자리 확보 (정원 미만일 때만 참여자 수 증가)
+        if (roomRepository.incrementParticipantsIfNotFull(room.getId()) == 0) {
+            throw new BusinessException(ErrorCode.CHAT_ROOM_JOIN_FAILED, "채팅방이 가득 찼습니다.");
+        }
+        eventPublisher.publishEvent(RoomParticipantsChangedEvent.joined(room.getRoomUuid()));
 
-                log.info("참여자 복귀: {} in {} (참여자: {}명)",
-                    userInfo.username(), room.getRoomUuid(), room.getCurrentParticipants());
-                return true;
+        if (existingParticipant.isPresent()) {
+            // 3-1. 비활성 참여자 재활성화 (복귀) - 입장 메시지 필요
+            if (roomParticipantRepository.reactivateParticipant(existingParticipant.get().getId()) == 0) {
+                // 동시에 들어온 다른 복귀 요청이 먼저 처리됨 → 확보한 자리는 롤백
+                throw new BusinessException(ErrorCode.CHAT_ROOM_JOIN_FAILED, "이미 처리 중인 입장 요청입니다.");
             }
+            log.info("참여자 복귀: {} in {}", userInfo.username(), room.getRoomUuid());
         } else {
-            // 새로운 참여자 추가 - 입장 메시지 필요
+            // 3-2. 새로운 참여자 추가 - 입장 메시지 필요 (동시 중복 추가는 (room_id, user_id) 유니크 제약으로 실패)
             RoomParticipant newParticipant = chatBuilderService.buildRoomParticipant(room, userInfo);
-
             roomParticipantRepository.save(newParticipant);
-
-            // 방 참여자 수 증가
-            room.incrementParticipants();
-            roomRepository.save(room);
-
-            log.info("새 참여자 추가: {} in {} (참여자: {}명)",
-                userInfo.username(), room.getRoomUuid(), room.getCurrentParticipants());
-            return true;
+            log.info("새 참여자 추가: {} in {}", userInfo.username(), room.getRoomUuid());
         }
+        return true;
     }
 
     // ========== 헬퍼 메서드들 ==========
 
     /**
-     * 메시지 캐시 저장 및 비동기 저장 처리
+     * 트랜잭션 커밋 후 실행 (롤백된 입장/나가기 메시지가 발행되지 않도록), 트랜잭션 밖이면 즉시
      */
-    private void saveMessageToCacheAndAsync(String roomId, ChatMessage message) {
-        chatCacheService.addMessage(roomId, message);
-        asyncBatchChatService.saveMessageAsync(message);
-
-        // 샤딩 브로드캐스트 (실제 채팅에서도 적용)
-        shardedBroadcastService.broadcastToAllShards(roomId, message);
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     /**
@@ -642,16 +671,6 @@ public class ChatService {
      */
     public void saveMessageToCacheAndAsyncForTest(String roomId, ChatMessage message) {
         enrichMessage(message, roomId, message.getSenderName());
-        saveMessageToCacheAndAsync(roomId, message);
-
-        // 샤딩 브로드캐스트 추가
-        shardedBroadcastService.broadcastToAllShards(roomId, message);
-    }
-
-    /**
-     * 사용자 샤드 할당 (방 입장 시)
-     */
-    public void addUserToShard(String roomId, String userId) {
-        shardManager.addUserToShard(roomId, userId);
+        roomBroadcaster.publish(roomId, message);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.example.backend.chat.service;
+
+import com.example.backend.chat.dto.response.ParticipantListResponse;
+import com.example.backend.chat.dto.response.RoomResponse;
+import com.example.backend.chat.event.RoomParticipantsChangedEvent;
+import com.example.backend.chat.repository.RoomParticipantRepository;
+import com.example.backend.common.exception.BusinessException;
+import com.example.backend.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방별 활성 참여자 목록 스냅샷 캐시
+ * - 방 상세/참여자 목록 요청마다 최대 500명의 참여자 엔티티를 읽지 않도록 불변 스냅샷을 공유
+ * - 입장/영구 나가기 커밋 시 무효화, 그 외 변경은 TTL 경과 후 다시 로드
+ * - 페이징은 스냅샷 내 위치(오프셋)를 커서로 사용
+ */
+@Service
+@Slf4j
+public class ParticipantSnapshotCache {
+
+    private final RoomParticipantRepository roomParticipantRepository;
+    private final ChatBuilderService chatBuilderService;
+    private final long ttlMillis;
+
+    // roomUuid → 참여자 스냅샷
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    public ParticipantSnapshotCache(RoomParticipantRepository roomParticipantRepository,
+                                    ChatBuilderService chatBuilderService,
+                                    @Value("${chat.participants.snapshot-ttl-millis:30000}") long ttlMillis) {
+        this.roomParticipantRepository = roomParticipantRepository;
+        this.chatBuilderService = chatBuilderService;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleParticipantsChanged(RoomParticipantsChangedEvent event) {
+        snapshots.remove(event.roomUuid());
+    }
+
+    /**
+     * 참여자 목록 페이지 조회 (입장 순)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public ParticipantListResponse getParticipants(String roomId, String cursor, int limit) {
+        List<RoomResponse.ParticipantResponse> participants = getSnapshot(roomId);
+
+        int from = parseCursor(cursor);
+        int to = Math.min(participants.size(), from + limit);
+        boolean hasMore = to < participants.size();
+
+        return ParticipantListResponse.builder()
+            .participants(from < to ? participants.subList(from, to) : List.of())
+            .nextCursor(hasMore ? String.valueOf(to) : null)
+            .hasMore(hasMore)
+            .totalCount(participants.size())
+            .build();
+    }
+
+    /**
+     * 방 스냅샷 제거 (방 캐시 정리 시)
+     */
+    public void evict(String roomId) {
+        snapshots.remove(roomId);
+    }
+
+    private List<RoomResponse.ParticipantResponse> getSnapshot(String roomId) {
+        long now = System.currentTimeMillis();
+        Snapshot snapshot = snapshots.get(roomId);
+        if (snapshot != null && now - snapshot.loadedAt < ttlMillis) {
+            return snapshot.participants;
+        }
+
+        List<RoomResponse.ParticipantResponse> participants = roomParticipantRepository
+            .findActiveParticipantsByRoomUuid(roomId)
+            .stream()
+            .map(chatBuilderService::buildParticipantResponse)
+            .toList();
+        snapshots.put(roomId, new Snapshot(participants, now));
+        log.debug("참여자 스냅샷 로드: {} ({}명)", roomId, participants.size());
+        return participants;
+    }
+
+    private static int parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            int offset = Integer.parseInt(cursor);
+            if (offset < 0) {
+                throw new NumberFormatException(cursor);
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.COMMON_INVALID_INPUT, "잘못된 커서 형식입니다: " + cursor);
+        }
+    }
+
+    private record Snapshot(List<RoomResponse.ParticipantResponse> participants, long loadedAt) {}
+}
@@ -0,0 +1,80 @@
+package com.example.backend.chat.service;
+
+import com.example.backend.chat.codec.ChatCodecRegistry;
+import com.example.backend.chat.dto.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 방 메시지 발행기 (/topic/room.{roomId})
+ * - 순번 발급 → 메모리 캐시 추가 → 토픽 전송을 방 단위 락 안에서 수행하여 발급 순서 = 브로드캐스트 순서
+ *   (인바운드 프레임은 세션별로 병렬 처리되므로 방 안의 순서는 여기서만 정해짐)
+ * - 순번은 실제로 브로드캐스트되는 메시지에만 발급 → 클라이언트가 보는 순번에 빈 구간이 생기지 않음
+ * - 트랜잭션 안의 호출자는 커밋 후에 발행해야 함 (롤백된 입장/나가기가 순번을 소비하지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomBroadcaster {
+
+    private static final String ROOM_TOPIC_PREFIX = "/topic/room.";
+    private static final int LOCK_STRIPES = 256;
+
+    private final RoomSequencer roomSequencer;
+    private final ChatCacheService chatCacheService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatCodecRegistry chatCodecRegistry;
+    private final AsyncBatchChatService asyncBatchChatService;
+    private final ShardedBroadcastService shardedBroadcastService;
+
+    // 방 단위 락 (가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 ReentrantLock)
+    private final ReentrantLock[] roomLocks = newLocks();
+
+    // 통계 정보
+    private final LongAdder publishedMessages = new LongAdder();
+
+    /**
+     * 순번 발급 후 캐시 저장, 방 토픽 전송, 비동기 저장
+     */
+    public ChatMessage publish(String roomId, ChatMessage message) {
+        ReentrantLock lock = roomLocks[Math.floorMod(roomId.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            message.setSeq(roomSequencer.next(roomId));
+            chatCacheService.addToMemoryCache(roomId, message);
+            messagingTemplate.convertAndSend(ROOM_TOPIC_PREFIX + roomId, message, chatCodecRegistry.broadcastHeaders(message));
+        } finally {
+            lock.unlock();
+        }
+        publishedMessages.increment();
+
+        // Redis 캐시(조회 시 순번 정렬), 영속화, 샤딩 브로드캐스트는 락 밖에서
+        chatCacheService.addToRedisCache(roomId, message);
+        asyncBatchChatService.saveMessageAsync(message);
+        shardedBroadcastService.broadcastToAllShards(roomId, message);
+        return message;
+    }
+
+    private static ReentrantLock[] newLocks() {
+        ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    /**
+     * 통계 정보 조회
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("publishedMessages", publishedMessages.sum());
+        stats.put("lockStripes", LOCK_STRIPES);
+        return stats;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.backend.chat.service;
+
+import com.example.backend.chat.repository.ChatMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방별 메시지 순번 발급기
+ * - 방의 브로드캐스트 메시지(CHAT/JOIN/LEAVE)에 1부터 증가하는 순번을 부여
+ * - 마지막 순번은 Redis 카운터(INCR)에 보관하므로 방이 비어 캐시가 정리되거나 인스턴스가 재시작되어도
+ *   아직 DB에 저장되지 않은 메시지의 순번을 다시 발급하지 않음
+ * - 카운터가 없으면(새 방, 만료/유실) DB 최대 순번과 캐시의 마지막 순번 중 큰 값에서 이어서 발급
+ * - 발급 순서와 브로드캐스트 순서는 RoomBroadcaster가 방 단위 락으로 맞춤
+ */
+@Service
+@Slf4j
+public class RoomSequencer {
+
+    private static final String SEQ_KEY_PREFIX = "chat:room:seq:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatCacheService chatCacheService;
+    private final long ttlMillis;
+
+    // roomId → 이 인스턴스가 마지막으로 카운터 만료를 연장한 시각
+    private final Map<String, Long> ttlRefreshedAt = new ConcurrentHashMap<>();
+
+    public RoomSequencer(StringRedisTemplate redisTemplate,
+                         ChatMessageRepository chatMessageRepository,
+                         ChatCacheService chatCacheService,
+                         @Value("${chat.sequence.ttl-millis:2592000000}") long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatCacheService = chatCacheService;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 다음 순번 발급 (공유 연결로 INCR 1회, 파이프라인은 전용 연결을 열어 발행 락 안에서 쓰기엔 느림)
+     */
+    public long next(String roomId) {
+        String key = SEQ_KEY_PREFIX + roomId;
+        long seq = redisTemplate.opsForValue().increment(key);
+        boolean created = seq == 1;
+        if (created) {
+            // 카운터가 없었음 → 이미 메시지가 있는 방이면 저장된 마지막 순번 이후로 건너뜀
+            long last = lastStoredSeq(roomId);
+            if (last > 0) {
+                seq = redisTemplate.opsForValue().increment(key, last);
+                log.info("방 순번 카운터 복구: {} (저장된 마지막 순번: {})", roomId, last);
+            }
+        }
+        refreshTtl(roomId, key, created);
+        return seq;
+    }
+
+    /**
+     * 만료 연장은 인스턴스별로 ttl/2마다 한 번만 - 카운터는 ttl/2 이상 발급이 없던 방에서만 만료되므로
+     * 그 사이 메시지는 모두 DB에 저장된 상태에서 복구됨
+     */
+    private void refreshTtl(String roomId, String key, boolean force) {
+        long now = System.currentTimeMillis();
+        Long last = ttlRefreshedAt.get(roomId);
+        if (!force && last != null && now - last < ttlMillis / 2) {
+            return;
+        }
+        ttlRefreshedAt.put(roomId, now);
+        redisTemplate.expire(key, Duration.ofMillis(ttlMillis));
+    }
+
+    private long lastStoredSeq(String roomId) {
+        Long persisted = chatMessageRepository.findMaxSeqByRoomId(roomId);
+        long cached = chatCacheService.getLastCachedSeq(roomId);
+        return Math.max(persisted != null ? persisted : 0L, cached);
+    }
+}
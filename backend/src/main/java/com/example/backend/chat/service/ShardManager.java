@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -23,15 +24,21 @@ public class ShardManager {
     private final Map<String, Map<Integer, List<String>>> roomShards = new ConcurrentHashMap<>();
 
     /**
-     * 사용자를 샤드에 할당
+     * 사용자를 샤드에 할당 (이미 할당된 사용자는 중복 추가하지 않음)
      */
     public int addUserToShard(String roomId, String userId) {
         // userId 해시를 기반으로 샤드 결정 (일관된 해싱)
         int shardId = Math.abs(userId.hashCode()) % SHARD_COUNT;
 
-        roomShards.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>())
-                  .computeIfAbsent(shardId, k -> new java.util.concurrent.CopyOnWriteArrayList<>())
-                  .add(userId);
+        // 방 단위 compute로 제거(빈 방 정리)와의 경합 방지
+        roomShards.compute(roomId, (k, shards) -> {
+            Map<Integer, List<String>> target = shards != null ? shards : new ConcurrentHashMap<>();
+            List<String> users = target.computeIfAbsent(shardId, s -> new CopyOnWriteArrayList<>());
+            if (!users.contains(userId)) {
+                users.add(userId);
+            }
+            return target;
+        });
 
         log.debug("사용자 샤드 할당 - Room: {}, User: {}, Shard: {}", roomId, userId, shardId);
         return shardId;
@@ -41,21 +48,18 @@ public class ShardManager {
      * 사용자를 샤드에서 제거
      */
     public void removeUserFromShard(String roomId, String userId) {
-        Map<Integer, List<String>> shards = roomShards.get(roomId);
-        if (shards == null) return;
-
-        for (Map.Entry<Integer, List<String>> entry : shards.entrySet()) {
-            if (entry.getValue().remove(userId)) {
-                log.debug("사용자 샤드 제거 - Room: {}, User: {}, Shard: {}", roomId, userId, entry.getKey());
-                break;
+        roomShards.computeIfPresent(roomId, (k, shards) -> {
+            for (Map.Entry<Integer, List<String>> entry : shards.entrySet()) {
+                if (entry.getValue().remove(userId)) {
+                    log.debug("사용자 샤드 제거 - Room: {}, User: {}, Shard: {}", roomId, userId, entry.getKey());
+                    break;
+                }
             }
-        }
 
-        // 빈 샤드 정리
-        shards.entrySet().removeIf(entry -> entry.getValue().isEmpty());
-        if (shards.isEmpty()) {
-            roomShards.remove(roomId);
-        }
+            // 빈 샤드 정리
+            shards.entrySet().removeIf(entry -> entry.getValue().isEmpty());
+            return shards.isEmpty() ? null : shards;
+        });
     }
 
     /**
@@ -0,0 +1,182 @@
+package com.example.backend.chat.websocket;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeFailureException;
+import org.springframework.web.socket.server.HandshakeHandler;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 네이티브 WebSocket 엔드포인트용 핸드셰이크 핸들러 (permessage-deflate 협상 제어)
+ *
+ * Tomcat은 요청의 Sec-WebSocket-Extensions 헤더를 직접 읽어 확장을 협상하므로,
+ * 업그레이드 전에 클라이언트 제안(offer)을 설정값에 맞게 다시 작성합니다.
+ * - enabled=false : deflate 제안 제거 (압축 없이 연결)
+ * - client_max_window_bits : 클라이언트가 지원한다고 알린 경우에만 설정값으로 제한
+ * - server/client_no_context_takeover : 메시지 간 압축 컨텍스트 공유 여부 (메모리 ↔ 압축률)
+ * - server_max_window_bits는 JDK Deflater 제약으로 15만 가능하므로 다른 값의 제안은 그대로 둡니다 (Tomcat이 거절)
+ */
+@Component
+@Slf4j
+public class DeflateHandshakeHandler implements HandshakeHandler {
+
+    private static final String EXTENSIONS_HEADER = "Sec-WebSocket-Extensions";
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+    private static final String CLIENT_MAX_WINDOW_BITS = "client_max_window_bits";
+    private static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+    private static final String CLIENT_NO_CONTEXT_TAKEOVER = "client_no_context_takeover";
+
+    private final HandshakeHandler delegate = new DefaultHandshakeHandler();
+
+    private final boolean enabled;
+    private final int clientMaxWindowBits;
+    private final boolean serverNoContextTakeover;
+    private final boolean clientNoContextTakeover;
+
+    public DeflateHandshakeHandler(@Value("${chat.ws.deflate.enabled:true}") boolean enabled,
+                                   @Value("${chat.ws.deflate.client-max-window-bits:15}") int clientMaxWindowBits,
+                                   @Value("${chat.ws.deflate.server-no-context-takeover:false}") boolean serverNoContextTakeover,
+                                   @Value("${chat.ws.deflate.client-no-context-takeover:false}") boolean clientNoContextTakeover) {
+        if (clientMaxWindowBits < 8 || clientMaxWindowBits > 15) {
+            throw new IllegalArgumentException("client-max-window-bits는 8~15 범위여야 합니다: " + clientMaxWindowBits);
+        }
+        this.enabled = enabled;
+        this.clientMaxWindowBits = clientMaxWindowBits;
+        this.serverNoContextTakeover = serverNoContextTakeover;
+        this.clientNoContextTakeover = clientNoContextTakeover;
+        log.info("permessage-deflate 설정 - 사용: {}, client_max_window_bits: {}, no_context_takeover(server/client): {}/{}",
+            enabled, clientMaxWindowBits, serverNoContextTakeover, clientNoContextTakeover);
+    }
+
+    @Override
+    public boolean doHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Map<String, Object> attributes) throws HandshakeFailureException {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            List<String> offers = servletRequest.getHeaders().get(EXTENSIONS_HEADER);
+            if (offers != null && !offers.isEmpty()) {
+                String rewritten = rewriteOffers(offers);
+                request = new ServletServerHttpRequest(
+                    new ExtensionOfferRequest(servletRequest.getServletRequest(), rewritten));
+            }
+        }
+        return delegate.doHandshake(request, response, wsHandler, attributes);
+    }
+
+    /**
+     * 클라이언트의 확장 제안을 설정값에 맞게 재작성
+     * (값 없는 파라미터를 보존해야 하므로 WebSocketExtension.parseExtensions 대신 직접 파싱)
+     */
+    String rewriteOffers(List<String> offers) {
+        List<String> result = new ArrayList<>();
+        for (String header : offers) {
+            for (String offer : header.split(",")) {
+                String[] parts = offer.trim().split(";");
+                String name = parts[0].trim();
+                if (name.isEmpty()) {
+                    continue;
+                }
+                if (!PERMESSAGE_DEFLATE.equals(name)) {
+                    result.add(offer.trim());
+                } else if (enabled) {
+                    result.add(rewriteDeflate(parts));
+                }
+            }
+        }
+        return String.join(", ", result);
+    }
+
+    private String rewriteDeflate(String[] parts) {
+        // 파라미터 이름 → 값 (값이 없으면 null)
+        Map<String, String> parameters = new LinkedHashMap<>();
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.isEmpty()) {
+                continue;
+            }
+            int eq = parameter.indexOf('=');
+            if (eq < 0) {
+                parameters.put(parameter, null);
+            } else {
+                parameters.put(parameter.substring(0, eq).trim(), parameter.substring(eq + 1).trim().replace("\"", ""));
+            }
+        }
+
+        if (parameters.containsKey(CLIENT_MAX_WINDOW_BITS)) {
+            parameters.put(CLIENT_MAX_WINDOW_BITS, String.valueOf(limitClientWindowBits(parameters.get(CLIENT_MAX_WINDOW_BITS))));
+        }
+        if (serverNoContextTakeover) {
+            parameters.put(SERVER_NO_CONTEXT_TAKEOVER, null);
+        }
+        if (clientNoContextTakeover) {
+            parameters.put(CLIENT_NO_CONTEXT_TAKEOVER, null);
+        }
+
+        StringBuilder rewritten = new StringBuilder(PERMESSAGE_DEFLATE);
+        parameters.forEach((key, value) -> {
+            rewritten.append("; ").append(key);
+            if (value != null) {
+                rewritten.append('=').append(value);
+            }
+        });
+        return rewritten.toString();
+    }
+
+    /**
+     * 클라이언트가 제시한 윈도우 크기와 설정값 중 작은 값 (값이 없거나 잘못되면 설정값)
+     */
+    private int limitClientWindowBits(String requested) {
+        if (requested == null) {
+            return clientMaxWindowBits;
+        }
+        try {
+            return Math.min(Integer.parseInt(requested), clientMaxWindowBits);
+        } catch (NumberFormatException e) {
+            return clientMaxWindowBits;
+        }
+    }
+
+    /**
+     * Sec-WebSocket-Extensions 헤더만 교체한 요청
+     */
+    private static final class ExtensionOfferRequest extends HttpServletRequestWrapper {
+
+        private final String extensions;
+
+        private ExtensionOfferRequest(HttpServletRequest request, String extensions) {
+            super(request);
+            this.extensions = extensions;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            if (EXTENSIONS_HEADER.equalsIgnoreCase(name)) {
+                return extensions.isEmpty() ? null : extensions;
+            }
+            return super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (EXTENSIONS_HEADER.equalsIgnoreCase(name)) {
+                return extensions.isEmpty()
+                    ? Collections.emptyEnumeration()
+                    : Collections.enumeration(List.of(extensions));
+            }
+            return super.getHeaders(name);
+        }
+    }
+}
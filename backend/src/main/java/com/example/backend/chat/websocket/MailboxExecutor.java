@@ -0,0 +1,151 @@
+package com.example.backend.chat.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 세션별 메일박스 기반 Executor
+ * - 같은 세션의 작업은 도착 순서대로 하나씩 실행 (SUBSCRIBE → SEND → DISCONNECT 순서 보장)
+ * - 다른 세션의 작업은 가상스레드에서 병렬 실행 (느린 DB 호출이 다른 세션을 막지 않음)
+ * - 방 안의 메시지 순서는 방별 seq로 보장하므로 방 단위 직렬화는 하지 않음
+ * - 비어 있는 메일박스는 즉시 제거
+ */
+@Slf4j
+public class MailboxExecutor implements TaskExecutor {
+
+    private static final String SESSION_KEY_PREFIX = "session:";
+
+    private final String name;
+    private final Executor delegate;
+    private final Function<MessageHeaders, String> keyResolver;
+
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    // 통계 정보
+    private final LongAdder executedTasks = new LongAdder();
+    private final LongAdder failedTasks = new LongAdder();
+
+    private MailboxExecutor(String name, Executor delegate, Function<MessageHeaders, String> keyResolver) {
+        this.name = name;
+        this.delegate = delegate;
+        this.keyResolver = keyResolver;
+    }
+
+    /**
+     * 인바운드 채널용: 세션 단위로 직렬화
+     * - 한 세션의 프레임을 서로 다른 큐로 나누면 SUBSCRIBE /user/queue/history 와 SEND joinRoom,
+     *   DISCONNECT 와 앞선 SUBSCRIBE 의 순서가 뒤바뀔 수 있음
+     */
+    public static MailboxExecutor forInbound(Executor delegate) {
+        return new MailboxExecutor("inbound", delegate, MailboxExecutor::resolveSessionKey);
+    }
+
+    /**
+     * 아웃바운드 채널용: 세션 단위로 직렬화 (세션별 전송 순서 보장)
+     */
+    public static MailboxExecutor forOutbound(Executor delegate) {
+        return new MailboxExecutor("outbound", delegate, MailboxExecutor::resolveSessionKey);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        String key = resolveKey(task);
+        if (key == null) {
+            delegate.execute(task);
+            return;
+        }
+
+        Mailbox mailbox = mailboxes.compute(key, (k, existing) -> {
+            Mailbox target = existing != null ? existing : new Mailbox(k);
+            target.queue.offer(task);
+            return target;
+        });
+        mailbox.schedule();
+    }
+
+    private String resolveKey(Runnable task) {
+        if (task instanceof MessageHandlingRunnable runnable) {
+            Message<?> message = runnable.getMessage();
+            return keyResolver.apply(message.getHeaders());
+        }
+        return null;
+    }
+
+    static String resolveSessionKey(MessageHeaders headers) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        return sessionId != null ? SESSION_KEY_PREFIX + sessionId : null;
+    }
+
+    /**
+     * 통계 정보 조회
+     */
+    public Map<String, Object> getStatistics() {
+        int pending = 0;
+        for (Mailbox mailbox : mailboxes.values()) {
+            pending += mailbox.queue.size();
+        }
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("name", name);
+        stats.put("activeMailboxes", mailboxes.size());
+        stats.put("pendingTasks", pending);
+        stats.put("executedTasks", executedTasks.sum());
+        stats.put("failedTasks", failedTasks.sum());
+        return stats;
+    }
+
+    private final class Mailbox implements Runnable {
+
+        private final String key;
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        private Mailbox(String key) {
+            this.key = key;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                delegate.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            Runnable task;
+            while ((task = queue.poll()) != null) {
+                try {
+                    task.run();
+                    executedTasks.increment();
+                } catch (Throwable e) {
+                    failedTasks.increment();
+                    log.error("[{}] 메일박스 작업 실패 - 키: {}", name, key, e);
+                }
+            }
+            scheduled.set(false);
+
+            // 비어 있으면 제거 (추가는 compute 안에서만 일어나므로 경합 없음)
+            mailboxes.computeIfPresent(key, (k, current) ->
+                current == this && queue.isEmpty() && !scheduled.get() ? null : current);
+
+            // 정리 직전에 들어온 작업 처리
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.backend.chat.websocket;
+
+import com.example.backend.chat.codec.ChatBinaryCodec;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 세션으로 나가는 STOMP 프레임의 최소 정보
+ * 지연 상태일 때만 파싱하여 정책 판단(버릴지/유지할지)에 사용합니다.
+ */
+record OutboundFrame(String command, String destination, String subscription, String type) {
+
+    private static final String ROOM_TOPIC_PREFIX = "/topic/room.";
+    private static final String TYPE_FIELD = "\"type\":\"";
+    private static final int TYPE_SCAN_LIMIT = 256; // type 필드는 본문 앞부분에 위치
+
+    private static final OutboundFrame UNKNOWN = new OutboundFrame(null, null, null, null);
+
+    /**
+     * 채팅방 브로드캐스트 프레임인지 여부
+     */
+    boolean isRoomBroadcast() {
+        return "MESSAGE".equals(command) && destination != null && destination.startsWith(ROOM_TOPIC_PREFIX);
+    }
+
+    /**
+     * 지연 시 버려도 되는 채팅성 프레임인지 여부 (JOIN/LEAVE는 유지)
+     */
+    boolean isDroppableChat() {
+        return isRoomBroadcast() && ("CHAT".equals(type) || "TYPING".equals(type));
+    }
+
+    /**
+     * 목적지에서 방 ID 추출
+     */
+    String roomId() {
+        return isRoomBroadcast() ? destination.substring(ROOM_TOPIC_PREFIX.length()) : null;
+    }
+
+    /**
+     * WebSocket 메시지에서 STOMP 명령어/헤더/메시지 타입 파싱
+     */
+    static OutboundFrame parse(WebSocketMessage<?> message) {
+        if (message instanceof TextMessage textMessage) {
+            return parseText(textMessage.getPayload());
+        }
+        if (message instanceof BinaryMessage binaryMessage) {
+            return parseBinary(binaryMessage.getPayload());
+        }
+        return UNKNOWN;
+    }
+
+    private static OutboundFrame parseText(String frame) {
+        int headerEnd = frame.indexOf("\n\n");
+        if (headerEnd <= 0) {
+            return UNKNOWN; // 하트비트 등
+        }
+        OutboundFrame headers = parseHeaders(frame.substring(0, headerEnd + 1));
+
+        String type = null;
+        int bodyStart = headerEnd + 2;
+        int typeAt = frame.indexOf(TYPE_FIELD, bodyStart);
+        if (typeAt >= 0 && typeAt - bodyStart < TYPE_SCAN_LIMIT) {
+            int valueStart = typeAt + TYPE_FIELD.length();
+            int valueEnd = frame.indexOf('"', valueStart);
+            if (valueEnd > valueStart) {
+                type = frame.substring(valueStart, valueEnd);
+            }
+        }
+
+        return new OutboundFrame(headers.command, headers.destination, headers.subscription, type);
+    }
+
+    /**
+     * 바이너리 코덱 프레임: 헤더는 텍스트, 본문은 ChatBinaryCodec 형식
+     */
+    private static OutboundFrame parseBinary(ByteBuffer payload) {
+        byte[] frame = new byte[payload.remaining()];
+        payload.duplicate().get(frame);
+
+        int headerEnd = -1;
+        for (int i = 0; i + 1 < frame.length; i++) {
+            if (frame[i] == '\n' && frame[i + 1] == '\n') {
+                headerEnd = i;
+                break;
+            }
+        }
+        if (headerEnd <= 0) {
+            return UNKNOWN;
+        }
+        OutboundFrame headers = parseHeaders(new String(frame, 0, headerEnd + 1, StandardCharsets.UTF_8));
+        String type = ChatBinaryCodec.peekType(frame, headerEnd + 2);
+
+        return new OutboundFrame(headers.command, headers.destination, headers.subscription, type);
+    }
+
+    /**
+     * "명령어\n헤더\n헤더\n" 형식의 헤더 영역 파싱
+     */
+    private static OutboundFrame parseHeaders(String section) {
+        int lineEnd = section.indexOf('\n');
+        String command = section.substring(0, lineEnd);
+
+        String destination = null;
+        String subscription = null;
+        int pos = lineEnd + 1;
+        while (pos < section.length()) {
+            int next = section.indexOf('\n', pos);
+            if (next < 0) {
+                break;
+            }
+            String header = section.substring(pos, next);
+            if (header.startsWith("destination:")) {
+                destination = header.substring("destination:".length());
+            } else if (header.startsWith("subscription:")) {
+                subscription = header.substring("subscription:".length());
+            }
+            pos = next + 1;
+        }
+
+        return new OutboundFrame(command, destination, subscription, null);
+    }
+}
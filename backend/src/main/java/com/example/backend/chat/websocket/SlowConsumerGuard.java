@@ -0,0 +1,153 @@
+package com.example.backend.chat.websocket;
+
+import com.example.backend.chat.dto.ChatMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 느린 소비자 감지 및 세션별 아웃바운드 정책 관리자
+ * WebSocket 핸들러 데코레이터 팩토리로 등록되어 모든 세션에 아웃바운드 큐를 부여합니다.
+ */
+@Component
+@Slf4j
+public class SlowConsumerGuard implements WebSocketHandlerDecoratorFactory {
+
+    private final Executor chatAsyncExecutor;
+    private final ObjectMapper objectMapper;
+    private final StompEncoder stompEncoder = new StompEncoder();
+
+    private final Set<SlowConsumerSessionDecorator> sessions = ConcurrentHashMap.newKeySet();
+
+    @Getter
+    private final SlowConsumerPolicy policy;
+    @Getter
+    private final int lagFrames;
+    @Getter
+    private final long lagBytes;
+    @Getter
+    private final long lagNanos;
+    @Getter
+    private final long maxQueuedBytes;
+
+    // 통계 정보
+    private final LongAdder droppedFrames = new LongAdder();
+    private final LongAdder resyncMarkers = new LongAdder();
+    private final LongAdder disconnects = new LongAdder();
+
+    public SlowConsumerGuard(@Qualifier("chatAsyncExecutor") Executor chatAsyncExecutor,
+                             ObjectMapper objectMapper,
+                             @Value("${chat.outbound.policy:DROP_CHAT}") SlowConsumerPolicy policy,
+                             @Value("${chat.outbound.lag-frames:200}") int lagFrames,
+                             @Value("${chat.outbound.lag-bytes:262144}") long lagBytes,
+                             @Value("${chat.outbound.lag-millis:3000}") long lagMillis,
+                             @Value("${chat.outbound.max-queued-bytes:1048576}") long maxQueuedBytes) {
+        this.chatAsyncExecutor = chatAsyncExecutor;
+        this.objectMapper = objectMapper;
+        this.policy = policy;
+        this.lagFrames = lagFrames;
+        this.lagBytes = lagBytes;
+        this.lagNanos = TimeUnit.MILLISECONDS.toNanos(lagMillis);
+        this.maxQueuedBytes = maxQueuedBytes;
+        log.info("느린 소비자 정책 초기화 - 정책: {}, 지연 임계치: {}건/{}바이트/{}ms, 큐 상한: {}바이트",
+            policy, lagFrames, lagBytes, lagMillis, maxQueuedBytes);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new SlowConsumerWebSocketHandlerDecorator(handler, this);
+    }
+
+    Executor getDrainExecutor() {
+        return chatAsyncExecutor;
+    }
+
+    void register(SlowConsumerSessionDecorator session) {
+        sessions.add(session);
+    }
+
+    void unregister(SlowConsumerSessionDecorator session) {
+        sessions.remove(session);
+    }
+
+    void recordDrop() {
+        droppedFrames.increment();
+    }
+
+    void recordResyncMarker() {
+        resyncMarkers.increment();
+    }
+
+    void recordDisconnect() {
+        disconnects.increment();
+    }
+
+    /**
+     * 누락 건수를 알리는 STOMP MESSAGE 프레임 생성
+     */
+    TextMessage buildResyncFrame(String destination, String subscription, String roomId, int missedCount) {
+        ChatMessage marker = ChatMessage.createResyncMessage(roomId, missedCount);
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination(destination);
+        if (subscription != null) {
+            accessor.setSubscriptionId(subscription);
+        }
+        accessor.setMessageId(UUID.randomUUID().toString());
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+
+        try {
+            byte[] payload = objectMapper.writeValueAsBytes(marker);
+            byte[] frame = stompEncoder.encode(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+            return new TextMessage(new String(frame, StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("재동기화 마커 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 통계 정보 조회
+     */
+    public Map<String, Object> getStatistics() {
+        int lagging = 0;
+        long queuedBytes = 0;
+        for (SlowConsumerSessionDecorator session : sessions) {
+            if (session.isLagging()) {
+                lagging++;
+            }
+            queuedBytes += session.getQueuedBytes();
+        }
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("policy", policy.name());
+        stats.put("sessions", sessions.size());
+        stats.put("laggingSessions", lagging);
+        stats.put("queuedBytes", queuedBytes);
+        stats.put("droppedFrames", droppedFrames.sum());
+        stats.put("resyncMarkers", resyncMarkers.sum());
+        stats.put("disconnects", disconnects.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.backend.chat.websocket;
+
+/**
+ * 느린 소비자(Slow Consumer) 세션의 아웃바운드 큐가 지연 임계치를 넘었을 때 적용할 정책
+ */
+public enum SlowConsumerPolicy {
+
+    /**
+     * CHAT/TYPING 프레임만 버리고 JOIN/LEAVE 등 상태 변화 프레임은 유지
+     */
+    DROP_CHAT,
+
+    /**
+     * 방 메시지를 모두 버리고, 지연이 해소되면 "N개 메시지 누락, 재동기화 필요" 마커 한 건으로 대체
+     */
+    RESYNC_MARKER,
+
+    /**
+     * 버퍼가 가득 차기 전에 세션을 조기 종료
+     */
+    DISCONNECT
+}
@@ -0,0 +1,206 @@
+package com.example.backend.chat.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션별 아웃바운드 큐 데코레이터
+ * - sendMessage는 큐에 넣고 즉시 반환 (아웃바운드 스레드가 느린 소켓에 묶이지 않음)
+ * - 실제 소켓 쓰기는 세션당 하나의 가상스레드가 순서대로 수행
+ * - 큐 지연(프레임 수/바이트/가장 오래된 프레임 대기시간)이 임계치를 넘으면 정책 적용
+ */
+@Slf4j
+class SlowConsumerSessionDecorator extends WebSocketSessionDecorator {
+
+    private final SlowConsumerGuard guard;
+
+    private final Queue<QueuedFrame> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedFrames = new AtomicInteger(0);
+    private final AtomicLong queuedBytes = new AtomicLong(0);
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private volatile boolean closed = false;
+
+    // RESYNC_MARKER 정책: 목적지별 누락 메시지 수
+    private final Map<String, MissedFrames> missed = new ConcurrentHashMap<>();
+
+    SlowConsumerSessionDecorator(WebSocketSession delegate, SlowConsumerGuard guard) {
+        super(delegate);
+        this.guard = guard;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (closed) {
+            return;
+        }
+
+        if (isLagging()) {
+            if (!applyPolicy(message)) {
+                return;
+            }
+        }
+
+        int size = message.getPayloadLength();
+        if (queuedBytes.get() + size > guard.getMaxQueuedBytes()) {
+            // 정책으로도 줄지 않는 경우 - 메모리 상한 보호를 위해 종료
+            log.warn("아웃바운드 큐 상한 초과 - 세션 종료: {} (대기 {}건, {}바이트)",
+                getId(), queuedFrames.get(), queuedBytes.get());
+            guard.recordDisconnect();
+            closeQuietly();
+            return;
+        }
+
+        queue.offer(new QueuedFrame(message, size, System.nanoTime()));
+        queuedFrames.incrementAndGet();
+        queuedBytes.addAndGet(size);
+        scheduleDrain();
+    }
+
+    /**
+     * 지연 상태에서 프레임 처리 정책 적용
+     * @return true면 큐에 넣어 전송, false면 버림
+     */
+    private boolean applyPolicy(WebSocketMessage<?> message) {
+        OutboundFrame frame = OutboundFrame.parse(message);
+
+        switch (guard.getPolicy()) {
+            case DISCONNECT:
+                log.warn("느린 소비자 조기 종료: {} (대기 {}건, {}바이트)", getId(), queuedFrames.get(), queuedBytes.get());
+                guard.recordDisconnect();
+                closeQuietly();
+                return false;
+            case RESYNC_MARKER:
+                if (frame.isRoomBroadcast()) {
+                    missed.computeIfAbsent(frame.destination(),
+                            d -> new MissedFrames(frame.roomId(), frame.subscription()))
+                        .count.incrementAndGet();
+                    guard.recordDrop();
+                    return false;
+                }
+                return true;
+            case DROP_CHAT:
+            default:
+                if (frame.isDroppableChat()) {
+                    guard.recordDrop();
+                    return false;
+                }
+                return true;
+        }
+    }
+
+    /**
+     * 큐 지연 여부 (프레임 수, 바이트, 가장 오래된 프레임 대기시간)
+     */
+    boolean isLagging() {
+        if (queuedFrames.get() >= guard.getLagFrames() || queuedBytes.get() >= guard.getLagBytes()) {
+            return true;
+        }
+        QueuedFrame head = queue.peek();
+        return head != null && System.nanoTime() - head.enqueuedAt() >= guard.getLagNanos();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            guard.getDrainExecutor().execute(this::drain);
+        }
+    }
+
+    /**
+     * 큐에 쌓인 프레임을 순서대로 소켓에 기록 (세션당 단일 실행)
+     */
+    private void drain() {
+        try {
+            QueuedFrame frame;
+            while (!closed && (frame = queue.poll()) != null) {
+                queuedFrames.decrementAndGet();
+                queuedBytes.addAndGet(-frame.size());
+                getDelegate().sendMessage(frame.message());
+            }
+            if (!closed && !missed.isEmpty() && !isLagging()) {
+                flushResyncMarkers();
+            }
+        } catch (Exception e) {
+            log.warn("아웃바운드 전송 실패 - 세션 종료: {}", getId(), e);
+            closeQuietly();
+        } finally {
+            draining.set(false);
+        }
+
+        // 드레인 종료 직후 들어온 프레임 처리
+        if (!closed && !queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * 누락된 메시지 수를 알리는 재동기화 마커 전송
+     */
+    private void flushResyncMarkers() throws IOException {
+        for (Map.Entry<String, MissedFrames> entry : missed.entrySet()) {
+            MissedFrames state = entry.getValue();
+            int count = state.count.getAndSet(0);
+            missed.remove(entry.getKey(), state);
+            if (count > 0) {
+                getDelegate().sendMessage(guard.buildResyncFrame(entry.getKey(), state.subscription, state.roomId, count));
+                guard.recordResyncMarker();
+                log.debug("재동기화 마커 전송: {} → {} ({}건 누락)", getId(), entry.getKey(), count);
+            }
+        }
+    }
+
+    /**
+     * 세션 종료 시 큐 정리
+     */
+    void discard() {
+        closed = true;
+        queue.clear();
+        queuedFrames.set(0);
+        queuedBytes.set(0);
+        missed.clear();
+    }
+
+    private void closeQuietly() {
+        if (closed) {
+            return;
+        }
+        discard();
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (Exception e) {
+            log.debug("느린 소비자 세션 종료 중 오류: {}", getId(), e);
+        }
+    }
+
+    int getQueuedFrames() {
+        return queuedFrames.get();
+    }
+
+    long getQueuedBytes() {
+        return queuedBytes.get();
+    }
+
+    private record QueuedFrame(WebSocketMessage<?> message, int size, long enqueuedAt) {}
+
+    private static final class MissedFrames {
+        private final String roomId;
+        private final String subscription;
+        private final AtomicInteger count = new AtomicInteger(0);
+
+        private MissedFrames(String roomId, String subscription) {
+            this.roomId = roomId;
+            this.subscription = subscription;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.backend.chat.websocket;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 연결된 세션을 SlowConsumerSessionDecorator로 감싸 하위 핸들러에 전달
+ */
+class SlowConsumerWebSocketHandlerDecorator extends WebSocketHandlerDecorator {
+
+    private final SlowConsumerGuard guard;
+    private final Map<String, SlowConsumerSessionDecorator> sessions = new ConcurrentHashMap<>();
+
+    SlowConsumerWebSocketHandlerDecorator(WebSocketHandler delegate, SlowConsumerGuard guard) {
+        super(delegate);
+        this.guard = guard;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        SlowConsumerSessionDecorator decorated = new SlowConsumerSessionDecorator(session, guard);
+        sessions.put(session.getId(), decorated);
+        guard.register(decorated);
+        super.afterConnectionEstablished(decorated);
+    }
+
+    @Override
+    public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+        super.handleMessage(resolve(session), message);
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        super.handleTransportError(resolve(session), exception);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        SlowConsumerSessionDecorator decorated = sessions.remove(session.getId());
+        if (decorated != null) {
+            decorated.discard();
+            guard.unregister(decorated);
+        }
+        super.afterConnectionClosed(decorated != null ? decorated : session, closeStatus);
+    }
+
+    private WebSocketSession resolve(WebSocketSession session) {
+        WebSocketSession decorated = sessions.get(session.getId());
+        return decorated != null ? decorated : session;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.backend.chat.websocket;
+
+import com.example.backend.chat.codec.ChatCodecRegistry;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+/**
+ * 핸드셰이크 시 세션 속성에 전송 방식(websocket/sockjs)을 기록
+ * SockJS는 텍스트 프레임만 전달할 수 있으므로 코덱 협상에 사용됩니다.
+ */
+public class TransportHandshakeInterceptor implements HandshakeInterceptor {
+
+    private final String transport;
+
+    public TransportHandshakeInterceptor(String transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        attributes.put(ChatCodecRegistry.TRANSPORT_ATTRIBUTE, transport);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+}
@@ -1,24 +1,43 @@
 package com.example.backend.common.config;
 
+import com.example.backend.recommend.infra.executor.UpstreamExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-
-import java.util.concurrent.Executor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
-    
+
+    /**
+     * AI 서버(GNN 추론) 호출 전용 실행기
+     */
     @Bean(name = "aiExecutor")
-    public Executor aiExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(4);
-        executor.setMaxPoolSize(8);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("AI-Async-");
-        executor.initialize();
-        return executor;
+    public UpstreamExecutor aiExecutor(MeterRegistry meterRegistry,
+                                       @Value("${upstream.ai.max-concurrency:8}") int maxConcurrency,
+                                       @Value("${upstream.ai.queue-capacity:100}") int queueCapacity) {
+        return new UpstreamExecutor("ai", maxConcurrency, queueCapacity, meterRegistry);
+    }
+
+    /**
+     * 역지오코딩/지오코딩 호출 전용 실행기
+     */
+    @Bean(name = "geocoderExecutor")
+    public UpstreamExecutor geocoderExecutor(MeterRegistry meterRegistry,
+                                             @Value("${upstream.geocoder.max-concurrency:16}") int maxConcurrency,
+                                             @Value("${upstream.geocoder.queue-capacity:200}") int queueCapacity) {
+        return new UpstreamExecutor("geocoder", maxConcurrency, queueCapacity, meterRegistry);
+    }
+
+    /**
+     * LLM 설명(GMS) 호출 전용 실행기
+     */
+    @Bean(name = "llmExecutor")
+    public UpstreamExecutor llmExecutor(MeterRegistry meterRegistry,
+                                        @Value("${upstream.llm.max-concurrency:4}") int maxConcurrency,
+                                        @Value("${upstream.llm.queue-capacity:50}") int queueCapacity) {
+        return new UpstreamExecutor("llm", maxConcurrency, queueCapacity, meterRegistry);
     }
 }
@@ -0,0 +1,58 @@
+package com.example.backend.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.Callable;
+
+/**
+ * MVC 비동기 응답 설정
+ * - 기본 타임아웃은 spring.mvc.async.request-timeout
+ * - LONG_RUNNING_ATTRIBUTE 요청 속성을 설정한 핸들러(대용량 스트리밍 응답)만 long-running 타임아웃 적용
+ */
+@Configuration
+@Slf4j
+public class WebMvcAsyncConfig implements WebMvcConfigurer {
+
+    /** 핸들러가 이 요청 속성을 true로 설정하면 긴 타임아웃으로 비동기 처리 */
+    public static final String LONG_RUNNING_ATTRIBUTE = WebMvcAsyncConfig.class.getName() + ".LONG_RUNNING";
+
+    private final long longRunningTimeoutMillis;
+
+    public WebMvcAsyncConfig(@Value("${web.async.long-running-timeout-millis:3600000}") long longRunningTimeoutMillis) {
+        this.longRunningTimeoutMillis = longRunningTimeoutMillis;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new LongRunningTimeoutInterceptor(longRunningTimeoutMillis));
+    }
+
+    /**
+     * 비동기 처리 시작 직전(서블릿 AsyncContext 생성 전)에 요청별 타임아웃 변경
+     */
+    static final class LongRunningTimeoutInterceptor implements CallableProcessingInterceptor {
+
+        private final long timeoutMillis;
+
+        LongRunningTimeoutInterceptor(long timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        @Override
+        public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+            if (request instanceof AsyncWebRequest asyncRequest
+                && Boolean.TRUE.equals(request.getAttribute(LONG_RUNNING_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST))) {
+                asyncRequest.setTimeout(timeoutMillis);
+                log.debug("긴 비동기 응답 타임아웃 적용: {}ms", timeoutMillis);
+            }
+        }
+    }
+}
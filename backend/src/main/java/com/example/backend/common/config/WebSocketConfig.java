@@ -1,30 +1,57 @@
 package com.example.backend.common.config;
 
+import com.example.backend.chat.codec.ChatCodecRegistry;
 import com.example.backend.chat.interceptor.AuthChannelInterceptor;
+import com.example.backend.chat.interceptor.BinaryPayloadChannelInterceptor;
+import com.example.backend.chat.interceptor.CodecChannelInterceptor;
+import com.example.backend.chat.interceptor.FloodControlChannelInterceptor;
 import com.example.backend.chat.interceptor.LoggingChannelInterceptor;
+import com.example.backend.chat.websocket.DeflateHandshakeHandler;
+import com.example.backend.chat.websocket.MailboxExecutor;
+import com.example.backend.chat.websocket.SlowConsumerGuard;
+import com.example.backend.chat.websocket.TransportHandshakeInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.util.concurrent.Executor;
+
 @Configuration
 @EnableWebSocketMessageBroker
 @EnableAsync
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String[] ALLOWED_ORIGINS = {
+        "http://localhost:3000", "http://127.0.0.1:3000", "https://j13a101.p.ssafy.io"
+    };
+
     private final AuthChannelInterceptor authChannelInterceptor;
     private final LoggingChannelInterceptor loggingChannelInterceptor;
+    private final CodecChannelInterceptor codecChannelInterceptor;
+    private final FloodControlChannelInterceptor floodControlChannelInterceptor;
+    private final BinaryPayloadChannelInterceptor binaryPayloadChannelInterceptor;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final DeflateHandshakeHandler deflateHandshakeHandler;
+    @Qualifier("chatAsyncExecutor")
+    private final Executor chatAsyncExecutor;
+    private final TaskScheduler chatTaskScheduler;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // Simple Broker 활성화 (메모리 기반)
-        config.enableSimpleBroker("/topic", "/queue", "/user");
+        config.enableSimpleBroker("/topic", "/queue", "/user")
+            // 하트비트 (서버→클라이언트, 클라이언트→서버 10초) - 응답 없는 세션은 종료되어 접속 현황에서 제외
+            .setHeartbeatValue(new long[]{10000, 10000})
+            .setTaskScheduler(chatTaskScheduler);
 
         // 클라이언트 → 서버 메시지 prefix
         config.setApplicationDestinationPrefixes("/app");
@@ -35,9 +62,16 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
-        // STOMP 엔드포인트 등록
+        // 네이티브 WebSocket 엔드포인트 (permessage-deflate 협상, 기본 연결 경로)
+        registry.addEndpoint("/ws-native")
+            .setAllowedOrigins(ALLOWED_ORIGINS)
+            .setHandshakeHandler(deflateHandshakeHandler)
+            .addInterceptors(new TransportHandshakeInterceptor(ChatCodecRegistry.TRANSPORT_WEBSOCKET));
+
+        // SockJS 엔드포인트 (WebSocket을 쓸 수 없는 환경용 폴백)
         registry.addEndpoint("/ws")
-            .setAllowedOrigins("http://localhost:3000", "http://127.0.0.1:3000","https://j13a101.p.ssafy.io")
+            .setAllowedOrigins(ALLOWED_ORIGINS)
+            .addInterceptors(new TransportHandshakeInterceptor(ChatCodecRegistry.TRANSPORT_SOCKJS))
             .withSockJS(); // SockJS 사용
     }
 
@@ -51,28 +85,31 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
         // 전송 버퍼 크기 (1.5MB)
         registration.setSendBufferSizeLimit(3 * 512 * 1024);
+
+        // 세션별 아웃바운드 큐 + 느린 소비자 정책
+        registration.addDecoratorFactory(slowConsumerGuard);
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         // 인터셉터 등록 (순서 중요)
         registration.interceptors(
-            authChannelInterceptor,    // 1. 인증 먼저
-            loggingChannelInterceptor  // 2. 로깅
+            authChannelInterceptor,         // 1. 인증 먼저
+            floodControlChannelInterceptor, // 2. 도배 방지 (초과 메시지는 여기서 폐기)
+            loggingChannelInterceptor,      // 3. 로깅
+            codecChannelInterceptor         // 4. 페이로드 코덱 협상
         );
 
-        // 스레드 풀 설정
-        registration.taskExecutor()
-            .corePoolSize(4)        // 기본 스레드 수
-            .maxPoolSize(8)         // 최대 스레드 수
-            .keepAliveSeconds(60);  // 유휴 스레드 유지 시간
+        // 세션별 메일박스 (세션 안에서는 순서대로, 세션 사이에는 가상스레드로 병렬 처리)
+        registration.executor(MailboxExecutor.forInbound(chatAsyncExecutor));
     }
 
     @Override
     public void configureClientOutboundChannel(ChannelRegistration registration) {
-        // 아웃바운드 채널 설정
-        registration.taskExecutor()
-            .corePoolSize(4)
-            .maxPoolSize(8);
+        // 바이너리 코덱 협상 세션으로 나가는 채팅 프레임 변환
+        registration.interceptors(binaryPayloadChannelInterceptor);
+
+        // 세션별 메일박스 (세션별 전송 순서 보장)
+        registration.executor(MailboxExecutor.forOutbound(chatAsyncExecutor));
     }
 }
@@ -61,10 +61,12 @@ public enum ErrorCode {
     // 채팅 도메인 에러
     CHAT_USER_NOT_AUTHENTICATED(UNAUTHORIZED, "CHAT_USER_NOT_AUTHENTICATED", "채팅 사용자 인증이 필요합니다."),
     CHAT_MESSAGE_SEND_FAILED(INTERNAL_SERVER_ERROR, "CHAT_MESSAGE_SEND_FAILED", "메시지 전송에 실패했습니다."),
+    CHAT_ROOM_NOT_FOUND(NOT_FOUND, "CHAT_ROOM_NOT_FOUND", "존재하지 않는 채팅방입니다."),
     CHAT_ROOM_JOIN_FAILED(INTERNAL_SERVER_ERROR, "CHAT_ROOM_JOIN_FAILED", "채팅방 입장에 실패했습니다."),
     CHAT_ROOM_LEAVE_FAILED(INTERNAL_SERVER_ERROR, "CHAT_ROOM_LEAVE_FAILED", "채팅방 나가기에 실패했습니다."),
     CHAT_ROOM_INFO_FAILED(INTERNAL_SERVER_ERROR, "CHAT_ROOM_INFO_FAILED", "채팅방 정보 조회에 실패했습니다."),
-    CHAT_MESSAGE_HISTORY_FAILED(INTERNAL_SERVER_ERROR, "CHAT_MESSAGE_HISTORY_FAILED", "채팅 히스토리 조회에 실패했습니다.");
+    CHAT_MESSAGE_HISTORY_FAILED(INTERNAL_SERVER_ERROR, "CHAT_MESSAGE_HISTORY_FAILED", "채팅 히스토리 조회에 실패했습니다."),
+    CHAT_RATE_LIMITED(TOO_MANY_REQUESTS, "CHAT_RATE_LIMITED", "메시지를 너무 빠르게 보내고 있습니다. 잠시 후 다시 시도해주세요.");
 
 
     private final HttpStatus status;
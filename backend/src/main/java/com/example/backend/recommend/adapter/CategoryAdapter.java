@@ -34,6 +34,18 @@ public class CategoryAdapter implements CategoryPort {
                 ));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, String> getAll() {
+        return categoryRepository.findAllByOrderByCategoryIdAsc().stream()
+                .collect(Collectors.toMap(
+                        CategoryProjection::getCategoryId,
+                        CategoryProjection::getName,
+                        (a, b) -> a,
+                        LinkedHashMap::new
+                ));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Map<String, Integer> getIdsByNames(Collection<String> names) {
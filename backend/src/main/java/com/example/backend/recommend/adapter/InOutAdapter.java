@@ -1,57 +1,144 @@
 package com.example.backend.recommend.adapter;
 
+import com.example.backend.recommend.infra.backfill.InOutRatesBackfill;
+import com.example.backend.recommend.infra.cache.CategoryCoverage;
 import com.example.backend.recommend.infra.cache.ResultCache;
+import com.example.backend.recommend.infra.cache.SurvivalVectors;
+import com.example.backend.recommend.infra.usage.UsageRecorder;
 import com.example.backend.recommend.entity.InOutEntity;
 import com.example.backend.recommend.entity.InOutEntity.Key;
+import com.example.backend.recommend.entity.SurvivalRates;
 import com.example.backend.recommend.repository.InOutRepository;
 import com.example.backend.recommend.repository.projection.InOutProjection;
+import com.example.backend.recommend.repository.projection.InOutRatesRow;
 import com.example.backend.recommend.port.InOutPort;
-import com.example.backend.recommend.port.CategoryPort;
+import com.example.backend.recommend.port.LeaderboardPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.Duration;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.LinkedHashMap;
 
 @Component
-@RequiredArgsConstructor
 public class InOutAdapter implements InOutPort {
 
-    private static final Duration DEFAULT_TTL = Duration.ofHours(24);
+    /** 다중 행 업서트 한 문장당 최대 행 수 (전체 업종 247개는 한 문장) */
+    private static final int UPSERT_CHUNK_SIZE = 500;
 
     private final InOutRepository inOutRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
     private final ResultCache cache;
-    private final CategoryPort categoryPort; // ✅ 추가
+    private final CategoryCoverage coverage;
+    private final LeaderboardPort leaderboardPort;
+    private final UsageRecorder usageRecorder;
+    private final InOutRatesBackfill ratesBackfill;
+    private final String upsertUpdateClause;
 
-    /** 캐시→DB 조회. DB 히트 시 frequency/last_at 갱신 + 캐시 set */
+    public InOutAdapter(InOutRepository inOutRepository,
+                        JdbcTemplate jdbcTemplate,
+                        MeterRegistry meterRegistry,
+                        ResultCache cache,
+                        CategoryCoverage coverage,
+                        LeaderboardPort leaderboardPort,
+                        UsageRecorder usageRecorder,
+                        InOutRatesBackfill ratesBackfill,
+                        @Value("${recommend.inout.upsert-row-alias:true}") boolean upsertRowAlias) {
+        this.inOutRepository = inOutRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.cache = cache;
+        this.coverage = coverage;
+        this.leaderboardPort = leaderboardPort;
+        this.usageRecorder = usageRecorder;
+        this.ratesBackfill = ratesBackfill;
+        // MySQL 8.0.19+ 행 별칭 (VALUES() 함수는 폐기 예정), 행 별칭을 지원하지 않는 DB(H2)에서만 VALUES()
+        this.upsertUpdateClause = upsertRowAlias
+                ? " AS new ON DUPLICATE KEY UPDATE rates = new.rates, frequency = in_out.frequency + 1, last_at = new.last_at"
+                : " ON DUPLICATE KEY UPDATE rates = VALUES(rates), frequency = frequency + 1, last_at = VALUES(last_at)";
+    }
+
+    /** 캐시(L1→L2)→DB 조회. 사용량은 버퍼에만 기록 (구 형식 백필 중이 아니면 순수 읽기) */
     @Override
-    @Transactional
-    public Optional<List<Double>> get(int buildingId, int categoryId) {
+    public Optional<SurvivalRates> get(int buildingId, int categoryId) {
         // 1) cache
-//        var cached = cache.get(buildingId, categoryId);
-//        if (cached.isPresent()) return cached;
+        var cached = cache.get(buildingId, categoryId);
+        if (cached.isPresent()) {
+            usageRecorder.record(buildingId, categoryId);
+            return cached;
+        }
 
-        // 2) db
+        // 2) db (구 형식 백필 중이면 이 건물부터 변환)
+        ratesBackfill.backfillBuildings(List.of(buildingId));
         var db = inOutRepository.findByBuildingIdAndCategoryId(buildingId, categoryId);
         if (db.isEmpty()) return Optional.empty();
 
-        // 조회 성공: 사용량 증가 + 캐시 set
-        inOutRepository.bumpUsage(buildingId, categoryId);
-        var vals = db.get().getResult();
-//        cache.set(buildingId, categoryId, val, DEFAULT_TTL);
+        // 조회 성공: 사용량 기록 + 캐시 set
+        usageRecorder.record(buildingId, categoryId);
+        var vals = db.get().getRates();
+        if (vals != null) {
+            cache.set(buildingId, categoryId, vals);
+        }
         return Optional.ofNullable(vals);
     }
 
-    /** AI 결과 업서트 + 캐시 set (write-through) */
+    /** 캐시 일괄 조회 → 미스만 DB IN 조회 → 캐시 채움 */
+    @Override
+    public Map<Integer, SurvivalRates> getAll(Collection<Integer> buildingIds, int categoryId) {
+        if (buildingIds == null || buildingIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<Long> keys = new LinkedHashSet<>();
+        for (Integer bid : buildingIds) {
+            keys.add(SurvivalVectors.key(bid, categoryId));
+        }
+
+        Map<Integer, SurvivalRates> out = new LinkedHashMap<>();
+        Map<Long, SurvivalRates> cached = cache.getAll(keys);
+        cached.forEach((key, vals) -> out.put(SurvivalVectors.buildingId(key), vals));
+        if (cached.size() == keys.size()) {
+            out.keySet().forEach(bid -> usageRecorder.record(bid, categoryId));
+            return out;
+        }
+
+        List<Integer> missing = buildingIds.stream()
+                .distinct()
+                .filter(bid -> !out.containsKey(bid))
+                .toList();
+        ratesBackfill.backfillBuildings(missing);
+        Map<Long, SurvivalRates> loaded = new LinkedHashMap<>();
+        for (InOutEntity entity : inOutRepository.findAllByCategoryIdAndBuildingIdIn(categoryId, missing)) {
+            if (entity.getRates() == null) continue;
+            out.put(entity.getBuildingId(), entity.getRates());
+            loaded.put(SurvivalVectors.key(entity.getBuildingId(), categoryId), entity.getRates());
+        }
+        cache.setAll(loaded);
+        out.keySet().forEach(bid -> usageRecorder.record(bid, categoryId));
+        return out;
+    }
+
+    /** AI 결과 업서트 + 캐시 set (write-through, 커밋 후) */
     @Override
     @Transactional
-    public void upsert(int buildingId, int categoryId, List<Double> result) {
+    public void upsert(int buildingId, int categoryId, SurvivalRates result) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         var id = new Key(buildingId, categoryId);
 
         InOutEntity entity = inOutRepository.findById(id).orElseGet(() -> {
@@ -62,13 +149,73 @@ public class InOutAdapter implements InOutPort {
             return e;
         });
 
-        entity.setResult(result);
+        entity.setRates(result);
         Integer freq = entity.getFrequency();
         entity.setFrequency((freq == null ? 0 : freq) + 1);
         entity.touchNow();
         inOutRepository.save(entity);
 
-//        cache.set(buildingId, categoryId, result, DEFAULT_TTL);
+        afterCommit(() -> {
+            leaderboardPort.evict(buildingId); // 순위가 바뀔 수 있음
+            cache.set(buildingId, categoryId, result);
+            if (result != null && !result.isEmpty()) coverage.add(buildingId, List.of(categoryId));
+        });
+        sample.stop(upsertTimer("single"));
+    }
+
+    /**
+     * 한 건물의 여러 업종 결과를 다중 행 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 업서트
+     * - 단건 upsert와 같은 의미: 결과 교체 + frequency 1 증가 + last_at 갱신
+     * - 캐시 set과 건물 순위 무효화는 커밋 후 일괄 처리 (전체 결과면 호출자가 커밋 후 다시 저장)
+     */
+    @Override
+    @Transactional
+    public void upsertAll(int buildingId, Map<Integer, SurvivalRates> resultsByCategory) {
+        if (resultsByCategory == null || resultsByCategory.isEmpty()) return;
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Integer> categoryIds = new ArrayList<>(resultsByCategory.size());
+        resultsByCategory.forEach((categoryId, rates) -> {
+            if (rates != null && !rates.isEmpty()) categoryIds.add(categoryId);
+        });
+        categoryIds.sort(null); // PK 순으로 잠금
+
+        for (int from = 0; from < categoryIds.size(); from += UPSERT_CHUNK_SIZE) {
+            List<Integer> chunk = categoryIds.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, categoryIds.size()));
+
+            StringBuilder sql = new StringBuilder(
+                    "INSERT INTO in_out (building_id, category_id, rates, frequency, last_at) VALUES ");
+            List<Object> args = new ArrayList<>(chunk.size() * 4);
+            for (int i = 0; i < chunk.size(); i++) {
+                Integer categoryId = chunk.get(i);
+                sql.append(i == 0 ? "(?, ?, ?, 1, ?)" : ", (?, ?, ?, 1, ?)");
+                args.add(buildingId);
+                args.add(categoryId);
+                args.add(resultsByCategory.get(categoryId).toBytes());
+                args.add(now);
+            }
+            sql.append(upsertUpdateClause);
+
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+
+        Map<Long, SurvivalRates> toCache = new HashMap<>(categoryIds.size() * 2);
+        for (Integer categoryId : categoryIds) {
+            toCache.put(SurvivalVectors.key(buildingId, categoryId), resultsByCategory.get(categoryId));
+        }
+        afterCommit(() -> {
+            leaderboardPort.evict(buildingId);
+            cache.setAll(toCache);
+            coverage.add(buildingId, categoryIds);
+        });
+        sample.stop(upsertTimer("bulk"));
+    }
+
+    private Timer upsertTimer(String mode) {
+        return Timer.builder("recommend.inout.upsert").tag("mode", mode)
+                .description("in_out 생존율 결과 저장 지연")
+                .register(meterRegistry);
     }
 
     @Override
@@ -77,16 +224,33 @@ public class InOutAdapter implements InOutPort {
             return List.of();
         }
 
-        List<InOutProjection> rows = inOutRepository
-                .findAllByBuildingIdAndCategoryIdIn(buildingId, categoryIds);
+        // 1) 캐시 일괄 조회
+        Set<Long> keys = new LinkedHashSet<>();
+        for (Integer cid : categoryIds) {
+            keys.add(SurvivalVectors.key(buildingId, cid));
+        }
+        Map<Integer, SurvivalRates> resultMap = new LinkedHashMap<>();
+        cache.getAll(keys).forEach((key, vals) ->
+                resultMap.put(SurvivalVectors.categoryId(key), vals));
+
+        // 2) 미스만 DB 조회 후 캐시 채움
+        if (resultMap.size() < keys.size()) {
+            List<Integer> missing = categoryIds.stream()
+                    .distinct()
+                    .filter(cid -> !resultMap.containsKey(cid))
+                    .toList();
+            ratesBackfill.backfillBuildings(List.of(buildingId));
+            List<InOutProjection> rows = inOutRepository
+                    .findAllByBuildingIdAndCategoryIdIn(buildingId, missing);
 
-        Map<Integer, List<Double>> resultMap = rows.stream()
-                .collect(Collectors.toMap(
-                        InOutProjection::getCategoryId,
-                        InOutProjection::getResult,
-                        (a, b) -> a,
-                        java.util.LinkedHashMap::new
-                ));
+            Map<Long, SurvivalRates> loaded = new LinkedHashMap<>();
+            for (InOutProjection row : rows) {
+                if (row.getRates() == null) continue;
+                resultMap.putIfAbsent(row.getCategoryId(), row.getRates());
+                loaded.put(SurvivalVectors.key(buildingId, row.getCategoryId()), row.getRates());
+            }
+            cache.setAll(loaded);
+        }
 
         // 3) 입력 순서대로 리스트 생성, 없으면 기본값(null 또는 0.0)
         return categoryIds.stream()
@@ -134,39 +298,60 @@ public class InOutAdapter implements InOutPort {
         inOutRepository.save(entity);
     }
 
-    // ============================================
-    // ✅ 추가: 캐시 완성도 체크용 메소드들
-    // ============================================
+    /** 트랜잭션 커밋 후 실행 (롤백된 값이 캐시에 남거나 순위가 커밋 전에 재계산되지 않도록), 트랜잭션 밖이면 즉시 */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 
+    /**
+     * L1 비트맵이 완성이면 바로 판정, 아니면 Redis(다른 노드가 채운 비트 + 결과 없음 표시)로 판정
+     * - Redis에도 채운 비트맵이 없을 때만 DB에서 재구성
+     */
     @Override
-    public int getCachedCategoryCount(int buildingId) {
-        return inOutRepository.countByBuildingId(buildingId);
+    public List<Integer> findMissingCategories(int buildingId) {
+        BitSet local = coverage.getLocal(buildingId);
+        if (local != null) {
+            List<Integer> missing = coverage.missing(local);
+            if (missing.isEmpty()) return missing;
+        }
+        CategoryCoverage.Shared shared = coverage.getShared(buildingId);
+        BitSet covered = shared.covered() != null ? shared.covered() : loadCoverage(buildingId);
+        return coverage.missing(covered, shared.unavailable());
     }
 
     @Override
-    public List<CachedCategoryData> getAllCachedCategories(int buildingId) {
-        // 1) 해당 건물의 모든 InOutEntity 조회
-        List<InOutEntity> entities = inOutRepository.findAllByBuildingId(buildingId);
-
-        if (entities.isEmpty()) {
-            return List.of();
-        }
+    public List<Integer> findMissingCategoriesFresh(int buildingId) {
+        return coverage.missing(loadCoverage(buildingId));
+    }
 
-        // 2) 카테고리 ID들 수집
-        Set<Integer> categoryIds = entities.stream()
-                .map(InOutEntity::getCategoryId)
-                .collect(Collectors.toSet());
+    private BitSet loadCoverage(int buildingId) {
+        // 구 형식 백필 중이면 변환 전 행이 미완성 업종으로 비트맵에 남지 않도록 먼저 변환
+        ratesBackfill.backfillBuildings(List.of(buildingId));
+        BitSet bits = CategoryCoverage.toBits(inOutRepository.findCategoryIdsWithRates(buildingId));
+        return coverage.put(buildingId, bits);
+    }
 
-        // 3) 카테고리 이름들 조회 (배치)
-        Map<Integer, String> categoryNames = categoryPort.getNamesByIds(categoryIds);
+    @Override
+    public void markUnavailable(int buildingId, Collection<Integer> categoryIds) {
+        coverage.markUnavailable(buildingId, categoryIds);
+    }
 
-        // 4) 결과 조합
-        return entities.stream()
-                .map(entity -> new CachedCategoryData(
-                        categoryNames.get(entity.getCategoryId()),
-                        entity.getResult()
-                ))
-                .filter(data -> data.categoryName() != null) // null 이름 제거
-                .collect(Collectors.toList());
+    @Override
+    public Map<Integer, SurvivalRates> findAllRates(int buildingId) {
+        ratesBackfill.backfillBuildings(List.of(buildingId));
+        Map<Integer, SurvivalRates> out = new LinkedHashMap<>();
+        for (InOutRatesRow row : inOutRepository.findRatesByBuildingId(buildingId)) {
+            out.put(row.categoryId(), row.rates());
+        }
+        return out;
     }
 }
@@ -0,0 +1,72 @@
+package com.example.backend.recommend.adapter;
+
+import com.example.backend.recommend.entity.BuildingLeaderboardEntity;
+import com.example.backend.recommend.entity.SurvivalRates;
+import com.example.backend.recommend.port.LeaderboardPort;
+import com.example.backend.recommend.repository.BuildingLeaderboardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class LeaderboardAdapter implements LeaderboardPort {
+
+    private static final int ENTRY_BYTES = Short.BYTES + SurvivalRates.BYTES;
+
+    private final BuildingLeaderboardRepository repository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<List<RankedCategory>> find(int buildingId) {
+        return repository.findById(buildingId).map(e -> decode(e.getEntries()));
+    }
+
+    @Override
+    @Transactional
+    public void save(int buildingId, List<RankedCategory> ranked) {
+        BuildingLeaderboardEntity entity = new BuildingLeaderboardEntity();
+        entity.setBuildingId(buildingId);
+        entity.setEntries(encode(ranked));
+        entity.setUpdatedAt(OffsetDateTime.now(ZoneOffset.UTC));
+        repository.save(entity);
+    }
+
+    /**
+     * 커밋 후 콜백(afterCommit)에서 호출되므로 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션에서 삭제
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void evict(int buildingId) {
+        repository.deleteByBuildingId(buildingId);
+    }
+
+    private static byte[] encode(List<RankedCategory> ranked) {
+        ByteBuffer buf = ByteBuffer.allocate(ranked.size() * ENTRY_BYTES);
+        for (RankedCategory r : ranked) {
+            buf.putShort((short) r.categoryId()); // SMALLINT UNSIGNED
+            buf.put(r.rates().toBytes());
+        }
+        return buf.array();
+    }
+
+    private static List<RankedCategory> decode(byte[] entries) {
+        ByteBuffer buf = ByteBuffer.wrap(entries);
+        List<RankedCategory> out = new ArrayList<>(entries.length / ENTRY_BYTES);
+        byte[] rates = new byte[SurvivalRates.BYTES];
+        while (buf.remaining() >= ENTRY_BYTES) {
+            int categoryId = Short.toUnsignedInt(buf.getShort());
+            buf.get(rates);
+            out.add(new RankedCategory(categoryId, SurvivalRates.fromBytes(rates)));
+        }
+        return out;
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.async.DeferredResult;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 @Validated
@@ -36,7 +38,8 @@ public class RecommendController {
                 new DeferredResult<>(120000L); // 30초 타임아웃
 
         // ✅ 캐시 기반 동적 처리 (Async 제거)
-        recommendService.generateSingle(req, uid)
+        CompletableFuture<RecommendResponse> future = recommendService.generateSingle(req, uid);
+        future
                 .thenAccept(response -> {
                     log.info("✅ 단일 검색 완료: uid={}, categories={}", uid, response.getResult().size());
                     deferredResult.setResult(ApiResponse.of(response));
@@ -47,6 +50,9 @@ public class RecommendController {
                     return null;
                 });
 
+        // 응답 타임아웃 시 진행 중인 지오코딩은 취소, 시작된 AI 예측 호출(병합됨)은 끝까지 실행되어 결과가 캐시에 저장됨
+        deferredResult.onTimeout(() -> future.cancel(true));
+
         return deferredResult;
     }
 
@@ -66,7 +72,8 @@ public class RecommendController {
                 new DeferredResult<>(120000L);
 
         // ✅ 캐시 기반 동적 처리
-        recommendService.generateSingleIndustry(req, uid)
+        CompletableFuture<RecommendResponse> future = recommendService.generateSingleIndustry(req, uid);
+        future
                 .thenAccept(response -> {
                     log.info("✅ 단일 업종 검색 완료: uid={}, category={}, source={}",
                             uid, req.getCategory(), response.getMeta().getSource());
@@ -79,6 +86,9 @@ public class RecommendController {
                     return null;
                 });
 
+        // 응답 타임아웃 시 진행 중인 지오코딩은 취소, 시작된 업종 AI 호출(병합됨)은 끝까지 실행되어 결과가 캐시에 저장됨
+        deferredResult.onTimeout(() -> future.cancel(true));
+
         return deferredResult;
     }
 
@@ -98,7 +108,8 @@ public class RecommendController {
                 new DeferredResult<>(120000L); // 60초 타임아웃 (범위 검색은 더 오래 걸림)
 
         // ✅ 캐시 기반 동적 처리
-        recommendService.getRange(req, uid)
+        CompletableFuture<RangeResponse> future = recommendService.getRange(req, uid);
+        future
                 .thenAccept(response -> {
                     log.info("✅ 범위 검색 완료: uid={}, category={}, buildings={}",
                             uid, req.getCategory(), response.getItems().size());
@@ -111,6 +122,9 @@ public class RecommendController {
                     return null;
                 });
 
+        // 응답 타임아웃 시 좌표별 지오코딩은 모두 취소, 이미 시작된 AI 배치 호출은 끝까지 실행되어 결과가 캐시에 저장됨
+        deferredResult.onTimeout(() -> future.cancel(true));
+
         return deferredResult;
     }
 
@@ -127,7 +141,8 @@ public class RecommendController {
                 new DeferredResult<>(45000L); // 45초 타임아웃 (LLM 생성)
 
         // ✅ 캐시 기반 동적 처리
-        recommendService.SingleIndustryExplain(req)
+        CompletableFuture<ExplainResponse> future = recommendService.SingleIndustryExplain(req);
+        future
                 .thenAccept(response -> {
                     log.info("✅ GMS 설명 완료: buildingId={}, category={}",
                             req.getBuilding_id(), req.getCategory());
@@ -140,6 +155,9 @@ public class RecommendController {
                     return null;
                 });
 
+        // 응답 타임아웃 시 진행 중인 GMS 설명 생성(LLM 호출)을 인터럽트로 중단 (설명은 캐시에 저장되지 않음)
+        deferredResult.onTimeout(() -> future.cancel(true));
+
         return deferredResult;
     }
 
@@ -1,6 +1,7 @@
 // com.example.backend.recommend.dto.ItemsResponse.java
 package com.example.backend.recommend.dto;
 
+import com.example.backend.recommend.entity.SurvivalRates;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Value;
@@ -23,6 +24,6 @@ public class RangeResponse {
         BigDecimal lng;
 
         @JsonProperty("survival_rate")
-        List<Double> survivalRate;
+        SurvivalRates survivalRate;
     }
 }
@@ -1,5 +1,6 @@
 package com.example.backend.recommend.dto;
 
+import com.example.backend.recommend.entity.SurvivalRates;
 import lombok.Builder;
 import lombok.Value;
 
@@ -26,7 +27,7 @@ public class RecommendResponse {
     @Builder
     public static class CategoryResult {
         String category;
-        List<Double> survivalRate;
+        SurvivalRates survivalRate;
     }
 
     @Value
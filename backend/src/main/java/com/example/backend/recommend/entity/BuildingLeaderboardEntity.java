@@ -0,0 +1,31 @@
+package com.example.backend.recommend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 건물별 Top 20 업종 (폐업률 낮은 순) 사전 계산 결과
+ * - entries: 순위대로 [category_id(2바이트) + 생존율(20바이트)] × N
+ * - in_out 결과가 바뀌면 삭제되고, 전체 결과가 저장되거나 다음 조회 때 다시 계산됨
+ */
+@Entity
+@Table(name = "building_leaderboard")
+@Getter
+@Setter
+@NoArgsConstructor
+public class BuildingLeaderboardEntity {
+
+    @Id
+    @Column(name = "building_id", nullable = false, columnDefinition = "MEDIUMINT UNSIGNED")
+    private int buildingId;
+
+    @Column(name = "entries", nullable = false, columnDefinition = "VARBINARY(512)")
+    private byte[] entries;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+}
@@ -10,9 +10,6 @@ import java.io.Serializable;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.Objects;
-import java.util.List;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "in_out")
@@ -30,9 +27,10 @@ public class InOutEntity {
     @Column(name = "category_id", nullable = false, columnDefinition = "SMALLINT UNSIGNED")
     private int categoryId;   // PK2
 
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "result", columnDefinition = "json", nullable = false)
-    private List<Double> result;
+    /** 1~5년차 생존율 (BINARY(20), 기존 JSON result 컬럼 대체) */
+    @Convert(converter = SurvivalRatesConverter.class)
+    @Column(name = "rates", columnDefinition = "BINARY(20)")
+    private SurvivalRates rates;
 
     @Column(name = "explanation", columnDefinition = "MEDIUMTEXT")
     private String explanation;
@@ -0,0 +1,152 @@
+package com.example.backend.recommend.entity;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 1~5년차 생존율 (불변, float[5])
+ * - 값이 없는 칸은 NaN, JSON에서는 null
+ * - DB/Redis에는 20바이트(빅엔디안 float 5개)로 저장
+ * - EMPTY는 결과가 없는 경우의 빈 값 (JSON에서 [])
+ */
+@JsonSerialize(using = SurvivalRates.Serializer.class)
+@JsonDeserialize(using = SurvivalRates.Deserializer.class)
+public final class SurvivalRates {
+
+    public static final int YEARS = 5;
+    public static final int BYTES = YEARS * Float.BYTES;
+    public static final SurvivalRates EMPTY = new SurvivalRates(new float[0]);
+
+    private final float[] values;
+
+    private SurvivalRates(float[] values) {
+        this.values = values;
+    }
+
+    /**
+     * 배열을 그대로 사용 (호출자는 이후 수정하면 안 됨)
+     */
+    public static SurvivalRates wrap(float[] values) {
+        if (values.length != YEARS) {
+            throw new IllegalArgumentException("생존율은 " + YEARS + "개여야 합니다: " + values.length);
+        }
+        return new SurvivalRates(values);
+    }
+
+    /**
+     * @throws IllegalArgumentException 길이가 20바이트가 아닌 값
+     */
+    public static SurvivalRates fromBytes(byte[] bytes) {
+        if (bytes.length != BYTES) {
+            throw new IllegalArgumentException("생존율 바이너리 길이 오류: " + bytes.length);
+        }
+        float[] out = new float[YEARS];
+        ByteBuffer.wrap(bytes).asFloatBuffer().get(out);
+        return new SurvivalRates(out);
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buf = ByteBuffer.allocate(BYTES);
+        buf.asFloatBuffer().put(values);
+        return buf.array();
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * year번째 칸 (0부터), 값이 없으면 NaN
+     */
+    public float get(int year) {
+        return values[year];
+    }
+
+    /**
+     * 5년차 값, 없으면 있는 칸의 평균, 모두 없으면 NaN
+     */
+    public double lastOrAverage() {
+        if (isEmpty()) return Double.NaN;
+        float last = values[YEARS - 1];
+        if (!Float.isNaN(last)) return last;
+
+        double sum = 0;
+        int n = 0;
+        for (float v : values) {
+            if (!Float.isNaN(v)) {
+                sum += v;
+                n++;
+            }
+        }
+        return n == 0 ? Double.NaN : sum / n;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return o instanceof SurvivalRates other && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+    /** [v1, v2, null, v4, v5] 형태 (NaN → null) */
+    static final class Serializer extends JsonSerializer<SurvivalRates> {
+        @Override
+        public void serialize(SurvivalRates rates, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray(rates, rates.values.length);
+            for (float v : rates.values) {
+                if (Float.isNaN(v)) {
+                    gen.writeNull();
+                } else {
+                    gen.writeNumber(v);
+                }
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    static final class Deserializer extends JsonDeserializer<SurvivalRates> {
+        @Override
+        public SurvivalRates deserialize(JsonParser p, DeserializationContext ctx) throws IOException {
+            if (p.currentToken() != JsonToken.START_ARRAY) {
+                return (SurvivalRates) ctx.handleUnexpectedToken(SurvivalRates.class, p);
+            }
+            float[] out = new float[YEARS];
+            int i = 0;
+            for (JsonToken t = p.nextToken(); t != JsonToken.END_ARRAY; t = p.nextToken()) {
+                if (i < YEARS) {
+                    out[i] = t == JsonToken.VALUE_NULL ? Float.NaN : p.getFloatValue();
+                }
+                i++;
+            }
+            if (i == 0) return EMPTY;
+            for (; i < YEARS; i++) {
+                out[i] = Float.NaN;
+            }
+            return new SurvivalRates(out);
+        }
+    }
+}
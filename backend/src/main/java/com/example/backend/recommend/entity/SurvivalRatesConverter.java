@@ -0,0 +1,21 @@
+package com.example.backend.recommend.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * SurvivalRates ↔ BINARY(20) 컬럼
+ */
+@Converter
+public class SurvivalRatesConverter implements AttributeConverter<SurvivalRates, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(SurvivalRates rates) {
+        return rates == null || rates.isEmpty() ? null : rates.toBytes();
+    }
+
+    @Override
+    public SurvivalRates convertToEntityAttribute(byte[] bytes) {
+        return bytes == null ? null : SurvivalRates.fromBytes(bytes);
+    }
+}
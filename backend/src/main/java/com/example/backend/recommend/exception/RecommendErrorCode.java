@@ -20,7 +20,8 @@ public enum RecommendErrorCode {
     AI_UPSTREAM_AUTH_FAILED(ErrorCode.COMMON_BAD_GATEWAY, "AI 서버 인증에 실패했습니다."),
     GEO_NOT_FOUND(ErrorCode.COMMON_NOT_FOUND, "해당 좌표에서 주소 관리번호(ADR)를 찾지 못했습니다."),
     GEO_UPSTREAM_TIMEOUT(ErrorCode.COMMON_GATEWAY_TIMEOUT, "지오코더 응답이 지연되었습니다."),
-    GEO_UPSTREAM_BAD_RESPONSE(ErrorCode.COMMON_BAD_GATEWAY, "지오코더 응답이 올바르지 않습니다.");
+    GEO_UPSTREAM_BAD_RESPONSE(ErrorCode.COMMON_BAD_GATEWAY, "지오코더 응답이 올바르지 않습니다."),
+    UPSTREAM_BUSY(ErrorCode.COMMON_SERVICE_UNAVAILABLE, "외부 서버 요청이 밀려 있습니다. 잠시 후 다시 시도해주세요.");
 
     private final ErrorCode commonCode;  // 공통 에러코드(HTTP 상태/시스템 코드 보유)
     private final String message;        // 도메인 전용 응답 메시지
@@ -0,0 +1,240 @@
+package com.example.backend.recommend.infra.ai;
+
+import com.example.backend.common.exception.BusinessException;
+import com.example.backend.recommend.exception.RecommendErrorCode;
+import com.example.backend.recommend.infra.executor.UpstreamExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * AI 추론 호출 단일 비행(single-flight) 병합기
+ * - 같은 키(건물/업종)의 동시 요청은 진행 중인 하나의 future에 합류하여 AI 서버 호출은 노드당 1회
+ * - 노드 간에는 Redis 임대(SET NX PX)로 병합: 임대를 가진 노드만 호출하고, 나머지는 임대가 풀릴 때까지 기다린 뒤 저장된 결과(DB 캐시)를 사용
+ * - 임대 확인/대기는 별도 가상 스레드에서 하고 AI 전용 실행기에는 실제 호출만 제출 (다른 노드를 기다리는 동안 실행 허가를 점유하지 않음)
+ * - 임대 TTL 안에 풀리지 않으면 AI_UPSTREAM_TIMEOUT으로 실패 (빈 결과로 응답하지 않음)
+ * - Redis 장애 시에는 노드 내 병합만 적용하고 그대로 호출 (가용성 우선)
+ *
+ * 결과가 Optional.empty()이면 "다른 요청이 이미 저장함"을 뜻하므로 호출자는 캐시에서 다시 읽어야 함
+ */
+@Component
+@Slf4j
+public class AiRequestCoalescer {
+
+    private static final String LEASE_KEY_PREFIX = "reco:ai:lease:";
+
+    // 자신이 잡은 임대만 해제 (만료 후 다른 노드가 잡은 임대를 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class);
+
+    private final StringRedisTemplate redis;
+    private final UpstreamExecutor aiExecutor;
+    private final boolean leaseEnabled;
+    private final Duration leaseTtl;
+    private final long pollIntervalMillis;
+
+    private final Map<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService coordinators = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("ai-coalesce-", 0).factory());
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong leaseSequence = new AtomicLong();
+
+    private final Counter leaderCalls;
+    private final Counter localJoins;
+    private final Counter remoteResolved;
+    private final Counter leaseTimeouts;
+
+    public AiRequestCoalescer(StringRedisTemplate redis,
+                              @Qualifier("aiExecutor") UpstreamExecutor aiExecutor,
+                              MeterRegistry meterRegistry,
+                              @Value("${ai.coalesce.lease-enabled:true}") boolean leaseEnabled,
+                              @Value("${ai.coalesce.lease-ttl-millis:150000}") long leaseTtlMillis,
+                              @Value("${ai.coalesce.poll-interval-millis:200}") long pollIntervalMillis) {
+        this.redis = redis;
+        this.aiExecutor = aiExecutor;
+        this.leaseEnabled = leaseEnabled;
+        this.leaseTtl = Duration.ofMillis(leaseTtlMillis);
+        this.pollIntervalMillis = Math.max(10, pollIntervalMillis);
+
+        this.leaderCalls = requestCounter(meterRegistry, "leader");
+        this.localJoins = requestCounter(meterRegistry, "joined");
+        this.remoteResolved = requestCounter(meterRegistry, "remote");
+        this.leaseTimeouts = requestCounter(meterRegistry, "lease-timeout");
+        Gauge.builder("ai.coalesce.in-flight", inFlight, Map::size)
+            .description("진행 중인 AI 호출 키 수")
+            .register(meterRegistry);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.coalesce.requests").tag("result", result)
+            .description("AI 호출 병합 결과별 요청 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 키 단위로 AI 호출을 병합하여 실행
+     *
+     * @param key             병합 키 (예: "all:12", "category:12:34")
+     * @param loader          AI 호출 + 저장 (리더 요청에서만 실행)
+     * @param storedElsewhere 결과가 이미 저장되어 있는지 확인 (호출 직전 재확인 및 다른 노드 완료 확인용)
+     * @return 리더가 계산한 결과, 또는 다른 요청이 이미 저장한 경우 Optional.empty()
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<Optional<T>> execute(String key, Supplier<T> loader, BooleanSupplier storedElsewhere) {
+        CompletableFuture<Optional<T>> created = new CompletableFuture<>();
+        CompletableFuture<?> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            localJoins.increment();
+            log.debug("AI 호출 합류: key={}", key);
+            // 한 호출자의 cancel()이 공유 future를 취소하지 않도록 사본 반환
+            return ((CompletableFuture<Optional<T>>) existing).copy();
+        }
+
+        leaderCalls.increment();
+        // 임대 확인/대기는 가상 스레드에서, AI 호출만 AI 전용 실행기에서 (대기열 초과 시 합류한 요청 모두 실패)
+        CompletableFuture.supplyAsync(() -> load(key, loader, storedElsewhere), coordinators)
+            .thenCompose(Function.identity())
+            .whenComplete((result, error) -> {
+                inFlight.remove(key, created);
+                if (error != null) {
+                    created.completeExceptionally(error);
+                } else {
+                    created.complete(result);
+                }
+            });
+        return created.copy();
+    }
+
+    private <T> CompletableFuture<Optional<T>> load(String key, Supplier<T> loader, BooleanSupplier storedElsewhere) {
+        // 직전 리더가 저장을 끝내고 빠진 사이에 들어온 요청이면 다시 호출하지 않음
+        if (storedElsewhere.getAsBoolean()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        if (!leaseEnabled) {
+            return call(loader);
+        }
+
+        String leaseKey = LEASE_KEY_PREFIX + key;
+        String token = nodeId + ":" + leaseSequence.incrementAndGet();
+        long deadline = System.currentTimeMillis() + leaseTtl.toMillis();
+
+        while (true) {
+            Boolean acquired = tryAcquire(leaseKey, token);
+            if (acquired == null) {
+                return call(loader);
+            }
+            if (acquired) {
+                // 호출이 끝나거나 거절된 뒤 해제
+                return call(loader).whenComplete((result, error) -> release(leaseKey, token));
+            }
+
+            // 다른 노드가 호출 중 → 임대가 풀릴 때까지 대기 (AI 실행 허가 없이)
+            boolean released = awaitLeaseRelease(leaseKey, deadline);
+            if (storedElsewhere.getAsBoolean()) {
+                remoteResolved.increment();
+                log.debug("다른 노드의 AI 호출 결과 사용: key={}", key);
+                return CompletableFuture.completedFuture(Optional.empty());
+            }
+            if (!released) {
+                leaseTimeouts.increment();
+                log.warn("AI 호출 임대 대기 시간 초과: key={}", key);
+                throw new BusinessException(
+                    RecommendErrorCode.AI_UPSTREAM_TIMEOUT.getCommonCode(),
+                    RecommendErrorCode.AI_UPSTREAM_TIMEOUT.getMessage());
+            }
+            // 임대가 풀렸지만 결과가 없음 (상대 노드 실패) → 임대 재시도
+        }
+    }
+
+    private <T> CompletableFuture<Optional<T>> call(Supplier<T> loader) {
+        return aiExecutor.supply(() -> Optional.of(loader.get()));
+    }
+
+    /**
+     * 임대 획득 시도 (Redis 장애 시 null)
+     */
+    private Boolean tryAcquire(String leaseKey, String token) {
+        try {
+            return Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(leaseKey, token, leaseTtl));
+        } catch (RuntimeException e) {
+            log.warn("AI 호출 임대 획득 실패, 노드 내 병합만 적용: key={}, error={}", leaseKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void release(String leaseKey, String token) {
+        try {
+            redis.execute(RELEASE_SCRIPT, List.of(leaseKey), token);
+        } catch (RuntimeException e) {
+            // 해제 실패 시 TTL 만료로 정리됨
+            log.warn("AI 호출 임대 해제 실패: key={}, error={}", leaseKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 임대가 풀릴 때까지 대기
+     * @return 기한 안에 풀렸으면 true (Redis 확인 실패도 true로 보고 임대 재시도)
+     */
+    private boolean awaitLeaseRelease(String leaseKey, long deadline) {
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                Thread.sleep(pollIntervalMillis);
+                if (!Boolean.TRUE.equals(redis.hasKey(leaseKey))) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(
+                RecommendErrorCode.AI_UPSTREAM_UNAVAILABLE.getCommonCode(),
+                RecommendErrorCode.AI_UPSTREAM_UNAVAILABLE.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("AI 호출 임대 확인 실패: key={}, error={}", leaseKey, e.getMessage());
+            return true;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinators.shutdownNow();
+    }
+
+    /**
+     * 통계 정보 조회
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("leaseEnabled", leaseEnabled);
+        stats.put("inFlight", inFlight.size());
+        stats.put("leaderCalls", (long) leaderCalls.count());
+        stats.put("localJoins", (long) localJoins.count());
+        stats.put("remoteResolved", (long) remoteResolved.count());
+        stats.put("leaseTimeouts", (long) leaseTimeouts.count());
+        return stats;
+    }
+}
@@ -1,13 +1,16 @@
 package com.example.backend.recommend.infra.ai;
 
 import com.example.backend.common.exception.BusinessException;
+import com.example.backend.recommend.entity.SurvivalRates;
 import com.example.backend.recommend.exception.RecommendErrorCode;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,28 +20,22 @@ public class AiResponseParser {
     private static final String[] METRIC_KEYS = {"1","2","3","4","5"};
     private static final Logger log = LoggerFactory.getLogger(AiResponseParser.class);
 
-    /** 카테고리 → 지표 리스트(Map<String, List<Double>>) */
-    public Map<String, List<Double>> toCategoryMetricListV2(JsonNode aiResponse) {
+    /** 카테고리 → 생존율(Map<String, SurvivalRates>) */
+    public Map<String, SurvivalRates> toCategoryMetricListV2(JsonNode aiResponse) {
         JsonNode data = requireDataArray(aiResponse); // 배열만 허용
-        Map<String, List<Double>> out = new LinkedHashMap<>();
+        Map<String, SurvivalRates> out = new LinkedHashMap<>();
 
         for (JsonNode row : data) {
             // "category": "치과의원" 같은 문자열
             String category = row.path("category").asText(null);
             if (category == null || category.isBlank()) continue;
 
-            // "1"..."5" 각 칸에서 숫자만 추출, 아니면 null로 채워 길이 5 고정
-            var vals = new java.util.ArrayList<Double>(METRIC_KEYS.length);
-            for (String k : METRIC_KEYS) {
-                JsonNode v = row.get(k);
-                vals.add((v != null && v.isNumber()) ? v.asDouble() : null);
-            }
-            out.put(category, java.util.Collections.unmodifiableList(vals));
+            out.put(category, readRates(row));
         }
         return out;
     }
 
-    public List<Double> toCategoryMetricV2(JsonNode aiResponse, String categoryName) {
+    public SurvivalRates toCategoryMetricV2(JsonNode aiResponse, String categoryName) {
         JsonNode data = requireDataPresent(aiResponse).get(0);
 
         String category = data.path("category").asText(null);
@@ -49,14 +46,63 @@ public class AiResponseParser {
             );
         }
 
-        // "1"..."5" 각 칸에서 숫자만 추출, 아니면 null로 채워 길이 5 고정
-        List<Double> vals = new java.util.ArrayList<>(METRIC_KEYS.length);
-        for (String k : METRIC_KEYS) {
-            JsonNode v = data.get(k);
-            vals.add((v != null && v.isNumber()) ? v.asDouble() : null);
+        return readRates(data);
+    }
+
+    /** 배치 결과 행 → 건물 ID별 지표 리스트 (실패한 행은 제외) */
+    public Map<Integer, SurvivalRates> toCategoryMetricBatchV2(List<JsonNode> rows, String categoryName) {
+        Map<Integer, SurvivalRates> out = new LinkedHashMap<>();
+        for (JsonNode row : rows) {
+            int buildingId = row.path("building_id").asInt(-1);
+            if (buildingId < 0) continue;
+
+            if (!row.path("success").asBoolean(false)) {
+                log.warn("AI 배치 항목 실패: building={}, error={}", buildingId, row.path("error").path("message").asText(null));
+                continue;
+            }
+            try {
+                out.put(buildingId, toCategoryMetricV2(row, categoryName));
+            } catch (BusinessException e) {
+                log.warn("AI 배치 항목 응답 오류: building={}, message={}", buildingId, e.getMessage());
+            }
+        }
+        return out;
+    }
+
+    /** 한 건물의 여러 업종 배치 결과 행 → 업종명별 지표 (실패/다른 건물 행은 제외) */
+    public Map<String, SurvivalRates> toBuildingMetricBatchV2(List<JsonNode> rows, int buildingId) {
+        Map<String, SurvivalRates> out = new LinkedHashMap<>();
+        for (JsonNode row : rows) {
+            if (row.path("building_id").asInt(-1) != buildingId) continue;
+            String category = row.path("category").asText(null);
+            if (category == null || category.isBlank()) continue;
+
+            if (!row.path("success").asBoolean(false)) {
+                log.warn("AI 배치 항목 실패: building={}, category={}, error={}",
+                        buildingId, category, row.path("error").path("message").asText(null));
+                continue;
+            }
+            try {
+                out.put(category, toCategoryMetricV2(row, category));
+            } catch (BusinessException e) {
+                log.warn("AI 배치 항목 응답 오류: building={}, category={}, message={}", buildingId, category, e.getMessage());
+            }
         }
+        return out;
+    }
 
-        return vals;
+    /**
+     * 배치 응답 중 AI가 성공으로 답한 업종 이름 (요청 실패/오류 항목 제외 → 재시도 대상)
+     */
+    public Set<String> answeredCategories(List<JsonNode> rows, int buildingId) {
+        Set<String> out = new HashSet<>();
+        for (JsonNode row : rows) {
+            if (row.path("building_id").asInt(-1) != buildingId) continue;
+            String category = row.path("category").asText(null);
+            if (category == null || category.isBlank()) continue;
+            if (row.path("success").asBoolean(false)) out.add(category);
+        }
+        return out;
     }
 
     public String toCategoryGMSV2(JsonNode aiResponse) {
@@ -74,6 +120,16 @@ public class AiResponseParser {
 
     // ---------- 내부 유틸 ----------
 
+    /** "1"..."5" 각 칸에서 숫자만 추출, 아니면 NaN (길이 5 고정) */
+    private SurvivalRates readRates(JsonNode row) {
+        float[] vals = new float[METRIC_KEYS.length];
+        for (int i = 0; i < METRIC_KEYS.length; i++) {
+            JsonNode v = row.get(METRIC_KEYS[i]);
+            vals[i] = (v != null && v.isNumber()) ? v.floatValue() : Float.NaN;
+        }
+        return SurvivalRates.wrap(vals);
+    }
+
     /** data가 JSON '배열'이어야 할 때 */
     private JsonNode requireDataArray(JsonNode aiResponse) {
         JsonNode data = requireDataPresent(aiResponse);
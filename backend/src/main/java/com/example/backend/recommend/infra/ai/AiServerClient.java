@@ -3,9 +3,18 @@ package com.example.backend.recommend.infra.ai;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 public interface AiServerClient {
     JsonNode requestAll(int id, BigDecimal lat, BigDecimal lng);
     JsonNode requestCategory(int id, BigDecimal lat, BigDecimal lng, String categoryName);
     JsonNode requestGms(int id, BigDecimal lat, BigDecimal lng, String categoryName);
+
+    /**
+     * 여러 건물의 단일 업종 추론을 배치로 요청 (설정된 크기 단위로 나누어 전송)
+     * @return 요청 순서와 무관한 항목별 결과 행 (building_id, category, success, data)
+     */
+    List<JsonNode> requestCategoryBatch(List<CategoryJob> jobs);
+
+    record CategoryJob(int id, BigDecimal lat, BigDecimal lng, String categoryName) {}
 }
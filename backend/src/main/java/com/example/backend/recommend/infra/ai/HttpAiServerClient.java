@@ -2,9 +2,10 @@ package com.example.backend.recommend.infra.ai;
 
 import com.example.backend.common.exception.BusinessException;
 import com.example.backend.recommend.exception.RecommendErrorCode;
+import com.example.backend.recommend.exception.RecommendException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
@@ -18,19 +19,30 @@ import java.math.BigDecimal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.net.SocketTimeoutException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Component
-@RequiredArgsConstructor
 public class HttpAiServerClient implements AiServerClient {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private static final Logger log = LoggerFactory.getLogger(HttpAiServerClient.class);
 
-    @Value("${ai.server.base-url}")
-    private String baseUrl;
+    private final String baseUrl;
+    private final int batchSize;
+
+    public HttpAiServerClient(RestTemplate restTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${ai.server.base-url}") String baseUrl,
+                              @Value("${ai.server.batch-size:50}") int batchSize) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.batchSize = batchSize;
+    }
 
     @Override
     public JsonNode requestAll(int id, BigDecimal lat, BigDecimal lng) {
@@ -62,6 +74,99 @@ public class HttpAiServerClient implements AiServerClient {
         return postJson(uri.toString(), payload(id, lat, lng, categoryName));
     }
 
+    @Override
+    public List<JsonNode> requestCategoryBatch(List<CategoryJob> jobs) {
+        URI uri = UriComponentsBuilder
+                .fromUriString(baseUrl)
+                .path("/api/v1/ai/job/batch")
+                .build(true)
+                .toUri();
+
+        List<JsonNode> results = new ArrayList<>(jobs.size());
+        int chunkSize = Math.max(1, batchSize);
+        for (int from = 0; from < jobs.size(); from += chunkSize) {
+            List<CategoryJob> chunk = jobs.subList(from, Math.min(from + chunkSize, jobs.size()));
+            try {
+                results.addAll(postChunk(uri, chunk));
+            } catch (RuntimeException e) {
+                // 실패한 청크만 대체하고 이미 받은 청크와 남은 청크는 그대로 진행
+                results.addAll(fallbackChunk(chunk, e));
+            }
+        }
+        return results;
+    }
+
+    private List<JsonNode> postChunk(URI uri, List<CategoryJob> chunk) {
+        List<Map<String, Object>> items = new ArrayList<>(chunk.size());
+        for (CategoryJob job : chunk) {
+            items.add(payload(job.id(), job.lat(), job.lng(), job.categoryName()));
+        }
+        Map<String, Object> body = new HashMap<>();
+        body.put("items", items);
+
+        JsonNode rows = postJson(uri.toString(), body).path("body").path("results");
+        if (!rows.isArray()) {
+            throw new RecommendException(RecommendErrorCode.AI_UPSTREAM_BAD_RESPONSE);
+        }
+        List<JsonNode> out = new ArrayList<>(rows.size());
+        rows.forEach(out::add);
+        return out;
+    }
+
+    /**
+     * 실패한 청크 대체
+     * - 응답 형식 오류(파싱 실패, 배열 아님, 기타 4xx)만 항목별 단건 요청으로 재시도
+     * - 시간 초과/서버 불가/요청 제한 등은 단건도 같은 이유로 실패하므로 재시도 없이 실패 행으로 표시
+     * - 단건 재시도 중 형식 오류 외의 실패가 나면 남은 항목도 실패 행으로 표시
+     */
+    private List<JsonNode> fallbackChunk(List<CategoryJob> chunk, RuntimeException cause) {
+        boolean perItem = isBadResponse(cause);
+        log.warn("AI 배치 청크 실패 - {}: size={}, error={}",
+                perItem ? "건별 요청으로 대체" : "실패 처리", chunk.size(), cause.getMessage());
+
+        List<JsonNode> out = new ArrayList<>(chunk.size());
+        RuntimeException giveUp = perItem ? null : cause;
+        for (CategoryJob job : chunk) {
+            if (giveUp != null) {
+                out.add(failedRow(job, giveUp));
+                continue;
+            }
+            try {
+                JsonNode res = requestCategory(job.id(), job.lat(), job.lng(), job.categoryName());
+                ObjectNode row = baseRow(job);
+                row.put("success", res.path("success").asBoolean(false));
+                row.set("data", res.path("body").path("data"));
+                row.set("error", res.path("body").path("error"));
+                out.add(row);
+            } catch (RuntimeException e) {
+                out.add(failedRow(job, e));
+                if (!isBadResponse(e)) {
+                    giveUp = e;
+                }
+            }
+        }
+        return out;
+    }
+
+    private static boolean isBadResponse(RuntimeException e) {
+        return e instanceof RecommendException re
+                && re.getRecommendCode() == RecommendErrorCode.AI_UPSTREAM_BAD_RESPONSE;
+    }
+
+    private ObjectNode baseRow(CategoryJob job) {
+        ObjectNode row = objectMapper.createObjectNode();
+        row.put("building_id", job.id());
+        row.put("category", job.categoryName());
+        return row;
+    }
+
+    private ObjectNode failedRow(CategoryJob job, RuntimeException cause) {
+        ObjectNode row = baseRow(job);
+        row.put("success", false);
+        row.putObject("error").put("code", "REQUEST_FAILED").put("message", cause.getMessage());
+        return row;
+    }
+
     private Map<String, Object> payload(int id, BigDecimal lat, BigDecimal lng, String categoryName) {
         Map<String, Object> body = new HashMap<>();
         // 정밀도 보존을 위해 문자열로 직렬화
@@ -84,19 +189,13 @@ public class HttpAiServerClient implements AiServerClient {
 
             String responseBody = res.getBody();
             if (responseBody == null || responseBody.isBlank()) {
-                throw new BusinessException(
-                        RecommendErrorCode.AI_UPSTREAM_BAD_RESPONSE.getCommonCode(),
-                        RecommendErrorCode.AI_UPSTREAM_BAD_RESPONSE.getMessage()
-                );
+                throw new RecommendException(RecommendErrorCode.AI_UPSTREAM_BAD_RESPONSE);
             }
 
             try {
                 return objectMapper.readTree(responseBody);
             } catch (Exception parseEx) {
-                throw new BusinessException(
-                        RecommendErrorCode.AI_UPSTREAM_BAD_RESPONSE.getCommonCode(),
-                        RecommendErrorCode.AI_UPSTREAM_BAD_RESPONSE.getMessage()
-                );
+                throw new RecommendException(RecommendErrorCode.AI_UPSTREAM_BAD_RESPONSE);
             }
 
         } catch (HttpStatusCodeException e) {
@@ -136,10 +235,7 @@ public class HttpAiServerClient implements AiServerClient {
                 );
             }
             // 기타 4xx → BAD_RESPONSE
-            throw new BusinessException(
-                    RecommendErrorCode.AI_UPSTREAM_BAD_RESPONSE.getCommonCode(),
-                    RecommendErrorCode.AI_UPSTREAM_BAD_RESPONSE.getMessage()
-            );
+            throw new RecommendException(RecommendErrorCode.AI_UPSTREAM_BAD_RESPONSE);
 
         } catch (ResourceAccessException e) {
             log.error("AI-SERVER-ERROR :: message: {}", e.getMessage());
@@ -155,6 +251,9 @@ public class HttpAiServerClient implements AiServerClient {
                     RecommendErrorCode.AI_UPSTREAM_UNAVAILABLE.getMessage()
             );
 
+        } catch (BusinessException e) {
+            throw e; // 위에서 매핑한 응답 형식 오류는 그대로 전달
+
         } catch (Exception e) {
             log.error("AI-SERVER-ERROR :: message: {}", e.getMessage());
             throw new BusinessException(
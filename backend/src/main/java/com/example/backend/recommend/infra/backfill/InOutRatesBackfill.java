@@ -0,0 +1,205 @@
+package com.example.backend.recommend.infra.backfill;
+
+import com.example.backend.recommend.entity.SurvivalRates;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * in_out 구 JSON result 컬럼 → rates(BINARY(20)) 백필 (mysql/migrations/V20261019 의 1·2단계를 기동 시 적용)
+ * - 구 컬럼이 남아 있는 DB에서만 동작: 기동 시 구 컬럼을 NULL 허용으로 바꾼 뒤 (새 행은 rates만 채움)
+ *   기동을 막지 않도록 가상 스레드에서 전체 백필
+ * - PK 순 키셋 페이지로 훑으며 rates가 비어 있는 행만 채움 (여러 노드가 동시에 돌아도 안전)
+ * - 전체 백필이 끝나기 전에는 조회 경로가 읽으려는 건물을 먼저 변환 (backfillBuildings)
+ *   → 아직 변환되지 않은 행이 "결과 없음"으로 읽혀 AI 재호출이나 업종 미완성 판정으로 이어지지 않도록
+ * - 파싱할 수 없는 JSON은 건너뛰고 개수만 기록
+ */
+@Component
+@Slf4j
+public class InOutRatesBackfill {
+
+    private static final String SELECT_SQL =
+        "SELECT building_id, category_id, result FROM in_out " +
+        "WHERE (building_id > ? OR (building_id = ? AND category_id > ?)) " +
+        "AND rates IS NULL AND result IS NOT NULL " +
+        "ORDER BY building_id, category_id LIMIT ?";
+    private static final String SELECT_BUILDINGS_SQL =
+        "SELECT building_id, category_id, result FROM in_out " +
+        "WHERE building_id IN (%s) AND rates IS NULL AND result IS NOT NULL";
+    private static final String UPDATE_SQL =
+        "UPDATE in_out SET rates = ? WHERE building_id = ? AND category_id = ? AND rates IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final AtomicLong migratedRows = new AtomicLong();
+    private final AtomicLong skippedRows = new AtomicLong();
+    private volatile String state = "idle";
+    // 구 컬럼이 남아 있고 전체 백필이 끝나지 않았으면 true (null: 아직 확인 전)
+    private volatile Boolean pending;
+
+    public InOutRatesBackfill(JdbcTemplate jdbcTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${recommend.rates.backfill.enabled:true}") boolean enabled,
+                              @Value("${recommend.rates.backfill.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!enabled) return;
+        if (pending()) {
+            relaxLegacyColumn();
+        }
+        Thread.ofVirtual().name("in-out-rates-backfill").start(this::run);
+    }
+
+    void run() {
+        try {
+            if (!pending()) {
+                state = "not-needed";
+                return;
+            }
+            state = "running";
+            log.info("생존율 백필 시작: batchSize={}", batchSize);
+
+            int lastBuilding = -1;
+            int lastCategory = -1;
+            while (true) {
+                List<Object[]> updates = new ArrayList<>(batchSize);
+                int[] cursor = {lastBuilding, lastCategory};
+                int scanned = jdbcTemplate.query(SELECT_SQL, (ResultSet rs) -> {
+                    int n = 0;
+                    while (rs.next()) {
+                        n++;
+                        cursor[0] = rs.getInt(1);
+                        cursor[1] = rs.getInt(2);
+                        SurvivalRates rates = parse(rs.getString(3));
+                        if (rates == null || rates.isEmpty()) {
+                            skippedRows.incrementAndGet();
+                            continue;
+                        }
+                        updates.add(new Object[]{rates.toBytes(), cursor[0], cursor[1]});
+                    }
+                    return n;
+                }, lastBuilding, lastBuilding, lastCategory, batchSize);
+
+                if (!updates.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+                    migratedRows.addAndGet(updates.size());
+                }
+                if (scanned < batchSize) break;
+                lastBuilding = cursor[0];
+                lastCategory = cursor[1];
+            }
+
+            pending = false;
+            state = "done";
+            log.info("생존율 백필 완료: migrated={}, skipped={}", migratedRows.get(), skippedRows.get());
+        } catch (RuntimeException e) {
+            state = "failed";
+            log.error("생존율 백필 실패 (다음 기동 시 이어서 진행): migrated={}", migratedRows.get(), e);
+        }
+    }
+
+    /**
+     * 조회 전에 해당 건물들의 미변환 행을 변환 (전체 백필이 끝났거나 필요 없으면 즉시 반환)
+     *
+     * @return 변환한 행이 있으면 true
+     */
+    public boolean backfillBuildings(Collection<Integer> buildingIds) {
+        if (buildingIds == null || buildingIds.isEmpty() || !pending()) {
+            return false;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(buildingIds.size(), "?"));
+        List<Object[]> updates = new ArrayList<>();
+        jdbcTemplate.query(SELECT_BUILDINGS_SQL.formatted(placeholders), (ResultSet rs) -> {
+            SurvivalRates rates = parse(rs.getString(3));
+            if (rates == null || rates.isEmpty()) {
+                skippedRows.incrementAndGet();
+                return;
+            }
+            updates.add(new Object[]{rates.toBytes(), rs.getInt(1), rs.getInt(2)});
+        }, buildingIds.toArray());
+
+        if (updates.isEmpty()) {
+            return false;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        migratedRows.addAndGet(updates.size());
+        return true;
+    }
+
+    private boolean pending() {
+        Boolean current = pending;
+        if (current == null) {
+            current = enabled && legacyColumnNullable() != null;
+            pending = current;
+        }
+        return current;
+    }
+
+    /**
+     * 구 컬럼이 NOT NULL이면 NULL 허용으로 변경 (새로 저장하는 행은 rates만 채우므로)
+     */
+    private void relaxLegacyColumn() {
+        try {
+            if (Boolean.FALSE.equals(legacyColumnNullable())) {
+                jdbcTemplate.execute("ALTER TABLE in_out MODIFY COLUMN result JSON NULL");
+                log.info("in_out.result 컬럼을 NULL 허용으로 변경");
+            }
+        } catch (RuntimeException e) {
+            log.error("in_out.result 컬럼 변경 실패 (mysql/migrations/V20261019 수동 적용 필요)", e);
+        }
+    }
+
+    /**
+     * 구 result 컬럼의 NULL 허용 여부 (컬럼이 없으면 null)
+     */
+    private Boolean legacyColumnNullable() {
+        return jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (ResultSet rs = connection.getMetaData()
+                    .getColumns(connection.getCatalog(), null, "in_out", "result")) {
+                return rs.next() ? "YES".equals(rs.getString("IS_NULLABLE")) : null;
+            }
+        });
+    }
+
+    private SurvivalRates parse(String json) {
+        try {
+            return objectMapper.readValue(json, SurvivalRates.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 통계 정보 조회
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("state", state);
+        stats.put("migratedRows", migratedRows.get());
+        stats.put("skippedRows", skippedRows.get());
+        return stats;
+    }
+}
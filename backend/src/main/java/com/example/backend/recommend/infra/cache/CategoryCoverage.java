@@ -0,0 +1,302 @@
+package com.example.backend.recommend.infra.cache;
+
+import com.example.backend.recommend.port.CategoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 건물별 업종 결과 보유 비트맵 (비트 번호 = categoryId)
+ * - L1: 힙 내부 LRU, L2: Redis 비트맵(SETBIT, 노드 간 공유) → 완성도 판정이 COUNT 쿼리 없이 O(1)
+ * - 필수 업종은 category 테이블에서 주기적으로 다시 읽음 (업종 수 하드코딩 없음)
+ * - 비트는 늘기만 하므로(저장도 OR 병합) 오래된 값은 "덜 채워짐"으로만 틀림
+ *   → L1이 미완성이면 호출자가 Redis로 재확인 (getShared, DB 재확인 없음)
+ * - AI에 요청했지만 결과가 오지 않은 업종은 별도 비트맵에 TTL 동안 표시 → 그동안 누락으로 보지 않아 매 조회 AI 재호출 방지
+ * - Redis 장애는 미스로 취급 (베스트에포트)
+ */
+@Component
+@Slf4j
+public class CategoryCoverage {
+
+    private static final String KEY_FMT = "reco:coverage:v2:%d";
+    // 보유 비트맵의 0번 비트: DB에서 전체를 채운 키 표시 (업종 비트는 categoryId + 1)
+    // → add()의 SETBIT로 일부 비트만 생긴 키는 DB에서 다시 채움
+    private static final int SEEDED_OFFSET = 0;
+    private static final String UNAVAILABLE_KEY_FMT = "reco:coverage:unavailable:%d";
+
+    private final StringRedisTemplate redis;
+    private final CategoryPort categoryPort;
+    private final Duration ttl;
+    private final Duration unavailableTtl;
+    private final long refreshNanos;
+    private final Map<Integer, BitSet> local;
+
+    private volatile BitSet required;
+    private volatile long requiredLoadedAt;
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CategoryCoverage(StringRedisTemplate redis,
+                            CategoryPort categoryPort,
+                            @Value("${recommend.coverage.l1.max-size:100000}") int maxSize,
+                            @Value("${recommend.coverage.ttl-millis:86400000}") long ttlMillis,
+                            @Value("${recommend.coverage.unavailable-ttl-millis:3600000}") long unavailableTtlMillis,
+                            @Value("${recommend.coverage.categories-refresh-millis:600000}") long refreshMillis) {
+        this.redis = redis;
+        this.categoryPort = categoryPort;
+        this.ttl = Duration.ofMillis(ttlMillis);
+        this.unavailableTtl = Duration.ofMillis(unavailableTtlMillis);
+        this.refreshNanos = refreshMillis * 1_000_000L;
+        int capacity = Math.max(1, maxSize);
+        this.local = new LinkedHashMap<>(Math.min(capacity, 1 << 16), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, BitSet> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * 노드 간 공유 상태 (Redis 기준)
+     *
+     * @param covered     결과가 저장된 업종 (Redis에 없으면 null → 호출자가 DB에서 재구성)
+     * @param unavailable AI가 결과를 주지 않아 TTL 동안 누락으로 보지 않을 업종
+     */
+    public record Shared(BitSet covered, BitSet unavailable) {
+    }
+
+    private static byte[] key(int buildingId) {
+        return String.format(KEY_FMT, buildingId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] unavailableKey(int buildingId) {
+        return String.format(UNAVAILABLE_KEY_FMT, buildingId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * L1의 보유 비트맵, 없으면 null
+     * - 반환값은 공유 객체이므로 수정 금지
+     */
+    public BitSet getLocal(int buildingId) {
+        BitSet bits;
+        synchronized (local) {
+            bits = local.get(buildingId);
+        }
+        if (bits != null) {
+            l1Hits.increment();
+        }
+        return bits;
+    }
+
+    /**
+     * Redis에서 보유 비트맵과 결과 없음 표시를 한 번에 읽음 (다른 노드가 채운 비트를 L1에 병합)
+     * - Redis 장애 시 L1 값으로 대신함 (결과 없음 표시는 비어 있음)
+     */
+    public Shared getShared(int buildingId) {
+        try {
+            List<Object> raw = redis.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().get(key(buildingId));
+                connection.stringCommands().get(unavailableKey(buildingId));
+                return null;
+            }, RedisSerializer.byteArray());
+            BitSet unavailable = raw.get(1) instanceof byte[] bytes ? fromRedis(bytes) : new BitSet();
+            BitSet stored = raw.get(0) instanceof byte[] bytes ? fromRedis(bytes) : null;
+            if (stored != null && stored.get(SEEDED_OFFSET)) {
+                l2Hits.increment();
+                return new Shared(mergeLocal(buildingId, stored.get(1, Math.max(1, stored.length()))), unavailable);
+            }
+            misses.increment();
+            return new Shared(null, unavailable);
+        } catch (RuntimeException e) {
+            log.debug("업종 비트맵 조회 실패: buildingId={}, error={}", buildingId, e.getMessage());
+            BitSet bits;
+            synchronized (local) {
+                bits = local.get(buildingId);
+            }
+            if (bits == null) misses.increment();
+            return new Shared(bits, new BitSet());
+        }
+    }
+
+    /**
+     * DB에서 새로 읽은 비트맵을 병합 (L1 + Redis, OR)
+     * - 읽는 사이 커밋된 add()의 비트를 덮어쓰지 않도록 교체하지 않고 비트를 더하기만 함
+     *
+     * @return 병합된 L1 비트맵
+     */
+    public BitSet put(int buildingId, BitSet bits) {
+        BitSet merged = mergeLocal(buildingId, bits);
+        List<Integer> offsets = new ArrayList<>(bits.cardinality() + 1);
+        offsets.add(SEEDED_OFFSET);
+        bits.stream().forEach(categoryId -> offsets.add(categoryId + 1));
+        pipelineSetBits(key(buildingId), offsets, ttl, buildingId);
+        return merged;
+    }
+
+    private BitSet mergeLocal(int buildingId, BitSet bits) {
+        synchronized (local) {
+            BitSet current = local.get(buildingId);
+            if (current != null) {
+                if (containsAll(current, bits)) return current;
+                BitSet next = (BitSet) current.clone();
+                next.or(bits);
+                bits = next;
+            }
+            local.put(buildingId, bits);
+            return bits;
+        }
+    }
+
+    private static boolean containsAll(BitSet current, BitSet bits) {
+        BitSet extra = (BitSet) bits.clone();
+        extra.andNot(current);
+        return extra.isEmpty();
+    }
+
+    /**
+     * 저장된 업종 비트 추가 (업서트 커밋 후 호출)
+     * - L1은 있을 때만 복사 후 교체 (없으면 다음 조회 때 Redis/DB에서 채움)
+     * - Redis는 파이프라인 SETBIT; 키가 없던 경우 일부 비트만 생기지만 채움 표시가 없으므로 다음 조회 때 DB에서 채움
+     */
+    public void add(int buildingId, Collection<Integer> categoryIds) {
+        if (categoryIds.isEmpty()) return;
+        synchronized (local) {
+            BitSet current = local.get(buildingId);
+            if (current != null) {
+                BitSet next = (BitSet) current.clone();
+                categoryIds.forEach(next::set);
+                local.put(buildingId, next);
+            }
+        }
+        pipelineSetBits(key(buildingId), categoryIds.stream().map(categoryId -> categoryId + 1).toList(), ttl, buildingId);
+    }
+
+    /**
+     * AI에 요청했지만 결과가 오지 않은 업종 표시 (TTL 동안 누락으로 보지 않음, 마지막 표시 기준으로 만료 연장)
+     */
+    public void markUnavailable(int buildingId, Collection<Integer> categoryIds) {
+        if (categoryIds.isEmpty()) return;
+        pipelineSetBits(unavailableKey(buildingId), categoryIds, unavailableTtl, buildingId);
+    }
+
+    private void pipelineSetBits(byte[] redisKey, Collection<Integer> offsets, Duration expire, int buildingId) {
+        try {
+            long expireMillis = expire.toMillis();
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (Integer offset : offsets) {
+                    connection.stringCommands().setBit(redisKey, offset, true);
+                }
+                connection.keyCommands().pExpire(redisKey, expireMillis);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.debug("업종 비트맵 갱신 실패: buildingId={}, error={}", buildingId, e.getMessage());
+        }
+    }
+
+    /**
+     * 필수 업종 중 bits에 없는 categoryId (오름차순, 비어 있으면 완성)
+     */
+    public List<Integer> missing(BitSet bits) {
+        return missing(bits, new BitSet());
+    }
+
+    /**
+     * 필수 업종 중 bits에도 결과 없음 표시에도 없는 categoryId (오름차순, 비어 있으면 완성)
+     */
+    public List<Integer> missing(BitSet bits, BitSet unavailable) {
+        BitSet gaps = (BitSet) required().clone();
+        gaps.andNot(bits);
+        gaps.andNot(unavailable);
+        List<Integer> out = new ArrayList<>(gaps.cardinality());
+        for (int i = gaps.nextSetBit(0); i >= 0; i = gaps.nextSetBit(i + 1)) {
+            out.add(i);
+        }
+        return out;
+    }
+
+    public static BitSet toBits(Collection<Integer> categoryIds) {
+        BitSet bits = new BitSet();
+        categoryIds.forEach(bits::set);
+        return bits;
+    }
+
+    /** 현재 필수 업종 수 (category 테이블 기준) */
+    public int requiredCount() {
+        return required().cardinality();
+    }
+
+    private BitSet required() {
+        BitSet current = required;
+        if (current != null && System.nanoTime() - requiredLoadedAt < refreshNanos) {
+            return current;
+        }
+        synchronized (this) {
+            if (required != null && System.nanoTime() - requiredLoadedAt < refreshNanos) {
+                return required;
+            }
+            try {
+                BitSet loaded = toBits(categoryPort.getAll().keySet());
+                if (current != null && !loaded.equals(current)) {
+                    log.info("필수 업종 변경: {} → {}개", current.cardinality(), loaded.cardinality());
+                }
+                required = loaded;
+            } catch (RuntimeException e) {
+                // 이전 값이 있으면 계속 사용, 처음이면 전파
+                if (current == null) throw e;
+                log.warn("필수 업종 갱신 실패, 이전 값 사용: {}", e.getMessage());
+            }
+            requiredLoadedAt = System.nanoTime();
+            return required;
+        }
+    }
+
+    /** Redis 비트맵 바이트 → BitSet (SETBIT 오프셋 n은 n/8번째 바이트의 상위 비트부터) */
+    static BitSet fromRedis(byte[] raw) {
+        BitSet bits = new BitSet(raw.length * 8);
+        for (int i = 0; i < raw.length; i++) {
+            int b = raw[i] & 0xFF;
+            for (int j = 0; b != 0 && j < 8; j++) {
+                if ((b & (0x80 >>> j)) != 0) bits.set(i * 8 + j);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * 통계 정보 조회
+     */
+    public Map<String, Object> getStatistics() {
+        int size;
+        synchronized (local) {
+            size = local.size();
+        }
+        long h1 = l1Hits.sum();
+        long h2 = l2Hits.sum();
+        long m = misses.sum();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("size", size);
+        stats.put("l1Hits", h1);
+        stats.put("l2Hits", h2);
+        stats.put("misses", m);
+        stats.put("hitRatio", h1 + h2 + m == 0 ? 0.0 : (double) (h1 + h2) / (h1 + h2 + m));
+        stats.put("requiredCategories", required == null ? 0 : required.cardinality());
+        return stats;
+    }
+}
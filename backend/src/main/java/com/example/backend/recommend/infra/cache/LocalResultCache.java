@@ -0,0 +1,248 @@
+package com.example.backend.recommend.infra.cache;
+
+import com.example.backend.recommend.entity.SurvivalRates;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * L1: 힙 내부 생존율 벡터 캐시 (크기 제한 + W-TinyLFU 방식 입장 정책)
+ * - 새 항목은 작은 윈도우 LRU(전체의 1%)에 먼저 들어가고, 윈도우에서 밀려난 항목은
+ *   메인 영역의 LRU 희생자보다 최근 접근 빈도가 높을 때만 메인에 입장
+ * - 접근 빈도는 Count-Min 스케치(4비트 카운터, 주기적으로 절반 감쇠)로 근사 → 한 번 훑고 지나가는 범위 검색이 인기 항목을 밀어내지 못함
+ * - 키 해시로 나눈 샤드별 락, TTL은 다른 노드의 write-through 갱신을 반영하기 위한 상한
+ */
+@Component
+public class LocalResultCache {
+
+    private static final int SHARD_COUNT = 16;
+
+    private final Shard[] shards = new Shard[SHARD_COUNT];
+    private final FrequencySketch sketch;
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public LocalResultCache(@Value("${recommend.cache.l1.max-size:100000}") int maxSize,
+                            @Value("${recommend.cache.l1.ttl-millis:600000}") long ttlMillis) {
+        int perShard = Math.max(2, maxSize / SHARD_COUNT);
+        int window = Math.max(1, perShard / 100);
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new Shard(window, perShard - window);
+        }
+        this.sketch = new FrequencySketch(Math.max(maxSize, SHARD_COUNT));
+        this.ttlNanos = ttlMillis * 1_000_000L;
+    }
+
+    public Optional<SurvivalRates> get(long key) {
+        sketch.increment(key);
+        SurvivalRates value = shardFor(key).get(key, System.nanoTime());
+        if (value == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(value);
+    }
+
+    /**
+     * 여러 키 조회 (찾은 것만 out에 추가)
+     */
+    public void getAll(Collection<Long> keys, Map<Long, SurvivalRates> out) {
+        for (Long key : keys) {
+            get(key).ifPresent(value -> out.put(key, value));
+        }
+    }
+
+    public void put(long key, SurvivalRates value) {
+        sketch.increment(key);
+        shardFor(key).put(key, value, System.nanoTime() + ttlNanos);
+    }
+
+    public void invalidate(long key) {
+        shardFor(key).remove(key);
+    }
+
+    private Shard shardFor(long key) {
+        return shards[(int) (FrequencySketch.spread(key) & (SHARD_COUNT - 1))];
+    }
+
+    /**
+     * 통계 정보 조회
+     */
+    public Map<String, Object> getStatistics() {
+        long size = 0;
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+        long h = hits.sum();
+        long m = misses.sum();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("size", size);
+        stats.put("hits", h);
+        stats.put("misses", m);
+        stats.put("hitRatio", h + m == 0 ? 0.0 : (double) h / (h + m));
+        stats.put("admissionRejections", rejections.sum());
+        return stats;
+    }
+
+    private record Entry(SurvivalRates value, long expiresAt) {
+    }
+
+    /**
+     * 윈도우 LRU + 메인 LRU (접근 순서 LinkedHashMap)
+     */
+    private final class Shard {
+
+        private final int windowCapacity;
+        private final int mainCapacity;
+        private final LinkedHashMap<Long, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<Long, Entry> main = new LinkedHashMap<>(16, 0.75f, true);
+
+        Shard(int windowCapacity, int mainCapacity) {
+            this.windowCapacity = windowCapacity;
+            this.mainCapacity = Math.max(1, mainCapacity);
+        }
+
+        synchronized SurvivalRates get(long key, long now) {
+            Entry entry = window.get(key);
+            LinkedHashMap<Long, Entry> region = window;
+            if (entry == null) {
+                entry = main.get(key);
+                region = main;
+            }
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() - now < 0) {
+                region.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+
+        synchronized void put(long key, SurvivalRates value, long expiresAt) {
+            Entry entry = new Entry(value, expiresAt);
+            if (main.containsKey(key)) {
+                main.put(key, entry);
+                return;
+            }
+            window.put(key, entry);
+            if (window.size() <= windowCapacity) {
+                return;
+            }
+
+            // 윈도우에서 밀려난 후보 → 메인 입장 심사
+            Map.Entry<Long, Entry> candidate = pollEldest(window);
+            if (main.size() < mainCapacity) {
+                main.put(candidate.getKey(), candidate.getValue());
+                return;
+            }
+            Iterator<Map.Entry<Long, Entry>> it = main.entrySet().iterator();
+            Map.Entry<Long, Entry> victim = it.next();
+            if (sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey())) {
+                it.remove();
+                main.put(candidate.getKey(), candidate.getValue());
+            } else {
+                rejections.increment();
+            }
+        }
+
+        synchronized void remove(long key) {
+            if (window.remove(key) == null) {
+                main.remove(key);
+            }
+        }
+
+        synchronized int size() {
+            return window.size() + main.size();
+        }
+
+        private Map.Entry<Long, Entry> pollEldest(LinkedHashMap<Long, Entry> map) {
+            Iterator<Map.Entry<Long, Entry>> it = map.entrySet().iterator();
+            Map.Entry<Long, Entry> eldest = it.next();
+            Map.Entry<Long, Entry> copy = Map.entry(eldest.getKey(), eldest.getValue());
+            it.remove();
+            return copy;
+        }
+    }
+
+    /**
+     * Count-Min 스케치 (깊이 4, 4비트 포화 카운터)
+     * - 표본 수가 10 × 폭에 도달하면 모든 카운터를 절반으로 줄여 오래된 인기도를 잊음
+     * - 동시 갱신 경쟁으로 일부 증가가 유실될 수 있으나 근사치 용도라 허용
+     */
+    private static final class FrequencySketch {
+
+        private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+        };
+
+        private final byte[][] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int expectedSize) {
+            int width = Integer.highestOneBit(Math.max(16, expectedSize - 1)) << 1;
+            this.table = new byte[SEEDS.length][width];
+            this.mask = width - 1;
+            this.sampleSize = 10 * width;
+        }
+
+        static long spread(long key) {
+            key ^= key >>> 33;
+            key *= 0xff51afd7ed558ccdL;
+            key ^= key >>> 33;
+            return key;
+        }
+
+        private int index(long key, int row) {
+            long h = spread(key ^ SEEDS[row]);
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+
+        void increment(long key) {
+            boolean added = false;
+            for (int row = 0; row < table.length; row++) {
+                int i = index(key, row);
+                if (table[row][i] < 15) {
+                    table[row][i]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(long key) {
+            int min = Integer.MAX_VALUE;
+            for (int row = 0; row < table.length; row++) {
+                min = Math.min(min, table[row][index(key, row)]);
+            }
+            return min;
+        }
+
+        private synchronized void reset() {
+            if (additions < sampleSize) {
+                return;
+            }
+            for (byte[] row : table) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = (byte) (row[i] >> 1);
+                }
+            }
+            additions = 0;
+        }
+    }
+}
@@ -1,35 +1,64 @@
 package com.example.backend.recommend.infra.cache;
 
-import lombok.RequiredArgsConstructor;
+import com.example.backend.recommend.entity.SurvivalRates;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * L2: Redis 생존율 캐시 (노드 간 공유)
+ * - 값은 SurvivalRates 20바이트 그대로 저장 (문자열 인코딩/파싱 없음)
+ * - 일괄 조회는 MGET 한 번, 일괄 저장은 파이프라인 SET EX
+ * - Redis 장애는 캐시 미스로 취급 (베스트에포트)
+ */
 @Component
-@RequiredArgsConstructor
+@Slf4j
 public class RedisResultCache implements ResultCache {
 
+    // v2: 바이너리 값 (이전 CSV 문자열 키는 TTL로 자연 만료)
+    private static final String KEY_FMT = "reco:result:v2:%d:%d";
+
     private final StringRedisTemplate redis;
-    private static final String KEY_FMT = "reco:result:%d:%d";
-    private static final Duration DEFAULT_TTL = Duration.ofHours(24); // 안전망
+    private final Duration ttl;
+
+    public RedisResultCache(StringRedisTemplate redis,
+                            @Value("${recommend.cache.l2.ttl-millis:86400000}") long ttlMillis) {
+        this.redis = redis;
+        this.ttl = Duration.ofMillis(ttlMillis);
+    }
+
+    private byte[] key(int b, int c) {
+        return String.format(KEY_FMT, b, c).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] key(long key) {
+        return key(SurvivalVectors.buildingId(key), SurvivalVectors.categoryId(key));
+    }
 
-    private String key(int b, int c) {
-        return String.format(KEY_FMT, b, c);
+    /** 길이가 맞지 않는 값은 미스로 취급 (다음 저장 시 덮어씀) */
+    private static SurvivalRates decode(byte[] value) {
+        return value == null || value.length != SurvivalRates.BYTES ? null : SurvivalRates.fromBytes(value);
     }
 
     @Override
-    public Optional<Double> get(int buildingId, int categoryId) {
+    public Optional<SurvivalRates> get(int buildingId, int categoryId) {
         try {
-            String v = redis.opsForValue().get(key(buildingId, categoryId));
-            if (v == null) return Optional.empty();
-            try {
-                return Optional.of(Double.parseDouble(v));
-            } catch (NumberFormatException e) {
-                redis.delete(key(buildingId, categoryId)); // 깨진 값 정리
-                return Optional.empty();
-            }
+            byte[] v = redis.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(key(buildingId, categoryId)));
+            return Optional.ofNullable(decode(v));
         } catch (RuntimeException e) {
             // Redis 장애 시 캐시 미스로 취급하여 상위 로직 진행
             return Optional.empty();
@@ -37,26 +66,70 @@ public class RedisResultCache implements ResultCache {
     }
 
     @Override
-    public void set(int buildingId, int categoryId, double value, Duration ttl) {
-        // NaN/Infinity는 저장하지 않음
-        if (Double.isNaN(value) || Double.isInfinite(value)) return;
+    public Map<Long, SurvivalRates> getAll(Collection<Long> keys) {
+        if (keys.isEmpty()) return Map.of();
 
-        Duration effectiveTtl =
-                (ttl == null || ttl.isZero() || ttl.isNegative()) ? DEFAULT_TTL : ttl;
+        List<Long> ordered = new ArrayList<>(keys);
+        byte[][] redisKeys = new byte[ordered.size()][];
+        for (int i = 0; i < redisKeys.length; i++) {
+            redisKeys[i] = key(ordered.get(i));
+        }
 
         try {
-            redis.opsForValue().set(key(buildingId, categoryId),
-                    Double.toString(value),
-                    effectiveTtl);
+            List<byte[]> values = redis.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.stringCommands().mGet(redisKeys));
+            if (values == null) return Map.of();
+
+            Map<Long, SurvivalRates> out = new HashMap<>();
+            for (int i = 0; i < ordered.size(); i++) {
+                SurvivalRates rates = decode(values.get(i));
+                if (rates != null) {
+                    out.put(ordered.get(i), rates);
+                }
+            }
+            return out;
+        } catch (RuntimeException e) {
+            log.debug("L2 일괄 조회 실패: keys={}, error={}", keys.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    @Override
+    public void set(int buildingId, int categoryId, SurvivalRates result) {
+        if (result.isEmpty()) return;
+        try {
+            redis.execute((RedisCallback<Boolean>) connection -> connection.stringCommands().set(
+                    key(buildingId, categoryId), result.toBytes(), Expiration.from(ttl), RedisStringCommands.SetOption.upsert()));
         } catch (RuntimeException e) {
             // 캐시는 베스트에포트: 실패해도 예외 전파하지 않음
         }
     }
 
+    @Override
+    public void setAll(Map<Long, SurvivalRates> results) {
+        if (results.isEmpty()) return;
+        try {
+            Expiration expiration = Expiration.from(ttl);
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<Long, SurvivalRates> entry : results.entrySet()) {
+                    if (entry.getValue().isEmpty()) continue;
+                    connection.stringCommands().set(
+                        key(entry.getKey()),
+                        entry.getValue().toBytes(),
+                        expiration,
+                        RedisStringCommands.SetOption.upsert());
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.debug("L2 일괄 저장 실패: keys={}, error={}", results.size(), e.getMessage());
+        }
+    }
+
     @Override
     public void evict(int buildingId, int categoryId) {
         try {
-            redis.delete(key(buildingId, categoryId));
+            redis.execute((RedisCallback<Long>) connection -> connection.keyCommands().del(key(buildingId, categoryId)));
         } catch (RuntimeException ignored) { }
     }
 }
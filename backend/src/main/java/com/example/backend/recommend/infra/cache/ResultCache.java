@@ -1,10 +1,25 @@
 package com.example.backend.recommend.infra.cache;
 
-import java.time.Duration;
+import com.example.backend.recommend.entity.SurvivalRates;
+
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * (건물 ID, 업종 ID) → 생존율 벡터 캐시
+ * - 키는 SurvivalVectors.key(buildingId, categoryId)
+ */
 public interface ResultCache {
-    Optional<Double> get(int buildingId, int categoryId);
-    void set(int buildingId, int categoryId, double resultJson, Duration ttl);
+    Optional<SurvivalRates> get(int buildingId, int categoryId);
+
+    /** 여러 키 일괄 조회 (없는 키는 결과에서 제외) */
+    Map<Long, SurvivalRates> getAll(Collection<Long> keys);
+
+    void set(int buildingId, int categoryId, SurvivalRates result);
+
+    /** 여러 키 일괄 저장 */
+    void setAll(Map<Long, SurvivalRates> results);
+
     void evict(int buildingId, int categoryId);
 }
@@ -0,0 +1,26 @@
+package com.example.backend.recommend.infra.cache;
+
+/**
+ * 생존율 캐시 키 유틸
+ * - (건물 ID, 업종 ID)를 long 하나로 묶어 박싱/문자열 없이 조회
+ */
+public final class SurvivalVectors {
+
+    private SurvivalVectors() {
+    }
+
+    /**
+     * (건물 ID, 업종 ID) → 캐시 키
+     */
+    public static long key(int buildingId, int categoryId) {
+        return ((long) buildingId << 32) | (categoryId & 0xFFFFFFFFL);
+    }
+
+    public static int buildingId(long key) {
+        return (int) (key >>> 32);
+    }
+
+    public static int categoryId(long key) {
+        return (int) key;
+    }
+}
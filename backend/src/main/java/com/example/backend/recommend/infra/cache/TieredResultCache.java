@@ -0,0 +1,103 @@
+package com.example.backend.recommend.infra.cache;
+
+import com.example.backend.recommend.entity.SurvivalRates;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * L1(힙) → L2(Redis) 2단 생존율 벡터 캐시
+ * - 조회: L1 → 미스 키만 모아 L2 MGET → L2 히트는 L1에 채움
+ * - 저장: L1/L2 모두 write-through
+ */
+@Component
+@Primary
+public class TieredResultCache implements ResultCache {
+
+    private final LocalResultCache local;
+    private final RedisResultCache remote;
+
+    private final Counter l1Hits;
+    private final Counter l2Hits;
+    private final Counter cacheMisses;
+
+    public TieredResultCache(LocalResultCache local, RedisResultCache remote, MeterRegistry meterRegistry) {
+        this.local = local;
+        this.remote = remote;
+        this.l1Hits = lookupCounter(meterRegistry, "l1");
+        this.l2Hits = lookupCounter(meterRegistry, "l2");
+        this.cacheMisses = lookupCounter(meterRegistry, "miss");
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("recommend.result-cache.lookups").tag("result", result)
+            .description("생존율 벡터 캐시 조회 결과")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<SurvivalRates> get(int buildingId, int categoryId) {
+        long key = SurvivalVectors.key(buildingId, categoryId);
+        Optional<SurvivalRates> hit = local.get(key);
+        if (hit.isPresent()) {
+            l1Hits.increment();
+            return hit;
+        }
+        Optional<SurvivalRates> remoteHit = remote.get(buildingId, categoryId);
+        if (remoteHit.isPresent()) {
+            l2Hits.increment();
+            local.put(key, remoteHit.get());
+        } else {
+            cacheMisses.increment();
+        }
+        return remoteHit;
+    }
+
+    @Override
+    public Map<Long, SurvivalRates> getAll(Collection<Long> keys) {
+        Map<Long, SurvivalRates> out = new HashMap<>();
+        local.getAll(keys, out);
+        l1Hits.increment(out.size());
+        if (out.size() == keys.size()) {
+            return out;
+        }
+
+        List<Long> missing = new ArrayList<>(keys.size() - out.size());
+        for (Long key : keys) {
+            if (!out.containsKey(key)) missing.add(key);
+        }
+        Map<Long, SurvivalRates> fromRemote = remote.getAll(missing);
+        fromRemote.forEach(local::put);
+        out.putAll(fromRemote);
+
+        l2Hits.increment(fromRemote.size());
+        cacheMisses.increment(missing.size() - fromRemote.size());
+        return out;
+    }
+
+    @Override
+    public void set(int buildingId, int categoryId, SurvivalRates result) {
+        local.put(SurvivalVectors.key(buildingId, categoryId), result);
+        remote.set(buildingId, categoryId, result);
+    }
+
+    @Override
+    public void setAll(Map<Long, SurvivalRates> results) {
+        results.forEach(local::put);
+        remote.setAll(results);
+    }
+
+    @Override
+    public void evict(int buildingId, int categoryId) {
+        local.invalidate(SurvivalVectors.key(buildingId, categoryId));
+        remote.evict(buildingId, categoryId);
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.backend.recommend.infra.executor;
+
+import com.example.backend.common.exception.BusinessException;
+import com.example.backend.recommend.exception.RecommendErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 외부 서버(AI, 지오코더, LLM) 블로킹 호출 전용 실행기
+ * - 작업마다 가상 스레드 하나, 동시 실행 수는 세마포어로 upstream별 상한 적용
+ * - 실행 중 + 대기 중 작업 수가 max-concurrency + queue-capacity를 넘으면 즉시 거절 (공용 ForkJoinPool/요청 스레드가 막히지 않도록)
+ * - 반환된 future를 cancel()하면 대기 중이거나 실행 중인 가상 스레드를 인터럽트
+ * - upstream.executor.* 지표: 실행/대기 중 작업 수, 대기 시간, 실행 시간, 거절 수 (태그 name)
+ */
+@Slf4j
+public class UpstreamExecutor implements TaskExecutor, DisposableBean {
+
+    private final String name;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+    private final Semaphore permits;
+    private final ExecutorService threads;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+    private final Counter rejected;
+
+    public UpstreamExecutor(String name, int maxConcurrency, int queueCapacity, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.queueCapacity = Math.max(0, queueCapacity);
+        this.permits = new Semaphore(this.maxConcurrency, true);
+        this.threads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-upstream-", 0).factory());
+
+        Gauge.builder("upstream.executor.active", active, AtomicInteger::get).tag("name", name)
+            .description("실행 중인 외부 호출 수").register(meterRegistry);
+        Gauge.builder("upstream.executor.queued", queued, AtomicInteger::get).tag("name", name)
+            .description("동시 실행 허가를 기다리는 외부 호출 수").register(meterRegistry);
+        this.waitTimer = Timer.builder("upstream.executor.wait").tag("name", name)
+            .description("허가 대기 시간").register(meterRegistry);
+        this.executionTimer = Timer.builder("upstream.executor.execution").tag("name", name)
+            .description("외부 호출 실행 시간").register(meterRegistry);
+        this.rejected = Counter.builder("upstream.executor.rejected").tag("name", name)
+            .description("대기열 초과로 거절된 외부 호출 수").register(meterRegistry);
+    }
+
+    /**
+     * 블로킹 작업을 제출 (대기열이 가득 차면 실패한 future 반환)
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        if (!tryAdmit()) {
+            return CompletableFuture.failedFuture(new BusinessException(
+                RecommendErrorCode.UPSTREAM_BUSY.getCommonCode(),
+                RecommendErrorCode.UPSTREAM_BUSY.getMessage()));
+        }
+        return dispatch(task);
+    }
+
+    /**
+     * @Async 등 Executor 계약용 (대기열이 가득 차면 TaskRejectedException)
+     */
+    @Override
+    public void execute(Runnable task) {
+        if (!tryAdmit()) {
+            throw new TaskRejectedException("외부 호출 대기열 초과: executor=" + name);
+        }
+        dispatch(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 실행 중 + 대기 중 작업 수가 상한 이내일 때만 입장
+     */
+    private boolean tryAdmit() {
+        if (queued.incrementAndGet() + active.get() > maxConcurrency + queueCapacity) {
+            queued.decrementAndGet();
+            rejected.increment();
+            log.warn("외부 호출 대기열 초과로 거절: executor={}, maxConcurrency={}, queueCapacity={}",
+                name, maxConcurrency, queueCapacity);
+            return false;
+        }
+        return true;
+    }
+
+    private <T> CompletableFuture<T> dispatch(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicReference<Thread> runner = new AtomicReference<>();
+        long submittedAt = System.nanoTime();
+        try {
+            threads.execute(() -> run(task, result, runner, submittedAt));
+        } catch (RuntimeException e) {
+            // 종료 중 제출
+            queued.decrementAndGet();
+            return CompletableFuture.failedFuture(e);
+        }
+        // 호출자가 취소하면 대기/실행 중인 가상 스레드도 인터럽트
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                Thread thread = runner.get();
+                if (thread != null) {
+                    thread.interrupt();
+                }
+            }
+        });
+        return result;
+    }
+
+    private <T> void run(Supplier<T> task, CompletableFuture<T> result, AtomicReference<Thread> runner, long submittedAt) {
+        runner.set(Thread.currentThread());
+        try {
+            // 스레드 시작 전에 이미 취소된 경우
+            if (result.isDone()) {
+                queued.decrementAndGet();
+                return;
+            }
+            permits.acquire();
+        } catch (InterruptedException e) {
+            queued.decrementAndGet();
+            result.cancel(false);
+            return;
+        }
+        queued.decrementAndGet();
+        active.incrementAndGet();
+        long startedAt = System.nanoTime();
+        waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+
+        T value = null;
+        Throwable failure = null;
+        try {
+            if (!result.isDone()) {
+                value = task.get();
+            }
+        } catch (Throwable e) {
+            failure = e;
+        } finally {
+            executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            active.decrementAndGet();
+            permits.release();
+        }
+
+        // 후속 단계가 허가를 점유하지 않도록 해제 후 완료
+        if (failure != null) {
+            result.completeExceptionally(failure);
+        } else {
+            result.complete(value);
+        }
+    }
+
+    /**
+     * 통계 정보 조회
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("name", name);
+        stats.put("maxConcurrency", maxConcurrency);
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("active", active.get());
+        stats.put("queued", queued.get());
+        stats.put("rejected", (long) rejected.count());
+        stats.put("meanWaitMillis", waitTimer.mean(TimeUnit.MILLISECONDS));
+        stats.put("meanExecutionMillis", executionTimer.mean(TimeUnit.MILLISECONDS));
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        threads.shutdownNow();
+    }
+}
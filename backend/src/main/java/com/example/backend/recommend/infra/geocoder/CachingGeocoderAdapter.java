@@ -0,0 +1,430 @@
+package com.example.backend.recommend.infra.geocoder;
+
+import com.example.backend.common.exception.BusinessException;
+import com.example.backend.recommend.exception.RecommendErrorCode;
+import com.example.backend.recommend.exception.RecommendException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 지오코더 캐시 (GeocoderPort 기본 구현)
+ * - 역지오코딩: 좌표를 geohash 격자(precision 9 ≈ 4.8m x 4.8m)로 양자화한 키 → 근처를 다시 찍어도 외부 호출 없음
+ *   단, 격자 값은 처음 조회한 지점의 건물이므로 그 지점에서 reuse-radius 안쪽일 때만 사용 (격자 반대편 끝은 다시 조회)
+ * - 정방향 지오코딩: 공백/대소문자 정규화한 주소 키
+ * - L1: 힙 내부 LRU(TTL), L2: Redis (노드 간 공유), 둘 다 미스일 때만 GeocoderAdapter 호출
+ * - 같은 키 동시 미스는 한 번만 호출하고 나머지는 결과를 공유 (노드 내)
+ * - GEO_NOT_FOUND(RecommendException)만 짧은 TTL로 음성 캐시, 타임아웃/응답 오류/다른 NOT_FOUND는 캐시하지 않음
+ *   역지오코딩 음성 캐시는 더 촘촘한 격자(precision 11 ≈ 15cm) 키 → 건물 가장자리 빈 땅이 격자 전체를 가리지 않음
+ * - Redis 장애는 캐시 미스로 취급 (베스트에포트)
+ */
+@Primary
+@Component
+@Slf4j
+public class CachingGeocoderAdapter implements GeocoderPort {
+
+    private static final String REVERSE_KEY_PREFIX = "geo:rev:v2:";
+    private static final String REVERSE_NEGATIVE_KEY_PREFIX = "geo:rev:neg:v1:";
+    private static final String FORWARD_KEY_PREFIX = "geo:fwd:v1:";
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final String NEGATIVE = "-";
+    private static final char SEP = '\t';
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    private final GeocoderAdapter delegate;
+    private final StringRedisTemplate redis;
+    private final int precision;
+    private final int negativePrecision;
+    private final double reuseRadiusMeters;
+    private final long l1TtlNanos;
+    private final long l1NegativeTtlNanos;
+    private final Duration l2Ttl;
+    private final Duration negativeTtl;
+
+    private final Tier<Resolved> reverse;
+    private final Tier<GeoPoint> forward;
+
+    public CachingGeocoderAdapter(GeocoderAdapter delegate,
+                                  StringRedisTemplate redis,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${recommend.geocoder.cache.geohash-precision:9}") int precision,
+                                  @Value("${recommend.geocoder.cache.l1.max-size:50000}") int maxSize,
+                                  @Value("${recommend.geocoder.cache.l1.ttl-millis:600000}") long l1TtlMillis,
+                                  @Value("${recommend.geocoder.cache.l2.ttl-millis:604800000}") long l2TtlMillis,
+                                  @Value("${recommend.geocoder.cache.negative-ttl-millis:600000}") long negativeTtlMillis,
+                                  @Value("${recommend.geocoder.cache.negative-geohash-precision:11}") int negativePrecision,
+                                  @Value("${recommend.geocoder.cache.reuse-radius-meters:2}") double reuseRadiusMeters) {
+        this.delegate = delegate;
+        this.redis = redis;
+        this.precision = Math.clamp(precision, 1, 12);
+        this.negativePrecision = Math.clamp(negativePrecision, this.precision, 12);
+        this.reuseRadiusMeters = reuseRadiusMeters;
+        this.l1TtlNanos = l1TtlMillis * 1_000_000L;
+        this.l1NegativeTtlNanos = Math.min(l1TtlMillis, negativeTtlMillis) * 1_000_000L;
+        this.l2Ttl = Duration.ofMillis(l2TtlMillis);
+        this.negativeTtl = Duration.ofMillis(negativeTtlMillis);
+
+        this.reverse = new Tier<>(meterRegistry, "reverse", maxSize,
+                CachingGeocoderAdapter::encodeReverse, CachingGeocoderAdapter::decodeReverse);
+        this.forward = new Tier<>(meterRegistry, "forward", maxSize,
+                CachingGeocoderAdapter::encodePoint, CachingGeocoderAdapter::decodePoint);
+    }
+
+    @Override
+    public ReverseResult reverseToAdr(BigDecimal lat, BigDecimal lng) {
+        double y = lat.doubleValue();
+        double x = lng.doubleValue();
+        String cell = REVERSE_KEY_PREFIX + geohash(y, x, precision);
+        String spot = REVERSE_NEGATIVE_KEY_PREFIX + geohash(y, x, negativePrecision);
+        return lookup(reverse, cell, spot, resolved -> distanceMeters(resolved.lat(), resolved.lng(), y, x) <= reuseRadiusMeters,
+                () -> new Resolved(delegate.reverseToAdr(lat, lng), y, x)).result();
+    }
+
+    @Override
+    public GeoPoint getPointByAdr(String address) {
+        String normalized = normalizeAddress(address);
+        if (normalized.isEmpty()) {
+            return delegate.getPointByAdr(address); // 빈 주소는 캐시하지 않음 (지오코더 오류 그대로)
+        }
+        String key = FORWARD_KEY_PREFIX + normalized;
+        return lookup(forward, key, key, point -> true, () -> delegate.getPointByAdr(address));
+    }
+
+    /**
+     * L1 → L2 → 지오코더 순 조회, 결과는 key에, GEO_NOT_FOUND는 negativeKey에 두 계층 모두 저장
+     * - usable이 거짓인 캐시 값은 미스로 취급 (다시 조회한 값으로 덮어씀)
+     * - 지오코더 호출은 negativeKey 단위로 단일 비행 (동시 미스는 먼저 온 요청의 결과를 공유)
+     */
+    private <V> V lookup(Tier<V> tier, String key, String negativeKey, Predicate<V> usable, Supplier<V> loader) {
+        long now = System.nanoTime();
+        Lru.Entry<V> negative = tier.l1.get(negativeKey, now);
+        if (negative != null && negative.value() == null) {
+            tier.stats.negativeHits.increment();
+            throw notFound();
+        }
+        Lru.Entry<V> local = key.equals(negativeKey) ? negative : tier.l1.get(key, now);
+        if (local != null && local.value() != null) {
+            if (usable.test(local.value())) {
+                tier.stats.l1Hits.increment();
+                return local.value();
+            }
+            tier.stats.rechecks.increment();
+        } else {
+            List<String> remote = readL2(key.equals(negativeKey) ? List.of(key) : List.of(key, negativeKey));
+            if (remote != null) {
+                if (NEGATIVE.equals(remote.get(remote.size() - 1))) {
+                    tier.l1.put(negativeKey, null, now + l1NegativeTtlNanos);
+                    tier.stats.negativeHits.increment();
+                    throw notFound();
+                }
+                V value = remote.get(0) == null ? null : tier.decode.apply(remote.get(0));
+                if (value != null) {
+                    tier.l1.put(key, value, now + l1TtlNanos);
+                    if (usable.test(value)) {
+                        tier.stats.l2Hits.increment();
+                        return value;
+                    }
+                    tier.stats.rechecks.increment();
+                }
+            }
+        }
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = tier.inFlight.putIfAbsent(negativeKey, flight);
+        if (leader != null) {
+            tier.stats.coalesced.increment();
+            return await(leader, () -> load(tier, key, negativeKey, loader));
+        }
+        try {
+            V value = load(tier, key, negativeKey, loader);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e); // 합류한 요청이 영원히 기다리지 않도록 항상 완료
+            throw e;
+        } finally {
+            tier.inFlight.remove(negativeKey, flight);
+        }
+    }
+
+    private <V> V load(Tier<V> tier, String key, String negativeKey, Supplier<V> loader) {
+        tier.stats.misses.increment();
+        V value;
+        try {
+            value = loader.get();
+        } catch (RecommendException e) {
+            if (e.getRecommendCode() == RecommendErrorCode.GEO_NOT_FOUND) {
+                tier.l1.put(negativeKey, null, System.nanoTime() + l1NegativeTtlNanos);
+                writeL2(negativeKey, NEGATIVE, negativeTtl);
+            }
+            throw e;
+        }
+        tier.l1.put(key, value, System.nanoTime() + l1TtlNanos);
+        writeL2(key, tier.encode.apply(value), l2Ttl);
+        return value;
+    }
+
+    /**
+     * 먼저 온 요청의 결과 대기
+     * - 지오코더 오류(BusinessException)는 그대로 공유, 그 외 실패(선행 요청 중단 등)는 직접 조회
+     */
+    private static <V> V await(CompletableFuture<V> leader, Supplier<V> fallback) {
+        try {
+            return leader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(
+                    RecommendErrorCode.GEO_UPSTREAM_TIMEOUT.getCommonCode(),
+                    RecommendErrorCode.GEO_UPSTREAM_TIMEOUT.getMessage()
+            );
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RecommendException re && re.getRecommendCode() == RecommendErrorCode.GEO_NOT_FOUND) {
+                throw notFound();
+            }
+            if (e.getCause() instanceof BusinessException be) {
+                throw be;
+            }
+            return fallback.get();
+        }
+    }
+
+    private List<String> readL2(List<String> keys) {
+        try {
+            List<String> values = redis.opsForValue().multiGet(keys);
+            return values == null || values.size() != keys.size() ? null : values;
+        } catch (RuntimeException e) {
+            log.debug("지오코더 L2 조회 실패: keys={}, error={}", keys, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeL2(String key, String value, Duration ttl) {
+        try {
+            redis.opsForValue().set(key, value, ttl);
+        } catch (RuntimeException e) {
+            log.debug("지오코더 L2 저장 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private static RecommendException notFound() {
+        return new RecommendException(RecommendErrorCode.GEO_NOT_FOUND);
+    }
+
+    // ---------- 키 ----------
+
+    /** 표준 geohash (base32, precision 글자) */
+    static String geohash(double lat, double lng, int precision) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        StringBuilder out = new StringBuilder(precision);
+        boolean even = true; // 경도 비트부터
+        int bit = 0, ch = 0;
+        while (out.length() < precision) {
+            if (even) {
+                double mid = (minLng + maxLng) / 2;
+                if (lng >= mid) { ch = (ch << 1) | 1; minLng = mid; } else { ch <<= 1; maxLng = mid; }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) { ch = (ch << 1) | 1; minLat = mid; } else { ch <<= 1; maxLat = mid; }
+            }
+            even = !even;
+            if (++bit == 5) {
+                out.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return out.toString();
+    }
+
+    /** 두 좌표 사이 거리 (m, 수 m 범위용 평면 근사) */
+    static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dy = (lat2 - lat1) * METERS_PER_DEGREE;
+        double dx = (lng2 - lng1) * METERS_PER_DEGREE * Math.cos(Math.toRadians((lat1 + lat2) / 2));
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /** 앞뒤 공백 제거, 연속 공백 하나로, 영문 소문자 */
+    static String normalizeAddress(String address) {
+        if (address == null) return "";
+        return address.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // ---------- L2 값 (탭 구분 문자열, 주소에는 탭이 없음) ----------
+
+    private static String encodeReverse(Resolved resolved) {
+        ReverseResult r = resolved.result();
+        return (r.useAdr() ? "1" : "0") + SEP + nullToEmpty(r.adr()) + SEP + nullToEmpty(r.address())
+                + SEP + resolved.lat() + SEP + resolved.lng();
+    }
+
+    private static Resolved decodeReverse(String s) {
+        String[] parts = s.split(String.valueOf(SEP), -1);
+        if (parts.length != 5) return null; // 형식이 다르면 미스 (다음 저장 시 덮어씀)
+        try {
+            return new Resolved(new ReverseResult(emptyToNull(parts[1]), emptyToNull(parts[2]), "1".equals(parts[0])),
+                    Double.parseDouble(parts[3]), Double.parseDouble(parts[4]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String encodePoint(GeoPoint p) {
+        return p.lat().toPlainString() + SEP + p.lng().toPlainString() + SEP + nullToEmpty(p.bldMgtNo());
+    }
+
+    private static GeoPoint decodePoint(String s) {
+        String[] parts = s.split(String.valueOf(SEP), -1);
+        if (parts.length != 3) return null;
+        try {
+            return new GeoPoint(new BigDecimal(parts[0]), new BigDecimal(parts[1]), emptyToNull(parts[2]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String nullToEmpty(String s) { return s == null ? "" : s; }
+
+    private static String emptyToNull(String s) { return s.isEmpty() ? null : s; }
+
+    /**
+     * 통계 정보 조회
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("reverse", reverse.stats.snapshot());
+        stats.put("forward", forward.stats.snapshot());
+        stats.put("geohashPrecision", precision);
+        stats.put("negativeGeohashPrecision", negativePrecision);
+        stats.put("reuseRadiusMeters", reuseRadiusMeters);
+        return stats;
+    }
+
+    /** 역지오코딩 결과 + 조회한 좌표 (격자 안 다른 지점에 재사용해도 되는지 판단) */
+    private record Resolved(ReverseResult result, double lat, double lng) {}
+
+    /** 조회 종류(역/정방향)별 L1, 통계, 진행 중 호출, L2 값 변환 */
+    private static final class Tier<V> {
+
+        final Lru<V> l1;
+        final Stats stats;
+        final Map<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+        final Function<V, String> encode;
+        final Function<String, V> decode;
+
+        Tier(MeterRegistry meterRegistry, String op, int maxSize, Function<V, String> encode, Function<String, V> decode) {
+            this.l1 = new Lru<>(maxSize);
+            this.stats = new Stats(meterRegistry, op, l1);
+            this.encode = encode;
+            this.decode = decode;
+        }
+    }
+
+    /** 크기 제한 LRU + 항목별 만료 (value == null 은 음성 캐시) */
+    private static final class Lru<V> {
+
+        record Entry<V>(V value, long expiresAtNanos) {}
+
+        private final LinkedHashMap<String, Entry<V>> map;
+
+        Lru(int maxSize) {
+            int capacity = Math.max(1, maxSize);
+            this.map = new LinkedHashMap<>(Math.min(capacity, 1 << 16), 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        synchronized Entry<V> get(String key, long now) {
+            Entry<V> e = map.get(key);
+            if (e != null && e.expiresAtNanos() - now <= 0) {
+                map.remove(key);
+                return null;
+            }
+            return e;
+        }
+
+        synchronized void put(String key, V value, long expiresAtNanos) {
+            map.put(key, new Entry<>(value, expiresAtNanos));
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+    }
+
+    /** 조회 결과별 카운터 (Micrometer: recommend.geocoder.cache{op, result}) */
+    private static final class Stats {
+
+        final LongAdder l1Hits = new LongAdder();
+        final LongAdder l2Hits = new LongAdder();
+        final LongAdder negativeHits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder coalesced = new LongAdder();
+        final LongAdder rechecks = new LongAdder();
+        private final Lru<?> l1;
+
+        Stats(MeterRegistry meterRegistry, String op, Lru<?> l1) {
+            this.l1 = l1;
+            register(meterRegistry, op, "l1", l1Hits);
+            register(meterRegistry, op, "l2", l2Hits);
+            register(meterRegistry, op, "negative", negativeHits);
+            register(meterRegistry, op, "miss", misses);
+            register(meterRegistry, op, "coalesced", coalesced);
+            register(meterRegistry, op, "recheck", rechecks);
+            Gauge.builder("recommend.geocoder.cache.hit-ratio", this, Stats::hitRatio).tag("op", op)
+                .description("지오코더 캐시 적중률 (음성 캐시, 동시 미스 합류 포함)")
+                .register(meterRegistry);
+            Gauge.builder("recommend.geocoder.cache.size", l1, Lru::size).tag("op", op)
+                .description("지오코더 L1 캐시 항목 수")
+                .register(meterRegistry);
+        }
+
+        private static void register(MeterRegistry meterRegistry, String op, String result, LongAdder adder) {
+            FunctionCounter.builder("recommend.geocoder.cache", adder, LongAdder::sum)
+                .tag("op", op).tag("result", result)
+                .description("지오코더 캐시 조회 결과별 요청 수")
+                .register(meterRegistry);
+        }
+
+        double hitRatio() {
+            long hits = l1Hits.sum() + l2Hits.sum() + negativeHits.sum() + coalesced.sum();
+            long total = hits + misses.sum();
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+
+        Map<String, Object> snapshot() {
+            Map<String, Object> out = new HashMap<>();
+            out.put("size", l1.size());
+            out.put("l1Hits", l1Hits.sum());
+            out.put("l2Hits", l2Hits.sum());
+            out.put("negativeHits", negativeHits.sum());
+            out.put("misses", misses.sum());
+            out.put("coalesced", coalesced.sum());
+            out.put("rechecks", rechecks.sum());
+            out.put("hitRatio", hitRatio());
+            return out;
+        }
+    }
+}
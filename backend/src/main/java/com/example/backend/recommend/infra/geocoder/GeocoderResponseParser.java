@@ -2,6 +2,7 @@ package com.example.backend.recommend.infra.geocoder;
 
 import com.example.backend.common.exception.BusinessException;
 import com.example.backend.recommend.exception.RecommendErrorCode;
+import com.example.backend.recommend.exception.RecommendException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -28,10 +29,7 @@ class GeocoderResponseParser {
                 return new ParsedRoadAddr(pnu, jibun.getAddress(), false); // useAdr = false (adr 자리엔 PNU)
             }
 
-            throw new BusinessException(
-                    RecommendErrorCode.GEO_NOT_FOUND.getCommonCode(),
-                    RecommendErrorCode.GEO_NOT_FOUND.getMessage()
-            );
+            throw new RecommendException(RecommendErrorCode.GEO_NOT_FOUND); // 음성 캐시 대상 (CachingGeocoderAdapter가 타입으로 식별)
 
         } catch (BusinessException be) {
             throw be;
@@ -49,20 +47,14 @@ class GeocoderResponseParser {
             var results = root.path("results");
 
             if (!results.isArray() || results.isEmpty()) {
-                throw new BusinessException(
-                        RecommendErrorCode.GEO_NOT_FOUND.getCommonCode(),
-                        RecommendErrorCode.GEO_NOT_FOUND.getMessage()
-                );
+                throw new RecommendException(RecommendErrorCode.GEO_NOT_FOUND);
             }
             var f = results.get(0);
             var x = f.path("x_axis").asText(null);
             var y = f.path("y_axis").asText(null);
             String bldMgtNo = f.path("bld_mgt_no").asText(null);
             if (!hasText(x) || !hasText(y) || !hasText(bldMgtNo)) {
-                throw new BusinessException(
-                        RecommendErrorCode.GEO_NOT_FOUND.getCommonCode(),
-                        RecommendErrorCode.GEO_NOT_FOUND.getMessage()
-                );
+                throw new RecommendException(RecommendErrorCode.GEO_NOT_FOUND);
             }
             return new ParsedGeoPoint(new java.math.BigDecimal(y.trim()), new java.math.BigDecimal(x.trim()), bldMgtNo.trim());
         } catch (BusinessException be) {
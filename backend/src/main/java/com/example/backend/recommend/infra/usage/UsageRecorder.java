@@ -0,0 +1,156 @@
+package com.example.backend.recommend.infra.usage;
+
+import com.example.backend.recommend.infra.cache.SurvivalVectors;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * in_out 사용량(frequency/last_at) 버퍼
+ * - 조회 경로에서는 키별 LongAdder만 증가 (DB 쓰기/행 잠금 없음)
+ * - flush-interval마다 누적분을 모아 JDBC 배치 UPDATE 한 번으로 반영 (PK 순 정렬로 노드 간 잠금 순서 고정)
+ * - 반영 실패분은 버퍼에 되돌려 다음 주기에 재시도, 종료 시 남은 분량 반영
+ * - 한 주기 동안 조회가 없던 키는 버퍼에서 빼되, 빼기 직전에 카운터를 받아 간 조회의 증가분은
+ *   다음 주기에 한 번 더 모아 반영 (정리 때문에 증가분이 사라지지 않도록)
+ */
+@Component
+@Slf4j
+public class UsageRecorder {
+
+    private static final String UPDATE_SQL =
+        "UPDATE in_out SET frequency = frequency + ?, last_at = ? WHERE building_id = ? AND category_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long flushIntervalMillis;
+    private final int batchSize;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 지난 주기에 버퍼에서 뺀 카운터 (flush 안에서만 접근)
+    private final Map<Long, LongAdder> retired = new HashMap<>();
+    private ScheduledExecutorService flushScheduler;
+
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong flushedHits = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    public UsageRecorder(JdbcTemplate jdbcTemplate,
+                         @Value("${recommend.usage.flush-interval-millis:5000}") long flushIntervalMillis,
+                         @Value("${recommend.usage.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @PostConstruct
+    public void start() {
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("usage-flush").factory());
+        flushScheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flushScheduler != null) {
+            flushScheduler.shutdown();
+            try {
+                flushScheduler.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    /**
+     * 조회 1회 기록
+     */
+    public void record(int buildingId, int categoryId) {
+        pending.computeIfAbsent(SurvivalVectors.key(buildingId, categoryId), k -> new LongAdder()).increment();
+    }
+
+    /**
+     * 누적분을 DB에 반영
+     */
+    public synchronized void flush() {
+        if (pending.isEmpty() && retired.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> drained = new HashMap<>();
+        // 지난 주기에 뺀 카운터에 늦게 도착한 증가분
+        retired.forEach((key, adder) -> {
+            long hits = adder.sumThenReset();
+            if (hits > 0) {
+                drained.merge(key, hits, Long::sum);
+            }
+        });
+        retired.clear();
+
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long hits = entry.getValue().sumThenReset();
+            if (hits > 0) {
+                drained.merge(entry.getKey(), hits, Long::sum);
+            } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                // 한 주기 동안 조회가 없던 키 정리 (빼는 사이 들어온 증가분은 다음 주기에 반영)
+                retired.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        List<Long> keys = new ArrayList<>(drained.keySet());
+        keys.sort(null);
+        Timestamp now = Timestamp.from(Instant.now());
+
+        for (int from = 0; from < keys.size(); from += batchSize) {
+            List<Long> chunk = keys.subList(from, Math.min(from + batchSize, keys.size()));
+            List<Object[]> args = new ArrayList<>(chunk.size());
+            for (Long key : chunk) {
+                args.add(new Object[]{
+                    drained.get(key), now, SurvivalVectors.buildingId(key), SurvivalVectors.categoryId(key)
+                });
+            }
+
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+                flushedRows.addAndGet(chunk.size());
+                chunk.forEach(key -> flushedHits.addAndGet(drained.get(key)));
+            } catch (RuntimeException e) {
+                failedFlushes.incrementAndGet();
+                log.warn("사용량 반영 실패, 다음 주기에 재시도: rows={}, error={}", chunk.size(), e.getMessage());
+                for (Long key : chunk) {
+                    pending.computeIfAbsent(key, k -> new LongAdder()).add(drained.get(key));
+                }
+            }
+        }
+    }
+
+    /**
+     * 통계 정보 조회
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("pendingKeys", pending.size());
+        stats.put("flushedRows", flushedRows.get());
+        stats.put("flushedHits", flushedHits.get());
+        stats.put("failedFlushes", failedFlushes.get());
+        stats.put("flushIntervalMillis", flushIntervalMillis);
+        return stats;
+    }
+}
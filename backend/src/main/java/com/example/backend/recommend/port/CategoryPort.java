@@ -11,6 +11,8 @@ public interface CategoryPort {
     Integer getIdByName(String name);
     Map<String, Integer> getIdsByNames(Collection<String> names);
     Map<Integer, String> getNamesByIds(List<Integer> ids);
+    /** 전체 업종 (categoryId → 이름, ID 순) */
+    Map<Integer, String> getAll();
 
     // ✅ 추가: Set 버전
     @Transactional(readOnly = true)
@@ -1,22 +1,33 @@
 package com.example.backend.recommend.port;
 
+import com.example.backend.recommend.entity.SurvivalRates;
+
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 import java.util.Map;
 
 public interface InOutPort {
 
-    Optional<List<Double>> get(int buildingId, int categoryId);
-    void upsert(int buildingId, int categoryId, List<Double> result);
+    Optional<SurvivalRates> get(int buildingId, int categoryId);
+    /** 여러 건물의 같은 업종 결과 일괄 조회 (없는 건물은 결과에서 제외) */
+    Map<Integer, SurvivalRates> getAll(Collection<Integer> buildingIds, int categoryId);
+    void upsert(int buildingId, int categoryId, SurvivalRates result);
+    /** 한 건물의 여러 업종 결과 일괄 업서트 (categoryId → 생존율 벡터) */
+    void upsertAll(int buildingId, Map<Integer, SurvivalRates> resultsByCategory);
     List<InOutResult> findResults(int buildingId, List<Integer> categoryIds);
     Map<Integer, List<InOutResult>> findResultsByBidList(Map<Integer, List<Integer>> BCL);
     Optional<String> findExplanation(int buildingId, int categoryId);
     void upsertexplain(int buildingId, int categoryId, String explanation);
 
-    // ✅ 추가: 캐시 완성도 체크용 메소드들
-    int getCachedCategoryCount(int buildingId);
-    List<CachedCategoryData> getAllCachedCategories(int buildingId);
+    /** 필수 업종 중 결과가 없는 categoryId (업종 비트맵 기준, 결과 없음 표시된 업종 제외, 비어 있으면 완성) */
+    List<Integer> findMissingCategories(int buildingId);
+    /** DB에서 비트맵을 다시 만들어 판정 (결과 없음 표시 무시, 점검/측정용) */
+    List<Integer> findMissingCategoriesFresh(int buildingId);
+    /** AI에 요청했지만 결과가 오지 않은 업종 표시 (일정 시간 동안 누락으로 보지 않음) */
+    void markUnavailable(int buildingId, Collection<Integer> categoryIds);
+    /** 한 건물의 전체 업종 생존율 (categoryId → 생존율, 설명 컬럼 제외) */
+    Map<Integer, SurvivalRates> findAllRates(int buildingId);
 
-    record InOutResult(int categoryId, List<Double> result) {}
-    record CachedCategoryData(String categoryName, List<Double> survivalRate) {}
+    record InOutResult(int categoryId, SurvivalRates result) {}
 }
@@ -0,0 +1,19 @@
+package com.example.backend.recommend.port;
+
+import com.example.backend.recommend.entity.SurvivalRates;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 건물별 사전 계산된 Top N 업종 (순위 순)
+ */
+public interface LeaderboardPort {
+
+    Optional<List<RankedCategory>> find(int buildingId);
+    void save(int buildingId, List<RankedCategory> ranked);
+    /** 결과가 바뀐 건물의 순위 무효화 */
+    void evict(int buildingId);
+
+    record RankedCategory(int categoryId, SurvivalRates rates) {}
+}
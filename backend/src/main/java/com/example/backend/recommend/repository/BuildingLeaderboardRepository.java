@@ -0,0 +1,14 @@
+package com.example.backend.recommend.repository;
+
+import com.example.backend.recommend.entity.BuildingLeaderboardEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BuildingLeaderboardRepository extends JpaRepository<BuildingLeaderboardEntity, Integer> {
+
+    @Modifying
+    @Query("DELETE FROM BuildingLeaderboardEntity l WHERE l.buildingId = :buildingId")
+    int deleteByBuildingId(@Param("buildingId") int buildingId);
+}
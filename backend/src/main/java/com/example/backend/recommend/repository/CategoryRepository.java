@@ -12,4 +12,5 @@ public interface CategoryRepository extends JpaRepository<CategoryEntity, Intege
     Optional<CategoryEntity> findByName(String name);
     List<CategoryProjection> findAllByCategoryIdIn(Collection<Integer> ids);
     List<CategoryProjection> findAllByNameIn(Collection<String> names);
+    List<CategoryProjection> findAllByOrderByCategoryIdAsc();
 }
\ No newline at end of file
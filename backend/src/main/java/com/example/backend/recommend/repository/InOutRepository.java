@@ -3,11 +3,12 @@ package com.example.backend.recommend.repository;
 import com.example.backend.recommend.entity.InOutEntity;
 import com.example.backend.recommend.entity.InOutEntity.Key;
 import com.example.backend.recommend.repository.projection.InOutProjection;
+import com.example.backend.recommend.repository.projection.InOutRatesRow;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -15,20 +16,13 @@ public interface InOutRepository extends JpaRepository<InOutEntity, Key> {
 
     Optional<InOutEntity> findByBuildingIdAndCategoryId(Integer buildingId, Integer categoryId);
     List<InOutProjection> findAllByBuildingIdAndCategoryIdIn(int buildingId, List<Integer> categoryIds);
+    List<InOutEntity> findAllByCategoryIdAndBuildingIdIn(int categoryId, Collection<Integer> buildingIds);
 
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("""
-       update InOutEntity io
-          set io.frequency = io.frequency + 1,
-              io.lastAt    = CURRENT_TIMESTAMP
-        where io.buildingId = :buildingId
-          and io.categoryId = :categoryId
-    """)
-    void bumpUsage(@Param("buildingId") Integer buildingId, @Param("categoryId") Integer categoryId);
+    /** 결과(rates)가 있는 업종 ID (업종 비트맵 재구성용) */
+    @Query("SELECT io.categoryId FROM InOutEntity io WHERE io.buildingId = :buildingId AND io.rates IS NOT NULL")
+    List<Integer> findCategoryIdsWithRates(@Param("buildingId") int buildingId);
 
-    // ✅ 추가: 캐시 완성도 체크용 메소드들
-    @Query("SELECT COUNT(io) FROM InOutEntity io WHERE io.buildingId = :buildingId")
-    int countByBuildingId(@Param("buildingId") Integer buildingId);
-
-    List<InOutEntity> findAllByBuildingId(Integer buildingId);
+    @Query("SELECT new com.example.backend.recommend.repository.projection.InOutRatesRow(io.categoryId, io.rates) " +
+           "FROM InOutEntity io WHERE io.buildingId = :buildingId AND io.rates IS NOT NULL")
+    List<InOutRatesRow> findRatesByBuildingId(@Param("buildingId") int buildingId);
 }
@@ -1,7 +1,8 @@
 package com.example.backend.recommend.repository.projection;
 
-import java.util.List;
+import com.example.backend.recommend.entity.SurvivalRates;
+
 public interface InOutProjection {
     int getCategoryId();
-    List<Double> getResult();
+    SurvivalRates getRates();
 }
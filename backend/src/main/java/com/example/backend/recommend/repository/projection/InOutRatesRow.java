@@ -0,0 +1,9 @@
+package com.example.backend.recommend.repository.projection;
+
+import com.example.backend.recommend.entity.SurvivalRates;
+
+/**
+ * (업종 ID, 생존율) 생성자 프로젝션 (프록시 없이 행당 객체 하나)
+ */
+public record InOutRatesRow(int categoryId, SurvivalRates rates) {
+}
@@ -15,7 +15,7 @@ import java.math.BigDecimal;
 public class GeoBuildingService {
 
     private final BuildingPort buildingPort;       // ADR 기준 upsert/get
-    private final GeocoderPort geocoderPort;       // 역지오코더 포트
+    private final GeocoderPort geocoderPort;       // 역지오코더 포트 (기본 구현은 좌표/주소 캐시)
     private final TransactionTemplate transactionTemplate; // DB 블록만 트랜잭션
 
     public ResolvedBuilding resolve(@NonNull BigDecimal lat, @NonNull BigDecimal lng) {
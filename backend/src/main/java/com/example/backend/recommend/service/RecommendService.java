@@ -3,51 +3,74 @@ package com.example.backend.recommend.service;
 import com.example.backend.common.exception.BusinessException;
 import com.example.backend.recommend.dto.*;
 import com.example.backend.recommend.exception.RecommendErrorCode;
+import com.example.backend.recommend.entity.SurvivalRates;
+import com.example.backend.recommend.infra.ai.AiRequestCoalescer;
 import com.example.backend.recommend.infra.ai.AiResponseParser;
 import com.example.backend.recommend.infra.ai.AiServerClient;
+import com.example.backend.recommend.infra.executor.UpstreamExecutor;
 import com.example.backend.recommend.port.BuildingPort;
 import com.example.backend.recommend.port.CategoryPort;
 import com.example.backend.recommend.port.InOutPort;
+import com.example.backend.recommend.port.LeaderboardPort;
 import com.example.backend.search.port.LoginSearchPort;
 import com.example.backend.search.port.SearchCategoryPort;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.example.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ArrayList;
 import java.util.Set;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.HashSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
-import java.util.stream.Collectors;
-import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RecommendService {
 
+    private static final int TOP_CATEGORIES = 20;
+    private static final int TOP_BUILDINGS = 10;
+
+    // 누락 업종이 이 수 이하면 빠진 업종만 AI 호출, 넘으면 전체 호출
+    @Value("${recommend.coverage.partial-max-categories:50}")
+    private int partialMaxCategories;
+
     private final BuildingPort buildingPort;
     private final InOutPort inOutPort;
     private final AiServerClient aiServerClient;
     private final AiResponseParser aiResponseParser;
+    private final AiRequestCoalescer aiRequestCoalescer;
     private final GeoBuildingService geoBuildingService;
     private final CategoryPort categoryPort;
+    private final LeaderboardPort leaderboardPort;
     private final SearchCategoryPort searchCategoryPort;
     private final LoginSearchPort loginSearchPort;
     private final UserRepository userRepository; // UserRepository 주입
 
+    // 외부 호출별 전용 실행기 (공용 ForkJoinPool 사용 금지)
+    @Qualifier("aiExecutor")
+    private final UpstreamExecutor aiExecutor;
+    @Qualifier("geocoderExecutor")
+    private final UpstreamExecutor geocoderExecutor;
+    @Qualifier("llmExecutor")
+    private final UpstreamExecutor llmExecutor;
+
     /**
-     * ✅ 단일 검색: 247개 완전 캐시 → 동기, 불완전 → 비동기 AI 호출
+     * ✅ 단일 검색: 전체 업종 완전 캐시 → 동기, 일부 누락 → 빠진 업종만 AI 호출, 대부분 누락 → 전체 AI 호출
      */
     public CompletableFuture<RecommendResponse> generateSingle(SingleRequest req, Long uid) {
         final BigDecimal lat = req.getLat();
@@ -56,42 +79,45 @@ public class RecommendService {
         log.info("🌟 단일 검색 시작: lat={}, lng={}, uid={}", lat, lng, uid);
 
         try {
-            // 1) 좌표 → 건물 식별
-            GeoBuildingService.ResolvedBuilding bld = geoBuildingService.resolve(lat, lng);
-            log.debug("건물 식별 완료: building_id={}", bld.id());
-
-            // 2) ✅ 캐시 완성도 체크 (247개인지만 확인)
-            int cachedCount = inOutPort.getCachedCategoryCount(bld.id());
-
-            if (cachedCount == 247) {
-                // ✅ 완전 캐시 → 즉시 동기 반환
-                log.info("⚡ [COMPLETE CACHE] 즉시 응답: building={} (247/247)", bld.id());
-
-                RecommendResponse response = buildCompleteCacheResponse(bld, uid);
-                return CompletableFuture.completedFuture(response);
+            // 1) 좌표 → 건물 식별 (지오코더 전용 실행기)
+            CompletableFuture<GeoBuildingService.ResolvedBuilding> resolving = resolveAsync(lat, lng);
+            return cancelWith(resolving.thenCompose(bld -> {
+                log.debug("건물 식별 완료: building_id={}", bld.id());
+
+                // 2) ✅ 업종 비트맵으로 완성도 체크 (메모리, 미완성이면 Redis로 재확인, 둘 다 없을 때만 DB)
+                List<Integer> missing = inOutPort.findMissingCategories(bld.id());
+
+                if (missing.isEmpty()) {
+                    // ✅ 완전 캐시 → 사전 계산된 Top 20(없으면 재계산) 즉시 반환
+                    log.info("⚡ [COMPLETE CACHE] 즉시 응답: building={}", bld.id());
+                    List<LeaderboardPort.RankedCategory> ranked = leaderboardPort.find(bld.id())
+                            .orElseGet(() -> rebuildLeaderboard(bld.id()));
+                    return CompletableFuture.completedFuture(buildCompleteCacheResponse(bld, ranked, Source.DB, uid));
+                }
 
-            } else {
-                // ✅ 불완전 캐시 → 비동기 AI 호출
-                log.info("🚀 [INCOMPLETE CACHE] AI 호출: building={} ({}/247)", bld.id(), cachedCount);
+                if (missing.size() <= partialMaxCategories) {
+                    // ✅ 일부 누락 → 빠진 업종만 배치 AI 호출 후 저장된 전체 결과로 응답
+                    log.info("🧩 [PARTIAL CACHE] 누락 업종만 AI 호출: building={} ({}개 누락)", bld.id(), missing.size());
+                    return aiRequestCoalescer.execute(
+                            "gaps:" + bld.id(),
+                            () -> fetchAndStoreMissing(bld, missing),
+                            () -> inOutPort.findMissingCategories(bld.id()).isEmpty()
+                    ).thenApply(filled -> buildCompleteCacheResponse(
+                            bld, rankStored(bld.id()), filled.isPresent() ? Source.AI : Source.DB, uid));
+                }
 
-                return CompletableFuture.supplyAsync(() -> {
-                    try {
-                        // AI 서버 전체 호출
-                        JsonNode aiRaw = aiServerClient.requestAll(bld.id(), bld.lat(), bld.lng());
-                        Map<String, List<Double>> byCat = aiResponseParser.toCategoryMetricListV2(aiRaw);
-                        Map<String, Integer> nameToId = categoryPort.getIdsByNames(byCat.keySet());
+                // ✅ 대부분 누락 → 비동기 전체 AI 호출
+                log.info("🚀 [INCOMPLETE CACHE] AI 호출: building={} ({}개 누락)", bld.id(), missing.size());
 
-                        return processFullAiResponse(bld, byCat, nameToId, uid);
-
-                    } catch (Exception e) {
-                        log.error("❌ AI 서버 호출 실패: building={}", bld.id(), e);
-                        throw new BusinessException(
-                                RecommendErrorCode.AI_UPSTREAM_BAD_RESPONSE.getCommonCode(),
-                                "AI 서버 오류: " + e.getMessage()
-                        );
-                    }
-                });
-            }
+                // 같은 건물의 동시 요청은 하나의 AI 호출에 합류, 다른 요청이 저장을 끝냈으면 캐시로 응답
+                return aiRequestCoalescer.execute(
+                        "all:" + bld.id(),
+                        () -> fetchAndStoreAll(bld, missing),
+                        () -> inOutPort.findMissingCategories(bld.id()).isEmpty()
+                ).thenApply(result -> result
+                        .map(ai -> processFullAiResponse(bld, ai.byCat(), ai.nameToId(), uid))
+                        .orElseGet(() -> buildCompleteCacheResponse(bld, rankStored(bld.id()), Source.DB, uid)));
+            }), List.of(resolving));
 
         } catch (BusinessException e) {
             return CompletableFuture.failedFuture(e); // ✅ throw → failedFuture로 변경
@@ -122,42 +148,26 @@ public class RecommendService {
                 ));
             }
 
-            // 1) 좌표 → 건물 식별
-            GeoBuildingService.ResolvedBuilding bld = geoBuildingService.resolve(lat, lng);
-
-            // 2) ✅ 캐시 체크
-            Optional<List<Double>> cached = inOutPort.get(bld.id(), categoryId);
+            // 1) 좌표 → 건물 식별 (지오코더 전용 실행기)
+            CompletableFuture<GeoBuildingService.ResolvedBuilding> resolving = resolveAsync(lat, lng);
+            return cancelWith(resolving.thenCompose(bld -> {
+                // 2) ✅ 캐시 체크
+                Optional<SurvivalRates> cached = inOutPort.get(bld.id(), categoryId);
 
-            if (cached.isPresent()) {
-                // ✅ 캐시 히트 → 즉시 동기 반환
-                log.info("⚡ [CACHE HIT] 즉시 응답: building={}, category={}", bld.id(), categoryName);
+                if (cached.isPresent()) {
+                    // ✅ 캐시 히트 → 즉시 반환
+                    log.info("⚡ [CACHE HIT] 즉시 응답: building={}, category={}", bld.id(), categoryName);
 
-                RecommendResponse response = buildCacheResponse(bld, categoryName, categoryId, cached.get(), uid);
-                return CompletableFuture.completedFuture(response);
+                    RecommendResponse response = buildCacheResponse(bld, categoryName, categoryId, cached.get(), uid);
+                    return CompletableFuture.completedFuture(response);
+                }
 
-            } else {
                 // ✅ 캐시 미스 → 비동기 AI 호출
                 log.info("🚀 [CACHE MISS] AI 호출: building={}, category={}", bld.id(), categoryName);
 
-                return CompletableFuture.supplyAsync(() -> {
-                    try {
-                        JsonNode aiRaw = aiServerClient.requestCategory(bld.id(), bld.lat(), bld.lng(), categoryName);
-                        List<Double> value = aiResponseParser.toCategoryMetricV2(aiRaw, categoryName);
-
-                        // 캐시 저장
-                        inOutPort.upsert(bld.id(), categoryId, value);
-
-                        return buildAiResponse(bld, categoryName, categoryId, value, uid);
-
-                    } catch (Exception e) {
-                        log.error("❌ AI 서버 호출 실패: building={}, category={}", bld.id(), categoryName, e);
-                        throw new BusinessException(
-                                RecommendErrorCode.AI_UPSTREAM_BAD_RESPONSE.getCommonCode(),
-                                "AI 서버 오류: " + e.getMessage()
-                        );
-                    }
-                });
-            }
+                return fetchCategory(bld, categoryName, categoryId)
+                        .thenApply(value -> buildAiResponse(bld, categoryName, categoryId, value, uid));
+            }), List.of(resolving));
 
         } catch (BusinessException e) {
             return CompletableFuture.failedFuture(e); // ✅ throw → failedFuture
@@ -186,64 +196,31 @@ public class RecommendService {
                 ));
             }
 
-            // 1) 좌표들 resolve
-            List<ResolvedPoint> resolved = req.getPoints().stream()
-                    .flatMap(p -> {
-                        try {
-                            var b = geoBuildingService.resolve(p.getLat(), p.getLng());
-                            return Stream.of(new ResolvedPoint(p, b));
-                        } catch (Exception e) {
-                            log.warn("좌표 resolve 실패: lat={}, lng={}", p.getLat(), p.getLng());
-                            return Stream.empty();
-                        }
-                    })
+            // 1) 좌표들 resolve (지오코더 실행기로 동시에 fan-out, 실패한 좌표는 제외)
+            List<RangeRequest.Point> points = req.getPoints();
+            List<CompletableFuture<GeoBuildingService.ResolvedBuilding>> resolving = points.stream()
+                    .map(p -> resolveAsync(p.getLat(), p.getLng()))
                     .toList();
 
-            if (resolved.isEmpty()) {
-                return CompletableFuture.failedFuture(new BusinessException( // ✅ throw → failedFuture
-                        RecommendErrorCode.GEO_NOT_FOUND.getCommonCode(),
-                        "모든 좌표 resolve에 실패했습니다."
-                ));
-            }
-
-            // 2) ✅ 캐시/미스 분류
-            List<ResolvedPoint> cached = new ArrayList<>();
-            List<ResolvedPoint> needsAI = new ArrayList<>();
-
-            for (ResolvedPoint point : resolved) {
-                if (inOutPort.get(point.building().id(), categoryId).isPresent()) {
-                    cached.add(point);
-                } else {
-                    needsAI.add(point);
-                }
-            }
-
-            log.info("🎯 [RANGE] 캐시={}개, AI호출={}개, 총={}개", cached.size(), needsAI.size(), resolved.size());
-
-            if (needsAI.isEmpty()) {
-                // ✅ 모두 캐시 → 즉시 반환
-                log.info("⚡ [ALL CACHED] 모든 데이터 캐시됨");
-
-                RangeResponse response = buildCachedRangeResponse(resolved, categoryName, categoryId, uid);
-                return CompletableFuture.completedFuture(response);
-
-            } else {
-                // ✅ 일부 AI 호출 필요 → 비동기 병렬 처리
-                return CompletableFuture.supplyAsync(() -> {
-                    try {
-                        // 병렬로 AI 호출
-                        processParallelAiCalls(needsAI, categoryName, categoryId);
+            CompletableFuture<RangeResponse> response = CompletableFuture
+                    .allOf(resolving.stream()
+                            .map(f -> f.exceptionally(e -> null))
+                            .toArray(CompletableFuture[]::new))
+                    .thenCompose(done -> {
+                        List<ResolvedPoint> resolved = new ArrayList<>();
+                        for (int i = 0; i < points.size(); i++) {
+                            RangeRequest.Point p = points.get(i);
+                            GeoBuildingService.ResolvedBuilding b = resolving.get(i).exceptionally(e -> null).join();
+                            if (b != null) {
+                                resolved.add(new ResolvedPoint(p, b));
+                            } else {
+                                log.warn("좌표 resolve 실패: lat={}, lng={}", p.getLat(), p.getLng());
+                            }
+                        }
+                        return rangeFromResolved(resolved, categoryName, categoryId, uid);
+                    });
 
-                        // 최종 결과 구성 (캐시 + AI)
-                        return buildFinalRangeResponse(resolved, categoryName, categoryId, uid);
-
-                    } catch (Exception e) {
-                        // ✅ AI 실패 시 캐시된 것만 반환
-                        log.warn("⚠️ AI 일부 실패, 캐시 데이터로 응답: cached={}개", cached.size());
-                        return buildCachedRangeResponse(cached, categoryName, categoryId, uid);
-                    }
-                });
-            }
+            return cancelWith(response, resolving);
 
         } catch (BusinessException e) {
             return CompletableFuture.failedFuture(e); // ✅ throw → failedFuture
@@ -255,6 +232,60 @@ public class RecommendService {
         }
     }
 
+    /**
+     * ✅ 범위 검색 2단계: resolve된 건물들을 캐시/미스로 나누고 미스만 AI 배치 호출
+     */
+    private CompletableFuture<RangeResponse> rangeFromResolved(List<ResolvedPoint> resolved, String categoryName,
+                                                              Integer categoryId, Long uid) {
+        if (resolved.isEmpty()) {
+            return CompletableFuture.failedFuture(new BusinessException( // ✅ throw → failedFuture
+                    RecommendErrorCode.GEO_NOT_FOUND.getCommonCode(),
+                    "모든 좌표 resolve에 실패했습니다."
+            ));
+        }
+
+        // 2) ✅ 캐시/미스 분류 (건물 전체를 한 번에 조회)
+        List<ResolvedPoint> cached = new ArrayList<>();
+        List<ResolvedPoint> needsAI = new ArrayList<>();
+
+        Map<Integer, SurvivalRates> known = inOutPort.getAll(
+                resolved.stream().map(point -> point.building().id()).toList(), categoryId);
+        for (ResolvedPoint point : resolved) {
+            if (known.containsKey(point.building().id())) {
+                cached.add(point);
+            } else {
+                needsAI.add(point);
+            }
+        }
+
+        log.info("🎯 [RANGE] 캐시={}개, AI호출={}개, 총={}개", cached.size(), needsAI.size(), resolved.size());
+
+        if (needsAI.isEmpty()) {
+            // ✅ 모두 캐시 → 즉시 반환
+            log.info("⚡ [ALL CACHED] 모든 데이터 캐시됨");
+
+            RangeResponse response = buildCachedRangeResponse(resolved, categoryName, categoryId, uid);
+            return CompletableFuture.completedFuture(response);
+
+        } else {
+            // ✅ 일부 AI 호출 필요 → 비동기 배치 처리
+            return aiExecutor.supply(() -> {
+                try {
+                    // 배치로 AI 호출
+                    processBatchAiCalls(needsAI, categoryName, categoryId);
+
+                    // 최종 결과 구성 (캐시 + AI)
+                    return buildFinalRangeResponse(resolved, categoryName, categoryId, uid);
+
+                } catch (Exception e) {
+                    // ✅ AI 실패 시 캐시된 것만 반환
+                    log.warn("⚠️ AI 일부 실패, 캐시 데이터로 응답: cached={}개", cached.size());
+                    return buildCachedRangeResponse(cached, categoryName, categoryId, uid);
+                }
+            });
+        }
+    }
+
     /**
      * ✅ GMS 설명: 캐시 히트 → 동기, 캐시 미스 → 비동기 AI 호출
      */
@@ -291,7 +322,7 @@ public class RecommendService {
                 // ✅ 캐시 미스 → 비동기 AI 호출
                 log.info("🚀 [EXPLANATION CACHE MISS] AI GMS 호출: buildingId={}, category={}", buildingId, categoryName);
 
-                return CompletableFuture.supplyAsync(() -> {
+                return llmExecutor.supply(() -> {
                     try {
                         var bld = buildingPort.findByIdsList(List.of(buildingId)).getFirst();
 
@@ -332,37 +363,29 @@ public class RecommendService {
     // ============================================
 
     /**
-     * ✅ 완전 캐시 응답 구성 (247개 → Top 20)
+     * ✅ 완전 캐시 응답 구성 (사전 계산된 Top 20)
      */
     // @Transactional 제거 - 이미 위 메소드에서 트랜잭션 처리됨
-    private RecommendResponse buildCompleteCacheResponse(GeoBuildingService.ResolvedBuilding bld, Long uid) {
-        // ✅ InOutPort.CachedCategoryData 사용
-        List<InOutPort.CachedCategoryData> allCached = inOutPort.getAllCachedCategories(bld.id());
-
-        // 폐업률 기준 정렬 후 Top 20 선별
-        List<RecommendResponse.CategoryResult> top20 = allCached.stream()
-                .map(data -> new ScoredCategory(
-                        RecommendResponse.CategoryResult.builder()
-                                .category(data.categoryName())
-                                .survivalRate(data.survivalRate())
-                                .build(),
-                        calculateFailureRate(data.survivalRate())
-                ))
-                .sorted((a, b) -> Double.compare(a.score(), b.score())) // 폐업률 낮은 순
-                .limit(20)
-                .map(ScoredCategory::result)
-                .collect(Collectors.toList());
+    private RecommendResponse buildCompleteCacheResponse(GeoBuildingService.ResolvedBuilding bld,
+                                                         List<LeaderboardPort.RankedCategory> ranked,
+                                                         Source source, Long uid) {
+        List<Integer> categoryIds = ranked.stream().map(LeaderboardPort.RankedCategory::categoryId).toList();
+        Map<Integer, String> names = categoryPort.getNamesByIds(categoryIds);
+
+        List<RecommendResponse.CategoryResult> top20 = new ArrayList<>(ranked.size());
+        for (LeaderboardPort.RankedCategory r : ranked) {
+            String name = names.get(r.categoryId());
+            if (name == null) continue; // 없는 업종 제외
+            top20.add(RecommendResponse.CategoryResult.builder()
+                    .category(name)
+                    .survivalRate(r.rates())
+                    .build());
+        }
 
         // 사용자 기록 저장
         if (uid != null) {
             loginSearchPort.upsertubid(uid, bld.id());
-
-            Set<Integer> top20CategoryIds = top20.stream()
-                    .map(result -> categoryPort.getIdByName(result.getCategory()))
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toSet());
-
-            searchCategoryPort.upsertubcS(uid, bld.id(), top20CategoryIds);
+            searchCategoryPort.upsertubcS(uid, bld.id(), categoryIds);
         }
 
         return RecommendResponse.builder()
@@ -373,7 +396,7 @@ public class RecommendService {
                         .build())
                 .result(top20)
                 .meta(RecommendResponse.RecommendMeta.builder()
-                        .source(Source.DB) // 캐시 사용
+                        .source(source)
                         .version("v1")
                         .last_at(OffsetDateTime.now())
                         .build())
@@ -381,38 +404,185 @@ public class RecommendService {
     }
 
     /**
-     * ✅ AI 응답 전체 처리 (247개 저장 → Top 20 반환)
+     * 응답 future가 취소되면(타임아웃 등) 아직 진행 중인 요청 전용 지오코딩도 함께 중단
+     * - 파생 future(thenCompose/thenApply)의 취소는 원본 작업까지 전달되지 않으므로 직접 취소
+     * - AI 예측 호출은 다른 요청과 병합되거나 결과를 저장하므로 취소하지 않음
+     */
+    private static <T> CompletableFuture<T> cancelWith(CompletableFuture<T> response,
+                                                       List<? extends CompletableFuture<?>> sources) {
+        response.whenComplete((r, e) -> {
+            if (response.isCancelled()) {
+                sources.forEach(f -> f.cancel(true));
+            }
+        });
+        return response;
+    }
+
+    /**
+     * ✅ 좌표 → 건물 식별 (지오코딩 블로킹 호출은 지오코더 전용 실행기에서)
+     */
+    private CompletableFuture<GeoBuildingService.ResolvedBuilding> resolveAsync(BigDecimal lat, BigDecimal lng) {
+        return geocoderExecutor.supply(() -> {
+            try {
+                return geoBuildingService.resolve(lat, lng);
+            } catch (BusinessException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new BusinessException(RecommendErrorCode.GEO_NOT_FOUND.getCommonCode(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * ✅ 단일 업종 AI 호출 + 캐시 저장 (같은 건물/업종의 동시 호출은 병합)
+     */
+    private CompletableFuture<SurvivalRates> fetchCategory(GeoBuildingService.ResolvedBuilding bld,
+                                                         String categoryName, Integer categoryId) {
+        return aiRequestCoalescer.execute(
+                "category:" + bld.id() + ":" + categoryId,
+                () -> {
+                    try {
+                        JsonNode aiRaw = aiServerClient.requestCategory(bld.id(), bld.lat(), bld.lng(), categoryName);
+                        SurvivalRates value = aiResponseParser.toCategoryMetricV2(aiRaw, categoryName);
+
+                        // 캐시 저장
+                        inOutPort.upsert(bld.id(), categoryId, value);
+                        return value;
+
+                    } catch (Exception e) {
+                        log.error("❌ AI 서버 호출 실패: building={}, category={}", bld.id(), categoryName, e);
+                        throw new BusinessException(
+                                RecommendErrorCode.AI_UPSTREAM_BAD_RESPONSE.getCommonCode(),
+                                "AI 서버 오류: " + e.getMessage()
+                        );
+                    }
+                },
+                () -> inOutPort.get(bld.id(), categoryId).isPresent()
+        ).thenApply(result -> result.orElseGet(() -> inOutPort.get(bld.id(), categoryId)
+                // 다른 요청이 저장했다고 확인된 직후라 보통 존재, 없으면 빈 결과 대신 실패
+                .orElseThrow(() -> new BusinessException(
+                        RecommendErrorCode.NO_RECOMMENDATION.getCommonCode(),
+                        RecommendErrorCode.NO_RECOMMENDATION.getMessage()))));
+    }
+
+    /**
+     * ✅ 전체 AI 호출 + 전체 업종 캐시 저장 (병합된 요청 중 리더만 실행)
+     * - 누락이었는데 응답에 없는 업종은 결과 없음으로 표시 (다음 조회가 같은 호출을 반복하지 않도록)
+     */
+    private FullAiResult fetchAndStoreAll(GeoBuildingService.ResolvedBuilding bld, List<Integer> missing) {
+        try {
+            // AI 서버 전체 호출
+            JsonNode aiRaw = aiServerClient.requestAll(bld.id(), bld.lat(), bld.lng());
+            Map<String, SurvivalRates> byCat = aiResponseParser.toCategoryMetricListV2(aiRaw);
+            Map<String, Integer> nameToId = categoryPort.getIdsByNames(byCat.keySet());
+            log.info("AI 응답 수신: 총 {}개 카테고리", byCat.size());
+
+            // 모든 카테고리 InOut 저장 (캐시용, 다중 행 업서트 한 번)
+            Map<Integer, SurvivalRates> byCatId = new LinkedHashMap<>();
+            for (Map.Entry<String, SurvivalRates> entry : byCat.entrySet()) {
+                Integer catId = nameToId.get(entry.getKey());
+                if (catId != null) {
+                    byCatId.put(catId, entry.getValue());
+                }
+            }
+            inOutPort.upsertAll(bld.id(), byCatId);
+            markUnavailable(bld.id(), missing, byCatId);
+            if (inOutPort.findMissingCategories(bld.id()).isEmpty()) {
+                leaderboardPort.save(bld.id(), rankCategories(byCatId));
+            }
+            return new FullAiResult(byCat, nameToId);
+
+        } catch (Exception e) {
+            log.error("❌ AI 서버 호출 실패: building={}", bld.id(), e);
+            throw new BusinessException(
+                    RecommendErrorCode.AI_UPSTREAM_BAD_RESPONSE.getCommonCode(),
+                    "AI 서버 오류: " + e.getMessage()
+            );
+        }
+    }
+
+    /**
+     * 요청한 업종 중 결과(빈 값 제외)를 받지 못한 업종을 결과 없음으로 표시
+     */
+    private void markUnavailable(int buildingId, Collection<Integer> requested, Map<Integer, SurvivalRates> received) {
+        List<Integer> unavailable = requested.stream()
+                .filter(categoryId -> {
+                    SurvivalRates rates = received.get(categoryId);
+                    return rates == null || rates.isEmpty();
+                })
+                .toList();
+        if (!unavailable.isEmpty()) {
+            log.info("AI 응답에 없는 업종 표시: building={}, {}개", buildingId, unavailable.size());
+            inOutPort.markUnavailable(buildingId, unavailable);
+        }
+    }
+
+    /**
+     * ✅ 누락 업종만 배치 AI 호출 + 저장 (병합된 요청 중 리더만 실행)
+     * - 업종별 작업을 한 배치 요청으로 보내고, 성공한 업종만 다중 행 업서트
+     */
+    private Map<Integer, SurvivalRates> fetchAndStoreMissing(GeoBuildingService.ResolvedBuilding bld,
+                                                             List<Integer> missing) {
+        Map<Integer, String> names = categoryPort.getNamesByIds(missing);
+        List<AiServerClient.CategoryJob> jobs = names.values().stream()
+                .map(name -> new AiServerClient.CategoryJob(bld.id(), bld.lat(), bld.lng(), name))
+                .toList();
+
+        try {
+            List<JsonNode> rows = aiServerClient.requestCategoryBatch(jobs);
+            Map<String, SurvivalRates> byName = aiResponseParser.toBuildingMetricBatchV2(rows, bld.id());
+
+            Map<Integer, SurvivalRates> byCatId = new LinkedHashMap<>();
+            names.forEach((catId, name) -> {
+                SurvivalRates rates = byName.get(name);
+                if (rates != null) byCatId.put(catId, rates);
+            });
+            inOutPort.upsertAll(bld.id(), byCatId);
+            // 실패한 항목은 다음 조회에서 재시도, 성공 응답인데 결과가 없는 업종만 결과 없음 표시
+            Set<String> answered = aiResponseParser.answeredCategories(rows, bld.id());
+            markUnavailable(bld.id(), names.entrySet().stream()
+                    .filter(entry -> answered.contains(entry.getValue()))
+                    .map(Map.Entry::getKey)
+                    .toList(), byCatId);
+            log.info("누락 업종 AI 호출 완료: building={}, 요청={}개, 성공={}개", bld.id(), jobs.size(), byCatId.size());
+            return byCatId;
+
+        } catch (Exception e) {
+            log.error("❌ 누락 업종 AI 호출 실패: building={}, categories={}", bld.id(), jobs.size(), e);
+            throw new BusinessException(
+                    RecommendErrorCode.AI_UPSTREAM_BAD_RESPONSE.getCommonCode(),
+                    "AI 서버 오류: " + e.getMessage()
+            );
+        }
+    }
+
+    /**
+     * ✅ AI 응답 전체 처리 (요청자별 기록 저장 → Top 20 반환, 캐시 저장은 fetchAndStoreAll에서 완료)
      */
     // @Transactional 제거
     private RecommendResponse processFullAiResponse(GeoBuildingService.ResolvedBuilding bld,
-                                                    Map<String, List<Double>> byCat,
+                                                    Map<String, SurvivalRates> byCat,
                                                     Map<String, Integer> nameToId, Long uid) {
-        log.info("AI 응답 수신: 총 {}개 카테고리", byCat.size());
-
         // 사용자 기록 시작
         if (uid != null) {
             loginSearchPort.upsertubid(uid, bld.id());
         }
 
         List<RecommendResponse.CategoryResult> resultList = new ArrayList<>();
+        Set<Integer> top20CategoryIds = new LinkedHashSet<>();
         int count = 0;
 
         // 모든 카테고리를 한 번의 for문으로 처리
-        for (Map.Entry<String, List<Double>> entry : byCat.entrySet()) {
+        for (Map.Entry<String, SurvivalRates> entry : byCat.entrySet()) {
             String name = entry.getKey();
-            List<Double> value = entry.getValue();
+            SurvivalRates value = entry.getValue();
             Integer catId = nameToId.get(name);
 
             if (catId == null) continue;
 
-            // 모든 카테고리 InOut 저장 (캐시용)
-            inOutPort.upsert(bld.id(), catId, value);
-
             if (count < 20) {
-                // Top 20: SearchCategory 저장 + API 응답에 포함
-                if (uid != null) {
-                    searchCategoryPort.upsertubcS(uid, bld.id(), Set.of(catId));
-                }
+                // Top 20: SearchCategory 저장 대상 + API 응답에 포함
+                top20CategoryIds.add(catId);
 
                 resultList.add(
                         RecommendResponse.CategoryResult.builder()
@@ -425,7 +595,12 @@ public class RecommendService {
             }
         }
 
-        log.info("처리 완료: Top {}개 업종 반환, 총 {}개 캐시 저장", resultList.size(), byCat.size());
+        // Top 20 검색 기록 일괄 저장
+        if (uid != null) {
+            searchCategoryPort.upsertubcS(uid, bld.id(), top20CategoryIds);
+        }
+
+        log.info("처리 완료: Top {}개 업종 반환", resultList.size());
 
         return RecommendResponse.builder()
                 .building(RecommendResponse.Building.builder()
@@ -447,7 +622,7 @@ public class RecommendService {
      */
     // @Transactional 제거
     private RecommendResponse buildCacheResponse(GeoBuildingService.ResolvedBuilding bld, String categoryName,
-                                                 Integer categoryId, List<Double> value, Long uid) {
+                                                 Integer categoryId, SurvivalRates value, Long uid) {
         if (uid != null) {
             loginSearchPort.upsertubid(uid, bld.id());
             searchCategoryPort.upsertubcS(uid, bld.id(), Set.of(categoryId));
@@ -478,7 +653,7 @@ public class RecommendService {
      */
     // @Transactional 제거
     private RecommendResponse buildAiResponse(GeoBuildingService.ResolvedBuilding bld, String categoryName,
-                                              Integer categoryId, List<Double> value, Long uid) {
+                                              Integer categoryId, SurvivalRates value, Long uid) {
         if (uid != null) {
             loginSearchPort.upsertubid(uid, bld.id());
             searchCategoryPort.upsertubcS(uid, bld.id(), Set.of(categoryId));
@@ -505,29 +680,33 @@ public class RecommendService {
     }
 
     /**
-     * ✅ 병렬 AI 호출 처리
+     * ✅ 배치 AI 호출 처리 (건물 N개 → batch-size 단위 요청 몇 번)
      */
-    private void processParallelAiCalls(List<ResolvedPoint> needsAI, String categoryName, Integer categoryId) {
-        List<CompletableFuture<Void>> aiFutures = needsAI.stream()
-                .map(point -> CompletableFuture.runAsync(() -> {
-                    try {
-                        JsonNode aiRaw = aiServerClient.requestCategory(
-                                point.building().id(),
-                                point.building().lat(),
-                                point.building().lng(),
-                                categoryName
-                        );
-                        List<Double> value = aiResponseParser.toCategoryMetricV2(aiRaw, categoryName);
-                        inOutPort.upsert(point.building().id(), categoryId, value);
+    private void processBatchAiCalls(List<ResolvedPoint> needsAI, String categoryName, Integer categoryId) {
+        // 같은 건물에 찍힌 좌표가 여러 개여도 한 번만 요청
+        Map<Integer, GeoBuildingService.ResolvedBuilding> buildings = new LinkedHashMap<>();
+        for (ResolvedPoint point : needsAI) {
+            buildings.putIfAbsent(point.building().id(), point.building());
+        }
 
-                    } catch (Exception e) {
-                        log.error("AI 호출 실패: building={}", point.building().id(), e);
-                    }
-                }))
-                .collect(Collectors.toList());
+        List<AiServerClient.CategoryJob> jobs = buildings.values().stream()
+                .map(b -> new AiServerClient.CategoryJob(b.id(), b.lat(), b.lng(), categoryName))
+                .toList();
 
-        // 모든 AI 호출 완료 대기
-        CompletableFuture.allOf(aiFutures.toArray(new CompletableFuture[0])).join();
+        try {
+            List<JsonNode> rows = aiServerClient.requestCategoryBatch(jobs);
+            Map<Integer, SurvivalRates> byBuilding = aiResponseParser.toCategoryMetricBatchV2(rows, categoryName);
+
+            byBuilding.forEach((buildingId, value) -> {
+                if (buildings.containsKey(buildingId)) {
+                    inOutPort.upsert(buildingId, categoryId, value);
+                }
+            });
+            log.info("AI 배치 호출 완료: category={}, 요청={}개, 성공={}개", categoryName, jobs.size(), byBuilding.size());
+
+        } catch (Exception e) {
+            log.error("AI 배치 호출 실패: category={}, buildings={}", categoryName, jobs.size(), e);
+        }
     }
 
     /**
@@ -536,34 +715,35 @@ public class RecommendService {
     // @Transactional 제거
     private RangeResponse buildCachedRangeResponse(List<ResolvedPoint> resolved, String categoryName,
                                                    Integer categoryId, Long uid) {
-        List<RangeResponse.Item> items = resolved.stream()
-                .map(r -> {
-                    List<Double> v = inOutPort.get(r.building().id(), categoryId).orElse(List.of());
-
-                    // 폐업률 계산 (5년차 우선, 없으면 평균)
-                    double failureRate = calculateFailureRate(v);
-
-                    // 사용자 기록
-                    if (uid != null) {
-                        loginSearchPort.upsertubid(uid, r.building().id());
-                        searchCategoryPort.upsertubcS(uid, r.building().id(), Set.of(categoryId));
-                    }
+        Map<Integer, SurvivalRates> values = inOutPort.getAll(
+                resolved.stream().map(r -> r.building().id()).toList(), categoryId);
+
+        // 폐업률 계산 (5년차 우선, 없으면 평균) + 사용자 기록
+        SurvivalRates[] rates = new SurvivalRates[resolved.size()];
+        double[] scores = new double[resolved.size()];
+        for (int i = 0; i < resolved.size(); i++) {
+            ResolvedPoint r = resolved.get(i);
+            rates[i] = values.getOrDefault(r.building().id(), SurvivalRates.EMPTY);
+            scores[i] = calculateFailureRate(rates[i]);
+
+            if (uid != null) {
+                loginSearchPort.upsertubid(uid, r.building().id());
+                searchCategoryPort.upsertubcS(uid, r.building().id(), Set.of(categoryId));
+            }
+        }
 
-                    return new ScoredBuilding(
-                            RangeResponse.Item.builder()
-                                    .buildingId(r.building().id())
-                                    .category(categoryName)
-                                    .lat(r.original().getLat())
-                                    .lng(r.original().getLng())
-                                    .survivalRate(v)
-                                    .build(),
-                            failureRate
-                    );
-                })
-                .sorted((a, b) -> Double.compare(a.score(), b.score())) // 폐업률 오름차순
-                .limit(10) // Top 10 건물만
-                .map(ScoredBuilding::item)
-                .collect(Collectors.toList());
+        // 폐업률 오름차순 Top 10 건물만 (전체 정렬 없이)
+        List<RangeResponse.Item> items = new ArrayList<>(TOP_BUILDINGS);
+        for (int i : TopK.smallest(scores, TOP_BUILDINGS)) {
+            ResolvedPoint r = resolved.get(i);
+            items.add(RangeResponse.Item.builder()
+                    .buildingId(r.building().id())
+                    .category(categoryName)
+                    .lat(r.original().getLat())
+                    .lng(r.original().getLng())
+                    .survivalRate(rates[i])
+                    .build());
+        }
 
         return RangeResponse.builder()
                 .items(items)
@@ -580,28 +760,61 @@ public class RecommendService {
         return buildCachedRangeResponse(resolved, categoryName, categoryId, uid);
     }
 
+    /**
+     * ✅ 건물 전체 결과로 Top 20 다시 계산 후 저장
+     */
+    private List<LeaderboardPort.RankedCategory> rebuildLeaderboard(int buildingId) {
+        List<LeaderboardPort.RankedCategory> ranked = rankCategories(inOutPort.findAllRates(buildingId));
+        leaderboardPort.save(buildingId, ranked);
+        return ranked;
+    }
+
+    /**
+     * ✅ 저장된 결과로 Top 20 (전체 업종이 채워졌을 때만 순위 저장 → 부분 순위가 완성본으로 쓰이지 않도록)
+     */
+    private List<LeaderboardPort.RankedCategory> rankStored(int buildingId) {
+        if (inOutPort.findMissingCategories(buildingId).isEmpty()) {
+            return leaderboardPort.find(buildingId).orElseGet(() -> rebuildLeaderboard(buildingId));
+        }
+        return rankCategories(inOutPort.findAllRates(buildingId));
+    }
+
+    /**
+     * ✅ 폐업률 낮은 순 Top 20 업종 (크기 20 힙으로 선택)
+     */
+    private List<LeaderboardPort.RankedCategory> rankCategories(Map<Integer, SurvivalRates> byCategory) {
+        int[] categoryIds = new int[byCategory.size()];
+        SurvivalRates[] rates = new SurvivalRates[byCategory.size()];
+        double[] scores = new double[byCategory.size()];
+        int n = 0;
+        for (Map.Entry<Integer, SurvivalRates> entry : byCategory.entrySet()) {
+            categoryIds[n] = entry.getKey();
+            rates[n] = entry.getValue();
+            scores[n] = calculateFailureRate(entry.getValue());
+            n++;
+        }
+
+        List<LeaderboardPort.RankedCategory> ranked = new ArrayList<>(TOP_CATEGORIES);
+        for (int i : TopK.smallest(scores, TOP_CATEGORIES)) {
+            ranked.add(new LeaderboardPort.RankedCategory(categoryIds[i], rates[i]));
+        }
+        return ranked;
+    }
+
     /**
      * ✅ 폐업률 계산 헬퍼
      */
-    private double calculateFailureRate(List<Double> survivalRate) {
+    private double calculateFailureRate(SurvivalRates survivalRate) {
         if (survivalRate.isEmpty()) {
             return 0.0;
         }
-        if (survivalRate.size() >= 5) {
-            return survivalRate.get(4); // 5년차 (인덱스 4)
-        } else {
-            return survivalRate.stream()
-                    .mapToDouble(Double::doubleValue)
-                    .average()
-                    .orElse(0.0);
-        }
+        // 5년차, 비어 있으면 있는 칸 평균 (모두 비면 NaN → 정렬 시 맨 뒤)
+        return survivalRate.lastOrAverage();
     }
 
     /**
      * ✅ 헬퍼 레코드들
      */
     private record ResolvedPoint(RangeRequest.Point original, GeoBuildingService.ResolvedBuilding building) {}
-    // ✅ CachedCategoryData 레코드 제거 - InOutPort.CachedCategoryData 사용
-    private record ScoredCategory(RecommendResponse.CategoryResult result, double score) {}
-    private record ScoredBuilding(RangeResponse.Item item, double score) {}
+    private record FullAiResult(Map<String, SurvivalRates> byCat, Map<String, Integer> nameToId) {}
 }
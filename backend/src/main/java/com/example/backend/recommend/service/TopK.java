@@ -0,0 +1,79 @@
+package com.example.backend.recommend.service;
+
+/**
+ * 점수가 낮은 순 상위 K개 선택 (크기 K 최대 힙, 원시 배열만 사용)
+ * - 전체 정렬 O(n log n) 대신 O(n log k), 후보 객체/박싱 없음
+ * - 순서는 Double.compare 기준 (NaN은 가장 뒤), 점수가 같으면 먼저 나온 인덱스 우선 (안정 정렬과 동일)
+ */
+final class TopK {
+
+    private TopK() {
+    }
+
+    /**
+     * scores에서 점수가 낮은 최대 k개의 인덱스를 오름차순으로 반환
+     */
+    static int[] smallest(double[] scores, int k) {
+        int size = Math.min(k, scores.length);
+        if (size <= 0) {
+            return new int[0];
+        }
+
+        int[] heap = new int[size];
+        int filled = 0;
+        for (int i = 0; i < scores.length; i++) {
+            if (filled < size) {
+                heap[filled] = i;
+                siftUp(heap, filled++, scores);
+            } else if (before(scores, i, heap[0])) {
+                heap[0] = i; // 현재 K개 중 가장 나쁜 것과 교체
+                siftDown(heap, 0, size, scores);
+            }
+        }
+
+        // 힙 정렬: 최댓값을 뒤로 보내면 오름차순
+        for (int end = size - 1; end > 0; end--) {
+            swap(heap, 0, end);
+            siftDown(heap, 0, end, scores);
+        }
+        return heap;
+    }
+
+    /** a가 b보다 앞 순위인지 */
+    private static boolean before(double[] scores, int a, int b) {
+        int c = Double.compare(scores[a], scores[b]);
+        return c < 0 || (c == 0 && a < b);
+    }
+
+    private static void siftUp(int[] heap, int i, double[] scores) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(scores, heap[parent], heap[i])) {
+                return;
+            }
+            swap(heap, parent, i);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int i, int size, double[] scores) {
+        while (true) {
+            int worst = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < size && before(scores, heap[worst], heap[left])) worst = left;
+            if (right < size && before(scores, heap[worst], heap[right])) worst = right;
+            if (worst == i) {
+                return;
+            }
+            swap(heap, i, worst);
+            i = worst;
+        }
+    }
+
+    private static void swap(int[] heap, int a, int b) {
+        int t = heap[a];
+        heap[a] = heap[b];
+        heap[b] = t;
+    }
+}
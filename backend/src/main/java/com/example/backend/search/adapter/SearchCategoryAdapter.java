@@ -1,13 +1,14 @@
 package com.example.backend.search.adapter;
 
-import com.example.backend.search.entity.SearchCategoryEntity;
 import com.example.backend.search.port.SearchCategoryPort;
 import com.example.backend.search.repository.SearchCategoryRepository;
 import com.example.backend.search.repository.projection.SearchCategoryProjection;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Collection;
 import java.util.Objects;
@@ -17,6 +18,7 @@ import java.util.Objects;
 public class SearchCategoryAdapter implements SearchCategoryPort {
 
     private final SearchCategoryRepository repo;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional(readOnly = true)
@@ -36,19 +38,23 @@ public class SearchCategoryAdapter implements SearchCategoryPort {
         if (categoryIds == null || categoryIds.isEmpty()) return;
 
         // 중복 방지
-        List<SearchCategoryEntity> entities = categoryIds.stream()
+        List<Integer> distinct = categoryIds.stream()
                 .filter(Objects::nonNull)
                 .distinct()
-                .map(cid -> {
-                    SearchCategoryEntity e = new SearchCategoryEntity();
-                    e.setUserId(userId);
-                    e.setBuildingId(buildingId);
-                    e.setCategoryId(cid);
-                    return e;
-                })
                 .toList();
-
-        // JPA 내장: 존재하면 update, 없으면 insert
-        repo.saveAll(entities);
+        if (distinct.isEmpty()) return;
+
+        // 행에 PK 외 컬럼이 없으므로 이미 있으면 그대로 두면 됨 → 다중 행 INSERT 한 문장 (saveAll은 행마다 SELECT 후 INSERT)
+        // INSERT IGNORE는 중복 외 오류(FK 위반, 값 잘림 등)까지 경고로 삼키므로 중복 키만 무시
+        StringBuilder sql = new StringBuilder("INSERT INTO search_category (user_id, building_id, category_id) VALUES ");
+        List<Object> args = new ArrayList<>(distinct.size() * 3);
+        for (int i = 0; i < distinct.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+            args.add(userId);
+            args.add(buildingId);
+            args.add(distinct.get(i));
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE user_id = user_id");
+        jdbcTemplate.update(sql.toString(), args.toArray());
     }
 }
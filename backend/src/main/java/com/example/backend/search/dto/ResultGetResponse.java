@@ -1,5 +1,6 @@
 package com.example.backend.search.dto;
 
+import com.example.backend.recommend.entity.SurvivalRates;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Value;
@@ -26,6 +27,6 @@ public class ResultGetResponse {
     @Builder
     public static class Category {
         String category;
-        List<Double>  survivalRate;
+        SurvivalRates survivalRate;
     }
 }
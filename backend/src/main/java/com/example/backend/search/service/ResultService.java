@@ -5,6 +5,7 @@ import com.example.backend.common.exception.BusinessException;
 import com.example.backend.search.dto.*;
 import com.example.backend.search.port.LoginSearchPort;
 import com.example.backend.search.port.SearchCategoryPort;
+import com.example.backend.recommend.entity.SurvivalRates;
 import com.example.backend.recommend.port.InOutPort;
 import com.example.backend.recommend.port.BuildingPort;
 import com.example.backend.recommend.port.CategoryPort;
@@ -75,7 +76,8 @@ public class ResultService {
             var cids = BCL.getOrDefault(bid, List.of());
             var rows = inOutRows.getOrDefault(bid, List.of());
 
-            Map<Integer, List<Double>> resultByCid = rows.stream()
+            Map<Integer, SurvivalRates> resultByCid = rows.stream()
+                    .filter(r -> r.result() != null) // 결과 없는 업종은 EMPTY로 대체
                     .collect(Collectors.toMap(
                             InOutPort.InOutResult::categoryId,
                             InOutPort.InOutResult::result,
@@ -85,7 +87,7 @@ public class ResultService {
             List<ResultGetResponse.Category> categories = new ArrayList<>(cids.size());
             for (int cid : cids) {
                 String name = cidToName.get(cid);         // 없으면 null 허용
-                List<Double> survivalRates = resultByCid.getOrDefault(cid, java.util.List.of());
+                SurvivalRates survivalRates = resultByCid.getOrDefault(cid, SurvivalRates.EMPTY);
                 categories.add(ResultGetResponse.Category.builder()
                         .category(name)
                         .survivalRate(survivalRates)
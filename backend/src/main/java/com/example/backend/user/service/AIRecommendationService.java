@@ -47,7 +47,7 @@ public class AIRecommendationService {
             "리스크가 적고 수익성이 높은 업종을 우선순위로 추천해주세요."
     );
 
-    @Async
+    @Async("llmExecutor")
     public CompletableFuture<AIRecommendationResponse> generateRecommendations(
             AIRecommendationRequest request, Long userId) {
 
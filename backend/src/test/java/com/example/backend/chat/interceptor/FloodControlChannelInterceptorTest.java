@@ -0,0 +1,136 @@
+package com.example.backend.chat.interceptor;
+
+import com.example.backend.common.security.authentication.jwt.JwtUserInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 채팅 도배 방지 - GCRA 연속 허용/회복, 방 거절 시 사용자 토큰 반환, 거절 알림 주기 제한, 회복된 버킷 제거
+ * 시각은 테스트가 직접 진행 (System.nanoTime 미사용)
+ */
+class FloodControlChannelInterceptorTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long NOTICE_INTERVAL_MILLIS = 1_000L;
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+    private SimpMessagingTemplate messagingTemplate;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+    }
+
+    @Test
+    void userBurstIsAllowedThenRecoversAtRate() {
+        FloodControlChannelInterceptor interceptor = newInterceptor(3, 1.0, 100, 100.0);
+
+        for (int i = 0; i < 3; i++) {
+            assertNotNull(send(interceptor, "u1", "room-1"));
+        }
+        assertNull(send(interceptor, "u1", "room-1"));
+
+        clock.addAndGet(SECOND);
+        assertNotNull(send(interceptor, "u1", "room-1"));
+        assertNull(send(interceptor, "u1", "room-1"));
+        assertEquals(2L, interceptor.getStatistics().get("userRejected"));
+    }
+
+    @Test
+    void roomRejectionDoesNotChargeSender() {
+        FloodControlChannelInterceptor interceptor = newInterceptor(3, 1.0, 2, 1.0);
+        assertNotNull(send(interceptor, "u1", "busy"));
+        assertNotNull(send(interceptor, "u2", "busy"));
+
+        // 가득 찬 방에 계속 보내도 사용자 한도는 그대로
+        for (int i = 0; i < 5; i++) {
+            assertNull(send(interceptor, "u1", "busy"));
+        }
+
+        assertNotNull(send(interceptor, "u1", "quiet"));
+        assertNotNull(send(interceptor, "u1", "quiet"));
+        assertNull(send(interceptor, "u1", "quiet"));
+        assertEquals(5L, interceptor.getStatistics().get("roomRejected"));
+        assertEquals(1L, interceptor.getStatistics().get("userRejected"));
+    }
+
+    @Test
+    void rejectNoticeIsSentOncePerInterval() {
+        FloodControlChannelInterceptor interceptor = newInterceptor(1, 0.001, 100, 100.0);
+        assertNotNull(send(interceptor, "u1", "room-1"));
+
+        for (int i = 0; i < 3; i++) {
+            assertNull(send(interceptor, "u1", "room-1"));
+        }
+        verify(messagingTemplate, times(1)).convertAndSendToUser(eq("u1"), eq("/queue/errors"), any(), anyMap());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(NOTICE_INTERVAL_MILLIS));
+        assertNull(send(interceptor, "u1", "room-1"));
+        verify(messagingTemplate, times(2)).convertAndSendToUser(eq("u1"), eq("/queue/errors"), any(), anyMap());
+    }
+
+    @Test
+    void bucketsAreEvictedOnlyAfterFullRecovery() {
+        FloodControlChannelInterceptor interceptor = newInterceptor(3, 1.0, 10, 10.0);
+        send(interceptor, "u1", "room-1");
+        send(interceptor, "u1", "room-1");
+
+        interceptor.sweepIdleBuckets();
+        assertEquals(1, interceptor.getStatistics().get("userBuckets"));
+        assertEquals(1, interceptor.getStatistics().get("roomBuckets"));
+
+        // 방 버킷(0.2초)은 회복, 사용자 버킷(2초)은 아직
+        clock.addAndGet(SECOND);
+        interceptor.sweepIdleBuckets();
+        assertEquals(1, interceptor.getStatistics().get("userBuckets"));
+        assertEquals(0, interceptor.getStatistics().get("roomBuckets"));
+
+        clock.addAndGet(SECOND);
+        interceptor.sweepIdleBuckets();
+        assertEquals(0, interceptor.getStatistics().get("userBuckets"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private FloodControlChannelInterceptor newInterceptor(int userBurst, double userPerSecond, int roomBurst, double roomPerSecond) {
+        ObjectProvider<SimpMessagingTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(messagingTemplate);
+        return new FloodControlChannelInterceptor(provider, mock(TaskScheduler.class), new SimpleMeterRegistry(), true,
+            userBurst, userPerSecond, roomBurst, roomPerSecond, NOTICE_INTERVAL_MILLIS, 60_000L, clock::get);
+    }
+
+    private static Message<?> send(FloodControlChannelInterceptor interceptor, String userId, String roomId) {
+        JwtUserInfo user = new JwtUserInfo(userId, "tester", "google", "g-" + userId, null);
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(AuthenticatedSession.ATTRIBUTE, AuthenticatedSession.of(user, () -> userId));
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination("/app/chat.sendMessage/" + roomId);
+        accessor.setSessionId("session-" + userId);
+        accessor.setSessionAttributes(attributes);
+        return interceptor.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), null);
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.backend.chat.search;
+
+import com.example.backend.chat.entity.ChatMessageEntity;
+import com.example.backend.chat.repository.ChatMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 채팅 검색 색인 - DB 따라가기의 연속 워터마크와 재시작 시 따라잡기
+ */
+class ChatSearchIndexTest {
+
+    private static final String ROOM_ID = "room-1";
+    private static final long SETTLE_NEVER = 60_000L;
+    private static final long SETTLE_IMMEDIATELY = 0L;
+
+    @TempDir
+    Path directory;
+
+    // 커밋되어 보이는 메시지 (ID → 엔티티)
+    private final Map<Long, ChatMessageEntity> committed = new ConcurrentSkipListMap<>();
+    private ChatMessageRepository chatMessageRepository;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageRepository = mock(ChatMessageRepository.class);
+        when(chatMessageRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+            .thenAnswer(invocation -> {
+                long after = invocation.getArgument(0);
+                Pageable page = invocation.getArgument(1);
+                return committed.values().stream()
+                    .filter(entity -> entity.getId() > after)
+                    .limit(page.getPageSize())
+                    .toList();
+            });
+        when(chatMessageRepository.findMaxId())
+            .thenAnswer(invocation -> committed.keySet().stream().max(Long::compare).orElse(null));
+    }
+
+    @Test
+    void uncommittedGapHoldsBackLaterMessagesUntilItCommits() throws IOException {
+        commit(1, 2, 4);
+        ChatSearchIndex index = start(SETTLE_NEVER);
+
+        index.poll();
+        assertEquals(List.of("m2", "m1"), search(index));
+
+        commit(3);
+        index.poll();
+        assertEquals(List.of("m4", "m3", "m2", "m1"), search(index));
+    }
+
+    @Test
+    void settledGapIsSkipped() throws IOException {
+        commit(1, 3);
+        ChatSearchIndex index = start(SETTLE_IMMEDIATELY);
+
+        index.poll();
+
+        assertEquals(List.of("m3", "m1"), search(index));
+        assertEquals(3L, index.getStatistics().get("indexedThrough"));
+    }
+
+    @Test
+    void restartResumesAfterFlushedWatermarkWithoutDuplicates() throws IOException {
+        commit(1, 2, 3);
+        ChatSearchIndex first = start(SETTLE_NEVER);
+        first.poll();
+        first.flush();
+
+        // 기록 전에 종료된 메시지는 다음 시작 때 DB에서 다시 색인
+        commit(4, 5);
+        first.poll();
+
+        clearInvocations(chatMessageRepository);
+        ChatSearchIndex restarted = start(SETTLE_NEVER);
+        restarted.poll();
+
+        verify(chatMessageRepository).findByIdGreaterThanOrderByIdAsc(eq(3L), any(Pageable.class));
+        ChatSearchIndex.SearchResult result = restarted.search(ROOM_ID, "안녕", null, null, null, 10);
+        assertEquals(List.of("m5", "m4", "m3", "m2", "m1"), result.messageIds());
+        assertEquals(5, result.totalHits());
+    }
+
+    @Test
+    void segmentWrittenPastWatermarkIsDroppedOnRestart() throws IOException {
+        commit(1, 2);
+        ChatSearchIndex first = start(SETTLE_NEVER);
+        first.poll();
+        first.flush();
+
+        // 세그먼트만 기록되고 워터마크가 전진하기 전에 종료된 상황
+        commit(3);
+        first.poll();
+        MemoryIndex orphan = new MemoryIndex();
+        orphan.add(3, "m3", ROOM_ID, "u1", 3, NgramTokenizer.indexTerms("안녕 3"));
+        orphan.toSegment(99).write(directory);
+
+        ChatSearchIndex restarted = start(SETTLE_NEVER);
+        restarted.poll();
+
+        ChatSearchIndex.SearchResult result = restarted.search(ROOM_ID, "안녕", null, null, null, 10);
+        assertEquals(List.of("m3", "m2", "m1"), result.messageIds());
+        assertEquals(3, result.totalHits());
+        assertEquals(1, restarted.getStatistics().get("segments"));
+    }
+
+    @Test
+    void mergeInputsLeftByCrashAreDroppedOnLoad() throws IOException {
+        commit(1, 2);
+        ChatSearchIndex first = start(SETTLE_NEVER);
+        first.poll();
+        first.flush();
+
+        // 병합 결과만 기록되고 입력 세그먼트가 지워지기 전에 종료된 상황
+        segment(99, 1, 2).write(directory);
+
+        ChatSearchIndex restarted = start(SETTLE_NEVER);
+
+        ChatSearchIndex.SearchResult result = restarted.search(ROOM_ID, "안녕", null, null, null, 10);
+        assertEquals(List.of("m2", "m1"), result.messageIds());
+        assertEquals(2, result.totalHits());
+        assertEquals(1, restarted.getStatistics().get("segments"));
+        assertEquals(false, restarted.getStatistics().get("overlappingSegments"));
+    }
+
+    @Test
+    void partiallyOverlappingSegmentsAreCountedOnce() throws IOException {
+        commit(1, 2);
+        ChatSearchIndex first = start(SETTLE_NEVER);
+        first.poll();
+        first.flush();
+        segment(99, 1).write(directory);
+
+        ChatSearchIndex restarted = start(SETTLE_NEVER);
+
+        ChatSearchIndex.SearchResult result = restarted.search(ROOM_ID, "안녕", null, null, null, 10);
+        assertEquals(List.of("m2", "m1"), result.messageIds());
+        assertEquals(2, result.totalHits());
+        assertEquals(2, restarted.getStatistics().get("segments"));
+        assertEquals(true, restarted.getStatistics().get("overlappingSegments"));
+    }
+
+    @Test
+    void queryWithoutLettersOrDigitsMatchesNothing() throws IOException {
+        commit(1, 2);
+        ChatSearchIndex index = start(SETTLE_NEVER);
+        index.poll();
+
+        ChatSearchIndex.SearchResult result = index.search(ROOM_ID, "!!!", null, null, null, 10);
+
+        assertEquals(List.of(), result.messageIds());
+        assertEquals(0, result.totalHits());
+        // 빈 검색어는 기존대로 방 전체 (보낸 사람/기간 필터만)
+        assertEquals(2, index.search(ROOM_ID, "", null, null, null, 10).totalHits());
+    }
+
+    private ChatSearchIndex start(long gapSettleMillis) throws IOException {
+        ChatSearchIndex index = new ChatSearchIndex(chatMessageRepository, mock(TaskScheduler.class), true,
+            directory.toString(), 10_000, 30_000L, 8, 4, 1_000L, gapSettleMillis);
+        index.loadSegments();
+        return index;
+    }
+
+    private static IndexSegment segment(long generation, long... ids) {
+        MemoryIndex memory = new MemoryIndex();
+        for (long id : ids) {
+            memory.add(id, "m" + id, ROOM_ID, "u1", id, NgramTokenizer.indexTerms("안녕 " + id));
+        }
+        return memory.toSegment(generation);
+    }
+
+    private List<String> search(ChatSearchIndex index) {
+        return index.search(ROOM_ID, "안녕", null, null, null, 10).messageIds();
+    }
+
+    private void commit(long... ids) {
+        for (long id : ids) {
+            committed.put(id, ChatMessageEntity.builder()
+                .id(id)
+                .messageId("m" + id)
+                .roomId(ROOM_ID)
+                .senderId("u1")
+                .senderName("tester")
+                .content("안녕 " + id)
+                .messageType("CHAT")
+                .createdAt(LocalDateTime.of(2026, 1, 1, 0, 0).plusSeconds(id))
+                .build());
+        }
+    }
+}
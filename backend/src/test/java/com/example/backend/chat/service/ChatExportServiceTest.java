@@ -0,0 +1,34 @@
+package com.example.backend.chat.service;
+
+import com.example.backend.chat.repository.ChatMessageRepository;
+import com.example.backend.chat.repository.RoomRepository;
+import com.example.backend.common.exception.BusinessException;
+import com.example.backend.common.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 채팅 내보내기 - 없는 방은 스트리밍 시작 전에 404로 거절
+ */
+class ChatExportServiceTest {
+
+    @Test
+    void missingRoomIsNotFound() {
+        RoomRepository roomRepository = mock(RoomRepository.class);
+        when(roomRepository.existsByRoomUuid("missing")).thenReturn(false);
+        ChatExportService service = new ChatExportService(mock(ChatMessageRepository.class), roomRepository,
+            mock(ChatBuilderService.class), new ObjectMapper(), mock(EntityManager.class));
+
+        BusinessException error = assertThrows(BusinessException.class, () -> service.validateRoom("missing"));
+
+        assertEquals(ErrorCode.CHAT_ROOM_NOT_FOUND, error.getErrorCode());
+        assertEquals(HttpStatus.NOT_FOUND, error.getErrorCode().getStatus());
+    }
+}
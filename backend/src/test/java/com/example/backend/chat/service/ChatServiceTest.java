@@ -0,0 +1,176 @@
+package com.example.backend.chat.service;
+
+import com.example.backend.chat.dto.ChatMessage;
+import com.example.backend.chat.entity.Room;
+import com.example.backend.chat.entity.RoomParticipant;
+import com.example.backend.chat.interceptor.AuthenticatedSession;
+import com.example.backend.chat.presence.PresenceTracker;
+import com.example.backend.chat.repository.RoomParticipantRepository;
+import com.example.backend.chat.repository.RoomRepository;
+import com.example.backend.common.security.authentication.jwt.JwtUserInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 채팅 서비스 - 방 메시지와 접속 현황은 트랜잭션 커밋 후에만 반영 (순번 발급 포함)
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatServiceTest {
+
+    private static final String ROOM_ID = "room-uuid";
+    private static final JwtUserInfo USER = new JwtUserInfo("u1", "tester", "google", "g-1", null);
+    private static final String SESSION_ID = "session-1";
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private RoomParticipantRepository roomParticipantRepository;
+
+    @Mock
+    private RoomBroadcaster roomBroadcaster;
+
+    @Mock
+    private ChatCacheService chatCacheService;
+
+    @Mock
+    private ParticipantSnapshotCache participantSnapshotCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PresenceTracker presenceTracker;
+
+    @InjectMocks
+    private ChatService chatService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(roomParticipantRepository.deactivateParticipant(ROOM_ID, USER.userId())).thenReturn(1);
+        lenient().when(roomRepository.decrementParticipantsIfPositive(1L)).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private void givenLockedRoomWithParticipants(int participants) {
+        Room room = Room.builder().id(1L).roomUuid(ROOM_ID).currentParticipants(participants).build();
+        when(roomRepository.findActiveByRoomUuidForUpdate(ROOM_ID)).thenReturn(Optional.of(room));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void permanentLeaveBroadcastsLeaveMessageAfterCommit() {
+        givenLockedRoomWithParticipants(3);
+        chatService.leaveRoomPermanently(ROOM_ID, USER);
+        verify(roomBroadcaster, never()).publish(any(), any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        ArgumentCaptor<ChatMessage> published = ArgumentCaptor.forClass(ChatMessage.class);
+        verify(roomBroadcaster).publish(eq(ROOM_ID), published.capture());
+        assertEquals("LEAVE", published.getValue().getType());
+    }
+
+    @Test
+    void rolledBackLeaveDoesNotConsumeSeq() {
+        givenLockedRoomWithParticipants(1);
+        chatService.leaveRoomPermanently(ROOM_ID, USER);
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(roomBroadcaster, never()).publish(any(), any());
+        verify(chatCacheService, never()).cleanupInactiveRoomCache(any());
+    }
+
+    @Test
+    void lastLeaverCleansUpRoomCacheAfterCommit() {
+        givenLockedRoomWithParticipants(1);
+        chatService.leaveRoomPermanently(ROOM_ID, USER);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(chatCacheService).cleanupInactiveRoomCache(ROOM_ID);
+        verify(participantSnapshotCache).evict(ROOM_ID);
+    }
+
+    @Test
+    void leaverOfOccupiedRoomKeepsRoomCache() {
+        givenLockedRoomWithParticipants(2);
+        chatService.leaveRoomPermanently(ROOM_ID, USER);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(chatCacheService, never()).cleanupInactiveRoomCache(any());
+        verify(participantSnapshotCache, never()).evict(any());
+    }
+
+    @Test
+    void rejoinAddsPresenceOnlyAfterCommit() {
+        givenActiveParticipantRejoining();
+        chatService.joinRoom(ROOM_ID, joinHeaders());
+        verify(presenceTracker, never()).joinRoom(anyString(), anyString());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(presenceTracker).joinRoom(SESSION_ID, ROOM_ID);
+    }
+
+    @Test
+    void rolledBackJoinLeavesPresenceUntouched() {
+        givenActiveParticipantRejoining();
+        chatService.joinRoom(ROOM_ID, joinHeaders());
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(presenceTracker, never()).joinRoom(anyString(), anyString());
+    }
+
+    private void givenActiveParticipantRejoining() {
+        Room room = Room.builder().id(1L).roomUuid(ROOM_ID).currentParticipants(1).build();
+        when(roomRepository.findByRoomUuidAndIsActiveTrue(ROOM_ID)).thenReturn(Optional.of(room));
+        when(roomParticipantRepository.findByRoomUuidAndUserId(ROOM_ID, USER.userId()))
+            .thenReturn(Optional.of(RoomParticipant.builder().room(room).userId(USER.userId()).build()));
+    }
+
+    private static SimpMessageHeaderAccessor joinHeaders() {
+        AuthenticatedSession session = mock(AuthenticatedSession.class);
+        when(session.getUserInfo()).thenReturn(USER);
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(AuthenticatedSession.ATTRIBUTE, session);
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setSessionId(SESSION_ID);
+        accessor.setSessionAttributes(attributes);
+        return accessor;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.backend.chat.service;
+
+import com.example.backend.chat.codec.ChatBinaryCodec;
+import com.example.backend.chat.codec.ChatCodecRegistry;
+import com.example.backend.chat.dto.ChatMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 방 메시지 발행 - 세션별로 병렬 처리되는 전송이 섞여도 토픽 전송 순서 = 순번 순서
+ */
+class RoomBroadcasterTest {
+
+    private static final String ROOM_ID = "room-1";
+    private static final int SENDERS = 16;
+    private static final int MESSAGES_PER_SENDER = 200;
+
+    @Test
+    void concurrentPublishesReachTopicInSeqOrderWithoutGaps() throws Exception {
+        // 발급과 전송 사이에 다른 스레드가 끼어들 수 있도록 발급을 느리게
+        AtomicLong counter = new AtomicLong();
+        RoomSequencer sequencer = mock(RoomSequencer.class);
+        when(sequencer.next(anyString())).thenAnswer(invocation -> {
+            long seq = counter.incrementAndGet();
+            Thread.yield();
+            return seq;
+        });
+
+        List<Message<?>> sent = Collections.synchronizedList(new ArrayList<>());
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate((message, timeout) -> sent.add(message));
+
+        RoomBroadcaster broadcaster = new RoomBroadcaster(sequencer, mock(ChatCacheService.class), messagingTemplate,
+            new ChatCodecRegistry(new ChatBinaryCodec()), mock(AsyncBatchChatService.class), mock(ShardedBroadcastService.class));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int s = 0; s < SENDERS; s++) {
+                String senderId = String.valueOf(s);
+                executor.submit(() -> {
+                    for (int i = 0; i < MESSAGES_PER_SENDER; i++) {
+                        broadcaster.publish(ROOM_ID, ChatMessage.createChatMessage(ROOM_ID, senderId, "user", null, "m" + i));
+                    }
+                });
+            }
+        }
+
+        assertEquals(SENDERS * MESSAGES_PER_SENDER, sent.size());
+        for (int i = 0; i < sent.size(); i++) {
+            ChatMessage message = (ChatMessage) sent.get(i).getPayload();
+            assertEquals(i + 1, message.getSeq(), "토픽 전송 순서와 순번이 어긋남");
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.backend.chat.service;
+
+import com.example.backend.chat.repository.ChatMessageRepository;
+import com.example.backend.perf.support.InProcessRedisServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 방 순번 발급기 - Redis 카운터 기준 발급과 카운터가 없을 때의 복구
+ */
+class RoomSequencerTest {
+
+    private static InProcessRedisServer redis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private ChatMessageRepository chatMessageRepository;
+    private ChatCacheService chatCacheService;
+    private String roomId;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redis = InProcessRedisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        chatMessageRepository = mock(ChatMessageRepository.class);
+        chatCacheService = mock(ChatCacheService.class);
+        roomId = UUID.randomUUID().toString();
+    }
+
+    @Test
+    void newRoomStartsAtOneWithoutGaps() {
+        RoomSequencer sequencer = newSequencer();
+
+        assertEquals(1, sequencer.next(roomId));
+        assertEquals(2, sequencer.next(roomId));
+        assertEquals(3, sequencer.next(roomId));
+    }
+
+    @Test
+    void restartDoesNotReissueSeqsNotYetPersisted() {
+        RoomSequencer sequencer = newSequencer();
+        for (int i = 0; i < 5; i++) {
+            sequencer.next(roomId);
+        }
+
+        // 비동기 배치가 아직 3번까지만 저장하고 캐시는 정리된 상태
+        clearInvocations(chatMessageRepository);
+        when(chatMessageRepository.findMaxSeqByRoomId(roomId)).thenReturn(3L);
+        RoomSequencer restarted = newSequencer();
+
+        assertEquals(6, restarted.next(roomId));
+        verify(chatMessageRepository, never()).findMaxSeqByRoomId(anyString());
+    }
+
+    @Test
+    void missingCounterResumesAfterLastStoredSeq() {
+        when(chatMessageRepository.findMaxSeqByRoomId(roomId)).thenReturn(40L);
+        when(chatCacheService.getLastCachedSeq(roomId)).thenReturn(42L);
+        RoomSequencer sequencer = newSequencer();
+
+        assertEquals(43, sequencer.next(roomId));
+        assertEquals(44, sequencer.next(roomId));
+    }
+
+    @Test
+    void roomsAreIndependent() {
+        RoomSequencer sequencer = newSequencer();
+        String otherRoom = UUID.randomUUID().toString();
+
+        assertEquals(1, sequencer.next(roomId));
+        assertEquals(1, sequencer.next(otherRoom));
+        assertEquals(2, sequencer.next(roomId));
+    }
+
+    private RoomSequencer newSequencer() {
+        return new RoomSequencer(redisTemplate, chatMessageRepository, chatCacheService, 60_000L);
+    }
+}
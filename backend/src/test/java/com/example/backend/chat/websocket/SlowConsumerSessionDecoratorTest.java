@@ -0,0 +1,169 @@
+package com.example.backend.chat.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 느린 소비자 아웃바운드 큐 - 소켓 쓰기가 막힌 세션에서 정책별 동작
+ * (지연 중 CHAT만 버림 / 방 브로드캐스트를 재동기화 마커 하나로 축약 / 조기 종료 / 바이트 상한 종료)
+ */
+class SlowConsumerSessionDecoratorTest {
+
+    private static final String ROOM_ID = "room-1";
+    private static final int LAG_FRAMES = 3;
+
+    private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ExecutorService drainExecutor;
+    private WebSocketSession socket;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        drainExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        // 소켓 쓰기는 release 전까지 막힘 (느린 클라이언트)
+        socket = mock(WebSocketSession.class);
+        doAnswer(invocation -> {
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            sent.add((String) message.getPayload());
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(socket).sendMessage(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        drainExecutor.shutdownNow();
+    }
+
+    @Test
+    void laggingSessionDropsChatButKeepsJoinAndLeave() throws Exception {
+        SlowConsumerGuard guard = newGuard(SlowConsumerPolicy.DROP_CHAT, 1_048_576);
+        SlowConsumerSessionDecorator session = laggingSession(guard);
+
+        session.sendMessage(roomFrame("CHAT", "dropped"));
+        session.sendMessage(roomFrame("JOIN", "join"));
+        session.sendMessage(roomFrame("LEAVE", "leave"));
+        release.countDown();
+
+        waitFor(() -> sent.size() == 1 + LAG_FRAMES + 2);
+        assertTrue(sent.stream().noneMatch(frame -> frame.contains("dropped")));
+        assertTrue(sent.get(sent.size() - 2).contains("\"type\":\"JOIN\""));
+        assertTrue(sent.get(sent.size() - 1).contains("\"type\":\"LEAVE\""));
+        assertEquals(1L, guard.getStatistics().get("droppedFrames"));
+    }
+
+    @Test
+    void missedBroadcastsCollapseIntoOneResyncMarker() throws Exception {
+        SlowConsumerGuard guard = newGuard(SlowConsumerPolicy.RESYNC_MARKER, 1_048_576);
+        SlowConsumerSessionDecorator session = laggingSession(guard);
+
+        for (int i = 0; i < 5; i++) {
+            session.sendMessage(roomFrame(i % 2 == 0 ? "CHAT" : "JOIN", "missed" + i));
+        }
+        session.sendMessage(new TextMessage("MESSAGE\ndestination:/user/queue/errors\n\n{\"type\":\"ERROR\"}\u0000"));
+        release.countDown();
+
+        waitFor(() -> sent.size() == 1 + LAG_FRAMES + 1 + 1);
+        assertTrue(sent.stream().noneMatch(frame -> frame.contains("missed")));
+        assertTrue(sent.get(sent.size() - 2).contains("/user/queue/errors"));
+        String marker = sent.get(sent.size() - 1);
+        assertTrue(marker.contains("destination:/topic/room." + ROOM_ID));
+        assertTrue(marker.contains("subscription:sub-0"));
+        assertTrue(marker.contains("\"type\":\"RESYNC\""));
+        assertTrue(marker.contains("5개 메시지 누락"));
+        assertEquals(5L, guard.getStatistics().get("droppedFrames"));
+        assertEquals(1L, guard.getStatistics().get("resyncMarkers"));
+    }
+
+    @Test
+    void disconnectPolicyClosesLaggingSessionEarly() throws Exception {
+        SlowConsumerGuard guard = newGuard(SlowConsumerPolicy.DISCONNECT, 1_048_576);
+        SlowConsumerSessionDecorator session = laggingSession(guard);
+
+        session.sendMessage(roomFrame("JOIN", "join"));
+
+        verify(socket).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(0, session.getQueuedFrames());
+        assertEquals(1L, guard.getStatistics().get("disconnects"));
+
+        // 종료 후 전송은 무시
+        session.sendMessage(roomFrame("JOIN", "after-close"));
+        assertEquals(0, session.getQueuedFrames());
+    }
+
+    @Test
+    void queueOverByteCapClosesSessionEvenWithoutLag() throws Exception {
+        TextMessage join = roomFrame("JOIN", "join");
+        // 지연 임계치에는 닿지 않고, 두 프레임을 넘기면 상한 초과
+        SlowConsumerGuard guard = newGuard(SlowConsumerPolicy.DROP_CHAT, join.getPayloadLength() * 2L);
+        SlowConsumerSessionDecorator session = new SlowConsumerSessionDecorator(socket, guard);
+        session.sendMessage(join);
+        waitFor(() -> sent.size() == 1);
+
+        session.sendMessage(join);
+        session.sendMessage(join);
+        verify(socket, never()).close(any());
+
+        session.sendMessage(join);
+
+        verify(socket).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(0L, session.getQueuedBytes());
+        assertEquals(1L, guard.getStatistics().get("disconnects"));
+    }
+
+    /**
+     * 첫 프레임은 소켓 쓰기에서 막히고, 뒤따른 LAG_FRAMES개가 큐에 쌓여 지연 상태인 세션
+     */
+    private SlowConsumerSessionDecorator laggingSession(SlowConsumerGuard guard) throws Exception {
+        SlowConsumerSessionDecorator session = new SlowConsumerSessionDecorator(socket, guard);
+        session.sendMessage(roomFrame("CHAT", "first"));
+        waitFor(() -> sent.size() == 1);
+        for (int i = 0; i < LAG_FRAMES; i++) {
+            session.sendMessage(roomFrame("CHAT", "queued" + i));
+        }
+        assertTrue(session.isLagging());
+        return session;
+    }
+
+    private SlowConsumerGuard newGuard(SlowConsumerPolicy policy, long maxQueuedBytes) {
+        return new SlowConsumerGuard(drainExecutor, new ObjectMapper().findAndRegisterModules(), policy,
+            LAG_FRAMES, 1_048_576, 60_000, maxQueuedBytes);
+    }
+
+    private static TextMessage roomFrame(String type, String content) {
+        return new TextMessage("MESSAGE\ndestination:/topic/room." + ROOM_ID + "\nsubscription:sub-0\n\n"
+            + "{\"type\":\"" + type + "\",\"roomId\":\"" + ROOM_ID + "\",\"content\":\"" + content + "\"}\u0000");
+    }
+
+    private static void waitFor(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.get()) {
+            assertTrue(System.nanoTime() < deadline, "대기 시간 초과");
+            Thread.sleep(5);
+        }
+    }
+}
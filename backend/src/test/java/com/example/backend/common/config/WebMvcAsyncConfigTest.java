@@ -0,0 +1,89 @@
+package com.example.backend.common.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * MVC 비동기 타임아웃 - 긴 스트리밍 응답으로 표시한 요청만 기본 타임아웃 대신 긴 타임아웃 (기본값 1시간)
+ */
+class WebMvcAsyncConfigTest {
+
+    private static final long DEFAULT_TIMEOUT_MILLIS = 120_000L;
+    private static final long LONG_RUNNING_TIMEOUT_MILLIS = 3_600_000L;
+
+    private AnnotationConfigWebApplicationContext context;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(TestMvcConfig.class);
+        context.refresh();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void markedStreamingResponseGetsLongRunningTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(get("/export")).andExpect(request().asyncStarted()).andReturn();
+
+        assertEquals(LONG_RUNNING_TIMEOUT_MILLIS, result.getRequest().getAsyncContext().getTimeout());
+    }
+
+    @Test
+    void otherAsyncResponsesKeepDefaultTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(get("/stream")).andExpect(request().asyncStarted()).andReturn();
+
+        assertEquals(DEFAULT_TIMEOUT_MILLIS, result.getRequest().getAsyncContext().getTimeout());
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @Import({WebMvcAsyncConfig.class, StreamingController.class})
+    static class TestMvcConfig implements WebMvcConfigurer {
+
+        @Override
+        public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+            configurer.setDefaultTimeout(DEFAULT_TIMEOUT_MILLIS); // spring.mvc.async.request-timeout 역할
+        }
+    }
+
+    @RestController
+    static class StreamingController {
+
+        @GetMapping("/export")
+        StreamingResponseBody export(HttpServletRequest request) {
+            request.setAttribute(WebMvcAsyncConfig.LONG_RUNNING_ATTRIBUTE, Boolean.TRUE);
+            return out -> out.write('x');
+        }
+
+        @GetMapping("/stream")
+        StreamingResponseBody stream() {
+            return out -> out.write('x');
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.backend.perf;
+
+import com.example.backend.perf.support.InProcessRedisServer;
+import com.example.backend.recommend.entity.SurvivalRates;
+import com.example.backend.recommend.infra.cache.CategoryCoverage;
+import com.example.backend.recommend.port.CategoryPort;
+import com.example.backend.recommend.port.InOutPort;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 건물 업종 완성도 판정 비용 비교 (전체 업종 247개)
+ * - 구: SELECT COUNT(*) ... == 247
+ * - 신: 업종 비트맵 (L1 메모리 / L2 Redis / DB 재구성)
+ *
+ * 실행: gradle test --tests '*CategoryCoverageBenchmarkTest' -Dperf=true
+ */
+@Tag("perf")
+@EnabledIfSystemProperty(named = "perf", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("perf")
+class CategoryCoverageBenchmarkTest {
+
+    private static final int BUILDINGS = Integer.getInteger("perf.coverage.buildings", 200);
+    private static final int FIRST_BUILDING = 3_000_000;
+    private static final int CATEGORIES = 247;
+    private static final int ROUNDS = 5;
+
+    private static InProcessRedisServer redis;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) throws IOException {
+        redis = InProcessRedisServer.start();
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", redis::getPort);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redis.close();
+    }
+
+    @Autowired
+    private InOutPort inOutPort;
+
+    @Autowired
+    private CategoryPort categoryPort;
+
+    @Autowired
+    private CategoryCoverage coverage;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void completenessCheck() {
+        List<Object[]> categories = new ArrayList<>(CATEGORIES);
+        for (int c = 1; c <= CATEGORIES; c++) {
+            categories.add(new Object[]{c, "업종" + c});
+        }
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO category (category_id, name) VALUES (?, ?)", categories);
+
+        for (int b = FIRST_BUILDING; b < FIRST_BUILDING + BUILDINGS; b++) {
+            Map<Integer, SurvivalRates> results = new LinkedHashMap<>();
+            for (int c = 1; c <= CATEGORIES; c++) {
+                if (b == FIRST_BUILDING && c == 100) continue; // 한 건물은 업종 하나 누락
+                results.put(c, SurvivalRates.wrap(new float[]{0.9f, 0.8f, 0.7f, 0.6f, 0.5f}));
+            }
+            inOutPort.upsertAll(b, results);
+        }
+
+        // 비트맵 판정 = DB 판정, Redis 비트맵은 다른 노드(새 인스턴스)에서도 같은 값
+        assertEquals(CATEGORIES, coverage.requiredCount());
+        assertEquals(List.of(100), inOutPort.findMissingCategoriesFresh(FIRST_BUILDING));
+        assertEquals(List.of(100), inOutPort.findMissingCategories(FIRST_BUILDING));
+        assertTrue(inOutPort.findMissingCategoriesFresh(FIRST_BUILDING + 1).isEmpty());
+        inOutPort.upsertAll(FIRST_BUILDING, Map.of(100, SurvivalRates.wrap(new float[]{0.1f, 0.1f, 0.1f, 0.1f, 0.1f})));
+        assertTrue(inOutPort.findMissingCategories(FIRST_BUILDING).isEmpty());
+        CategoryCoverage otherNode = new CategoryCoverage(redisTemplate, categoryPort, 1, 86_400_000L, 3_600_000L, 600_000L);
+        assertTrue(otherNode.missing(otherNode.getShared(FIRST_BUILDING).covered()).isEmpty());
+
+        measure("구: COUNT(*) 쿼리", b ->
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM in_out WHERE building_id = ?", Integer.class, b));
+        measure("신: DB 재구성", inOutPort::findMissingCategoriesFresh);
+        measure("신: 비트맵 L2(Redis)", b -> otherNode.missing(otherNode.getShared(b).covered()));
+        measure("신: 비트맵 L1", inOutPort::findMissingCategories);
+    }
+
+    private void measure(String name, IntConsumer check) {
+        for (int b = FIRST_BUILDING; b < FIRST_BUILDING + BUILDINGS; b++) {
+            check.accept(b); // 워밍업
+        }
+        long[] nanos = new long[BUILDINGS * ROUNDS];
+        int n = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int b = FIRST_BUILDING; b < FIRST_BUILDING + BUILDINGS; b++) {
+                long start = System.nanoTime();
+                check.accept(b);
+                nanos[n++] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(nanos);
+        System.out.printf("[coverage] %-20s 평균 %.4f ms, p50 %.4f ms, p99 %.4f ms%n", name,
+            Arrays.stream(nanos).average().orElse(0) / 1_000_000.0,
+            nanos[n / 2] / 1_000_000.0, nanos[(int) (n * 0.99)] / 1_000_000.0);
+    }
+}
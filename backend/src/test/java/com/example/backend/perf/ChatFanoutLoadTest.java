@@ -0,0 +1,281 @@
+package com.example.backend.perf;
+
+import com.example.backend.chat.dto.request.RoomCreateRequest;
+import com.example.backend.chat.presence.PresenceTracker;
+import com.example.backend.chat.repository.ChatMessageRepository;
+import com.example.backend.chat.service.AsyncBatchChatService;
+import com.example.backend.chat.service.ChatService;
+import com.example.backend.chat.websocket.SlowConsumerGuard;
+import com.example.backend.common.security.authentication.jwt.JwtUserInfo;
+import com.example.backend.common.security.authentication.jwt.JwtUtil;
+import com.example.backend.perf.support.InProcessRedisServer;
+import com.example.backend.perf.support.LatencyRecorder;
+import com.example.backend.perf.support.StompLoadClient;
+import com.example.backend.perf.support.StompLoadClient.Transport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 채팅 팬아웃 부하 테스트 (방당 최대 인원 500명 기준)
+ * - 외부 의존성 없이 실행: MySQL → H2(MySQL 모드), Redis → 인프로세스 RESP 서버
+ * - 가상 스레드로 수천 개의 STOMP 클라이언트를 접속시켜 방에 입장시킨 뒤,
+ *   일부 클라이언트가 보낸 메시지의 전송 → 수신 지연(p50/p99/p999), 영속화 지연, 힙 사용량을 시나리오별로 출력
+ *
+ * 실행: gradle test --tests '*ChatFanoutLoadTest' -Dperf=true
+ * 규모 조정: -Dperf.room-size=500 -Dperf.rooms=4 -Dperf.senders=10 -Dperf.messages-per-sender=20 -Dperf.send-interval-millis=20
+ */
+@Tag("perf")
+@EnabledIfSystemProperty(named = "perf", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("perf")
+class ChatFanoutLoadTest {
+
+    private static final int ROOM_SIZE = Integer.getInteger("perf.room-size", 500);
+    private static final int ROOMS = Integer.getInteger("perf.rooms", 4);
+    private static final int SENDERS = Integer.getInteger("perf.senders", 10);
+    private static final int MESSAGES_PER_SENDER = Integer.getInteger("perf.messages-per-sender", 20);
+    private static final long SEND_INTERVAL_MILLIS = Long.getLong("perf.send-interval-millis", 20);
+
+    private static final int MAX_CONCURRENT_HANDSHAKES = 64;
+    private static final long TIMEOUT_MILLIS = 120_000;
+
+    private static InProcessRedisServer redis;
+    private static final AtomicInteger USER_SEQUENCE = new AtomicInteger();
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) throws IOException {
+        redis = InProcessRedisServer.start();
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", redis::getPort);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redis.close();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private PresenceTracker presenceTracker;
+
+    @Autowired
+    private AsyncBatchChatService asyncBatchChatService;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private SlowConsumerGuard slowConsumerGuard;
+
+    @Test
+    void nativeJsonSingleRoom() throws Exception {
+        runScenario("native-json-" + ROOM_SIZE, Transport.NATIVE_JSON, 1);
+    }
+
+    @Test
+    void nativeBinarySingleRoom() throws Exception {
+        runScenario("native-binary-" + ROOM_SIZE, Transport.NATIVE_BINARY, 1);
+    }
+
+    @Test
+    void sockJsSingleRoom() throws Exception {
+        runScenario("sockjs-" + ROOM_SIZE, Transport.SOCKJS, 1);
+    }
+
+    @Test
+    void nativeJsonMultiRoom() throws Exception {
+        runScenario("native-json-" + ROOMS + "x" + ROOM_SIZE, Transport.NATIVE_JSON, ROOMS);
+    }
+
+    private void runScenario(String name, Transport transport, int roomCount) throws Exception {
+        StompLoadClient client = new StompLoadClient(transport, port);
+        LatencyRecorder recorder = new LatencyRecorder();
+        List<RoomClients> rooms = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // 1. 방 생성 및 클라이언트 접속/입장
+            long connectStart = System.nanoTime();
+            for (int r = 0; r < roomCount; r++) {
+                rooms.add(openRoom(name + "-" + r, client, recorder, executor));
+            }
+            for (RoomClients room : rooms) {
+                awaitCondition("입장 완료: " + room.roomId, () -> presenceTracker.getOnlineCount(room.roomId) >= ROOM_SIZE);
+            }
+            double connectSeconds = (System.nanoTime() - connectStart) / 1_000_000_000.0;
+
+            // 2. 입장 메시지 처리가 끝난 뒤 기준값 측정
+            awaitCondition("입장 메시지 영속화", () -> asyncBatchChatService.getMainQueueSize() == 0);
+            Thread.sleep(1_000);
+            recorder.reset();
+            long framesBefore = client.getReceivedFrames();
+            long bytesBefore = client.getReceivedBytes();
+            long persistedBefore = chatMessageRepository.count();
+            long heapBefore = usedHeapAfterGc();
+
+            // 3. 방별 송신자들이 동시에 메시지 전송
+            int sent = roomCount * SENDERS * MESSAGES_PER_SENDER;
+            long expected = (long) sent * ROOM_SIZE;
+            List<Future<?>> senders = new ArrayList<>();
+            for (RoomClients room : rooms) {
+                for (StompSession session : room.sessions.subList(0, Math.min(SENDERS, room.sessions.size()))) {
+                    senders.add(executor.submit(() -> sendMessages(client, session, room.roomId)));
+                }
+            }
+            for (Future<?> sender : senders) {
+                sender.get();
+            }
+            long sendEnd = System.nanoTime();
+
+            long heapPeak = usedHeap();
+            awaitCondition("메시지 수신", () -> recorder.count() >= expected, 30_000);
+            awaitCondition("메시지 영속화", () -> chatMessageRepository.count() >= persistedBefore + sent);
+            double persistenceLagMillis = (System.nanoTime() - sendEnd) / 1_000_000.0;
+            long heapAfter = usedHeapAfterGc();
+
+            // 4. 결과 출력
+            LatencyRecorder.Snapshot latency = recorder.snapshot();
+            long frames = client.getReceivedFrames() - framesBefore;
+            long bytes = client.getReceivedBytes() - bytesBefore;
+            System.out.printf("[fanout] %-28s clients %,6d (접속 %.1fs) | 전송 %,d건 → 수신 %,d/%,d건%n",
+                name, roomCount * ROOM_SIZE, connectSeconds, sent, latency.count(), expected);
+            System.out.printf("[fanout] %-28s 지연 p50 %.2f ms, p99 %.2f ms, p999 %.2f ms, max %.2f ms | 수신 페이로드 평균 %,d B%n",
+                name, latency.p50(), latency.p99(), latency.p999(), latency.max(), frames > 0 ? bytes / frames : 0);
+            System.out.printf("[fanout] %-28s 영속화 지연 %.0f ms | 힙 %,d → 최대 %,d → %,d KB | 느린 소비자 %s%n",
+                name, persistenceLagMillis, heapBefore / 1024, heapPeak / 1024, heapAfter / 1024,
+                slowConsumerGuard.getStatistics());
+
+            assertTrue(latency.count() > 0, "수신된 메시지가 없습니다: " + name);
+        } finally {
+            for (RoomClients room : rooms) {
+                room.sessions.forEach(StompSession::disconnect);
+            }
+            client.stop();
+        }
+    }
+
+    /**
+     * 방 생성 후 ROOM_SIZE명의 클라이언트를 동시에 접속/구독/입장
+     */
+    private RoomClients openRoom(String roomName, StompLoadClient client, LatencyRecorder recorder,
+                                 ExecutorService executor) throws Exception {
+        JwtUserInfo creator = nextUser();
+        String roomId = chatService.createRoom(RoomCreateRequest.of(roomName, "perf", ROOM_SIZE), creator).roomId();
+        RoomClients room = new RoomClients(roomId);
+
+        // 생성자가 먼저 입장해야 방이 가득 찬 뒤 입장 실패하지 않음
+        room.sessions.add(joinRoom(client, recorder, roomId, creator));
+
+        Semaphore handshakes = new Semaphore(MAX_CONCURRENT_HANDSHAKES);
+        List<Future<StompSession>> joins = new ArrayList<>();
+        for (int i = 1; i < ROOM_SIZE; i++) {
+            JwtUserInfo user = nextUser();
+            joins.add(executor.submit(() -> {
+                handshakes.acquire();
+                try {
+                    return joinRoom(client, recorder, roomId, user);
+                } finally {
+                    handshakes.release();
+                }
+            }));
+        }
+        for (Future<StompSession> join : joins) {
+            room.sessions.add(join.get());
+        }
+        return room;
+    }
+
+    private StompSession joinRoom(StompLoadClient client, LatencyRecorder recorder,
+                                  String roomId, JwtUserInfo user) throws Exception {
+        StompSession session = client.connect(jwtUtil.generateAccessToken(user));
+        client.subscribeRoom(session, roomId, recorder);
+        client.send(session, "/app/chat.joinRoom/" + roomId, "{}");
+        return session;
+    }
+
+    private void sendMessages(StompLoadClient client, StompSession session, String roomId) {
+        try {
+            for (int i = 0; i < MESSAGES_PER_SENDER; i++) {
+                String content = StompLoadClient.PERF_PREFIX + System.nanoTime();
+                client.send(session, "/app/chat.sendMessage/" + roomId, "{\"content\":\"" + content + "\"}");
+                Thread.sleep(SEND_INTERVAL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private JwtUserInfo nextUser() {
+        int id = USER_SEQUENCE.incrementAndGet();
+        return new JwtUserInfo(String.valueOf(id), "perf-user-" + id, "google", "perf-" + id, null);
+    }
+
+    private void awaitCondition(String description, BooleanSupplier condition) throws InterruptedException {
+        awaitCondition(description, condition, TIMEOUT_MILLIS);
+    }
+
+    /**
+     * 조건 충족까지 대기 (시간 초과 시 경고만 출력하고 진행 - 부분 결과도 측정값으로 남김)
+     */
+    private void awaitCondition(String description, BooleanSupplier condition, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                System.out.printf("[fanout] 대기 시간 초과: %s%n", description);
+                return;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private long usedHeapAfterGc() throws InterruptedException {
+        System.gc();
+        Thread.sleep(200);
+        return usedHeap();
+    }
+
+    private static final class RoomClients {
+        private final String roomId;
+        private final List<StompSession> sessions = Collections.synchronizedList(new ArrayList<>());
+
+        private RoomClients(String roomId) {
+            this.roomId = roomId;
+        }
+    }
+}
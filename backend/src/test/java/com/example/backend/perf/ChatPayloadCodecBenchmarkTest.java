@@ -0,0 +1,109 @@
+package com.example.backend.perf;
+
+import com.example.backend.chat.codec.ChatBinaryCodec;
+import com.example.backend.chat.dto.ChatMessage;
+import com.example.backend.chat.dto.response.ChatHistoryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 50건 히스토리 프레임 기준 JSON vs 바이너리 코덱 대역폭/인코딩 시간 비교
+ * 실행: gradle test --tests '*ChatPayloadCodecBenchmarkTest' -Dperf=true
+ */
+@Tag("perf")
+@EnabledIfSystemProperty(named = "perf", matches = "true")
+class ChatPayloadCodecBenchmarkTest {
+
+    private static final int HISTORY_SIZE = 50;
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURE_ITERATIONS = 50_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ChatBinaryCodec codec = new ChatBinaryCodec();
+
+    @Test
+    void historyBatchBandwidthAndEncodeTime() throws Exception {
+        ChatHistoryResponse history = buildHistory();
+
+        byte[] json = objectMapper.writeValueAsBytes(history);
+        byte[] binary = codec.encode(history);
+        // SockJS는 STOMP 프레임을 다시 JSON 문자열 배열(a["..."])로 감싸서 전송
+        int sockJsFramed = 1 + objectMapper.writeValueAsBytes(
+            new String[]{new String(json, StandardCharsets.UTF_8)}).length;
+
+        // 왕복 검증 (JSON은 초 단위이므로 같은 정밀도로 생성)
+        ChatHistoryResponse decoded = codec.decodeHistory(binary);
+        assertEquals(history.getMessages(), decoded.getMessages());
+        assertTrue(binary.length < json.length);
+
+        long jsonNanos = measure(() -> objectMapper.writeValueAsBytes(history));
+        long binaryNanos = measure(() -> codec.encode(history));
+
+        System.out.printf("[codec] %d건 히스토리 - JSON: %d B (SockJS %d B), 바이너리: %d B (%.1f%%)%n",
+            HISTORY_SIZE, json.length, sockJsFramed, binary.length, 100.0 * binary.length / json.length);
+        System.out.printf("[codec] 인코딩 시간 - JSON: %.2f us/op, 바이너리: %.2f us/op%n",
+            jsonNanos / 1000.0, binaryNanos / 1000.0);
+    }
+
+    @Test
+    void singleMessageBandwidth() throws Exception {
+        ChatMessage message = buildHistory().getMessages().get(0);
+        message.setType("CHAT");
+
+        byte[] json = objectMapper.writeValueAsBytes(message);
+        byte[] binary = codec.encode(message);
+
+        assertEquals(message, codec.decodeMessage(binary));
+        System.out.printf("[codec] 단일 메시지 - JSON: %d B, 바이너리: %d B%n", json.length, binary.length);
+    }
+
+    private long measure(ThrowingRunnable task) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / MEASURE_ITERATIONS;
+    }
+
+    private ChatHistoryResponse buildHistory() {
+        LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        List<ChatMessage> messages = new ArrayList<>(HISTORY_SIZE);
+        for (int i = 0; i < HISTORY_SIZE; i++) {
+            messages.add(ChatMessage.builder()
+                .type("HISTORY")
+                .messageId(UUID.randomUUID().toString())
+                .roomId("room-" + 42)
+                .senderId(String.valueOf(1000 + i % 7))
+                .senderName("사용자" + (i % 7))
+                .profileImageUrl("https://lh3.googleusercontent.com/a/profile-" + (i % 7) + "=s96-c")
+                .content("안녕하세요, 이 근처 상권 분석 결과 공유드립니다 #" + i)
+                .timestamp(base.minusSeconds(HISTORY_SIZE - i))
+                .build());
+        }
+        return ChatHistoryResponse.builder()
+            .roomId("room-42")
+            .messages(messages)
+            .totalCount(messages.size())
+            .build();
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.backend.perf;
+
+import com.example.backend.chat.codec.ChatBinaryCodec;
+import com.example.backend.chat.dto.ChatMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 전송 방식별 1,000건당 전송 바이트 / CPU 시간 비교 (방 브로드캐스트 1명 수신 기준)
+ * - SockJS(websocket 전송): STOMP 프레임을 a["..."] JSON 문자열로 재포장
+ * - 네이티브: STOMP 프레임 그대로
+ * - 네이티브 + permessage-deflate: Tomcat과 같은 raw deflate + SYNC_FLUSH (컨텍스트 유지/미유지)
+ * 실행: gradle test --tests '*ChatTransportWireBenchmarkTest' -Dperf=true
+ */
+@Tag("perf")
+@EnabledIfSystemProperty(named = "perf", matches = "true")
+class ChatTransportWireBenchmarkTest {
+
+    private static final int MESSAGES = 1_000;
+    private static final int ROUNDS = 30;
+    private static final byte[] DEFLATE_TAIL = {0x00, 0x00, (byte) 0xFF, (byte) 0xFF};
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ChatBinaryCodec codec = new ChatBinaryCodec();
+    private final StompEncoder stompEncoder = new StompEncoder();
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    @Test
+    void wireBytesAndCpuPerThousandMessages() throws Exception {
+        List<ChatMessage> messages = buildMessages();
+
+        Map<String, Transport> transports = new LinkedHashMap<>();
+        transports.put("sockjs", this::sockJsFrames);
+        transports.put("native", m -> nativeFrames(m, false));
+        transports.put("native+deflate", m -> deflateFrames(nativeFrames(m, false), true));
+        transports.put("native+deflate(no_context_takeover)", m -> deflateFrames(nativeFrames(m, false), false));
+        transports.put("native+binary", m -> nativeFrames(m, true));
+        transports.put("native+binary+deflate", m -> deflateFrames(nativeFrames(m, true), true));
+
+        Map<String, Long> bytes = new LinkedHashMap<>();
+        for (Map.Entry<String, Transport> entry : transports.entrySet()) {
+            Transport transport = entry.getValue();
+            long wireBytes = totalWireBytes(transport.encode(messages));
+
+            // 워밍업 후 CPU 시간 측정
+            for (int i = 0; i < ROUNDS; i++) {
+                transport.encode(messages);
+            }
+            long cpuStart = threadMXBean.getCurrentThreadCpuTime();
+            for (int i = 0; i < ROUNDS; i++) {
+                transport.encode(messages);
+            }
+            double cpuMillis = (threadMXBean.getCurrentThreadCpuTime() - cpuStart) / 1_000_000.0 / ROUNDS;
+
+            bytes.put(entry.getKey(), wireBytes);
+            System.out.printf("[wire] %-38s %,9d B / 1,000건, CPU %.2f ms / 1,000건%n", entry.getKey(), wireBytes, cpuMillis);
+        }
+
+        assertTrue(bytes.get("native") < bytes.get("sockjs"));
+        assertTrue(bytes.get("native+deflate") < bytes.get("native"));
+        assertTrue(bytes.get("native+deflate") <= bytes.get("native+deflate(no_context_takeover)"));
+    }
+
+    private List<byte[]> nativeFrames(List<ChatMessage> messages, boolean binary) throws Exception {
+        List<byte[]> frames = new ArrayList<>(messages.size());
+        for (ChatMessage message : messages) {
+            byte[] payload = binary ? codec.encode(message) : objectMapper.writeValueAsBytes(message);
+            frames.add(stompFrame(message.getRoomId(), payload,
+                binary ? MimeTypeUtils.APPLICATION_OCTET_STREAM : MimeTypeUtils.APPLICATION_JSON));
+        }
+        return frames;
+    }
+
+    private List<byte[]> sockJsFrames(List<ChatMessage> messages) throws Exception {
+        List<byte[]> frames = new ArrayList<>(messages.size());
+        for (byte[] stomp : nativeFrames(messages, false)) {
+            String framed = "a" + objectMapper.writeValueAsString(
+                new String[]{new String(stomp, StandardCharsets.UTF_8)});
+            frames.add(framed.getBytes(StandardCharsets.UTF_8));
+        }
+        return frames;
+    }
+
+    private List<byte[]> deflateFrames(List<byte[]> frames, boolean contextTakeover) {
+        List<byte[]> compressed = new ArrayList<>(frames.size());
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        byte[] buffer = new byte[64 * 1024];
+        for (byte[] frame : frames) {
+            if (!contextTakeover) {
+                deflater.reset();
+            }
+            deflater.setInput(frame);
+            int length = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+            // RFC 7692: 끝의 00 00 FF FF 제거
+            byte[] out = new byte[length - DEFLATE_TAIL.length];
+            System.arraycopy(buffer, 0, out, 0, out.length);
+            compressed.add(out);
+        }
+        deflater.end();
+        return compressed;
+    }
+
+    private byte[] stompFrame(String roomId, byte[] payload, MimeType contentType) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination("/topic/room." + roomId);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setMessageId(UUID.randomUUID().toString());
+        accessor.setContentType(contentType);
+        return stompEncoder.encode(accessor.getMessageHeaders(), payload);
+    }
+
+    /**
+     * WebSocket 프레임 헤더(2/4/10바이트) 포함 전송 바이트 합계
+     */
+    private long totalWireBytes(List<byte[]> frames) {
+        long total = 0;
+        for (byte[] frame : frames) {
+            int header = frame.length < 126 ? 2 : frame.length < 65536 ? 4 : 10;
+            total += header + frame.length;
+        }
+        return total;
+    }
+
+    private List<ChatMessage> buildMessages() {
+        LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        List<ChatMessage> messages = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            messages.add(ChatMessage.builder()
+                .type("CHAT")
+                .messageId(UUID.randomUUID().toString())
+                .roomId("42")
+                .senderId(String.valueOf(1000 + i % 20))
+                .senderName("사용자" + (i % 20))
+                .profileImageUrl("https://lh3.googleusercontent.com/a/profile-" + (i % 20) + "=s96-c")
+                .content(i % 5 == 0 ? "ㅋㅋ" : "이 근처 카페 창업 어떨까요? 유동인구 분석 결과 공유합니다 #" + i)
+                .timestamp(base.plusSeconds(i))
+                .build());
+        }
+        return messages;
+    }
+
+    @FunctionalInterface
+    private interface Transport {
+        List<byte[]> encode(List<ChatMessage> messages) throws Exception;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.backend.perf;
+
+import com.example.backend.perf.support.InProcessRedisServer;
+import com.example.backend.recommend.entity.InOutEntity;
+import com.example.backend.recommend.entity.SurvivalRates;
+import com.example.backend.recommend.port.InOutPort;
+import com.example.backend.recommend.port.LeaderboardPort;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 완전 캐시(247개 업종) 건물의 Top 20 조회 비용 비교
+ * - 구: 설명 포함 InOutEntity 247개 로드 → 전체 정렬 → 20개
+ * - 재계산: 생존율만 247개 로드 (순위 선택은 크기 20 힙)
+ * - 신: building_leaderboard 행 하나
+ *
+ * 실행: gradle test --tests '*CompleteCacheReadBenchmarkTest' -Dperf=true
+ * 규모 조정: -Dperf.leaderboard.buildings=100 -Dperf.leaderboard.explanation-bytes=2000
+ */
+@Tag("perf")
+@EnabledIfSystemProperty(named = "perf", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("perf")
+class CompleteCacheReadBenchmarkTest {
+
+    private static final int BUILDINGS = Integer.getInteger("perf.leaderboard.buildings", 100);
+    private static final int EXPLANATION_BYTES = Integer.getInteger("perf.leaderboard.explanation-bytes", 2000);
+    private static final int CATEGORIES = 247;
+    private static final int ROUNDS = 5;
+
+    private static InProcessRedisServer redis;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) throws IOException {
+        redis = InProcessRedisServer.start();
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", redis::getPort);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redis.close();
+    }
+
+    @Autowired
+    private InOutPort inOutPort;
+
+    @Autowired
+    private LeaderboardPort leaderboardPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void top20Read() {
+        String explanation = "가".repeat(EXPLANATION_BYTES / 3);
+        for (int b = 1; b <= BUILDINGS; b++) {
+            Map<Integer, SurvivalRates> results = new LinkedHashMap<>();
+            for (int c = 1; c <= CATEGORIES; c++) {
+                float score = ((b * 31 + c * 17) % 1000) / 1000f;
+                results.put(c, SurvivalRates.wrap(new float[]{0.9f, 0.8f, 0.7f, 0.6f, score}));
+            }
+            inOutPort.upsertAll(b, results);
+            jdbcTemplate.update("UPDATE in_out SET explanation = ? WHERE building_id = ?", explanation, b);
+
+            List<LeaderboardPort.RankedCategory> ranked = results.entrySet().stream()
+                .sorted(Comparator.comparingDouble(e -> e.getValue().lastOrAverage()))
+                .limit(20)
+                .map(e -> new LeaderboardPort.RankedCategory(e.getKey(), e.getValue()))
+                .toList();
+            leaderboardPort.save(b, ranked);
+        }
+        assertEquals(20, leaderboardPort.find(1).orElseThrow().size());
+
+        measure("구: 엔티티 247개 + 전체 정렬", b -> transactionTemplate.executeWithoutResult(tx -> {
+            List<InOutEntity> rows = entityManager
+                .createQuery("SELECT e FROM InOutEntity e WHERE e.buildingId = :b", InOutEntity.class)
+                .setParameter("b", b)
+                .getResultList();
+            new ArrayList<>(rows).stream()
+                .sorted(Comparator.comparingDouble(e -> e.getRates().lastOrAverage()))
+                .limit(20)
+                .toList();
+            entityManager.clear();
+        }));
+        measure("재계산: 생존율 247개", inOutPort::findAllRates);
+        measure("신: building_leaderboard 1행", leaderboardPort::find);
+    }
+
+    private void measure(String name, IntConsumer read) {
+        for (int b = 1; b <= BUILDINGS; b++) {
+            read.accept(b); // 워밍업
+        }
+        long[] nanos = new long[BUILDINGS * ROUNDS];
+        int n = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int b = 1; b <= BUILDINGS; b++) {
+                long start = System.nanoTime();
+                read.accept(b);
+                nanos[n++] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(nanos);
+        System.out.printf("[leaderboard] %-26s 평균 %.3f ms, p50 %.3f ms, p99 %.3f ms%n", name,
+            Arrays.stream(nanos).average().orElse(0) / 1_000_000.0,
+            nanos[n / 2] / 1_000_000.0, nanos[(int) (n * 0.99)] / 1_000_000.0);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.backend.perf;
+
+import com.example.backend.common.exception.BusinessException;
+import com.example.backend.perf.support.InProcessRedisServer;
+import com.example.backend.recommend.exception.RecommendErrorCode;
+import com.example.backend.recommend.exception.RecommendException;
+import com.example.backend.recommend.infra.geocoder.CachingGeocoderAdapter;
+import com.example.backend.recommend.infra.geocoder.GeocoderAdapter;
+import com.example.backend.recommend.infra.geocoder.GeocoderPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 좌표 → 건물 식별의 지오코더 호출 비용 비교
+ * - 구: 요청마다 역지오코딩 + 정방향 지오코딩 (외부 호출 2회)
+ * - 신: CachingGeocoderAdapter (geohash 격자 / 정규화 주소 키, L1 + Redis, 음성 캐시)
+ * 부하: 인기 지점 SPOTS곳 주변을 1m 이내로 흔들어 찍는 요청, 외부 호출은 고정 지연으로 대체
+ *
+ * 실행: gradle test --tests '*GeocoderCacheBenchmarkTest' -Dperf=true
+ */
+@Tag("perf")
+@EnabledIfSystemProperty(named = "perf", matches = "true")
+class GeocoderCacheBenchmarkTest {
+
+    private static final int SPOTS = 100;
+    private static final int REQUESTS = Integer.getInteger("perf.geocoder.requests", 1_000);
+    private static final long UPSTREAM_MILLIS = Long.getLong("perf.geocoder.upstream-millis", 2);
+
+    private static InProcessRedisServer redis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redis = InProcessRedisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @Test
+    void resolveHotSpots() {
+        SlowGeocoder upstream = new SlowGeocoder();
+        CachingGeocoderAdapter cached = newCache(upstream);
+
+        // 음성 캐시: 주소 없는 좌표는 두 번째부터 외부 호출 없음
+        BigDecimal seaLat = new BigDecimal("35.000000");
+        BigDecimal seaLng = new BigDecimal("129.500000");
+        assertThrows(BusinessException.class, () -> cached.reverseToAdr(seaLat, seaLng));
+        int before = upstream.calls.get();
+        assertThrows(BusinessException.class, () -> cached.reverseToAdr(seaLat, seaLng));
+        assertEquals(before, upstream.calls.get());
+
+        long direct = run(upstream, new Random(7));
+        int directCalls = upstream.calls.getAndSet(0);
+        long warm = run(cached, new Random(7));
+        int cachedCalls = upstream.calls.getAndSet(0);
+
+        // 다른 노드: L1은 비어 있어도 Redis에서 채움
+        CachingGeocoderAdapter otherNode = newCache(upstream);
+        long l2 = run(otherNode, new Random(7));
+        int l2Calls = upstream.calls.get();
+
+        assertTrue(cachedCalls < directCalls / 5, "캐시 적중 후 외부 호출이 크게 줄어야 함");
+        System.out.printf("[geocoder] 구: 외부 호출 %d회, 평균 %.3f ms/요청%n", directCalls, direct / 1_000_000.0 / REQUESTS);
+        System.out.printf("[geocoder] 신(L1+L2): 외부 호출 %d회, 평균 %.3f ms/요청, %s%n",
+            cachedCalls, warm / 1_000_000.0 / REQUESTS, cached.getStatistics().get("reverse"));
+        System.out.printf("[geocoder] 신(다른 노드, L2만): 외부 호출 %d회, 평균 %.3f ms/요청, %s%n",
+            l2Calls, l2 / 1_000_000.0 / REQUESTS, otherNode.getStatistics().get("reverse"));
+    }
+
+    private static CachingGeocoderAdapter newCache(GeocoderAdapter upstream) {
+        return new CachingGeocoderAdapter(upstream, redisTemplate, new SimpleMeterRegistry(),
+            9, 50_000, 600_000L, 604_800_000L, 600_000L, 11, 2.0);
+    }
+
+    /** GeoBuildingService와 같은 순서: 역지오코딩 → 주소로 표준 좌표 */
+    private static long run(GeocoderPort port, Random random) {
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            int spot = random.nextInt(SPOTS);
+            BigDecimal lat = jitter(37.50 + spot * 0.001, random);
+            BigDecimal lng = jitter(127.03 + spot * 0.001, random);
+            GeocoderPort.ReverseResult r = port.reverseToAdr(lat, lng);
+            port.getPointByAdr(r.address());
+        }
+        return System.nanoTime() - start;
+    }
+
+    /** 지점 중심에서 ±0.5m 이내 (위도 1e-5도 ≈ 1.1m) */
+    private static BigDecimal jitter(double center, Random random) {
+        return BigDecimal.valueOf(center + (random.nextDouble() - 0.5) * 0.00001).setScale(7, RoundingMode.HALF_UP);
+    }
+
+    /** 외부 지오코더 대체: 고정 지연, 지점 좌표를 가장 가까운 인기 지점 주소로 응답 */
+    private static final class SlowGeocoder extends GeocoderAdapter {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        SlowGeocoder() {
+            super(null, null);
+        }
+
+        @Override
+        public ReverseResult reverseToAdr(BigDecimal lat, BigDecimal lng) {
+            sleep();
+            int spot = (int) Math.round((lat.doubleValue() - 37.50) / 0.001);
+            if (spot < 0 || spot >= SPOTS) {
+                throw new RecommendException(RecommendErrorCode.GEO_NOT_FOUND);
+            }
+            return new ReverseResult("ADR" + spot, "서울특별시 강남구 테헤란로 " + spot, true);
+        }
+
+        @Override
+        public GeoPoint getPointByAdr(String address) {
+            sleep();
+            int spot = Integer.parseInt(address.substring(address.lastIndexOf(' ') + 1));
+            return new GeoPoint(BigDecimal.valueOf(37.50 + spot * 0.001), BigDecimal.valueOf(127.03 + spot * 0.001), "BLD" + spot);
+        }
+
+        private void sleep() {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(UPSTREAM_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.backend.perf;
+
+import com.example.backend.perf.support.InProcessRedisServer;
+import com.example.backend.recommend.entity.InOutEntity;
+import com.example.backend.recommend.entity.SurvivalRates;
+import com.example.backend.recommend.port.InOutPort;
+import com.example.backend.recommend.repository.InOutRepository;
+import com.example.backend.search.entity.SearchCategoryEntity;
+import com.example.backend.search.port.SearchCategoryPort;
+import com.example.backend.search.repository.SearchCategoryRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 전체 업종(247개) AI 결과 저장 지연 비교
+ * - before: 업종마다 upsert (findById + save, 업종당 트랜잭션) / 검색 기록은 saveAll
+ * - after: upsertAll 다중 행 INSERT ... ON DUPLICATE KEY UPDATE 한 문장 / 검색 기록은 INSERT ... ON DUPLICATE KEY UPDATE 한 문장
+ * - H2(MySQL 모드) 기준이라 절대값보다는 왕복 횟수 차이에 따른 비율을 볼 것
+ *
+ * 실행: gradle test --tests '*InOutUpsertBenchmarkTest' -Dperf=true
+ * 규모 조정: -Dperf.upsert.buildings=200 -Dperf.upsert.categories=247
+ */
+@Tag("perf")
+@EnabledIfSystemProperty(named = "perf", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("perf")
+class InOutUpsertBenchmarkTest {
+
+    private static final int BUILDINGS = Integer.getInteger("perf.upsert.buildings", 200);
+    private static final int CATEGORIES = Integer.getInteger("perf.upsert.categories", 247);
+    private static final int WARMUP = 20;
+
+    private static InProcessRedisServer redis;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) throws IOException {
+        redis = InProcessRedisServer.start();
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", redis::getPort);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redis.close();
+    }
+
+    @Autowired
+    private InOutPort inOutPort;
+
+    @Autowired
+    private InOutRepository inOutRepository;
+
+    @Autowired
+    private SearchCategoryPort searchCategoryPort;
+
+    @Autowired
+    private SearchCategoryRepository searchCategoryRepository;
+
+    @Test
+    void fullBuildingWrite() {
+        Map<Integer, SurvivalRates> results = new LinkedHashMap<>();
+        for (int c = 1; c <= CATEGORIES; c++) {
+            results.put(c, SurvivalRates.wrap(new float[]{0.9f - c * 0.001f, 0.8f, 0.7f, Float.NaN, 0.5f}));
+        }
+
+        // 건물 ID 대역을 나눠 신규 삽입 경로 비교, 같은 건물 재저장으로 갱신 경로 비교
+        measure("in_out 단건 x" + CATEGORIES + " (신규)", 1_000_000,
+            b -> results.forEach((c, v) -> inOutPort.upsert(b, c, v)));
+        measure("in_out upsertAll (신규)", 2_000_000, b -> inOutPort.upsertAll(b, results));
+        measure("in_out 단건 x" + CATEGORIES + " (갱신)", 1_000_000,
+            b -> results.forEach((c, v) -> inOutPort.upsert(b, c, v)));
+        measure("in_out upsertAll (갱신)", 2_000_000, b -> inOutPort.upsertAll(b, results));
+
+        InOutEntity row = inOutRepository.findById(new InOutEntity.Key(2_000_000, 7)).orElseThrow();
+        assertEquals(results.get(7), row.getRates());
+        assertEquals(2, row.getFrequency());
+        assertEquals(CATEGORIES, inOutRepository.findCategoryIdsWithRates(2_000_000 + BUILDINGS - 1).size());
+
+        List<Integer> top20 = new ArrayList<>(results.keySet()).subList(0, Math.min(20, CATEGORIES));
+        measure("search_category saveAll (top20)", 1_000_000, b -> {
+            List<SearchCategoryEntity> entities = new ArrayList<>();
+            for (Integer c : top20) {
+                SearchCategoryEntity e = new SearchCategoryEntity();
+                e.setUserId(1L);
+                e.setBuildingId(b);
+                e.setCategoryId(c);
+                entities.add(e);
+            }
+            searchCategoryRepository.saveAll(entities);
+        });
+        measure("search_category 다중 행 INSERT (top20)", 2_000_000,
+            b -> searchCategoryPort.upsertubcS(1L, b, top20));
+        assertEquals(top20.size(), searchCategoryPort.find(1L, 2_000_000).size());
+    }
+
+    private void measure(String name, int firstBuildingId, IntConsumer write) {
+        for (int i = 0; i < WARMUP; i++) {
+            write.accept(firstBuildingId + BUILDINGS + i);
+        }
+
+        long[] nanos = new long[BUILDINGS];
+        for (int i = 0; i < BUILDINGS; i++) {
+            long start = System.nanoTime();
+            write.accept(firstBuildingId + i);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        double avg = Arrays.stream(nanos).average().orElse(0) / 1_000_000.0;
+        System.out.printf("[upsert] %-36s 건물 %d개 | 평균 %.2f ms, p50 %.2f ms, p99 %.2f ms%n",
+            name, BUILDINGS, avg, nanos[BUILDINGS / 2] / 1_000_000.0,
+            nanos[Math.min(BUILDINGS - 1, (int) (BUILDINGS * 0.99))] / 1_000_000.0);
+    }
+}
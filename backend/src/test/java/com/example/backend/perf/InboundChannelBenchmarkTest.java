@@ -0,0 +1,172 @@
+package com.example.backend.perf;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.backend.chat.codec.ChatBinaryCodec;
+import com.example.backend.chat.codec.ChatCodecRegistry;
+import com.example.backend.chat.interceptor.AuthChannelInterceptor;
+import com.example.backend.chat.interceptor.CodecChannelInterceptor;
+import com.example.backend.chat.interceptor.FloodControlChannelInterceptor;
+import com.example.backend.chat.interceptor.LoggingChannelInterceptor;
+import com.example.backend.common.security.authentication.jwt.JwtUserInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * STOMP 인바운드 인터셉터 체인 마이크로벤치마크 (초당 처리 프레임 수)
+ * - 실제 설정과 같은 순서의 인터셉터를 동기 채널에 등록하고, CONNECT를 마친 세션들의 SEND/SUBSCRIBE 프레임을 반복 전송
+ * - 디코딩/브로커/컨트롤러는 제외하고 인터셉터 체인 비용만 측정
+ *
+ * 실행: gradle test --tests '*InboundChannelBenchmarkTest' -Dperf=true
+ * 규모 조정: -Dperf.inbound.sessions=1000 -Dperf.inbound.frames=2000000 -Dperf.inbound.threads=4 -Dperf.inbound.log-level=WARN
+ */
+@Tag("perf")
+@EnabledIfSystemProperty(named = "perf", matches = "true")
+class InboundChannelBenchmarkTest {
+
+    private static final int SESSIONS = Integer.getInteger("perf.inbound.sessions", 1000);
+    private static final int FRAMES = Integer.getInteger("perf.inbound.frames", 2_000_000);
+    private static final int THREADS = Integer.getInteger("perf.inbound.threads", Runtime.getRuntime().availableProcessors());
+    private static final String LOG_LEVEL = System.getProperty("perf.inbound.log-level", "WARN");
+    private static final int ROOMS = 50;
+
+    private static ExecutorSubscribableChannel channel;
+    private static final LongAdder delivered = new LongAdder();
+    private static final Map<String, Map<String, Object>> sessionAttributes = new HashMap<>();
+    private static final Map<String, UsernamePasswordAuthenticationToken> users = new HashMap<>();
+
+    @BeforeAll
+    static void setUp() {
+        ((Logger) LoggerFactory.getLogger("com.example.backend")).setLevel(Level.toLevel(LOG_LEVEL));
+
+        FloodControlChannelInterceptor floodControl = new FloodControlChannelInterceptor(
+            new StaticListableBeanFactory().getBeanProvider(SimpMessagingTemplate.class),
+            null,
+            new SimpleMeterRegistry(),
+            true,
+            Integer.MAX_VALUE, 1_000_000_000d,
+            Integer.MAX_VALUE, 1_000_000_000d,
+            1000, 60000);
+
+        // WebSocketConfig.configureClientInboundChannel과 같은 순서
+        channel = new ExecutorSubscribableChannel();
+        channel.addInterceptor(new AuthChannelInterceptor(null));
+        channel.addInterceptor(floodControl);
+        channel.addInterceptor(new LoggingChannelInterceptor());
+        channel.addInterceptor(new CodecChannelInterceptor(new ChatCodecRegistry(new ChatBinaryCodec())));
+        channel.subscribe(message -> delivered.increment());
+
+        for (int i = 0; i < SESSIONS; i++) {
+            String sessionId = "session-" + i;
+            JwtUserInfo userInfo = new JwtUserInfo("user-" + i, "user" + i, "google", "provider-" + i, null);
+            users.put(sessionId, new UsernamePasswordAuthenticationToken(userInfo, null, Collections.emptyList()));
+            sessionAttributes.put(sessionId, new HashMap<>(Map.of(ChatCodecRegistry.TRANSPORT_ATTRIBUTE, ChatCodecRegistry.TRANSPORT_WEBSOCKET)));
+            channel.send(frame(StompCommand.CONNECT, sessionId, null));
+        }
+    }
+
+    @Test
+    void sendFrames() throws Exception {
+        run("SEND", i -> frame(StompCommand.SEND, "session-" + i, "/app/chat.sendMessage/room-" + (i % ROOMS)));
+    }
+
+    @Test
+    void subscribeFrames() throws Exception {
+        run("SUBSCRIBE", i -> frame(StompCommand.SUBSCRIBE, "session-" + i, "/topic/room.room-" + (i % ROOMS)));
+    }
+
+    private void run(String name, Function<Integer, Message<byte[]>> factory) throws Exception {
+        @SuppressWarnings("unchecked")
+        Message<byte[]>[] frames = new Message[SESSIONS];
+        for (int i = 0; i < SESSIONS; i++) {
+            frames[i] = factory.apply(i);
+        }
+
+        // 워밍업 (JIT)
+        pump(frames, FRAMES / 4, 1);
+        pump(frames, FRAMES / 4, THREADS);
+
+        report(name, 1, pump(frames, FRAMES, 1));
+        report(name, THREADS, pump(frames, FRAMES, THREADS));
+    }
+
+    private static long pump(Message<byte[]>[] frames, int total, int threads) throws Exception {
+        long before = delivered.sum();
+        int perThread = total / threads;
+
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] futures = new Future[threads];
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        channel.send(frames[(i + offset) % frames.length]);
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        long elapsed = System.nanoTime() - started;
+
+        assertEquals((long) perThread * threads, delivered.sum() - before, "모든 프레임이 체인을 통과해야 함");
+        return elapsed / ((long) perThread * threads);
+    }
+
+    private static void report(String name, int threads, long nanosPerFrame) {
+        System.out.printf("[inbound] %-10s threads %2d | %,12.0f frames/s | %,6d ns/frame (체인 전체)%n",
+            name, threads, 1_000_000_000.0 / nanosPerFrame * threads, nanosPerFrame * threads);
+    }
+
+    /**
+     * StompDecoder가 만드는 것과 같은 형태(변경 가능한 헤더 유지)의 인바운드 메시지
+     */
+    private static Message<byte[]> frame(StompCommand command, String sessionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setSessionAttributes(sessionAttributes.get(sessionId));
+        accessor.setUser(users.get(sessionId));
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        if (command == StompCommand.SUBSCRIBE) {
+            accessor.setSubscriptionId("sub-0");
+        }
+        accessor.setLeaveMutable(true);
+        byte[] payload = command == StompCommand.SEND
+            ? "{\"content\":\"benchmark\"}".getBytes(StandardCharsets.UTF_8)
+            : new byte[0];
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
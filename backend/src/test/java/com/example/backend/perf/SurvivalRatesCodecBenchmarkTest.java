@@ -0,0 +1,103 @@
+package com.example.backend.perf;
+
+import com.example.backend.recommend.entity.SurvivalRates;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 생존율 벡터 표현 비교 (전체 업종 247개 한 건물 기준)
+ * - 구: DB JSON 텍스트 → List<Double> (박싱) / 응답 직렬화
+ * - 신: BINARY(20) → SurvivalRates(float[5]) / 응답 직렬화
+ * 실행: gradle test --tests '*SurvivalRatesCodecBenchmarkTest' -Dperf=true
+ */
+@Tag("perf")
+@EnabledIfSystemProperty(named = "perf", matches = "true")
+class SurvivalRatesCodecBenchmarkTest {
+
+    private static final int CATEGORIES = 247;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURE_ITERATIONS = 5_000;
+    private static final TypeReference<List<Double>> LIST_TYPE = new TypeReference<>() { };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void readAndSerializeFullBuilding() throws Exception {
+        List<String> jsonRows = new ArrayList<>(CATEGORIES);
+        List<byte[]> binaryRows = new ArrayList<>(CATEGORIES);
+        List<List<Double>> lists = new ArrayList<>(CATEGORIES);
+        List<SurvivalRates> rates = new ArrayList<>(CATEGORIES);
+        for (int c = 0; c < CATEGORIES; c++) {
+            float[] v = {0.95f - c * 0.001f, 0.81f, 0.67f, c % 10 == 0 ? Float.NaN : 0.55f, 0.43f + c * 0.0005f};
+            List<Double> list = new ArrayList<>(v.length);
+            for (float f : v) {
+                list.add(Float.isNaN(f) ? null : Double.parseDouble(Float.toString(f)));
+            }
+            lists.add(Collections.unmodifiableList(list));
+            jsonRows.add(objectMapper.writeValueAsString(list));
+            rates.add(SurvivalRates.wrap(v));
+            binaryRows.add(rates.get(c).toBytes());
+        }
+
+        // 응답 JSON 형식은 그대로 유지
+        assertEquals(objectMapper.writeValueAsString(lists), objectMapper.writeValueAsString(rates));
+        assertEquals(rates.get(3), SurvivalRates.fromBytes(binaryRows.get(3)));
+
+        long[] jsonRead = measure(() -> {
+            for (String row : jsonRows) {
+                objectMapper.readValue(row, LIST_TYPE);
+            }
+        });
+        long[] binaryRead = measure(() -> {
+            for (byte[] row : binaryRows) {
+                SurvivalRates.fromBytes(row);
+            }
+        });
+        long[] listWrite = measure(() -> objectMapper.writeValueAsBytes(lists));
+        long[] ratesWrite = measure(() -> objectMapper.writeValueAsBytes(rates));
+
+        System.out.printf("[rates] 저장 크기/행 - JSON: %d B, 바이너리: %d B%n",
+            jsonRows.stream().mapToInt(String::length).sum() / CATEGORIES, SurvivalRates.BYTES);
+        print("DB 값 → 벡터 " + CATEGORIES + "개", jsonRead, binaryRead);
+        print("응답 직렬화 " + CATEGORIES + "개", listWrite, ratesWrite);
+    }
+
+    private void print(String name, long[] before, long[] after) {
+        System.out.printf("[rates] %-18s 구: %.1f us/op, %d B/op | 신: %.1f us/op, %d B/op%n",
+            name, before[0] / 1000.0, before[1], after[0] / 1000.0, after[1]);
+    }
+
+    /** {평균 ns/op, 평균 할당 B/op} */
+    private long[] measure(ThrowingRunnable task) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            task.run();
+        }
+        long tid = Thread.currentThread().threadId();
+        long allocStart = threads.getThreadAllocatedBytes(tid);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            task.run();
+        }
+        long nanos = (System.nanoTime() - start) / MEASURE_ITERATIONS;
+        long bytes = (threads.getThreadAllocatedBytes(tid) - allocStart) / MEASURE_ITERATIONS;
+        return new long[]{nanos, bytes};
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,437 @@
+package com.example.backend.perf.support;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트용 인메모리 Redis 대역 (RESP2)
+ * 애플리케이션이 사용하는 문자열/리스트/비트맵/해시 명령만 지원하며, 만료는 조회 시점에 지연 처리합니다.
+ * 모든 명령은 단일 락으로 직렬 실행되어 실제 Redis의 단일 스레드 의미를 유지합니다.
+ * 접속 처리는 플랫폼 스레드로 실행합니다 - 실제 Redis는 별도 프로세스이므로, 가상 스레드로 띄우면
+ * 애플리케이션의 가상 스레드와 캐리어를 다투다 (H2 락 대기 등으로 캐리어가 고정되면) 응답하지 못합니다.
+ */
+public final class InProcessRedisServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections = Executors.newCachedThreadPool(Thread.ofPlatform().name("redis-stub-", 0).daemon().factory());
+
+    private final Map<String, Object> data = new HashMap<>();
+    private final Map<String, Long> expiresAt = new HashMap<>();
+
+    private volatile boolean running = true;
+
+    private InProcessRedisServer(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+    }
+
+    public static InProcessRedisServer start() throws IOException {
+        InProcessRedisServer server = new InProcessRedisServer(new ServerSocket(0, 512, InetAddress.getLoopbackAddress()));
+        Thread.ofPlatform().name("redis-stub-acceptor").daemon().start(server::acceptLoop);
+        return server;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+        connections.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connections.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (running) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             InputStream in = new BufferedInputStream(socket.getInputStream());
+             OutputStream out = new BufferedOutputStream(socket.getOutputStream())) {
+            while (running) {
+                List<byte[]> command = readCommand(in);
+                if (command == null) {
+                    return;
+                }
+                Object reply;
+                synchronized (data) {
+                    reply = execute(command);
+                }
+                writeReply(out, reply);
+                // 파이프라인 요청이 남아 있으면 모아서 flush
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (IOException ignored) {
+            // 연결 종료
+        }
+    }
+
+    // ========== 명령 실행 ==========
+
+    private Object execute(List<byte[]> command) {
+        String name = text(command.get(0)).toUpperCase(Locale.ROOT);
+        return switch (name) {
+            case "PING" -> command.size() > 1 ? command.get(1) : Status.PONG;
+            case "HELLO" -> new Error("ERR unknown command 'HELLO'");
+            case "CLIENT", "SELECT", "AUTH", "FLUSHDB", "FLUSHALL" -> {
+                if (name.startsWith("FLUSH")) {
+                    data.clear();
+                    expiresAt.clear();
+                }
+                yield Status.OK;
+            }
+            case "INFO" -> "redis_version:7.2.0\r\n".getBytes(StandardCharsets.UTF_8);
+            case "GET" -> value(key(command, 1)) instanceof byte[] bytes ? bytes : null;
+            case "SET" -> set(command);
+            case "SETEX" -> {
+                data.put(key(command, 1), command.get(3));
+                expireIn(key(command, 1), Long.parseLong(text(command.get(2))) * 1000);
+                yield Status.OK;
+            }
+            case "MGET" -> {
+                List<Object> values = new ArrayList<>();
+                for (int i = 1; i < command.size(); i++) {
+                    values.add(value(key(command, i)) instanceof byte[] bytes ? bytes : null);
+                }
+                yield values;
+            }
+            case "MSET" -> {
+                for (int i = 1; i + 1 < command.size(); i += 2) {
+                    data.put(key(command, i), command.get(i + 1));
+                    expiresAt.remove(key(command, i));
+                }
+                yield Status.OK;
+            }
+            case "DEL", "UNLINK" -> {
+                long removed = 0;
+                for (int i = 1; i < command.size(); i++) {
+                    if (value(key(command, i)) != null) {
+                        data.remove(key(command, i));
+                        expiresAt.remove(key(command, i));
+                        removed++;
+                    }
+                }
+                yield removed;
+            }
+            case "EXISTS" -> {
+                long count = 0;
+                for (int i = 1; i < command.size(); i++) {
+                    if (value(key(command, i)) != null) {
+                        count++;
+                    }
+                }
+                yield count;
+            }
+            case "EXPIRE", "PEXPIRE" -> {
+                if (value(key(command, 1)) == null) {
+                    yield 0L;
+                }
+                long amount = Long.parseLong(text(command.get(2)));
+                expireIn(key(command, 1), name.equals("EXPIRE") ? amount * 1000 : amount);
+                yield 1L;
+            }
+            case "TTL", "PTTL" -> {
+                if (value(key(command, 1)) == null) {
+                    yield -2L;
+                }
+                Long at = expiresAt.get(key(command, 1));
+                if (at == null) {
+                    yield -1L;
+                }
+                long remaining = at - System.currentTimeMillis();
+                yield name.equals("TTL") ? remaining / 1000 : remaining;
+            }
+            case "INCR", "INCRBY", "DECR", "DECRBY" -> {
+                long delta = command.size() > 2 ? Long.parseLong(text(command.get(2))) : 1;
+                if (name.startsWith("DECR")) {
+                    delta = -delta;
+                }
+                Object current = value(key(command, 1));
+                long next = (current instanceof byte[] bytes ? Long.parseLong(text(bytes)) : 0) + delta;
+                data.put(key(command, 1), Long.toString(next).getBytes(StandardCharsets.UTF_8));
+                yield next;
+            }
+            case "RPUSH", "LPUSH" -> {
+                LinkedList<byte[]> list = list(key(command, 1), true);
+                for (int i = 2; i < command.size(); i++) {
+                    if (name.equals("RPUSH")) {
+                        list.addLast(command.get(i));
+                    } else {
+                        list.addFirst(command.get(i));
+                    }
+                }
+                yield (long) list.size();
+            }
+            case "LLEN" -> {
+                LinkedList<byte[]> list = list(key(command, 1), false);
+                yield list != null ? (long) list.size() : 0L;
+            }
+            case "LINDEX" -> {
+                LinkedList<byte[]> list = list(key(command, 1), false);
+                if (list == null) {
+                    yield null;
+                }
+                int index = Integer.parseInt(text(command.get(2)));
+                int position = index < 0 ? list.size() + index : index;
+                yield position >= 0 && position < list.size() ? list.get(position) : null;
+            }
+            case "LRANGE" -> {
+                LinkedList<byte[]> list = list(key(command, 1), false);
+                if (list == null) {
+                    yield List.of();
+                }
+                int[] range = range(list.size(), command.get(2), command.get(3));
+                yield new ArrayList<Object>(list.subList(range[0], range[1]));
+            }
+            case "LTRIM" -> {
+                LinkedList<byte[]> list = list(key(command, 1), false);
+                if (list != null) {
+                    int[] range = range(list.size(), command.get(2), command.get(3));
+                    LinkedList<byte[]> trimmed = new LinkedList<>(list.subList(range[0], range[1]));
+                    if (trimmed.isEmpty()) {
+                        data.remove(key(command, 1));
+                    } else {
+                        data.put(key(command, 1), trimmed);
+                    }
+                }
+                yield Status.OK;
+            }
+            case "SETBIT" -> {
+                String key = key(command, 1);
+                long offset = Long.parseLong(text(command.get(2)));
+                boolean on = text(command.get(3)).equals("1");
+                byte[] bits = value(key) instanceof byte[] bytes ? bytes : new byte[0];
+                int index = (int) (offset >>> 3);
+                if (index >= bits.length) {
+                    bits = Arrays.copyOf(bits, index + 1);
+                }
+                int mask = 0x80 >>> (int) (offset & 7);
+                long previous = (bits[index] & mask) != 0 ? 1 : 0;
+                bits[index] = (byte) (on ? bits[index] | mask : bits[index] & ~mask);
+                data.put(key, bits);
+                yield previous;
+            }
+            case "GETBIT" -> {
+                long offset = Long.parseLong(text(command.get(2)));
+                byte[] bits = value(key(command, 1)) instanceof byte[] bytes ? bytes : new byte[0];
+                int index = (int) (offset >>> 3);
+                yield index < bits.length && (bits[index] & (0x80 >>> (int) (offset & 7))) != 0 ? 1L : 0L;
+            }
+            case "BITCOUNT" -> {
+                byte[] bits = value(key(command, 1)) instanceof byte[] bytes ? bytes : new byte[0];
+                long count = 0;
+                for (byte b : bits) {
+                    count += Integer.bitCount(b & 0xFF);
+                }
+                yield count;
+            }
+            case "HSET" -> {
+                Map<String, byte[]> hash = hash(key(command, 1), true);
+                long added = 0;
+                for (int i = 2; i + 1 < command.size(); i += 2) {
+                    if (hash.put(text(command.get(i)), command.get(i + 1)) == null) {
+                        added++;
+                    }
+                }
+                yield added;
+            }
+            case "HGET" -> {
+                Map<String, byte[]> hash = hash(key(command, 1), false);
+                yield hash != null ? hash.get(text(command.get(2))) : null;
+            }
+            case "HGETALL" -> {
+                Map<String, byte[]> hash = hash(key(command, 1), false);
+                List<Object> values = new ArrayList<>();
+                if (hash != null) {
+                    hash.forEach((field, value) -> {
+                        values.add(field.getBytes(StandardCharsets.UTF_8));
+                        values.add(value);
+                    });
+                }
+                yield values;
+            }
+            default -> new Error("ERR unknown command '" + name + "'");
+        };
+    }
+
+    private Object set(List<byte[]> command) {
+        String key = key(command, 1);
+        boolean nx = false;
+        boolean xx = false;
+        long ttlMillis = -1;
+        for (int i = 3; i < command.size(); i++) {
+            String option = text(command.get(i)).toUpperCase(Locale.ROOT);
+            switch (option) {
+                case "NX" -> nx = true;
+                case "XX" -> xx = true;
+                case "EX" -> ttlMillis = Long.parseLong(text(command.get(++i))) * 1000;
+                case "PX" -> ttlMillis = Long.parseLong(text(command.get(++i)));
+                default -> {
+                }
+            }
+        }
+        boolean exists = value(key) != null;
+        if ((nx && exists) || (xx && !exists)) {
+            return null;
+        }
+        data.put(key, command.get(2));
+        expiresAt.remove(key);
+        if (ttlMillis > 0) {
+            expireIn(key, ttlMillis);
+        }
+        return Status.OK;
+    }
+
+    private Object value(String key) {
+        Long at = expiresAt.get(key);
+        if (at != null && at <= System.currentTimeMillis()) {
+            data.remove(key);
+            expiresAt.remove(key);
+            return null;
+        }
+        return data.get(key);
+    }
+
+    private void expireIn(String key, long millis) {
+        expiresAt.put(key, System.currentTimeMillis() + millis);
+    }
+
+    @SuppressWarnings("unchecked")
+    private LinkedList<byte[]> list(String key, boolean create) {
+        Object current = value(key);
+        if (current == null && create) {
+            LinkedList<byte[]> list = new LinkedList<>();
+            data.put(key, list);
+            return list;
+        }
+        return (LinkedList<byte[]>) current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, byte[]> hash(String key, boolean create) {
+        Object current = value(key);
+        if (current == null && create) {
+            Map<String, byte[]> hash = new HashMap<>();
+            data.put(key, hash);
+            return hash;
+        }
+        return (Map<String, byte[]>) current;
+    }
+
+    private static int[] range(int size, byte[] startArg, byte[] stopArg) {
+        int start = Integer.parseInt(text(startArg));
+        int stop = Integer.parseInt(text(stopArg));
+        if (start < 0) {
+            start = Math.max(0, size + start);
+        }
+        if (stop < 0) {
+            stop = size + stop;
+        }
+        stop = Math.min(stop, size - 1);
+        if (start > stop) {
+            return new int[]{0, 0};
+        }
+        return new int[]{start, stop + 1};
+    }
+
+    private static String key(List<byte[]> command, int index) {
+        return text(command.get(index));
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ========== RESP 프로토콜 ==========
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        int type = in.read();
+        if (type == -1) {
+            return null;
+        }
+        if (type != '*') {
+            throw new IOException("지원하지 않는 요청 형식: " + (char) type);
+        }
+        int count = Integer.parseInt(readLine(in));
+        List<byte[]> args = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (in.read() != '$') {
+                throw new IOException("bulk string 필요");
+            }
+            int length = Integer.parseInt(readLine(in));
+            byte[] arg = in.readNBytes(length);
+            in.skipNBytes(2); // CRLF
+            args.add(arg);
+        }
+        return args;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\r') {
+            if (c == -1) {
+                throw new IOException("연결 종료");
+            }
+            line.append((char) c);
+        }
+        in.read(); // \n
+        return line.toString();
+    }
+
+    private static void writeReply(OutputStream out, Object reply) throws IOException {
+        if (reply == null) {
+            out.write("$-1\r\n".getBytes(StandardCharsets.US_ASCII));
+        } else if (reply instanceof Status status) {
+            out.write(("+" + status.name() + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        } else if (reply instanceof Error error) {
+            out.write(("-" + error.message() + "\r\n").getBytes(StandardCharsets.UTF_8));
+        } else if (reply instanceof Long number) {
+            out.write((":" + number + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        } else if (reply instanceof byte[] bytes) {
+            out.write(("$" + bytes.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.write(bytes);
+            out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+        } else if (reply instanceof List<?> list) {
+            out.write(("*" + list.size() + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            for (Object item : list) {
+                writeReply(out, item);
+            }
+        } else {
+            throw new IllegalStateException("지원하지 않는 응답: " + reply);
+        }
+    }
+
+    private enum Status { OK, PONG }
+
+    private record Error(String message) {}
+}
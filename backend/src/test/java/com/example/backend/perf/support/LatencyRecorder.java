@@ -0,0 +1,52 @@
+package com.example.backend.perf.support;
+
+import java.util.Arrays;
+
+/**
+ * 지연 시간 기록기 (나노초 단위, 동시 기록 가능)
+ */
+public final class LatencyRecorder {
+
+    private long[] samples = new long[1 << 16];
+    private int size = 0;
+
+    public synchronized void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    public synchronized int count() {
+        return size;
+    }
+
+    public synchronized void reset() {
+        size = 0;
+    }
+
+    /**
+     * 백분위 계산 (0.5, 0.99, 0.999 등) - 밀리초 단위
+     */
+    public synchronized Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return new Snapshot(
+            sorted.length,
+            percentile(sorted, 0.50),
+            percentile(sorted, 0.99),
+            percentile(sorted, 0.999),
+            sorted.length > 0 ? sorted[sorted.length - 1] / 1_000_000.0 : 0
+        );
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    public record Snapshot(int count, double p50, double p99, double p999, double max) {}
+}
@@ -0,0 +1,147 @@
+package com.example.backend.perf.support;
+
+import com.example.backend.chat.codec.ChatBinaryCodec;
+import org.springframework.messaging.converter.SimpleMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.WebSocketClient;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트용 STOMP 클라이언트 팩토리
+ * 수신한 방 메시지 중 "perf:{전송 nanoTime}" 내용을 가진 메시지의 전달 지연을 기록합니다.
+ */
+public final class StompLoadClient {
+
+    public static final String PERF_PREFIX = "perf:";
+    private static final byte[] PERF_MARKER = PERF_PREFIX.getBytes(StandardCharsets.UTF_8);
+    private static final String ORIGIN = "http://localhost:3000";
+
+    public enum Transport {
+        NATIVE_JSON, NATIVE_BINARY, SOCKJS
+    }
+
+    private final Transport transport;
+    private final String url;
+    private final WebSocketStompClient stompClient;
+    private final ChatBinaryCodec codec = new ChatBinaryCodec();
+
+    private final LongAdder receivedFrames = new LongAdder();
+    private final LongAdder receivedBytes = new LongAdder();
+
+    public StompLoadClient(Transport transport, int port) {
+        this.transport = transport;
+        WebSocketClient webSocketClient = new StandardWebSocketClient();
+        if (transport == Transport.SOCKJS) {
+            this.url = "http://localhost:" + port + "/ws";
+            this.stompClient = new WebSocketStompClient(new SockJsClient(List.of(new WebSocketTransport(webSocketClient))));
+        } else {
+            this.url = "ws://localhost:" + port + "/ws-native";
+            this.stompClient = new WebSocketStompClient(webSocketClient);
+        }
+        this.stompClient.setMessageConverter(new SimpleMessageConverter());
+        this.stompClient.setInboundMessageSizeLimit(1024 * 1024);
+    }
+
+    public StompSession connect(String accessToken) throws Exception {
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        handshakeHeaders.add("Cookie", "accessToken=" + accessToken);
+        handshakeHeaders.setOrigin(ORIGIN);
+
+        StompHeaders connectHeaders = new StompHeaders();
+        if (transport == Transport.NATIVE_BINARY) {
+            connectHeaders.add("x-chat-codec", "binary");
+        }
+        return stompClient.connectAsync(url, handshakeHeaders, connectHeaders, new StompSessionHandlerAdapter() {})
+            .get(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 방 토픽 구독 (perf 메시지 수신 시 지연 기록)
+     */
+    public void subscribeRoom(StompSession session, String roomId, LatencyRecorder recorder) {
+        session.subscribe("/topic/room." + roomId, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                long receivedAt = System.nanoTime();
+                byte[] body = (byte[]) payload;
+                receivedFrames.increment();
+                receivedBytes.add(body.length);
+
+                long sentAt = extractSentAt(headers, body);
+                if (sentAt > 0) {
+                    recorder.record(receivedAt - sentAt);
+                }
+            }
+        });
+    }
+
+    public void send(StompSession session, String destination, String json) {
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination(destination);
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        session.send(headers, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public long getReceivedFrames() {
+        return receivedFrames.sum();
+    }
+
+    public long getReceivedBytes() {
+        return receivedBytes.sum();
+    }
+
+    public void stop() {
+        stompClient.stop();
+    }
+
+    private long extractSentAt(StompHeaders headers, byte[] body) {
+        if (MimeTypeUtils.APPLICATION_OCTET_STREAM.equals(headers.getContentType())) {
+            String content = codec.decodeMessage(body).getContent();
+            return content != null && content.startsWith(PERF_PREFIX)
+                ? Long.parseLong(content.substring(PERF_PREFIX.length()))
+                : -1;
+        }
+
+        int at = indexOf(body, PERF_MARKER);
+        if (at < 0) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = at + PERF_MARKER.length; i < body.length && body[i] >= '0' && body[i] <= '9'; i++) {
+            value = value * 10 + (body[i] - '0');
+        }
+        return value;
+    }
+
+    private static int indexOf(byte[] body, byte[] marker) {
+        outer:
+        for (int i = 0; i <= body.length - marker.length; i++) {
+            for (int j = 0; j < marker.length; j++) {
+                if (body[i + j] != marker[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.backend.recommend.adapter;
+
+import com.example.backend.recommend.entity.SurvivalRates;
+import com.example.backend.recommend.infra.backfill.InOutRatesBackfill;
+import com.example.backend.recommend.infra.cache.CategoryCoverage;
+import com.example.backend.recommend.infra.cache.ResultCache;
+import com.example.backend.recommend.infra.usage.UsageRecorder;
+import com.example.backend.recommend.port.LeaderboardPort;
+import com.example.backend.recommend.repository.InOutRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * in_out 어댑터 - 건물 순위 무효화는 커밋 후에만 (롤백 시 순위 유지), 다중 행 업서트 문장
+ */
+class InOutAdapterTest {
+
+    private static final int BUILDING_ID = 7;
+
+    private LeaderboardPort leaderboardPort;
+    private JdbcTemplate jdbcTemplate;
+    private InOutAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardPort = mock(LeaderboardPort.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        adapter = new InOutAdapter(mock(InOutRepository.class), jdbcTemplate, new SimpleMeterRegistry(),
+                mock(ResultCache.class), mock(CategoryCoverage.class), leaderboardPort, mock(UsageRecorder.class),
+                mock(InOutRatesBackfill.class), true);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void bulkUpsertEvictsLeaderboardOnlyAfterCommit() {
+        adapter.upsertAll(BUILDING_ID, Map.of(1, rates()));
+        verify(leaderboardPort, never()).evict(anyInt());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(leaderboardPort).evict(BUILDING_ID);
+    }
+
+    @Test
+    void rolledBackUpsertKeepsLeaderboard() {
+        adapter.upsertAll(BUILDING_ID, Map.of(1, rates()));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(leaderboardPort, never()).evict(anyInt());
+    }
+
+    @Test
+    void bulkUpsertUsesRowAliasInsteadOfValuesFunction() {
+        adapter.upsertAll(BUILDING_ID, Map.of(1, rates(), 2, rates()));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).update(sql.capture(), any(Object[].class));
+        assertTrue(sql.getValue().contains(" AS new ON DUPLICATE KEY UPDATE rates = new.rates"));
+        assertFalse(sql.getValue().contains("VALUES("));
+    }
+
+    private static SurvivalRates rates() {
+        return SurvivalRates.fromBytes(new byte[SurvivalRates.BYTES]);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.backend.recommend.infra.ai;
+
+import com.example.backend.common.exception.BusinessException;
+import com.example.backend.recommend.exception.RecommendErrorCode;
+import com.example.backend.recommend.infra.executor.UpstreamExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * AI 호출 병합기 - 노드 내 합류, 다른 노드 임대 대기, 임대 대기 시간 초과
+ */
+class AiRequestCoalescerTest {
+
+    private static final String REMOTE_KEY = "reco:ai:lease:remote";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StringRedisTemplate redis;
+    private ValueOperations<String, String> valueOperations;
+    private UpstreamExecutor aiExecutor;
+    private final List<AiRequestCoalescer> coalescers = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(valueOperations);
+        // "remote" 키는 다른 노드가 임대 중, 나머지 키는 바로 획득
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(valueOperations.setIfAbsent(eq(REMOTE_KEY), anyString(), any(Duration.class))).thenReturn(false);
+        // AI 실행 허가 1개
+        aiExecutor = new UpstreamExecutor("ai-test", 1, 10, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescers.forEach(AiRequestCoalescer::shutdown);
+        aiExecutor.destroy();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoaderCall() throws Exception {
+        AiRequestCoalescer coalescer = newCoalescer(60_000L);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Optional<String>> leader = coalescer.execute("local", () -> {
+            calls.incrementAndGet();
+            await(release);
+            return "value";
+        }, () -> false);
+        CompletableFuture<Optional<String>> joiner = coalescer.execute("local", () -> {
+            calls.incrementAndGet();
+            return "other";
+        }, () -> false);
+        release.countDown();
+
+        assertEquals(Optional.of("value"), leader.get(5, TimeUnit.SECONDS));
+        assertEquals(Optional.of("value"), joiner.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void waitingOnRemoteLeaseDoesNotHoldAiPermit() throws Exception {
+        when(redis.hasKey(REMOTE_KEY)).thenReturn(true);
+        AiRequestCoalescer coalescer = newCoalescer(60_000L);
+
+        CompletableFuture<Optional<String>> waiting = coalescer.execute("remote", () -> "never", () -> false);
+        Thread.sleep(100);
+        CompletableFuture<Optional<String>> other = coalescer.execute("local", () -> "value", () -> false);
+
+        assertEquals(Optional.of("value"), other.get(5, TimeUnit.SECONDS));
+        assertFalse(waiting.isDone());
+    }
+
+    @Test
+    void remoteResultIsUsedAfterLeaseRelease() throws Exception {
+        when(redis.hasKey(REMOTE_KEY)).thenReturn(true, false);
+        AtomicBoolean stored = new AtomicBoolean();
+        AtomicInteger calls = new AtomicInteger();
+        AiRequestCoalescer coalescer = newCoalescer(60_000L);
+
+        CompletableFuture<Optional<String>> result = coalescer.execute("remote", () -> {
+            calls.incrementAndGet();
+            return "value";
+        }, () -> {
+            // 첫 확인(대기 전)에는 없고, 임대가 풀린 뒤에는 다른 노드가 저장한 상태
+            boolean previous = stored.get();
+            stored.set(true);
+            return previous;
+        });
+
+        assertEquals(Optional.empty(), result.get(5, TimeUnit.SECONDS));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void leaseWaitTimeoutFailsInsteadOfReturningEmpty() {
+        when(redis.hasKey(REMOTE_KEY)).thenReturn(true);
+        AiRequestCoalescer coalescer = newCoalescer(100L);
+
+        CompletableFuture<Optional<String>> result = coalescer.execute("remote", () -> "never", () -> false);
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        BusinessException cause = assertInstanceOf(BusinessException.class, error.getCause());
+        assertEquals(RecommendErrorCode.AI_UPSTREAM_TIMEOUT.getCommonCode(), cause.getErrorCode());
+        assertTrue(result.isCompletedExceptionally());
+    }
+
+    private AiRequestCoalescer newCoalescer(long leaseTtlMillis) {
+        AiRequestCoalescer coalescer = new AiRequestCoalescer(redis, aiExecutor, meterRegistry, true, leaseTtlMillis, 10L);
+        coalescers.add(coalescer);
+        return coalescer;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.backend.recommend.infra.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigDecimal;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AI 배치 요청 - 실패한 청크는 응답 형식 오류일 때만 건별 재시도, 시간 초과는 재시도 없이 실패 행
+ */
+class HttpAiServerClientTest {
+
+    private static final String BASE_URL = "http://ai.test";
+    private static final String BATCH_URL = BASE_URL + "/api/v1/ai/job/batch";
+    private static final String SINGLE_URL = BASE_URL + "/api/v1/ai/job";
+
+    private RestTemplate restTemplate;
+    private HttpAiServerClient client;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        client = new HttpAiServerClient(restTemplate, new ObjectMapper(), BASE_URL, 2);
+    }
+
+    @Test
+    void timedOutChunkIsMarkedFailedWithoutPerItemRetry() {
+        when(restTemplate.postForEntity(eq(BATCH_URL), any(), eq(String.class))).thenThrow(timeout());
+
+        List<JsonNode> rows = client.requestCategoryBatch(jobs(3));
+
+        assertEquals(3, rows.size());
+        rows.forEach(row -> assertFalse(row.path("success").asBoolean(true)));
+        assertEquals(List.of(1, 2, 3), rows.stream().map(row -> row.path("building_id").asInt()).toList());
+        verify(restTemplate, times(2)).postForEntity(eq(BATCH_URL), any(), eq(String.class));
+        verify(restTemplate, never()).postForEntity(eq(SINGLE_URL), any(), eq(String.class));
+    }
+
+    @Test
+    void malformedChunkFallsBackToSingleRequests() {
+        when(restTemplate.postForEntity(eq(BATCH_URL), any(), eq(String.class)))
+            .thenReturn(ResponseEntity.ok("not json"));
+        when(restTemplate.postForEntity(eq(SINGLE_URL), any(), eq(String.class)))
+            .thenReturn(ResponseEntity.ok("{\"success\":true,\"body\":{\"data\":{\"score\":1}}}"));
+
+        List<JsonNode> rows = client.requestCategoryBatch(jobs(2));
+
+        assertEquals(2, rows.size());
+        rows.forEach(row -> assertTrue(row.path("success").asBoolean(false)));
+        verify(restTemplate, times(2)).postForEntity(eq(SINGLE_URL), any(), eq(String.class));
+    }
+
+    @Test
+    void singleRequestTimeoutStopsRemainingRetries() {
+        when(restTemplate.postForEntity(eq(BATCH_URL), any(), eq(String.class)))
+            .thenReturn(ResponseEntity.ok("{\"body\":{}}"));
+        when(restTemplate.postForEntity(eq(SINGLE_URL), any(), eq(String.class))).thenThrow(timeout());
+
+        List<JsonNode> rows = client.requestCategoryBatch(jobs(2));
+
+        assertEquals(2, rows.size());
+        rows.forEach(row -> assertFalse(row.path("success").asBoolean(true)));
+        verify(restTemplate, times(1)).postForEntity(eq(SINGLE_URL), any(), eq(String.class));
+    }
+
+    private static List<AiServerClient.CategoryJob> jobs(int count) {
+        return IntStream.rangeClosed(1, count)
+            .mapToObj(id -> new AiServerClient.CategoryJob(id, new BigDecimal("37.5"), new BigDecimal("127.03"), "카페"))
+            .toList();
+    }
+
+    private static ResourceAccessException timeout() {
+        return new ResourceAccessException("Read timed out", new SocketTimeoutException("Read timed out"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.backend.recommend.infra.backfill;
+
+import com.example.backend.recommend.entity.SurvivalRates;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 생존율 백필 - 전체 백필 전에 조회할 건물을 먼저 변환, 구 컬럼이 없으면 아무것도 하지 않음 (H2 MySQL 모드)
+ */
+class InOutRatesBackfillTest {
+
+    private static final String LEGACY_RESULT = "[0.9, 0.8, 0.7, null, 0.5]";
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=RESULT",
+                "sa", ""));
+    }
+
+    @Test
+    void buildingIsConvertedOnDemandBeforeFullBackfill() {
+        createTable(true);
+        insertLegacy(1, 10);
+        insertLegacy(2, 10);
+        InOutRatesBackfill backfill = newBackfill();
+
+        assertTrue(backfill.backfillBuildings(List.of(1)));
+
+        assertEquals(SurvivalRates.wrap(new float[]{0.9f, 0.8f, 0.7f, Float.NaN, 0.5f}), rates(1, 10));
+        assertNull(rates(2, 10));
+        assertFalse(backfill.backfillBuildings(List.of(1)));
+    }
+
+    @Test
+    void noOnDemandWorkAfterFullBackfill() {
+        createTable(true);
+        insertLegacy(1, 10);
+        InOutRatesBackfill backfill = newBackfill();
+
+        backfill.run();
+        insertLegacy(2, 10);
+
+        assertEquals("done", backfill.getStatistics().get("state"));
+        assertFalse(backfill.backfillBuildings(List.of(2)));
+        assertNull(rates(2, 10));
+    }
+
+    @Test
+    void withoutLegacyColumnNothingIsRead() {
+        createTable(false);
+        InOutRatesBackfill backfill = newBackfill();
+
+        assertFalse(backfill.backfillBuildings(List.of(1)));
+        backfill.run();
+
+        assertEquals("not-needed", backfill.getStatistics().get("state"));
+    }
+
+    private InOutRatesBackfill newBackfill() {
+        return new InOutRatesBackfill(jdbcTemplate, new ObjectMapper(), true, 100);
+    }
+
+    private void createTable(boolean legacyColumn) {
+        jdbcTemplate.execute("CREATE TABLE in_out (building_id INT NOT NULL, category_id INT NOT NULL, "
+                + "rates BINARY(20) NULL" + (legacyColumn ? ", result VARCHAR(255) NULL" : "")
+                + ", PRIMARY KEY (building_id, category_id))");
+    }
+
+    private void insertLegacy(int buildingId, int categoryId) {
+        jdbcTemplate.update("INSERT INTO in_out (building_id, category_id, result) VALUES (?, ?, ?)",
+                buildingId, categoryId, LEGACY_RESULT);
+    }
+
+    private SurvivalRates rates(int buildingId, int categoryId) {
+        byte[] bytes = jdbcTemplate.queryForObject(
+                "SELECT rates FROM in_out WHERE building_id = ? AND category_id = ?", byte[].class,
+                buildingId, categoryId);
+        return bytes == null ? null : SurvivalRates.fromBytes(bytes);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.backend.recommend.infra.cache;
+
+import com.example.backend.perf.support.InProcessRedisServer;
+import com.example.backend.recommend.port.CategoryPort;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 업종 보유 비트맵 - 저장은 OR 병합, 일부 비트만 있는 Redis 키는 불신, 결과 없음 표시는 TTL 동안만 유효
+ */
+class CategoryCoverageTest {
+
+    private static final long UNAVAILABLE_TTL_MILLIS = 200L;
+
+    private static InProcessRedisServer redis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private CategoryPort categoryPort;
+    private int buildingId;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redis = InProcessRedisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        categoryPort = mock(CategoryPort.class);
+        when(categoryPort.getAll()).thenReturn(Map.of(1, "a", 2, "b", 3, "c"));
+        buildingId = ThreadLocalRandom.current().nextInt(1, 1_000_000);
+    }
+
+    @Test
+    void staleDatabasePutDoesNotEraseCommittedBits() {
+        CategoryCoverage node = newCoverage();
+        node.put(buildingId, CategoryCoverage.toBits(List.of(1)));
+        node.add(buildingId, List.of(2));
+
+        // add() 이전에 읽은 DB 결과로 다시 저장
+        BitSet merged = node.put(buildingId, CategoryCoverage.toBits(List.of(1)));
+
+        assertEquals(CategoryCoverage.toBits(List.of(1, 2)), merged);
+        assertEquals(CategoryCoverage.toBits(List.of(1, 2)), newCoverage().getShared(buildingId).covered());
+    }
+
+    @Test
+    void partialKeyCreatedByAddIsRebuiltFromDatabase() {
+        newCoverage().add(buildingId, List.of(1));
+
+        assertNull(newCoverage().getShared(buildingId).covered());
+    }
+
+    @Test
+    void otherNodesBitsAreSeenWhenLocalIsIncomplete() {
+        CategoryCoverage node = newCoverage();
+        node.put(buildingId, CategoryCoverage.toBits(List.of(1, 2)));
+        newCoverage().add(buildingId, List.of(3));
+
+        assertEquals(List.of(3), node.missing(node.getLocal(buildingId)));
+        CategoryCoverage.Shared shared = node.getShared(buildingId);
+        assertTrue(node.missing(shared.covered(), shared.unavailable()).isEmpty());
+        assertTrue(node.missing(node.getLocal(buildingId)).isEmpty());
+    }
+
+    @Test
+    void unavailableCategoryIsNotMissingUntilMarkerExpires() throws InterruptedException {
+        CategoryCoverage node = newCoverage();
+        node.put(buildingId, CategoryCoverage.toBits(List.of(1, 2)));
+        node.markUnavailable(buildingId, List.of(3));
+
+        CategoryCoverage.Shared shared = node.getShared(buildingId);
+        assertTrue(node.missing(shared.covered(), shared.unavailable()).isEmpty());
+
+        Thread.sleep(UNAVAILABLE_TTL_MILLIS * 2);
+        shared = node.getShared(buildingId);
+        assertEquals(List.of(3), node.missing(shared.covered(), shared.unavailable()));
+    }
+
+    private CategoryCoverage newCoverage() {
+        return new CategoryCoverage(redisTemplate, categoryPort, 100, 86_400_000L, UNAVAILABLE_TTL_MILLIS, 600_000L);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.backend.recommend.infra.cache;
+
+import com.example.backend.recommend.entity.SurvivalRates;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * L1 생존율 캐시 - 자주 읽힌 키는 한 번씩만 쓰이는 키 훑기에 밀려나지 않음, 크기는 상한 이내, TTL 지나면 미스
+ */
+class LocalResultCacheTest {
+
+    // 샤드 16개 × (윈도우 1 + 메인 99)
+    private static final int MAX_SIZE = 1_600;
+    private static final SurvivalRates RATES = SurvivalRates.wrap(new float[]{0.9f, 0.8f, 0.7f, 0.6f, 0.5f});
+
+    @Test
+    void frequentlyReadKeySurvivesScanOfOneHitKeys() {
+        LocalResultCache cache = new LocalResultCache(MAX_SIZE, 600_000L);
+        long hot = 42L;
+        cache.put(hot, RATES);
+        for (int i = 0; i < 15; i++) {
+            assertTrue(cache.get(hot).isPresent());
+        }
+
+        // 용량의 3배를 한 번씩만 쓰고 지나가는 범위 검색 (LRU라면 hot도 밀려남)
+        for (long key = 1_000; key < 1_000 + MAX_SIZE * 3; key++) {
+            cache.put(key, RATES);
+        }
+
+        assertTrue(cache.get(hot).isPresent());
+        assertTrue((long) cache.getStatistics().get("admissionRejections") > 0);
+    }
+
+    @Test
+    void sizeStaysWithinMaximum() {
+        LocalResultCache cache = new LocalResultCache(MAX_SIZE, 600_000L);
+
+        for (long key = 0; key < MAX_SIZE * 10; key++) {
+            cache.put(key, RATES);
+            cache.get(key);
+        }
+
+        long size = (long) cache.getStatistics().get("size");
+        assertTrue(size <= MAX_SIZE, "size=" + size);
+        assertTrue(size > MAX_SIZE / 2, "size=" + size);
+    }
+
+    @Test
+    void expiredEntryIsMiss() throws InterruptedException {
+        LocalResultCache cache = new LocalResultCache(MAX_SIZE, 1L);
+        cache.put(7L, RATES);
+
+        Thread.sleep(10);
+
+        assertTrue(cache.get(7L).isEmpty());
+        assertEquals(0L, cache.getStatistics().get("size"));
+    }
+}
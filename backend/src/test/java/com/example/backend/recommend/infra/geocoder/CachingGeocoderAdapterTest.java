@@ -0,0 +1,189 @@
+package com.example.backend.recommend.infra.geocoder;
+
+import com.example.backend.common.exception.BusinessException;
+import com.example.backend.perf.support.InProcessRedisServer;
+import com.example.backend.recommend.exception.RecommendErrorCode;
+import com.example.backend.recommend.exception.RecommendException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 지오코더 캐시 - GEO_NOT_FOUND만 촘촘한 격자로 음성 캐시, 격자 값은 조회 지점 근처에서만 재사용, 동시 미스 병합
+ * 좌표는 모두 같은 precision 9 격자 (37.4999857~37.5000286, 127.0299768~127.0300198) 안
+ */
+class CachingGeocoderAdapterTest {
+
+    private static final BigDecimal SW_LAT = new BigDecimal("37.4999870");
+    private static final BigDecimal SW_LNG = new BigDecimal("127.0299780");
+
+    private InProcessRedisServer redis;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private StubGeocoder upstream;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        redis = InProcessRedisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        upstream = new StubGeocoder();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @Test
+    void geoNotFoundIsNegativeCachedAcrossNodes() {
+        upstream.answer = () -> {
+            throw new RecommendException(RecommendErrorCode.GEO_NOT_FOUND);
+        };
+
+        assertThrows(RecommendException.class, () -> newCache().reverseToAdr(SW_LAT, SW_LNG));
+        RecommendException cached = assertThrows(RecommendException.class, () -> newCache().reverseToAdr(SW_LAT, SW_LNG));
+
+        assertEquals(RecommendErrorCode.GEO_NOT_FOUND, cached.getRecommendCode());
+        assertEquals(1, upstream.calls.get());
+    }
+
+    @Test
+    void otherNotFoundWithSameCommonCodeIsNotCached() {
+        upstream.answer = () -> {
+            throw new BusinessException(RecommendErrorCode.GEO_NOT_FOUND.getCommonCode(), "다른 NOT_FOUND");
+        };
+        CachingGeocoderAdapter cache = newCache();
+
+        assertThrows(BusinessException.class, () -> cache.reverseToAdr(SW_LAT, SW_LNG));
+        assertThrows(BusinessException.class, () -> cache.reverseToAdr(SW_LAT, SW_LNG));
+
+        assertEquals(2, upstream.calls.get());
+    }
+
+    @Test
+    void negativeSpotDoesNotShadowRestOfCell() {
+        CachingGeocoderAdapter cache = newCache();
+        upstream.answer = () -> {
+            throw new RecommendException(RecommendErrorCode.GEO_NOT_FOUND);
+        };
+        assertThrows(RecommendException.class, () -> cache.reverseToAdr(SW_LAT, SW_LNG));
+
+        // 같은 격자, 1.1m 북쪽 건물
+        upstream.answer = () -> building("A");
+        BigDecimal northLat = new BigDecimal("37.4999970");
+        assertEquals(CachingGeocoderAdapter.geohash(SW_LAT.doubleValue(), SW_LNG.doubleValue(), 9),
+                CachingGeocoderAdapter.geohash(northLat.doubleValue(), SW_LNG.doubleValue(), 9));
+
+        assertEquals("A", cache.reverseToAdr(northLat, SW_LNG).adr());
+        assertEquals(2, upstream.calls.get());
+    }
+
+    @Test
+    void cellValueIsReusedOnlyNearResolvedPoint() {
+        CachingGeocoderAdapter cache = newCache();
+        upstream.answer = () -> building("A");
+        assertEquals("A", cache.reverseToAdr(SW_LAT, SW_LNG).adr());
+
+        // 약 1m 떨어진 지점: 격자 값 재사용
+        assertEquals("A", cache.reverseToAdr(new BigDecimal("37.4999940"), new BigDecimal("127.0299850")).adr());
+        assertEquals(1, upstream.calls.get());
+
+        // 같은 격자 반대편 끝 (약 5.7m): 다시 조회
+        upstream.answer = () -> building("B");
+        BigDecimal neLat = new BigDecimal("37.5000270");
+        BigDecimal neLng = new BigDecimal("127.0300180");
+        assertEquals(CachingGeocoderAdapter.geohash(SW_LAT.doubleValue(), SW_LNG.doubleValue(), 9),
+                CachingGeocoderAdapter.geohash(neLat.doubleValue(), neLng.doubleValue(), 9));
+
+        assertEquals("B", cache.reverseToAdr(neLat, neLng).adr());
+        assertEquals(2, upstream.calls.get());
+    }
+
+    @Test
+    void concurrentMissesShareOneUpstreamCall() throws Exception {
+        CachingGeocoderAdapter cache = newCache();
+        CountDownLatch release = new CountDownLatch(1);
+        upstream.answer = () -> {
+            await(release);
+            return building("A");
+        };
+
+        CompletableFuture<GeocoderPort.ReverseResult> leader = CompletableFuture.supplyAsync(() -> cache.reverseToAdr(SW_LAT, SW_LNG));
+        waitFor(() -> upstream.calls.get() == 1);
+        CompletableFuture<GeocoderPort.ReverseResult> joiner = CompletableFuture.supplyAsync(() -> cache.reverseToAdr(SW_LAT, SW_LNG));
+        waitFor(() -> coalesced(cache) == 1L);
+        release.countDown();
+
+        assertEquals("A", leader.get(5, TimeUnit.SECONDS).adr());
+        assertEquals("A", joiner.get(5, TimeUnit.SECONDS).adr());
+        assertEquals(1, upstream.calls.get());
+    }
+
+    private CachingGeocoderAdapter newCache() {
+        return new CachingGeocoderAdapter(upstream, redisTemplate, new SimpleMeterRegistry(),
+                9, 1_000, 600_000L, 600_000L, 600_000L, 11, 2.0);
+    }
+
+    private static GeocoderPort.ReverseResult building(String adr) {
+        return new GeocoderPort.ReverseResult(adr, "서울특별시 강남구 " + adr, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long coalesced(CachingGeocoderAdapter cache) {
+        return (long) ((Map<String, Object>) cache.getStatistics().get("reverse")).get("coalesced");
+    }
+
+    private static void waitFor(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.get()) {
+            assertTrue(System.nanoTime() < deadline, "대기 시간 초과");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** 외부 지오코더 대체: 호출 수 집계, 응답은 테스트가 지정 */
+    private static final class StubGeocoder extends GeocoderAdapter {
+
+        final AtomicInteger calls = new AtomicInteger();
+        volatile Supplier<ReverseResult> answer;
+
+        StubGeocoder() {
+            super(null, null);
+        }
+
+        @Override
+        public ReverseResult reverseToAdr(BigDecimal lat, BigDecimal lng) {
+            calls.incrementAndGet();
+            return answer.get();
+        }
+    }
+}
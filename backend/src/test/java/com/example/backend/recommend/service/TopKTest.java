@@ -0,0 +1,71 @@
+package com.example.backend.recommend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * 상위 K개 선택 - 점수 오름차순, 같은 점수는 앞 인덱스 우선 (전체 안정 정렬 후 앞 K개와 동일)
+ */
+class TopKTest {
+
+    @Test
+    void returnsSmallestScoresInAscendingOrder() {
+        double[] scores = {0.5, 0.1, 0.9, 0.3, 0.7};
+
+        assertArrayEquals(new int[]{1, 3, 0}, TopK.smallest(scores, 3));
+    }
+
+    @Test
+    void kAtLeastLengthReturnsEverythingSorted() {
+        double[] scores = {0.4, 0.2, 0.3};
+
+        assertArrayEquals(new int[]{1, 2, 0}, TopK.smallest(scores, 3));
+        assertArrayEquals(new int[]{1, 2, 0}, TopK.smallest(scores, 10));
+    }
+
+    @Test
+    void zeroOrNegativeKReturnsNothing() {
+        double[] scores = {0.4, 0.2, 0.3};
+
+        assertArrayEquals(new int[0], TopK.smallest(scores, 0));
+        assertArrayEquals(new int[0], TopK.smallest(scores, -1));
+        assertArrayEquals(new int[0], TopK.smallest(new double[0], 5));
+    }
+
+    @Test
+    void tiesKeepEarlierIndexFirstAndNaNSortsLast() {
+        double[] scores = {0.2, Double.NaN, 0.1, 0.2, 0.1, 0.2};
+
+        assertArrayEquals(new int[]{2, 4, 0, 3}, TopK.smallest(scores, 4));
+        assertArrayEquals(new int[]{2, 4, 0, 3, 5, 1}, TopK.smallest(scores, 6));
+    }
+
+    @Test
+    void matchesFullStableSortOnRandomScoresWithTies() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            int n = random.nextInt(60);
+            double[] scores = new double[n];
+            for (int i = 0; i < n; i++) {
+                scores[i] = random.nextInt(10) / 10.0; // 같은 점수가 자주 나오도록
+            }
+            int k = random.nextInt(n + 5);
+
+            assertArrayEquals(fullSort(scores, k), TopK.smallest(scores, k), "n=" + n + ", k=" + k);
+        }
+    }
+
+    private static int[] fullSort(double[] scores, int k) {
+        return IntStream.range(0, scores.length)
+            .boxed()
+            .sorted(Comparator.comparingDouble(i -> scores[i])) // 안정 정렬
+            .limit(k)
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+}
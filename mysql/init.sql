@@ -60,7 +60,7 @@ CREATE TABLE IF NOT EXISTS category (
 CREATE TABLE IF NOT EXISTS in_out (
     building_id MEDIUMINT UNSIGNED NOT NULL,
     category_id SMALLINT  UNSIGNED NOT NULL,
-    result JSON,
+    rates BINARY(20) NULL, -- 1~5년차 생존율 (float 5개, 빅엔디안)
     explanation MEDIUMTEXT,
     frequency INTEGER NOT NULL DEFAULT 0,
     last_at TIMESTAMP NULL DEFAULT NULL,
@@ -73,6 +73,16 @@ CREATE TABLE IF NOT EXISTS in_out (
     FOREIGN KEY (category_id) REFERENCES category(category_id) ON DELETE CASCADE
     ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- building_leaderboard (건물별 Top 20 업종 사전 계산, in_out 결과 변경 시 삭제 후 재계산)
+CREATE TABLE IF NOT EXISTS building_leaderboard (
+    building_id MEDIUMINT UNSIGNED NOT NULL,
+    entries VARBINARY(512) NOT NULL, -- 순위대로 [category_id 2바이트 + 생존율 20바이트] × N
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (building_id),
+    CONSTRAINT fk_leaderboard_building
+    FOREIGN KEY (building_id) REFERENCES building(building_id) ON DELETE CASCADE
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- 4. login_search 테이블 생성 (존재하지 않으면)
 CREATE TABLE IF NOT EXISTS login_search (
     user_id BIGINT NOT NULL,
@@ -0,0 +1,19 @@
+-- in_out 생존율 저장 형식 변경: result JSON → rates BINARY(20) (float 5개, 빅엔디안)
+-- 기존 DB에만 적용 (새로 만드는 DB는 init.sql에 반영됨)
+-- init.sql과 달리 컨테이너가 자동 실행하지 않음: 1·2단계는 애플리케이션 기동 시 자동 적용
+--   (rates 컬럼은 ddl-auto=update, result NULL 허용 변경과 백필은 InOutRatesBackfill)
+--   자동 변경이 실패하면(로그 "in_out.result 컬럼 변경 실패") 1단계를 수동 실행, 3단계는 항상 수동
+USE zara;
+
+-- 1. 새 컬럼 추가 (ddl-auto=update로 이미 추가된 경우 생략), 구 컬럼은 백필 전까지 NULL 허용으로 유지
+ALTER TABLE in_out ADD COLUMN rates BINARY(20) NULL AFTER category_id;
+ALTER TABLE in_out MODIFY COLUMN result JSON NULL;
+
+-- 2. 백필: 애플리케이션 기동 시 InOutRatesBackfill이 result → rates 변환
+--    (recommend.rates.backfill.enabled=true, 로그 "생존율 백필 완료" 확인)
+--    백필 중에도 조회 경로가 읽으려는 건물을 먼저 변환하므로 미변환 행이 "결과 없음"으로 읽히지 않음
+--    남은 행 확인:
+-- SELECT COUNT(*) FROM in_out WHERE rates IS NULL AND result IS NOT NULL;
+
+-- 3. 백필 완료 후 구 컬럼 제거
+-- ALTER TABLE in_out DROP COLUMN result;
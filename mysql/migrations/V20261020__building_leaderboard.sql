@@ -0,0 +1,16 @@
+-- 건물별 Top 20 업종 사전 계산 테이블 (기존 DB에만 적용, 새 DB는 init.sql에 반영됨)
+-- 비어 있어도 됨: 완전 캐시 건물은 첫 조회 때 in_out에서 계산되어 채워짐
+-- 컨테이너가 자동 실행하지 않음: 애플리케이션 기동 시 ddl-auto=update가 테이블을 만들지만 FK는 만들지 않으므로
+-- 건물 삭제 시 순위도 지우려면 수동 실행 (테이블이 이미 있으면 아래 ALTER로 FK만 추가)
+-- ALTER TABLE building_leaderboard ADD CONSTRAINT fk_leaderboard_building
+--     FOREIGN KEY (building_id) REFERENCES building(building_id) ON DELETE CASCADE;
+USE zara;
+
+CREATE TABLE IF NOT EXISTS building_leaderboard (
+    building_id MEDIUMINT UNSIGNED NOT NULL,
+    entries VARBINARY(512) NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (building_id),
+    CONSTRAINT fk_leaderboard_building
+    FOREIGN KEY (building_id) REFERENCES building(building_id) ON DELETE CASCADE
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;